@@ -14,26 +14,215 @@ CREATE TABLE load_test_scenario (
     target_tps INT NOT NULL COMMENT '초당 목표 요청 수 (Target TPS)',
     virtual_thread_count INT NOT NULL COMMENT '생성할 가상 쓰레드 수',
     duration_seconds INT NOT NULL COMMENT '테스트 지속 시간 (초)',
+    execution_mode VARCHAR(20) NOT NULL DEFAULT 'VIRTUAL_THREAD' COMMENT '부하 생성 방식 (VIRTUAL_THREAD, REACTIVE)',
+    expected_interval_ms INT NOT NULL DEFAULT 0 COMMENT 'HdrHistogram expected interval 보정 간격 (ms, 0이면 미사용)',
+    max_connections INT NOT NULL DEFAULT 0 COMMENT '최대 커넥션 수 (0이면 virtual_thread_count)',
+    pending_acquire_max_count INT NOT NULL DEFAULT 0 COMMENT '커넥션 대기열 최대 길이 (0이면 max_connections * 2)',
+    pending_acquire_timeout_ms INT NOT NULL DEFAULT 0 COMMENT '커넥션 대기 최대 시간 (ms, 0이면 45초)',
+    keep_alive TINYINT(1) NOT NULL DEFAULT 1 COMMENT '커넥션 재사용 여부 (0이면 요청마다 새 커넥션)',
+    http2_enabled TINYINT(1) NOT NULL DEFAULT 0 COMMENT 'HTTP/2(h2c) 멀티플렉싱 사용 여부',
+    connect_timeout_ms INT NOT NULL DEFAULT 0 COMMENT '연결 타임아웃 (ms, 0이면 30초)',
+    response_timeout_ms INT NOT NULL DEFAULT 0 COMMENT '응답 타임아웃 (ms, 0이면 제한 없음)',
+    event_loop_threads INT NOT NULL DEFAULT 0 COMMENT '이벤트 루프 스레드 수 (0이면 CPU 코어 수)',
+    data_feed_path VARCHAR(255) COMMENT '데이터 피드 파일 경로 (CSV/JSONL, 데이터 피드 디렉터리 기준)',
+    data_feed_mode VARCHAR(20) NOT NULL DEFAULT 'SEQUENTIAL' COMMENT '피드 행 선택 방식 (SEQUENTIAL, RANDOM, UNIQUE)',
+    max_p95_latency_ms DOUBLE COMMENT '통과 기준: p95 응답 시간 한도 (ms, NULL이면 판정 안 함)',
+    max_error_rate DOUBLE COMMENT '통과 기준: 에러율 한도 (0~1, NULL이면 판정 안 함)',
+    min_rps DOUBLE COMMENT '통과 기준: 최소 초당 완료 요청 수 (NULL이면 판정 안 함)',
+    threshold_warmup_seconds INT NOT NULL DEFAULT 0 COMMENT '통과 기준 판정에서 제외할 시작 구간 (초)',
+    abort_on_breach TINYINT(1) NOT NULL DEFAULT 0 COMMENT '통과 기준을 어기면 즉시 부하를 멈출지 여부',
     created_at DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '생성 일시'
 ) COMMENT='부하 테스트 설정 시나리오';
 
--- 3. 테스트 결과 테이블
+-- 3. 시나리오 단계(다단계 여정) 테이블
+CREATE TABLE load_test_scenario_step (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '단계 식별자',
+    scenario_id BIGINT NOT NULL COMMENT '연결된 시나리오 ID',
+    step_order INT NOT NULL COMMENT '실행 순서 (1부터)',
+    name VARCHAR(100) NOT NULL COMMENT '단계 명칭',
+    target_url VARCHAR(1000) NOT NULL COMMENT '요청 URL (${변수명} 치환 가능)',
+    http_method VARCHAR(10) NOT NULL COMMENT 'HTTP 메서드 (GET, POST 등)',
+    request_params TEXT COMMENT '요청 본문 (${변수명} 치환 가능)',
+    request_headers TEXT COMMENT '요청 헤더 (한 줄에 하나씩 Name: value)',
+    extractions TEXT COMMENT '응답 값 추출 규칙 (변수명=$.json.path 또는 변수명=header:Name, ; 구분)',
+    think_time_ms INT NOT NULL DEFAULT 0 COMMENT '응답 후 다음 단계까지 대기 시간 (ms)',
+    weight INT NOT NULL DEFAULT 100 COMMENT '여정마다 이 단계를 실행할 확률 (%)',
+    UNIQUE KEY uk_scenario_step_order (scenario_id, step_order),
+    CONSTRAINT fk_step_scenario FOREIGN KEY (scenario_id) REFERENCES load_test_scenario(id) ON DELETE CASCADE
+) COMMENT='다단계 시나리오의 단계 설정';
+
+-- 4. 시나리오 부하 프로파일 단계 테이블
+CREATE TABLE load_test_scenario_stage (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '단계 식별자',
+    scenario_id BIGINT NOT NULL COMMENT '연결된 시나리오 ID',
+    stage_order INT NOT NULL COMMENT '실행 순서 (1부터)',
+    stage_type VARCHAR(20) NOT NULL COMMENT '단계 종류 (RAMP, STEP, SPIKE, PLATEAU)',
+    duration_seconds INT NOT NULL COMMENT '단계 지속 시간 (초)',
+    target INT NOT NULL COMMENT '단계 목표 수준 (open model: TPS, closed model: 동시 워커 수)',
+    step_count INT NOT NULL DEFAULT 1 COMMENT 'STEP 단계의 계단 수',
+    UNIQUE KEY uk_scenario_stage_order (scenario_id, stage_order),
+    CONSTRAINT fk_stage_scenario FOREIGN KEY (scenario_id) REFERENCES load_test_scenario(id) ON DELETE CASCADE
+) COMMENT='시나리오 부하 프로파일 단계';
+
+-- 5. 테스트 결과 테이블
 CREATE TABLE load_test_result (
     id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '결과 식별자',
     scenario_id BIGINT NOT NULL COMMENT '연결된 시나리오 ID',
+    parent_result_id BIGINT COMMENT '용량 탐색 probe이면 탐색 요약 결과 ID (그 외 NULL)',
     total_requests INT NOT NULL COMMENT '총 발송 요청 수',
     success_count INT NOT NULL COMMENT '성공 요청 수',
     fail_count INT NOT NULL COMMENT '실패 요청 수',
+    fail_log_dropped_count BIGINT NOT NULL DEFAULT 0 COMMENT '버퍼 초과로 저장하지 못한 실패 로그 수',
     avg_latency_ms DOUBLE COMMENT '평균 응답 시간 (ms)',
     min_latency_ms DOUBLE COMMENT '최소 응답 시간 (ms)',
     max_latency_ms DOUBLE COMMENT '최대 응답 시간 (ms)',
     p99_latency_ms DOUBLE COMMENT '상위 1% 응답 시간 (ms)',
+    avg_latency_us DOUBLE COMMENT '평균 응답 시간 (us)',
+    min_latency_us BIGINT COMMENT '최소 응답 시간 (us)',
+    max_latency_us BIGINT COMMENT '최대 응답 시간 (us)',
+    p50_latency_us BIGINT COMMENT '중앙값 응답 시간 (us)',
+    p90_latency_us BIGINT COMMENT '상위 10% 응답 시간 (us)',
+    p95_latency_us BIGINT COMMENT '상위 5% 응답 시간 (us)',
+    p99_latency_us BIGINT COMMENT '상위 1% 응답 시간 (us)',
+    p999_latency_us BIGINT COMMENT '상위 0.1% 응답 시간 (us)',
+    p9999_latency_us BIGINT COMMENT '상위 0.01% 응답 시간 (us)',
+    latency_histogram MEDIUMTEXT COMMENT '응답 시간 히스토그램 (HdrHistogram V2 compressed, Base64)',
+    corrected_avg_latency_us DOUBLE COMMENT '발송 예정 시각 기준 평균 응답 시간 (us)',
+    corrected_max_latency_us BIGINT COMMENT '발송 예정 시각 기준 최대 응답 시간 (us)',
+    corrected_p50_latency_us BIGINT COMMENT '발송 예정 시각 기준 중앙값 응답 시간 (us)',
+    corrected_p90_latency_us BIGINT COMMENT '발송 예정 시각 기준 상위 10% 응답 시간 (us)',
+    corrected_p95_latency_us BIGINT COMMENT '발송 예정 시각 기준 상위 5% 응답 시간 (us)',
+    corrected_p99_latency_us BIGINT COMMENT '발송 예정 시각 기준 상위 1% 응답 시간 (us)',
+    corrected_p999_latency_us BIGINT COMMENT '발송 예정 시각 기준 상위 0.1% 응답 시간 (us)',
+    corrected_p9999_latency_us BIGINT COMMENT '발송 예정 시각 기준 상위 0.01% 응답 시간 (us)',
+    corrected_latency_histogram MEDIUMTEXT COMMENT '발송 예정 시각 기준 히스토그램 (HdrHistogram V2 compressed, Base64)',
+    pool_acquire_avg_us DOUBLE COMMENT '평균 커넥션 풀 대기 시간 (us)',
+    pool_acquire_p99_us BIGINT COMMENT '상위 1% 커넥션 풀 대기 시간 (us)',
+    pool_acquire_max_us BIGINT COMMENT '최대 커넥션 풀 대기 시간 (us)',
+    bytes_sent BIGINT NOT NULL DEFAULT 0 COMMENT '요청 본문 전송량 (byte)',
+    bytes_received BIGINT NOT NULL DEFAULT 0 COMMENT '응답 본문 수신량 (byte)',
+    sent_bytes_per_sec DOUBLE COMMENT '초당 요청 본문 전송량 (byte/s)',
+    received_bytes_per_sec DOUBLE COMMENT '초당 응답 본문 수신량 (byte/s)',
+    missed_dispatch_count BIGINT NOT NULL DEFAULT 0 COMMENT '동시 처리 한도로 발송하지 못한 요청 수',
+    late_dispatch_count BIGINT NOT NULL DEFAULT 0 COMMENT '예정 시각보다 늦게 발송된 요청 수',
+    max_dispatch_lag_us BIGINT COMMENT '예정 시각 대비 최대 발송 지연 (us)',
+    cut_off_count BIGINT NOT NULL DEFAULT 0 COMMENT '종료 유예 시간이 지나 취소된 요청 수 (성공/실패에 포함하지 않음)',
+    measured_window_ms BIGINT NOT NULL DEFAULT 0 COMMENT '측정 구간: 시작부터 마지막 요청이 끝나거나 잘린 시각까지 (ms)',
+    throughput_rps DOUBLE COMMENT '측정 구간 기준 초당 완료 요청 수 (req/s)',
+    aborted TINYINT(1) NOT NULL DEFAULT 0 COMMENT '종료 시각 전에 중단된 실행이면 1 (지표는 중단 시점까지의 값)',
+    error_message VARCHAR(1000) COMMENT '실행이 예외로 끝났으면 원인 (aborted = 1, 정상 종료/중단이면 NULL)',
+    offered_tps INT COMMENT '용량 탐색 probe의 목표 TPS',
+    achieved_tps DOUBLE COMMENT '용량 탐색 probe의 측정 구간 처리량 (req/s)',
+    slo_passed TINYINT(1) COMMENT '용량 탐색 probe의 SLO 충족 여부',
+    capacity_tps INT COMMENT '용량 탐색 요약: SLO를 지킨 최대 TPS (찾지 못하면 0)',
+    generator_peak_cpu_load DOUBLE COMMENT '부하 생성기 프로세스 최대 CPU 사용률 (0~1)',
+    generator_gc_pause_ms BIGINT COMMENT '부하 생성기 GC 정지 시간 합 (ms)',
+    generator_pinned_count BIGINT COMMENT '부하 생성기 가상 스레드 pinning 이벤트 수 (JFR 미사용이면 NULL)',
+    untrustworthy TINYINT(1) NOT NULL DEFAULT 0 COMMENT '부하 생성기 병목이 결과에 섞였을 수 있으면 1',
+    untrustworthy_reasons VARCHAR(255) COMMENT '신뢰할 수 없는 사유 (CPU_SATURATED,GC_PAUSES,CARRIER_PINNING,DISPATCH_LAG,POOL_EXHAUSTED 중 쉼표 구분)',
+    thresholds_passed TINYINT(1) COMMENT '시나리오 통과 기준 충족 여부 (기준이 없으면 NULL)',
+    threshold_breaches VARCHAR(100) COMMENT '위반한 통과 기준 (P95_LATENCY,ERROR_RATE,MIN_RPS 중 쉼표 구분)',
+    threshold_breached_at DATETIME COMMENT '처음 통과 기준을 어긴 구간의 종료 시각',
     started_at DATETIME COMMENT '테스트 시작 일시',
     ended_at DATETIME COMMENT '테스트 종료 일시',
-    CONSTRAINT fk_scenario FOREIGN KEY (scenario_id) REFERENCES load_test_scenario(id) ON DELETE CASCADE
+    CONSTRAINT fk_scenario FOREIGN KEY (scenario_id) REFERENCES load_test_scenario(id) ON DELETE CASCADE,
+    CONSTRAINT fk_result_parent FOREIGN KEY (parent_result_id) REFERENCES load_test_result(id) ON DELETE CASCADE
 ) COMMENT='부하 테스트 실행 결과 통계';
 
--- 4. 실패 로그 테이블
+-- 6. 테스트 결과 단계별 지표 테이블
+CREATE TABLE load_test_result_step (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '단계 결과 식별자',
+    result_id BIGINT NOT NULL COMMENT '연결된 테스트 결과 ID',
+    step_order INT NOT NULL COMMENT '시나리오 단계 순서 (1부터)',
+    step_name VARCHAR(100) NOT NULL COMMENT '단계 명칭',
+    total_requests BIGINT NOT NULL COMMENT '단계 요청 수',
+    success_count BIGINT NOT NULL COMMENT '단계 성공 요청 수',
+    fail_count BIGINT NOT NULL COMMENT '단계 실패 요청 수 (추출 실패 포함)',
+    extraction_fail_count BIGINT NOT NULL DEFAULT 0 COMMENT '응답 값 추출 실패 수',
+    avg_latency_us DOUBLE COMMENT '단계 평균 응답 시간 (us)',
+    p50_latency_us BIGINT COMMENT '단계 중앙값 응답 시간 (us)',
+    p90_latency_us BIGINT COMMENT '단계 상위 10% 응답 시간 (us)',
+    p99_latency_us BIGINT COMMENT '단계 상위 1% 응답 시간 (us)',
+    max_latency_us BIGINT COMMENT '단계 최대 응답 시간 (us)',
+    latency_histogram MEDIUMTEXT COMMENT '단계 히스토그램 (HdrHistogram V2 compressed, Base64)',
+    UNIQUE KEY uk_result_step_order (result_id, step_order),
+    CONSTRAINT fk_result_step_result FOREIGN KEY (result_id) REFERENCES load_test_result(id) ON DELETE CASCADE
+) COMMENT='다단계 시나리오 실행 결과의 단계별 지표';
+
+-- 7. 테스트 결과 구간(시계열) 테이블
+CREATE TABLE load_test_result_timeseries (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '구간 식별자',
+    result_id BIGINT NOT NULL COMMENT '연결된 테스트 결과 ID',
+    interval_seq BIGINT NOT NULL COMMENT '구간 번호 (0부터)',
+    elapsed_ms BIGINT NOT NULL COMMENT '테스트 시작 ~ 구간 종료 (ms)',
+    interval_ms BIGINT NOT NULL COMMENT '구간 길이 (ms)',
+    stage_index INT COMMENT '구간이 속한 부하 프로파일 단계 (0부터, 프로파일이 없으면 NULL)',
+    request_count BIGINT NOT NULL COMMENT '구간 요청 수',
+    success_count BIGINT NOT NULL COMMENT '구간 성공 요청 수',
+    fail_count BIGINT NOT NULL COMMENT '구간 실패 요청 수',
+    bytes_sent BIGINT NOT NULL DEFAULT 0 COMMENT '구간 요청 본문 전송량 (byte)',
+    bytes_received BIGINT NOT NULL DEFAULT 0 COMMENT '구간 응답 본문 수신량 (byte)',
+    avg_latency_us DOUBLE COMMENT '구간 평균 응답 시간 (us)',
+    p50_latency_us BIGINT COMMENT '구간 중앙값 응답 시간 (us)',
+    p90_latency_us BIGINT COMMENT '구간 상위 10% 응답 시간 (us)',
+    p99_latency_us BIGINT COMMENT '구간 상위 1% 응답 시간 (us)',
+    p999_latency_us BIGINT COMMENT '구간 상위 0.1% 응답 시간 (us)',
+    max_latency_us BIGINT COMMENT '구간 최대 응답 시간 (us)',
+    latency_histogram MEDIUMTEXT COMMENT '구간 히스토그램 (HdrHistogram V2 compressed, Base64)',
+    recorded_at DATETIME(3) COMMENT '구간 종료 시각',
+    UNIQUE KEY uk_timeseries_result_seq (result_id, interval_seq),
+    CONSTRAINT fk_timeseries_result FOREIGN KEY (result_id) REFERENCES load_test_result(id) ON DELETE CASCADE
+) COMMENT='부하 테스트 실행 중 구간별 지표';
+
+-- 8. 부하 생성기 상태 샘플 테이블
+CREATE TABLE load_test_generator_health (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '샘플 식별자',
+    result_id BIGINT NOT NULL COMMENT '연결된 테스트 결과 ID',
+    sample_seq BIGINT NOT NULL COMMENT '샘플 번호 (0부터, 분산 실행은 워커마다 따로 증가)',
+    elapsed_ms BIGINT NOT NULL COMMENT '테스트 시작 ~ 샘플 시각 (ms)',
+    interval_ms BIGINT NOT NULL COMMENT '직전 샘플과의 간격 (ms)',
+    process_cpu_load DOUBLE COMMENT '생성기 프로세스 CPU 사용률 (0~1, 전체 코어 기준)',
+    system_cpu_load DOUBLE COMMENT '머신 전체 CPU 사용률 (0~1)',
+    gc_pause_ms BIGINT NOT NULL DEFAULT 0 COMMENT '구간 GC 정지 시간 합 (ms)',
+    gc_count BIGINT NOT NULL DEFAULT 0 COMMENT '구간 GC 횟수',
+    heap_used_bytes BIGINT NOT NULL DEFAULT 0 COMMENT '샘플 시각 힙 사용량 (byte)',
+    pinned_count BIGINT COMMENT '구간 가상 스레드 pinning 이벤트 수 (JFR 미사용이면 NULL)',
+    max_pinned_us BIGINT COMMENT '구간 최장 pinning 시간 (us)',
+    max_dispatch_lag_us BIGINT NOT NULL DEFAULT 0 COMMENT '구간 최대 발송 지연 (us)',
+    recorded_at DATETIME(3) COMMENT '샘플 시각',
+    CONSTRAINT fk_generator_health_result FOREIGN KEY (result_id) REFERENCES load_test_result(id) ON DELETE CASCADE
+) COMMENT='부하 테스트 실행 중 부하 생성기 자체 상태 샘플';
+
+CREATE INDEX idx_generator_health_result_id ON load_test_generator_health(result_id, sample_seq);
+
+-- 9. 실패 유형(시그니처) 집계 테이블
+CREATE TABLE load_test_fail_signature (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '유형 식별자',
+    result_id BIGINT NOT NULL COMMENT '연결된 테스트 결과 ID',
+    signature_hash BIGINT NOT NULL COMMENT '실패 유형 식별값 (상태 코드 + 예외 종류 + 메시지 템플릿의 해시)',
+    http_status INT NOT NULL COMMENT 'HTTP 상태 코드 (응답 없이 실패하면 0)',
+    error_type VARCHAR(255) COMMENT '예외 클래스 이름',
+    message_template VARCHAR(512) COMMENT '숫자/UUID/IP 등을 치환한 에러 메시지',
+    fail_count BIGINT NOT NULL COMMENT '이 유형으로 실패한 요청 수',
+    first_request_order BIGINT NOT NULL COMMENT '처음 실패한 요청 순번',
+    last_request_order BIGINT NOT NULL COMMENT '마지막으로 실패한 요청 순번',
+    first_failed_at DATETIME COMMENT '처음 실패한 시각',
+    last_failed_at DATETIME COMMENT '마지막으로 실패한 시각',
+    UNIQUE KEY uk_fail_signature (result_id, signature_hash),
+    CONSTRAINT fk_fail_signature_result FOREIGN KEY (result_id) REFERENCES load_test_result(id) ON DELETE CASCADE
+) COMMENT='부하 테스트 실패를 유형별로 묶은 집계';
+
+-- 10. 실패 유형별 초당 실패 수 테이블
+CREATE TABLE load_test_fail_signature_second (
+    result_id BIGINT NOT NULL COMMENT '연결된 테스트 결과 ID',
+    signature_hash BIGINT NOT NULL COMMENT '실패 유형 식별값',
+    second_at DATETIME NOT NULL COMMENT '초 단위로 자른 실패 시각',
+    fail_count BIGINT NOT NULL COMMENT '그 1초 동안 이 유형으로 실패한 요청 수',
+    PRIMARY KEY (result_id, signature_hash, second_at),
+    CONSTRAINT fk_fail_signature_second_result FOREIGN KEY (result_id) REFERENCES load_test_result(id) ON DELETE CASCADE
+) COMMENT='실패 유형별 초당 실패 수 (에러 히스토그램)';
+
+-- 11. 실패 예시 로그 테이블
 CREATE TABLE load_test_fail_log (
     id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '로그 식별자',
     result_id BIGINT NOT NULL COMMENT '연결된 테스트 결과 ID',
@@ -41,7 +230,10 @@ CREATE TABLE load_test_fail_log (
     error_msg TEXT COMMENT '에러 메시지 상세',
     request_time DATETIME COMMENT '실패 발생 시각',
     http_status INT COMMENT 'HTTP 상태 코드',
+    error_type VARCHAR(255) COMMENT '예외 클래스 이름',
+    signature_hash BIGINT COMMENT '실패 유형 식별값 (load_test_fail_signature)',
     CONSTRAINT fk_result FOREIGN KEY (result_id) REFERENCES load_test_result(id) ON DELETE CASCADE
-) COMMENT='부하 테스트 중 발생한 개별 실패 로그';
+) COMMENT='실패 유형별로 무작위 표본 추출(reservoir)해 남긴 원본 실패 로그';
 
-CREATE INDEX idx_fail_log_result_id ON load_test_fail_log(result_id);
\ No newline at end of file
+CREATE INDEX idx_fail_log_result_id ON load_test_fail_log(result_id);
+CREATE INDEX idx_fail_log_signature ON load_test_fail_log(result_id, signature_hash);
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.project.repository;
+
+import com.project.model.LoadTestFailLog;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.util.List;
+
+// 벤치마크용: DB 없이 실패 로그 경로의 부하 생성기 쪽 비용만 재기 위한 저장소
+public final class NoOpFailLogRepository implements LoadTestFailLogRepository {
+
+    @Override
+    public void insertFailLog(LoadTestFailLog failLog) {
+    }
+
+    @Override
+    public void insertFailLogBatch(List<LoadTestFailLog> failLogs) {
+    }
+
+    @Override
+    public List<LoadTestFailLog> selectFailLogByResultId(Long resultId) {
+        return List.of();
+    }
+
+    @Override
+    public List<LoadTestFailLog> selectFailLogPage(Long resultId, Long signatureHash, Long afterId, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public Cursor<LoadTestFailLog> streamFailLogByResultId(Long resultId) {
+        throw new UnsupportedOperationException("벤치마크에서는 내보내기를 쓰지 않음");
+    }
+
+    @Override
+    public void deleteFailLogByResultId(Long resultId) {
+    }
+}
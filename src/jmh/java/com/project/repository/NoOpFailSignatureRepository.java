@@ -0,0 +1,36 @@
+package com.project.repository;
+
+import com.project.model.LoadTestFailSignature;
+import com.project.model.LoadTestFailSignatureSecond;
+
+import java.util.List;
+
+// 벤치마크용: DB 없이 실패 유형 집계 경로의 부하 생성기 쪽 비용만 재기 위한 저장소
+public final class NoOpFailSignatureRepository implements LoadTestFailSignatureRepository {
+
+    @Override
+    public void upsertSignatureBatch(List<LoadTestFailSignature> signatures) {
+    }
+
+    @Override
+    public void upsertSecondBatch(List<LoadTestFailSignatureSecond> seconds) {
+    }
+
+    @Override
+    public List<LoadTestFailSignature> selectSignaturesByResultId(Long resultId) {
+        return List.of();
+    }
+
+    @Override
+    public List<LoadTestFailSignatureSecond> selectSecondsBySignature(Long resultId, long signatureHash) {
+        return List.of();
+    }
+
+    @Override
+    public void deleteSignaturesByResultId(Long resultId) {
+    }
+
+    @Override
+    public void deleteSecondsByResultId(Long resultId) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.project.service.client;
+
+import com.project.config.FailLogWriterProperties;
+import com.project.config.FailLogWriterProperties.OverflowPolicy;
+import com.project.repository.NoOpFailLogRepository;
+import com.project.repository.NoOpFailSignatureRepository;
+import com.project.service.dto.RequestResult;
+import com.project.service.faillog.AsyncFailLogWriter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 요청 1건을 보내고 결과(RequestResult)를 만들기까지 부하 생성기 쪽 비용 (us/op, -prof gc의 B/op).
+ *
+ * 같은 프로세스의 Reactor Netty 스텁 서버(loopback)에 요청하므로 네트워크/대상 서버 지연은 거의 없고,
+ * WebClient + 커넥션 풀 + 응답 버퍼 해제 + RequestTiming 측정 경로의 오버헤드가 그대로 드러납니다.
+ *
+ *  - success: 200 + 1KB 본문
+ *  - httpError: 500 -> 실패 로그 생성 + AsyncFailLogWriter 큐 적재 경로 (저장소는 아무것도 하지 않음)
+ *  - postBody: 미리 인코딩한 본문(RequestTemplate)을 싣는 POST
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class RequestExecutorBenchmark {
+
+    private static final ByteBuf OK_BODY = Unpooled.unreleasableBuffer(Unpooled.directBuffer(1_024).writeZero(1_024));
+
+    private DisposableServer server;
+    private AsyncFailLogWriter failLogWriter;
+    private LoadTestHttpClient httpClient;
+    private LoadTestRequestExecutor executor;
+    private RequestTemplate okTemplate;
+    private RequestTemplate errorTemplate;
+    private RequestTemplate postTemplate;
+
+    @Setup
+    public void setUp() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes
+                        .get("/ok", (request, response) -> response.send(Mono.just(OK_BODY.duplicate())))
+                        .post("/ok", (request, response) -> request.receive()
+                                .then(response.send(Mono.just(OK_BODY.duplicate())).then()))
+                        .get("/error", (request, response) -> response.status(HttpResponseStatus.INTERNAL_SERVER_ERROR).send()))
+                .bindNow();
+
+        failLogWriter = new AsyncFailLogWriter(new NoOpFailLogRepository(), new NoOpFailSignatureRepository(),
+                new FailLogWriterProperties(65_536, 500, 200, OverflowPolicy.DROP, 100, 200, 20));
+        failLogWriter.start();
+
+        ConnectionProfile profile = new ConnectionProfile(64, 128, Duration.ofSeconds(45), true, false,
+                Duration.ofSeconds(30), null, 2);
+        httpClient = new LoadTestHttpClientFactory(WebClient.builder()).create(profile);
+        executor = new LoadTestRequestExecutor(failLogWriter, Clock.systemDefaultZone());
+
+        String baseUrl = "http://127.0.0.1:" + server.port();
+        okTemplate = RequestTemplate.compile("GET", baseUrl + "/ok", null, HttpHeaders.EMPTY);
+        errorTemplate = RequestTemplate.compile("GET", baseUrl + "/error", null, HttpHeaders.EMPTY);
+        postTemplate = RequestTemplate.compile("POST", baseUrl + "/ok", "{\"userId\":1234,\"item\":\"benchmark\"}",
+                HttpHeaders.EMPTY);
+    }
+
+    @TearDown
+    public void tearDown() {
+        okTemplate.close();
+        errorTemplate.close();
+        postTemplate.close();
+        httpClient.close();
+        failLogWriter.stop();
+        server.disposeNow();
+    }
+
+    @Benchmark
+    public RequestResult success() {
+        return executor.execute(httpClient, okTemplate, 1L, 0L);
+    }
+
+    @Benchmark
+    public RequestResult httpError() {
+        return executor.execute(httpClient, errorTemplate, 1L, 0L);
+    }
+
+    @Benchmark
+    public RequestResult postBody() {
+        return executor.execute(httpClient, postTemplate, 1L, 0L);
+    }
+}
@@ -0,0 +1,73 @@
+package com.project.service.faillog;
+
+import com.project.config.FailLogWriterProperties;
+import com.project.config.FailLogWriterProperties.OverflowPolicy;
+import com.project.model.LoadTestFailLog;
+import com.project.repository.NoOpFailLogRepository;
+import com.project.repository.NoOpFailSignatureRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 워커 스레드 쪽 실패 로그 적재 비용 (ns/op).
+ * 대상 서버가 5xx를 쏟아낼 때 모든 워커가 동시에 enqueue()하는 상황을 재현합니다.
+ * writer 스레드는 로그를 실패 유형별로 집계만 하므로 충분히 빨리 비우는 경우(DROP 거의 없음)와,
+ * 버퍼가 작아 대부분 넘치는 경우(DROP/SAMPLE 경로)를 bufferCapacity로 나눠 봅니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class FailLogEnqueueBenchmark {
+
+    @Param({"65536", "64"})
+    int bufferCapacity;
+
+    @Param({"DROP", "SAMPLE"})
+    OverflowPolicy overflowPolicy;
+
+    private AsyncFailLogWriter writer;
+    private LoadTestFailLog failLog;
+
+    @Setup
+    public void setUp() {
+        writer = new AsyncFailLogWriter(new NoOpFailLogRepository(), new NoOpFailSignatureRepository(),
+                new FailLogWriterProperties(bufferCapacity, 500, 200, overflowPolicy, 100, 200, 20));
+        writer.start();
+
+        // 같은 로그 객체를 반복 적재 (로그 생성 비용은 RequestExecutorBenchmark.httpError에 포함)
+        failLog = new LoadTestFailLog();
+        failLog.setResultId(1L);
+        failLog.setRequestOrder(0L);
+        failLog.setErrorMsg("500 HTTP Error");
+        failLog.setHttpStatus(500);
+        failLog.setRequestTime(LocalDateTime.now());
+    }
+
+    @TearDown
+    public void tearDown() {
+        writer.stop();
+    }
+
+    @Benchmark
+    public void enqueue() {
+        writer.enqueue(failLog);
+    }
+}
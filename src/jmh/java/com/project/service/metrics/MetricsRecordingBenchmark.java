@@ -0,0 +1,163 @@
+package com.project.service.metrics;
+
+import com.project.config.RunMeterProperties;
+import com.project.service.dto.RequestResult;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.HdrHistogram.AtomicHistogram;
+import org.HdrHistogram.Recorder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * 요청 1건당 집계 비용 (ns/op)과 스레드 수에 따른 변화.
+ *
+ *  - legacy: 기존 방식 재현 (AtomicInteger 카운터 + 공유 AtomicHistogram 3개 + 구간 Recorder에 이중 기록)
+ *  - singleStripe: 조각 1개 = 모든 스레드가 Recorder 하나를 공유
+ *  - striped: 현재 LoadTestMetricsCollector (코어 수 x 2 조각)
+ *  - stripedWithMeters: striped + 실행별 Prometheus 지표 (RunMeters, 지연시간 histogram/풀 대기 Timer/상태 코드별 실패 카운터)
+ *
+ * 스레드 수만 다른 하위 클래스(1 / 4 / 코어 수)로 나눠 같은 벤치마크를 반복합니다.
+ *   ./gradlew jmh -PjmhIncludes=MetricsRecordingBenchmark
+ * 스레드가 늘어날 때 legacy/singleStripe의 ns/op가 함께 늘어나면 공유 캐시 라인 경합, striped가 평평하면 경합이 사라진 것입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class MetricsRecordingBenchmark {
+
+    private static final int SAMPLES = 4_096; // 2의 거듭제곱 (인덱스 마스킹)
+
+    @State(Scope.Benchmark)
+    public static class Collectors {
+        LegacyCollector legacy;
+        LoadTestMetricsCollector singleStripe;
+        LoadTestMetricsCollector striped;
+        LoadTestMetricsCollector stripedWithMeters;
+
+        @Setup
+        public void setUp() {
+            legacy = new LegacyCollector();
+            singleStripe = new LoadTestMetricsCollector(0L, LoadTestMetricsCollector.DEFAULT_LATE_DISPATCH_THRESHOLD_NANOS, 1);
+            striped = new LoadTestMetricsCollector(0L);
+            stripedWithMeters = new LoadTestMetricsCollector(0L);
+            new RunMeterBinder(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT), new RunMeterProperties(true, 100, 60_000))
+                    .bind(0L, 0L, stripedWithMeters, () -> 0L);
+        }
+    }
+
+    // 스레드마다 미리 만든 응답 결과를 돌아가며 기록 (0.2 ~ 50ms, 1% 실패)
+    @State(Scope.Thread)
+    public static class Samples {
+        final RequestResult[] results = new RequestResult[SAMPLES];
+        final long[] intendedNanos = new long[SAMPLES];
+        int next;
+
+        @Setup
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom(Thread.currentThread().threadId());
+            for (int i = 0; i < SAMPLES; i++) {
+                long latencyNanos = (long) (200_000 * Math.pow(250, random.nextDouble()));
+                boolean success = random.nextInt(100) != 0;
+                results[i] = new RequestResult(success, latencyNanos,
+                        random.nextLong(1_000, 100_000), 128, 2_048, success ? 200 : 503);
+                intendedNanos[i] = latencyNanos + random.nextLong(0, 1_000_000);
+            }
+        }
+
+        int nextIndex() {
+            return next++ & (SAMPLES - 1);
+        }
+    }
+
+    @Benchmark
+    public void legacy(Collectors collectors, Samples samples) {
+        int i = samples.nextIndex();
+        collectors.legacy.record(samples.results[i], samples.intendedNanos[i]);
+    }
+
+    @Benchmark
+    public void singleStripe(Collectors collectors, Samples samples) {
+        int i = samples.nextIndex();
+        collectors.singleStripe.record(samples.results[i], samples.intendedNanos[i]);
+    }
+
+    @Benchmark
+    public void striped(Collectors collectors, Samples samples) {
+        int i = samples.nextIndex();
+        collectors.striped.record(samples.results[i], samples.intendedNanos[i]);
+    }
+
+    @Benchmark
+    public void stripedWithMeters(Collectors collectors, Samples samples) {
+        int i = samples.nextIndex();
+        collectors.stripedWithMeters.record(samples.results[i], samples.intendedNanos[i]);
+    }
+
+    @Threads(1)
+    public static class OneThread extends MetricsRecordingBenchmark {
+    }
+
+    @Threads(4)
+    public static class FourThreads extends MetricsRecordingBenchmark {
+    }
+
+    @Threads(Threads.MAX)
+    public static class AllCores extends MetricsRecordingBenchmark {
+    }
+
+    // 기존 LoadTestMetricsCollector의 기록 경로 (비교용)
+    static final class LegacyCollector {
+        private final AtomicInteger successCount = new AtomicInteger();
+        private final AtomicInteger failCount = new AtomicInteger();
+        private final LongAdder latencySum = new LongAdder();
+        private final LongAccumulator minLatency = new LongAccumulator(Long::min, Long.MAX_VALUE);
+        private final LongAccumulator maxLatency = new LongAccumulator(Long::max, 0L);
+        private final LongAdder bytesSent = new LongAdder();
+        private final LongAdder bytesReceived = new LongAdder();
+        private final AtomicHistogram latencyHistogram = new AtomicHistogram(
+                LoadTestMetricsCollector.MAX_TRACKABLE_LATENCY_US, LoadTestMetricsCollector.SIGNIFICANT_VALUE_DIGITS);
+        private final AtomicHistogram correctedLatencyHistogram = new AtomicHistogram(
+                LoadTestMetricsCollector.MAX_TRACKABLE_LATENCY_US, LoadTestMetricsCollector.SIGNIFICANT_VALUE_DIGITS);
+        private final AtomicHistogram poolAcquireHistogram = new AtomicHistogram(
+                LoadTestMetricsCollector.MAX_TRACKABLE_LATENCY_US, LoadTestMetricsCollector.SIGNIFICANT_VALUE_DIGITS);
+        private final Recorder intervalRecorder = new Recorder(
+                LoadTestMetricsCollector.MAX_TRACKABLE_LATENCY_US, LoadTestMetricsCollector.SIGNIFICANT_VALUE_DIGITS);
+
+        void record(RequestResult requestResult, long intendedLatencyNanos) {
+            if (requestResult.success()) {
+                successCount.incrementAndGet();
+            } else {
+                failCount.incrementAndGet();
+            }
+            long latencyUs = LoadTestMetricsCollector.toBoundedMicros(requestResult.latencyNanos());
+            latencySum.add(latencyUs);
+            minLatency.accumulate(latencyUs);
+            maxLatency.accumulate(latencyUs);
+            latencyHistogram.recordValue(latencyUs);
+            intervalRecorder.recordValue(latencyUs);
+            correctedLatencyHistogram.recordValue(
+                    Math.max(latencyUs, LoadTestMetricsCollector.toBoundedMicros(intendedLatencyNanos)));
+            poolAcquireHistogram.recordValue(LoadTestMetricsCollector.toBoundedMicros(requestResult.poolAcquireNanos()));
+            bytesSent.add(requestResult.bytesSent());
+            bytesReceived.add(requestResult.bytesReceived());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.project.service.metrics;
+
+import com.project.service.dto.IntervalStats;
+import com.project.service.dto.TestStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 집계 스냅샷 비용 (us/op).
+ *
+ *  - toStats / takeIntervalStats: 0.2 ~ 50ms 범위 값이 누적된 집계기에서 스냅샷 1회
+ *  - underLoad: 3개 스레드가 계속 기록하는 중에 1개 스레드가 toStats() (기록 쪽 ns/op가 스냅샷 때문에 늘어나는지 함께 확인)
+ *
+ * 라이브 지표 ticker는 1초마다 takeIntervalStats()를 부르므로, 여기서 ms 단위가 나오면 구간 경계가 밀립니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsSnapshotBenchmark {
+
+    private static final int PREFILL = 200_000;
+
+    private LoadTestMetricsCollector collector;
+
+    @Setup
+    public void setUp() {
+        collector = new LoadTestMetricsCollector(0L);
+        MetricsRecordingBenchmark.Samples samples = new MetricsRecordingBenchmark.Samples();
+        samples.setUp();
+        for (int n = 0; n < PREFILL; n++) {
+            int i = samples.nextIndex();
+            collector.record(samples.results[i], samples.intendedNanos[i]);
+        }
+        collector.toStats();
+    }
+
+    @Benchmark
+    public TestStats toStats() {
+        return collector.toStats();
+    }
+
+    @Benchmark
+    public IntervalStats takeIntervalStats() {
+        return collector.takeIntervalStats();
+    }
+
+    @Benchmark
+    @Group("underLoad")
+    @GroupThreads(3)
+    public void record(MetricsRecordingBenchmark.Samples samples) {
+        int i = samples.nextIndex();
+        collector.record(samples.results[i], samples.intendedNanos[i]);
+    }
+
+    @Benchmark
+    @Group("underLoad")
+    @GroupThreads(1)
+    public TestStats snapshot() {
+        return collector.toStats();
+    }
+}
@@ -3,9 +3,11 @@ package com.project;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
 @MapperScan("com.project.repository")
+@ConfigurationPropertiesScan("com.project.config")
 public class LoadTesterApplication {
     public static void main(String[] args) {
         SpringApplication.run(LoadTesterApplication.class, args);
@@ -0,0 +1,25 @@
+package com.project.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/*
+ * 용량 탐색 설정 (application.yml: load-tester.capacity-search.*)
+ *
+ * probeDurationSeconds: 목표 TPS 하나를 시험하는 probe 실행 시간
+ * warmupSeconds: probe 시작 후 SLO 판정에서 제외할 구간 (커넥션 수립, JIT, 대상 서버 캐시 등)
+ * growthFactor: SLO를 지키는 동안 다음 probe의 목표 TPS 배수
+ * resolutionPercent: 통과/실패 TPS 간격이 실패 TPS의 이 비율 이하가 되면 이분 탐색 종료
+ * maxProbes: probe 최대 횟수 (탐색 전체 시간 상한 = maxProbes * probeDurationSeconds)
+ * minThroughputRatio: 측정 처리량이 목표 TPS의 이 비율보다 낮으면 SLO 위반 (부하 생성기/대상 서버가 목표를 따라가지 못함)
+ */
+@ConfigurationProperties(prefix = "load-tester.capacity-search")
+public record CapacitySearchProperties(
+        @DefaultValue("30") int probeDurationSeconds,
+        @DefaultValue("5") int warmupSeconds,
+        @DefaultValue("2.0") double growthFactor,
+        @DefaultValue("5") int resolutionPercent,
+        @DefaultValue("15") int maxProbes,
+        @DefaultValue("0.95") double minThroughputRatio
+) {
+}
@@ -0,0 +1,16 @@
+package com.project.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/*
+ * 데이터 피드 설정 (application.yml: load-tester.data-feed.*)
+ *
+ * baseDir: 피드 파일을 둘 디렉터리. 시나리오의 dataFeedPath는 이 디렉터리 기준 상대 경로로만 해석하며,
+ *          밖을 가리키는 경로(../, 절대 경로)는 거부합니다. (API로 서버의 임의 파일을 읽어 요청에 싣지 못하도록)
+ */
+@ConfigurationProperties(prefix = "load-tester.data-feed")
+public record DataFeedProperties(
+        @DefaultValue("data-feeds") String baseDir
+) {
+}
@@ -0,0 +1,23 @@
+package com.project.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/*
+ * 분산 실행(코디네이터) 설정 (application.yml: load-tester.distributed.*)
+ *
+ * startDelayMs: 실행 요청 후 워커들이 동시에 시작할 때까지의 여유 시간. 모든 워커에 요청이 도착할 만큼 커야 합니다.
+ * pollIntervalMs: 워커 구간 지표/상태를 가져오는 주기
+ * completionTimeoutMs: 예정 종료 시각(시작 + durationSeconds) 이후 워커 완료를 기다리는 최대 시간
+ * workerIntervalBufferSize: (워커) 코디네이터가 아직 가져가지 않은 구간 지표를 보관할 최대 개수 (넘으면 오래된 구간부터 버림)
+ * workerRunRetentionMs: (워커) 끝난 실행을 코디네이터가 정리(release)하지 않아도 메모리에서 지우기까지의 시간
+ */
+@ConfigurationProperties(prefix = "load-tester.distributed")
+public record DistributedProperties(
+        @DefaultValue("2000") long startDelayMs,
+        @DefaultValue("1000") long pollIntervalMs,
+        @DefaultValue("60000") long completionTimeoutMs,
+        @DefaultValue("600") int workerIntervalBufferSize,
+        @DefaultValue("600000") long workerRunRetentionMs
+) {
+}
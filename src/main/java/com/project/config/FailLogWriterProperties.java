@@ -0,0 +1,31 @@
+package com.project.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/*
+ * 실패 로그 비동기 저장 설정 (application.yml: load-tester.fail-log.*)
+ *
+ * overflowPolicy: 버퍼가 가득 찼을 때의 동작
+ *  - DROP   : 새 로그를 버리고 버린 건수만 집계
+ *  - SAMPLE : sampleRate건마다 1건씩 같은 실행(resultId)의 가장 오래된 로그를 밀어내고 새 로그를 보관 (나머지는 DROP과 동일)
+ *  - BLOCK  : 버퍼에 자리가 날 때까지 워커를 대기시킴 (로그는 모두 남지만 부하 생성이 느려질 수 있음)
+ *
+ * maxSignaturesPerResult: 실행 1회에서 구분할 최대 실패 유형 수 (넘으면 상태 코드/예외 종류별 <other> 유형에 합침)
+ * exemplarsPerSignature: 실패 유형마다 원본 그대로 남길 로그 표본 수
+ */
+@ConfigurationProperties(prefix = "load-tester.fail-log")
+public record FailLogWriterProperties(
+        @DefaultValue("65536") int bufferCapacity,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("200") long flushIntervalMs,
+        @DefaultValue("DROP") OverflowPolicy overflowPolicy,
+        @DefaultValue("100") int sampleRate,
+        @DefaultValue("200") int maxSignaturesPerResult,
+        @DefaultValue("20") int exemplarsPerSignature
+) {
+
+    public enum OverflowPolicy {
+        DROP, SAMPLE, BLOCK
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/*
+ * 부하 생성기 자체 상태 감시 설정 (application.yml: load-tester.generator-health.*)
+ *
+ * sampleIntervalMs: 생성기 상태(CPU/GC/pinning/발송 지연) 샘플 주기
+ * pinningDetectionEnabled / pinnedThresholdMs: JFR jdk.VirtualThreadPinned 이벤트 수집 여부와 기록할 최소 pinning 시간
+ *
+ * 아래 한도 중 하나라도 넘으면 결과를 신뢰할 수 없음(untrustworthy)으로 표시합니다.
+ *  - maxProcessCpuLoad / maxSaturatedSampleRatio: CPU 사용률이 한도 이상인 샘플 비율
+ *  - maxGcPauseRatio: 실행 시간 대비 GC 정지 시간 비율
+ *  - maxPinnedEvents: pinnedThresholdMs 이상 pinning 이벤트 수
+ *  - maxLateDispatchRatio: 예정 시각보다 늦게 발송된 요청 비율 (open model, 가상 스레드 1ms / reactive 틱 1ms + 4ms 초과)
+ *  - maxPoolAcquireP99Ms: 커넥션 풀 대기 p99
+ */
+@ConfigurationProperties(prefix = "load-tester.generator-health")
+public record GeneratorHealthProperties(
+        @DefaultValue("1000") long sampleIntervalMs,
+        @DefaultValue("true") boolean pinningDetectionEnabled,
+        @DefaultValue("20") long pinnedThresholdMs,
+        @DefaultValue("0.9") double maxProcessCpuLoad,
+        @DefaultValue("0.1") double maxSaturatedSampleRatio,
+        @DefaultValue("0.05") double maxGcPauseRatio,
+        @DefaultValue("0") long maxPinnedEvents,
+        @DefaultValue("0.01") double maxLateDispatchRatio,
+        @DefaultValue("100") long maxPoolAcquireP99Ms
+) {
+}
@@ -0,0 +1,17 @@
+package com.project.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/*
+ * 실행 중 구간 지표 스냅샷 설정 (application.yml: load-tester.live-metrics.*)
+ *
+ * intervalMs: 스냅샷 주기. 구간 히스토그램은 이 주기마다 교체되므로 백분위도 이 구간 기준입니다.
+ * timeseriesBatchSize: 구간 지표를 몇 개씩 모아서 load_test_result_timeseries에 저장할지 (실행 종료 시 남은 구간도 저장)
+ */
+@ConfigurationProperties(prefix = "load-tester.live-metrics")
+public record LiveMetricsProperties(
+        @DefaultValue("1000") long intervalMs,
+        @DefaultValue("10") int timeseriesBatchSize
+) {
+}
@@ -0,0 +1,29 @@
+package com.project.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/*
+ * 실행 간 성능 비교 설정 (application.yml: load-tester.comparison.*)
+ *
+ * maxRuns: 한 번에 비교할 수 있는 실행 수 (기준 실행 포함)
+ * significanceLevel / minKsDistance: 지연시간 분포가 달라졌다고 볼 KS 검정 유의수준과 최소 KS 거리
+ *   (요청 수가 많으면 아주 작은 차이도 유의하게 나오므로 거리 하한을 함께 봄)
+ *
+ * 아래 한도 중 하나라도 넘으면 회귀(regression)로 표시합니다.
+ *  - maxP50IncreasePercent: p50 증가율 (분포 변화가 유의할 때만)
+ *  - maxP99IncreasePercent: p99 증가율
+ *  - maxThroughputDropPercent: 정상 구간 처리량 감소율
+ *  - maxErrorRateIncrease: 에러율 증가폭 (0.01 = 1%p)
+ */
+@ConfigurationProperties(prefix = "load-tester.comparison")
+public record RunComparisonProperties(
+        @DefaultValue("10") int maxRuns,
+        @DefaultValue("0.01") double significanceLevel,
+        @DefaultValue("0.05") double minKsDistance,
+        @DefaultValue("10") double maxP50IncreasePercent,
+        @DefaultValue("20") double maxP99IncreasePercent,
+        @DefaultValue("10") double maxThroughputDropPercent,
+        @DefaultValue("0.01") double maxErrorRateIncrease
+) {
+}
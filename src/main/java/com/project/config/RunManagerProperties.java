@@ -0,0 +1,25 @@
+package com.project.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/*
+ * 비동기 실행 관리 설정 (application.yml: load-tester.runs.*)
+ *
+ * maxConcurrentRuns: 동시에 실행할 최대 실행 수 (나머지는 제출 순서대로 대기열에서 기다림)
+ * maxQueuedRuns: 대기열 최대 길이 (넘으면 제출 거절)
+ * maxVirtualThreadsPerRun / maxConnectionsPerRun: 실행 1회가 쓸 수 있는 최대 동시 요청 수 / 커넥션 수 (넘는 시나리오는 제출 거절)
+ * maxTotalVirtualThreads / maxTotalConnections: 동시에 실행 중인 실행들의 합계 한도 (넘으면 앞선 실행이 끝날 때까지 대기)
+ * finishedRunRetention: 상태 조회용으로 메모리에 남겨 둘 종료된 실행 수 (결과 row는 DB에 그대로 남음)
+ */
+@ConfigurationProperties(prefix = "load-tester.runs")
+public record RunManagerProperties(
+        @DefaultValue("2") int maxConcurrentRuns,
+        @DefaultValue("50") int maxQueuedRuns,
+        @DefaultValue("5000") int maxVirtualThreadsPerRun,
+        @DefaultValue("1000") int maxConnectionsPerRun,
+        @DefaultValue("10000") int maxTotalVirtualThreads,
+        @DefaultValue("2000") int maxTotalConnections,
+        @DefaultValue("100") int finishedRunRetention
+) {
+}
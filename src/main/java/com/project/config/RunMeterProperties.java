@@ -0,0 +1,19 @@
+package com.project.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/*
+ * 실행별 Micrometer 지표 설정 (application.yml: load-tester.meters.*)
+ *
+ * enabled: 실행 중 /actuator/prometheus에 실행별(resultId 태그) 지표를 노출할지 여부
+ * minExpectedLatencyUs / maxExpectedLatencyMs: 지연시간 히스토그램 버킷 범위
+ *   (Micrometer 기본값은 1ms부터라 1ms 미만으로 응답하는 대상은 모든 요청이 첫 버킷에 몰림)
+ */
+@ConfigurationProperties(prefix = "load-tester.meters")
+public record RunMeterProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100") long minExpectedLatencyUs,
+        @DefaultValue("60000") long maxExpectedLatencyMs
+) {
+}
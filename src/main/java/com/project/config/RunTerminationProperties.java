@@ -0,0 +1,16 @@
+package com.project.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/*
+ * 실행 종료 설정 (application.yml: load-tester.termination.*)
+ *
+ * gracePeriodMs: 종료 시각 이후 진행 중인 요청의 응답을 기다리는 최대 시간
+ *                이 시간이 지나도 끝나지 않은 요청은 취소하고 cut-off로 따로 집계합니다. (0이면 종료 시각에 바로 취소)
+ */
+@ConfigurationProperties(prefix = "load-tester.termination")
+public record RunTerminationProperties(
+        @DefaultValue("5000") long gracePeriodMs
+) {
+}
@@ -0,0 +1,16 @@
+package com.project.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/*
+ * 시나리오 통과 기준 실시간 판정 설정 (application.yml: load-tester.thresholds.*)
+ *
+ * minRequests: warm-up 이후 요청이 이 수만큼 모이기 전에는 실행 중 판정을 미룸
+ *   (첫 구간의 요청 몇 건만으로 에러율/p95를 판정해 실행을 멈추지 않도록, 종료 시 최종 판정은 요청 수와 관계없이 함)
+ */
+@ConfigurationProperties(prefix = "load-tester.thresholds")
+public record ThresholdProperties(
+        @DefaultValue("100") long minRequests
+) {
+}
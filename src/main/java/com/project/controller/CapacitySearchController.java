@@ -0,0 +1,64 @@
+package com.project.controller;
+
+import com.project.model.LoadTestResult;
+import com.project.service.LoadTestService;
+import com.project.service.dto.CapacitySearchRequest;
+import com.project.service.dto.RunStatus;
+import com.project.service.run.LoadTestRunManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/load-tests")
+public class CapacitySearchController {
+
+    private final LoadTestService loadTestService;
+    private final LoadTestRunManager runManager;
+
+    public CapacitySearchController(LoadTestService loadTestService, LoadTestRunManager runManager) {
+        this.loadTestService = loadTestService;
+        this.runManager = runManager;
+    }
+
+    /*
+     * SLO를 지키는 최대 TPS 탐색
+     * 기존 방식: 모든 probe가 끝날 때까지 요청 스레드를 붙잡고, 탐색을 멈출 방법이 없었습니다.
+     * 변경 방식: 비동기 실행과 같은 대기열/한도로 제출하고 실행 ID(= 요약 결과 ID)를 바로 반환
+     * 상태 조회/중단은 /runs/{runId}, probe별 실시간 지표는 /results/{probeResultId}/live
+     */
+    @PostMapping("/capacity-search")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public RunStatus startCapacitySearch(@RequestBody CapacitySearchRequest request) {
+        if (request.scenario() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "scenario is required");
+        }
+        if (request.maxP99LatencyMs() <= 0 || request.maxErrorRate() < 0 || request.maxErrorRate() > 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "maxP99LatencyMs must be positive and maxErrorRate within 0..1");
+        }
+        if (request.startTps() <= 0 || request.maxTps() < request.startTps()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "startTps must be positive and maxTps >= startTps");
+        }
+        try {
+            return runManager.submitCapacitySearch(request);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, e.getMessage());
+        }
+    }
+
+    // 용량 탐색의 처리량/지연시간 곡선: 요약 결과에 연결된 probe row들 (실행 순서)
+    @GetMapping("/results/{resultId}/probes")
+    public List<LoadTestResult> getCapacityProbes(@PathVariable long resultId) {
+        return loadTestService.getCapacityProbes(resultId);
+    }
+}
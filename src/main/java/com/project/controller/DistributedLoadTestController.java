@@ -0,0 +1,43 @@
+package com.project.controller;
+
+import com.project.service.dto.DistributedRunRequest;
+import com.project.service.dto.RunStatus;
+import com.project.service.run.LoadTestRunManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/load-tests")
+public class DistributedLoadTestController {
+
+    private final LoadTestRunManager runManager;
+
+    public DistributedLoadTestController(LoadTestRunManager runManager) {
+        this.runManager = runManager;
+    }
+
+    /*
+     * 코디네이터로 동작: 워커들에 시나리오를 나눠 실행하고 병합된 결과 row 하나로 저장
+     * 기존 방식: 실행이 끝날 때까지 요청 스레드를 붙잡고, 실행 관리(대기열/중단)를 거치지 않았습니다.
+     * 변경 방식: 비동기 실행과 같은 대기열로 제출하고 실행 ID를 바로 반환 (상태 조회/중단은 /runs/{runId})
+     */
+    @PostMapping("/distributed")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public RunStatus startDistributed(@RequestBody DistributedRunRequest request) {
+        if (request.scenario() == null || request.workerUrls() == null || request.workerUrls().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "scenario and workerUrls are required");
+        }
+        try {
+            return runManager.submitDistributed(request.scenario(), request.workerUrls());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, e.getMessage());
+        }
+    }
+}
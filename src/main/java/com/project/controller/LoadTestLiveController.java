@@ -0,0 +1,35 @@
+package com.project.controller;
+
+import com.project.service.dto.IntervalSnapshot;
+import com.project.service.live.LiveMetricsPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("/api/load-tests")
+public class LoadTestLiveController {
+
+    private final LiveMetricsPublisher liveMetricsPublisher;
+
+    public LoadTestLiveController(LiveMetricsPublisher liveMetricsPublisher) {
+        this.liveMetricsPublisher = liveMetricsPublisher;
+    }
+
+    // 진행 중인 실행의 구간 지표를 Server-Sent Events로 전송 (실행이 끝나면 스트림 종료)
+    @GetMapping(value = "/results/{resultId}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<IntervalSnapshot>> streamLiveMetrics(@PathVariable long resultId) {
+        return liveMetricsPublisher.stream(resultId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "No running test for result " + resultId))
+                .map(snapshot -> ServerSentEvent.builder(snapshot)
+                        .id(String.valueOf(snapshot.sequence()))
+                        .event("interval")
+                        .build());
+    }
+}
@@ -0,0 +1,134 @@
+package com.project.controller;
+
+import com.project.model.LoadTestFailSignature;
+import com.project.model.LoadTestFailSignatureSecond;
+import com.project.model.LoadTestGeneratorHealth;
+import com.project.service.dto.FailLogPage;
+import com.project.service.dto.TimeseriesPoint;
+import com.project.service.export.ExportFormat;
+import com.project.service.export.ResultExportService;
+import com.project.service.faillog.FailureSignatureService;
+import com.project.service.health.GeneratorHealthMonitor;
+import com.project.service.timeseries.ResultTimeseriesService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/load-tests")
+public class LoadTestResultController {
+
+    private final ResultTimeseriesService resultTimeseriesService;
+    private final GeneratorHealthMonitor generatorHealthMonitor;
+    private final FailureSignatureService failureSignatureService;
+    private final ResultExportService resultExportService;
+
+    public LoadTestResultController(ResultTimeseriesService resultTimeseriesService,
+                                    GeneratorHealthMonitor generatorHealthMonitor,
+                                    FailureSignatureService failureSignatureService,
+                                    ResultExportService resultExportService) {
+        this.resultTimeseriesService = resultTimeseriesService;
+        this.generatorHealthMonitor = generatorHealthMonitor;
+        this.failureSignatureService = failureSignatureService;
+        this.resultExportService = resultExportService;
+    }
+
+    /*
+     * 실행 결과 시계열 전체 내보내기 (format=ndjson|csv)
+     * 응답을 모아 두지 않고 DB에서 읽는 대로 chunked로 바로 쓰므로, 요청 스레드(가상 스레드)에서 동기로 씀
+     */
+    @GetMapping("/results/{resultId}/timeseries/export")
+    public void exportTimeseries(@PathVariable long resultId,
+                                 @RequestParam(defaultValue = "ndjson") String format,
+                                 HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = parseFormat(format);
+        prepareExport(response, exportFormat, "result-" + resultId + "-timeseries");
+        resultExportService.exportTimeseries(resultId, exportFormat, response.getOutputStream());
+    }
+
+    // 실행 결과 시계열 (구간이 maxPoints개를 넘으면 연속 구간을 병합해서 반환)
+    @GetMapping("/results/{resultId}/timeseries")
+    public List<TimeseriesPoint> getTimeseries(@PathVariable long resultId,
+                                               @RequestParam(defaultValue = "300") int maxPoints) {
+        if (maxPoints <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "maxPoints must be positive");
+        }
+        return resultTimeseriesService.getTimeseries(resultId, maxPoints);
+    }
+
+    // 부하 프로파일 단계별 요약 (단계마다 처리량/에러율/백분위 한 점씩)
+    @GetMapping("/results/{resultId}/timeseries/stages")
+    public List<TimeseriesPoint> getStageSummaries(@PathVariable long resultId) {
+        return resultTimeseriesService.getStageSummaries(resultId);
+    }
+
+    // 실행 동안의 부하 생성기 자체 상태 샘플 (CPU/GC/pinning/발송 지연, 결과의 untrustworthy 판정 근거)
+    @GetMapping("/results/{resultId}/generator-health")
+    public List<LoadTestGeneratorHealth> getGeneratorHealth(@PathVariable long resultId) {
+        return generatorHealthMonitor.getSamples(resultId);
+    }
+
+    // 실패 유형별 집계 (실패 수가 많은 순)
+    @GetMapping("/results/{resultId}/failures")
+    public List<LoadTestFailSignature> getFailureSignatures(@PathVariable long resultId) {
+        return failureSignatureService.getSignatures(resultId);
+    }
+
+    // 실패 유형 하나의 초당 실패 수
+    @GetMapping("/results/{resultId}/failures/{signatureHash}/seconds")
+    public List<LoadTestFailSignatureSecond> getFailureSeconds(@PathVariable long resultId,
+                                                               @PathVariable long signatureHash) {
+        return failureSignatureService.getSignatureSeconds(resultId, signatureHash);
+    }
+
+    // 실패 원본 로그 표본 (id 기준 페이지, signatureHash를 주면 그 유형만)
+    @GetMapping("/results/{resultId}/failures/exemplars")
+    public FailLogPage getFailureExemplars(@PathVariable long resultId,
+                                           @RequestParam(required = false) Long signatureHash,
+                                           @RequestParam(required = false) Long afterId,
+                                           @RequestParam(defaultValue = "100") int limit) {
+        try {
+            return failureSignatureService.getExemplars(resultId, signatureHash, afterId, limit);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    // 실패 로그 전체 내보내기 (format=ndjson|csv, 행 수와 관계없이 고정 메모리로 스트리밍)
+    @GetMapping("/results/{resultId}/failures/export")
+    public void exportFailLogs(@PathVariable long resultId,
+                               @RequestParam(defaultValue = "ndjson") String format,
+                               HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = parseFormat(format);
+        prepareExport(response, exportFormat, "result-" + resultId + "-fail-logs");
+        resultExportService.exportFailLogs(resultId, exportFormat, response.getOutputStream());
+    }
+
+    private static ExportFormat parseFormat(String format) {
+        try {
+            return ExportFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private static void prepareExport(HttpServletResponse response, ExportFormat format, String fileName) {
+        response.setContentType(format.contentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(fileName + "." + format.extension())
+                .build()
+                .toString());
+    }
+}
@@ -0,0 +1,61 @@
+package com.project.controller;
+
+import com.project.model.LoadTestScenario;
+import com.project.service.dto.RunStatus;
+import com.project.service.run.LoadTestRunManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+// 비동기 실행 API: 제출 즉시 실행 ID(= 결과 ID)를 받고, 상태 조회/중단은 그 ID로
+@RestController
+@RequestMapping("/api/load-tests/runs")
+public class LoadTestRunController {
+
+    private final LoadTestRunManager runManager;
+
+    public LoadTestRunController(LoadTestRunManager runManager) {
+        this.runManager = runManager;
+    }
+
+    // 시나리오 제출: 한도 안이면 바로 RUNNING, 아니면 QUEUED (실시간 지표는 /api/load-tests/results/{runId}/live)
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public RunStatus submit(@RequestBody LoadTestScenario scenario) {
+        try {
+            return runManager.submit(scenario);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, e.getMessage());
+        }
+    }
+
+    // 대기/실행 중인 실행과 최근 종료된 실행
+    @GetMapping
+    public List<RunStatus> list() {
+        return runManager.list();
+    }
+
+    @GetMapping("/{runId}")
+    public RunStatus status(@PathVariable long runId) {
+        return runManager.status(runId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "No run " + runId));
+    }
+
+    // 중단: 대기 중이면 시작하지 않고 종료, 실행 중이면 발송을 멈추고 진행 중 요청을 취소 (결과는 중단 시점까지의 지표)
+    @PostMapping("/{runId}/abort")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public RunStatus abort(@PathVariable long runId) {
+        return runManager.abort(runId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "No run " + runId));
+    }
+}
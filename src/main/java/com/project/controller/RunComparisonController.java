@@ -0,0 +1,38 @@
+package com.project.controller;
+
+import com.project.service.comparison.RunComparisonService;
+import com.project.service.dto.RunComparison;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+@RestController
+@RequestMapping("/api/load-tests")
+public class RunComparisonController {
+
+    private final RunComparisonService runComparisonService;
+
+    public RunComparisonController(RunComparisonService runComparisonService) {
+        this.runComparisonService = runComparisonService;
+    }
+
+    // 기준 실행 대비 비교 대상 실행들의 백분위/처리량/에러율 변화와 회귀 판정 (candidateIds=11,12)
+    @GetMapping("/results/{resultId}/compare")
+    public RunComparison compare(@PathVariable long resultId,
+                                 @RequestParam List<Long> candidateIds) {
+        try {
+            return runComparisonService.compare(resultId, candidateIds);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (NoSuchElementException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+}
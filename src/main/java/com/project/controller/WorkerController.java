@@ -0,0 +1,64 @@
+package com.project.controller;
+
+import com.project.service.distributed.WorkerRunService;
+import com.project.service.dto.WorkerRunRequest;
+import com.project.service.dto.WorkerRunStatus;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+// 분산 실행의 워커 측 제어 API (코디네이터만 호출)
+@RestController
+@RequestMapping("/api/workers")
+public class WorkerController {
+
+    private final WorkerRunService workerRunService;
+
+    public WorkerController(WorkerRunService workerRunService) {
+        this.workerRunService = workerRunService;
+    }
+
+    // 나눠 받은 시나리오를 startAtEpochMs에 시작하도록 예약
+    @PostMapping("/runs")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void startRun(@RequestBody WorkerRunRequest request) {
+        try {
+            workerRunService.start(request);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+
+    // 실행 상태 + afterSeq 이후 구간 지표
+    @GetMapping("/runs/{resultId}")
+    public WorkerRunStatus getRun(@PathVariable long resultId, @RequestParam(defaultValue = "-1") long afterSeq) {
+        return workerRunService.status(resultId, afterSeq)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "No worker run for result " + resultId));
+    }
+
+    // 부하 중단: 결과는 보관해 두어 코디네이터가 중단 시점까지의 집계를 가져감
+    @PostMapping("/runs/{resultId}/abort")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void abortRun(@PathVariable long resultId) {
+        if (!workerRunService.abort(resultId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No worker run for result " + resultId);
+        }
+    }
+
+    // 실행 정리: 아직 실행 중이면 부하를 멈춘 뒤 보관한 결과를 지움
+    @DeleteMapping("/runs/{resultId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void releaseRun(@PathVariable long resultId) {
+        workerRunService.release(resultId);
+    }
+}
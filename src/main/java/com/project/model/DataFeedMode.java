@@ -0,0 +1,8 @@
+package com.project.model;
+
+// 데이터 피드 행 선택 방식
+public enum DataFeedMode {
+    SEQUENTIAL, // 처음부터 순서대로, 끝에 도달하면 처음부터 다시 (기본값)
+    RANDOM,     // 요청마다 임의의 행
+    UNIQUE      // 행마다 한 번만 사용, 모두 소진되면 남은 발송은 건너뜀
+}
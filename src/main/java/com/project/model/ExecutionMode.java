@@ -0,0 +1,7 @@
+package com.project.model;
+
+// 부하 생성 방식
+public enum ExecutionMode {
+    VIRTUAL_THREAD, // 요청마다 가상 스레드에서 block() (기본값)
+    REACTIVE        // 전체 테스트를 하나의 Reactor 파이프라인으로 구성, Netty 이벤트 루프에서 non-blocking 처리
+}
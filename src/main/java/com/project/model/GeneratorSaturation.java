@@ -0,0 +1,10 @@
+package com.project.model;
+
+// 부하 생성기 자신이 병목이었다고 판단한 이유 (load_test_result.untrustworthy_reasons에 쉼표로 저장)
+public enum GeneratorSaturation {
+    CPU_SATURATED,   // 생성기 프로세스 CPU 사용률이 한도를 넘은 샘플이 많음
+    GC_PAUSES,       // 실행 시간 대비 GC 정지 시간 비율이 한도를 넘음
+    CARRIER_PINNING, // 가상 스레드가 carrier 스레드를 오래 붙잡은(pinned) 이벤트가 한도를 넘음
+    DISPATCH_LAG,    // 예정 시각보다 늦게 발송된 요청 비율이 한도를 넘음
+    POOL_EXHAUSTED   // 커넥션 풀 대기 p99가 한도를 넘음 (풀이 작아 대기열에서 기다린 시간이 지연시간에 섞임)
+}
@@ -0,0 +1,9 @@
+package com.project.model;
+
+// 부하 프로파일 단계 종류 (target: open model은 TPS, closed model은 동시 워커 수)
+public enum LoadStageType {
+    RAMP,     // 이전 수준 -> target까지 선형 증가/감소 (target을 0으로 두면 ramp-down)
+    STEP,     // 이전 수준 -> target까지 stepCount번에 나눠 계단식 증가, 각 계단을 같은 시간씩 유지
+    SPIKE,    // 단계 동안 target으로 급증, 끝나면 이전 수준으로 복귀
+    PLATEAU   // target 수준 유지 (soak)
+}
@@ -19,4 +19,6 @@ public class LoadTestFailLog {
     private String errorMsg;      // 에러 메시지
     private LocalDateTime requestTime;   // 실패 시간
     private int httpStatus;       // HTTP 상태 코드
+    private String errorType;     // 예외 클래스 이름 (원인 예외 기준)
+    private Long signatureHash;   // 실패 유형(LoadTestFailSignature) 식별값
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.project.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadTestFailSignature {
+    private Long id;
+    private Long resultId;           // 연결된 테스트 결과 ID
+    private long signatureHash;      // 실패 유형 식별값 (상태 코드 + 예외 종류 + 메시지 템플릿)
+
+    // 실패 유형
+    private int httpStatus;          // HTTP 상태 코드 (응답 없이 실패하면 0)
+    private String errorType;        // 예외 클래스 이름
+    private String messageTemplate;  // 숫자/UUID/IP 등을 치환한 에러 메시지
+
+    // 집계
+    private long failCount;          // 이 유형으로 실패한 요청 수
+    private long firstRequestOrder;  // 처음 실패한 요청 순번
+    private long lastRequestOrder;   // 마지막으로 실패한 요청 순번
+    private LocalDateTime firstFailedAt; // 처음 실패한 시각
+    private LocalDateTime lastFailedAt;  // 마지막으로 실패한 시각
+}
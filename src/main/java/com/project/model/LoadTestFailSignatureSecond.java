@@ -0,0 +1,19 @@
+package com.project.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadTestFailSignatureSecond {
+    private Long resultId;           // 연결된 테스트 결과 ID
+    private long signatureHash;      // 실패 유형 식별값
+    private LocalDateTime secondAt;  // 초 단위로 자른 실패 시각
+    private long failCount;          // 그 1초 동안 이 유형으로 실패한 요청 수
+}
@@ -0,0 +1,34 @@
+package com.project.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadTestGeneratorHealth {
+    private Long id;
+    private Long resultId;         // 연결된 테스트 결과 ID
+
+    // 샘플 구간 정보
+    private long sampleSeq;        // 0부터 증가하는 샘플 번호
+    private long elapsedMs;        // 테스트 시작 ~ 샘플 시각 (ms)
+    private long intervalMs;       // 직전 샘플과의 간격 (ms)
+
+    // 생성기 프로세스 상태
+    private Double processCpuLoad; // 생성기 프로세스 CPU 사용률 (0~1, 전체 코어 기준, 측정 불가면 null)
+    private Double systemCpuLoad;  // 머신 전체 CPU 사용률 (0~1, 측정 불가면 null)
+    private long gcPauseMs;        // 구간 동안 GC 정지 시간 합 (ms)
+    private long gcCount;          // 구간 동안 GC 횟수
+    private long heapUsedBytes;    // 샘플 시각 힙 사용량 (byte)
+    private Long pinnedCount;      // 구간 동안 가상 스레드 pinning 이벤트 수 (JFR 미사용이면 null)
+    private Long maxPinnedUs;      // 구간 최장 pinning 시간 (us, JFR 미사용이면 null)
+    private long maxDispatchLagUs; // 구간 최대 발송 지연 (예정 시각 대비, us)
+
+    private LocalDateTime recordedAt;  // 샘플 시각
+}
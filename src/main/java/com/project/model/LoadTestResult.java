@@ -15,18 +15,84 @@ import java.util.Date;
 public class LoadTestResult {
     private Long id;
     private Long scenarioId;       // 연결된 시나리오 ID (외래키 역할)
+    private Long parentResultId;   // 용량 탐색 probe이면 탐색 요약 결과 ID (그 외 null)
 
     // 결과 통계 지표
     private int totalRequests;     // 총 발송한 요청 수
     private int successCount;      // 성공한 요청 수 (HTTP 200 등)
     private int failCount;         // 실패한 요청 수
+    private long failLogDroppedCount; // 버퍼 초과로 저장하지 못한 실패 로그 수
 
-    // 성능 측정 지표 (ms 단위)
+    // 성능 측정 지표 (ms 단위, 소수점 이하로 us 정밀도 유지)
     private double avgLatencyMs;   // 평균 응답 시간
     private double minLatencyMs;   // 최소 응답 시간
     private double maxLatencyMs;   // 최대 응답 시간
     private double p99LatencyMs;   // 상위 1% 응답 시간 (꼬리 지연 확인용)
 
+    // 성능 측정 지표 (us 단위)
+    private double avgLatencyUs;
+    private long minLatencyUs;
+    private long maxLatencyUs;
+    private long p50LatencyUs;
+    private long p90LatencyUs;
+    private long p95LatencyUs;
+    private long p99LatencyUs;
+    private long p999LatencyUs;     // 상위 0.1%
+    private long p9999LatencyUs;    // 상위 0.01%
+    private String latencyHistogram; // 전체 히스토그램 (HdrHistogram V2 compressed, Base64)
+
+    // 발송 예정 시각 기준 성능 지표 (Coordinated Omission 보정, us 단위)
+    private double correctedAvgLatencyUs;
+    private long correctedMaxLatencyUs;
+    private long correctedP50LatencyUs;
+    private long correctedP90LatencyUs;
+    private long correctedP95LatencyUs;
+    private long correctedP99LatencyUs;
+    private long correctedP999LatencyUs;
+    private long correctedP9999LatencyUs;
+    private String correctedLatencyHistogram;
+
+    // 커넥션 풀 대기 시간 (서버 응답 시간과 별도, us 단위)
+    private double poolAcquireAvgUs;
+    private long poolAcquireP99Us;
+    private long poolAcquireMaxUs;
+
+    // 전송량 지표 (요청/응답 본문 기준)
+    private long bytesSent;            // 요청 본문 전송량 (byte)
+    private long bytesReceived;        // 응답 본문 수신량 (byte)
+    private double sentBytesPerSec;    // 초당 전송량 (byte/s)
+    private double receivedBytesPerSec;// 초당 수신량 (byte/s)
+
+    // 발송 스케줄 준수 지표 (목표 TPS 기반 open model)
+    private long missedDispatchCount; // 동시 처리 한도로 발송하지 못한 요청 수
+    private long lateDispatchCount;   // 예정 시각보다 늦게 발송된 요청 수
+    private long maxDispatchLagUs;    // 예정 시각 대비 최대 발송 지연 (us)
+
+    // 실행 종료 지표 (종료 시각 + 유예 시간 기준)
+    private long cutOffCount;         // 유예 시간이 지나 취소된 요청 수 (성공/실패/지연시간에 포함하지 않음)
+    private long measuredWindowMs;    // 시작부터 마지막 요청이 끝나거나 잘린 시각까지 (ms)
+    private double throughputRps;     // 측정 구간 기준 초당 완료 요청 수
+    private boolean aborted;          // 종료 시각 전에 중단된 실행이면 true (지표는 중단 시점까지의 값)
+    private String errorMessage;      // 실행이 예외로 끝났으면 원인 (이때 aborted = true, 정상 종료/중단이면 null)
+
+    // 용량 탐색 지표 (probe: 목표/측정 처리량과 SLO 판정, 요약: 찾은 용량 / 일반 실행은 null)
+    private Integer offeredTps;       // probe 목표 TPS
+    private Double achievedTps;       // warm-up 이후 측정 구간의 초당 요청 수
+    private Boolean sloPassed;        // probe가 SLO를 지켰는지 여부
+    private Integer capacityTps;      // SLO를 지킨 최대 TPS (찾지 못하면 0)
+
+    // 부하 생성기 자체 상태 (load_test_generator_health 샘플 요약, 측정하지 못한 값은 null)
+    private Double generatorPeakCpuLoad;  // 생성기 프로세스 최대 CPU 사용률 (0~1)
+    private Long generatorGcPauseMs;      // 실행 동안 GC 정지 시간 합 (ms)
+    private Long generatorPinnedCount;    // 가상 스레드 pinning 이벤트 수
+    private boolean untrustworthy;        // 생성기 병목이 결과 수치에 섞였을 수 있으면 true
+    private String untrustworthyReasons;  // GeneratorSaturation 이름 목록 (쉼표 구분, 없으면 null)
+
+    // 시나리오 통과 기준 판정 (기준이 없는 시나리오면 모두 null)
+    private Boolean thresholdsPassed;
+    private String thresholdBreaches;          // ThresholdBreach 이름 목록 (쉼표 구분, 없으면 null)
+    private LocalDateTime thresholdBreachedAt; // 처음 기준을 어긴 구간의 종료 시각
+
     // 시간 정보
     private LocalDateTime startedAt;      // 테스트 시작 시각
     private LocalDateTime endedAt;        // 테스트 종료 시각
@@ -0,0 +1,31 @@
+package com.project.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadTestResultStep {
+    private Long id;
+    private Long resultId;            // 연결된 테스트 결과 ID
+    private int stepOrder;            // 시나리오 단계 순서 (1부터)
+    private String stepName;
+
+    // 단계 요청 지표
+    private long totalRequests;
+    private long successCount;
+    private long failCount;
+    private long extractionFailCount; // 응답은 성공했지만 값 추출에 실패한 수 (fail_count에 포함)
+
+    // 단계 지연시간 지표 (us 단위)
+    private double avgLatencyUs;
+    private long p50LatencyUs;
+    private long p90LatencyUs;
+    private long p99LatencyUs;
+    private long maxLatencyUs;
+    private String latencyHistogram;  // 단계 히스토그램 (HdrHistogram V2 compressed, Base64)
+}
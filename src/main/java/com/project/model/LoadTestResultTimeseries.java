@@ -0,0 +1,41 @@
+package com.project.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadTestResultTimeseries {
+    private Long id;
+    private Long resultId;         // 연결된 테스트 결과 ID
+
+    // 구간 정보
+    private long intervalSeq;      // 0부터 증가하는 구간 번호
+    private long elapsedMs;        // 테스트 시작 ~ 구간 종료 (ms)
+    private long intervalMs;       // 구간 길이 (ms)
+    private Integer stageIndex;    // 구간이 속한 부하 프로파일 단계 (0부터, 프로파일이 없으면 null)
+
+    // 구간 요청 지표
+    private long requestCount;
+    private long successCount;
+    private long failCount;
+    private long bytesSent;        // 요청 본문 전송량 (byte)
+    private long bytesReceived;    // 응답 본문 수신량 (byte)
+
+    // 구간 지연시간 지표 (us 단위)
+    private double avgLatencyUs;
+    private long p50LatencyUs;
+    private long p90LatencyUs;
+    private long p99LatencyUs;
+    private long p999LatencyUs;
+    private long maxLatencyUs;
+    private String latencyHistogram; // 구간 히스토그램 (HdrHistogram V2 compressed, Base64) - 다운샘플링 시 병합용
+
+    private LocalDateTime recordedAt;  // 구간 종료 시각
+}
@@ -6,7 +6,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 @Getter
 @Setter
@@ -22,9 +24,61 @@ public class LoadTestScenario {
     private String requestParams;  // JSON 형태의 파라미터나 쿼리 스트링
 
     // 부하 제어 관련 설정
-    private int targetTps;         // 목표 TPS (초당 생성할 요청 수)
-    private int virtualThreadCount;// 사용할 가상 쓰레드(Worker) 개수
+    private int targetTps;         // 목표 TPS (초당 생성할 요청 수, 0 이하면 closed model)
+    private int virtualThreadCount;// 사용할 가상 쓰레드(Worker) 개수 (REACTIVE 모드에서는 최대 동시 요청 수)
     private int durationSeconds;   // 테스트 지속 시간 (초)
+    private ExecutionMode executionMode = ExecutionMode.VIRTUAL_THREAD; // 부하 생성 방식
+
+    // 지연시간 보정 설정
+    private int expectedIntervalMs; // HdrHistogram expected interval 보정 간격 (0이면 보정 안 함, closed model에만 적용)
+
+    // 커넥션 설정 (0이면 기본값 사용)
+    private int maxConnections;         // 최대 커넥션 수 (기본: virtualThreadCount)
+    private int pendingAcquireMaxCount; // 커넥션 대기열 최대 길이 (기본: maxConnections * 2)
+    private int pendingAcquireTimeoutMs;// 커넥션 대기 최대 시간 (기본: 45초)
+    private boolean keepAlive = true;   // false면 요청마다 새 커넥션
+    private boolean http2Enabled;       // h2c 멀티플렉싱 사용 여부
+    private int connectTimeoutMs;       // 연결 타임아웃 (기본: 30초)
+    private int responseTimeoutMs;      // 응답 타임아웃 (기본: 없음)
+    private int eventLoopThreads;       // 이벤트 루프 스레드 수 (기본: CPU 코어 수)
+
+    // 데이터 피드 (CSV/JSONL, 지정하면 URL/본문/헤더의 ${컬럼명}을 요청마다 피드의 한 행 값으로 치환)
+    private String dataFeedPath;        // load-tester.data-feed.base-dir 기준 상대 경로
+    private DataFeedMode dataFeedMode = DataFeedMode.SEQUENTIAL;
+    // 분산 실행에서 코디네이터가 워커마다 채우는 값 (저장하지 않음): UNIQUE 피드는 행 번호 % dataFeedPartitionCount == dataFeedPartition인 행만 사용
+    private int dataFeedPartition;
+    private int dataFeedPartitionCount = 1;
+
+    // 통과 기준 (null이면 판정 안 함): 실행 중 구간 지표로 계속 판정하고 결과에 판정/처음 어긴 시각을 남김
+    private Double maxP95LatencyMs;     // p95 응답 시간 한도 (ms)
+    private Double maxErrorRate;        // 에러율 한도 (0~1)
+    private Double minRps;              // 최소 초당 완료 요청 수
+    private int thresholdWarmupSeconds; // 판정에서 뺄 시작 구간 (초)
+    private boolean abortOnBreach;      // 기준을 어기면 종료 시각을 기다리지 않고 바로 부하를 멈춤
 
     private LocalDateTime createdAt;
+
+    // 다단계 여정 (비어 있으면 위 targetUrl로 단일 요청 반복)
+    // 여정 모드에서 targetTps는 초당 시작할 여정 수, virtualThreadCount는 동시에 진행 중인 여정(가상 사용자) 수
+    private List<LoadTestScenarioStep> steps = new ArrayList<>();
+
+    // 부하 프로파일 단계 (비어 있으면 durationSeconds 동안 targetTps / virtualThreadCount로 일정하게 유지)
+    // 단계가 있으면 durationSeconds는 단계 시간의 합, targetTps(open model) 또는 virtualThreadCount(closed model)는 최대 단계 목표로 맞춤
+    private List<LoadTestScenarioStage> stages = new ArrayList<>();
+
+    public boolean hasSteps() {
+        return steps != null && !steps.isEmpty();
+    }
+
+    public boolean hasStages() {
+        return stages != null && !stages.isEmpty();
+    }
+
+    public boolean hasThresholds() {
+        return maxP95LatencyMs != null || maxErrorRate != null || minRps != null;
+    }
+
+    public boolean hasDataFeed() {
+        return dataFeedPath != null && !dataFeedPath.isBlank();
+    }
 }
@@ -0,0 +1,24 @@
+package com.project.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/*
+ * 부하 프로파일의 한 단계 (ramp-up -> step -> spike -> plateau -> ramp-down 등을 순서대로 이어 붙임).
+ * 목표 TPS가 있는 시나리오(open model)는 도착률을, 없는 시나리오(closed model)는 동시 워커 수를 조절합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadTestScenarioStage {
+    private Long id;
+    private Long scenarioId;          // 연결된 시나리오 ID
+    private int stageOrder;           // 실행 순서 (1부터)
+    private LoadStageType stageType;
+    private int durationSeconds;      // 단계 지속 시간
+    private int target;               // 단계 목표 수준 (TPS 또는 동시 워커 수)
+    private int stepCount = 1;        // STEP 단계의 계단 수
+}
@@ -0,0 +1,33 @@
+package com.project.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/*
+ * 여러 단계로 이루어진 사용자 여정(login -> browse -> checkout 등)의 한 단계.
+ * targetUrl / requestParams / requestHeaders 에는 앞 단계에서 추출한 값이나 데이터 피드 컬럼을 ${변수명}으로 넣을 수 있습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadTestScenarioStep {
+    private Long id;
+    private Long scenarioId;       // 연결된 시나리오 ID
+    private int stepOrder;         // 실행 순서 (1부터)
+    private String name;           // 단계 명 (단계별 결과 구분용)
+
+    // 요청 관련 설정 (${변수명} 치환 가능)
+    private String targetUrl;
+    private String httpMethod;
+    private String requestParams;  // 요청 본문
+    private String requestHeaders; // 한 줄에 하나씩 "Header-Name: value"
+
+    // 응답 값 추출: "변수명=$.json.path" 또는 "변수명=header:Header-Name", 여러 개는 ';'로 구분
+    private String extractions;
+
+    private int thinkTimeMs;       // 이 단계 응답 후 다음 단계까지 대기 시간
+    private int weight = 100;      // 여정마다 이 단계를 실행할 확률 (%, 100이면 항상)
+}
@@ -0,0 +1,8 @@
+package com.project.model;
+
+// 실행이 어긴 시나리오 통과 기준 (load_test_result.threshold_breaches에 쉼표로 저장)
+public enum ThresholdBreach {
+    P95_LATENCY, // warm-up 이후 구간을 합친 p95가 maxP95LatencyMs를 넘음
+    ERROR_RATE,  // warm-up 이후 에러율이 maxErrorRate를 넘음
+    MIN_RPS      // warm-up 이후 초당 완료 요청 수가 minRps보다 낮음
+}
@@ -2,6 +2,7 @@ package com.project.repository;
 
 import com.project.model.LoadTestFailLog;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,7 +12,10 @@ import java.util.List;
 public interface LoadTestFailLogRepository {
 
     void insertFailLog(LoadTestFailLog failLog);
+    void insertFailLogBatch(List<LoadTestFailLog> failLogs);
     List<LoadTestFailLog> selectFailLogByResultId(Long resultId);
+    List<LoadTestFailLog> selectFailLogPage(Long resultId, Long signatureHash, Long afterId, int limit);
+    Cursor<LoadTestFailLog> streamFailLogByResultId(Long resultId);
     void deleteFailLogByResultId(Long resultId);
 
 }
@@ -0,0 +1,21 @@
+package com.project.repository;
+
+import com.project.model.LoadTestFailSignature;
+import com.project.model.LoadTestFailSignatureSecond;
+import org.apache.ibatis.annotations.Mapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Mapper
+@Repository
+public interface LoadTestFailSignatureRepository {
+
+    void upsertSignatureBatch(List<LoadTestFailSignature> signatures);
+    void upsertSecondBatch(List<LoadTestFailSignatureSecond> seconds);
+    List<LoadTestFailSignature> selectSignaturesByResultId(Long resultId);
+    List<LoadTestFailSignatureSecond> selectSecondsBySignature(Long resultId, long signatureHash);
+    void deleteSignaturesByResultId(Long resultId);
+    void deleteSecondsByResultId(Long resultId);
+
+}
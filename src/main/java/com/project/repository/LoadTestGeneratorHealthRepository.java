@@ -0,0 +1,17 @@
+package com.project.repository;
+
+import com.project.model.LoadTestGeneratorHealth;
+import org.apache.ibatis.annotations.Mapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Mapper
+@Repository
+public interface LoadTestGeneratorHealthRepository {
+
+    void insertHealthBatch(List<LoadTestGeneratorHealth> samples);
+    List<LoadTestGeneratorHealth> selectHealthByResultId(Long resultId);
+    void deleteHealthByResultId(Long resultId);
+
+}
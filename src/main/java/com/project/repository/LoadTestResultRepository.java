@@ -4,11 +4,15 @@ import com.project.model.LoadTestResult;
 import org.apache.ibatis.annotations.Mapper;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Mapper
 @Repository
 public interface LoadTestResultRepository {
     void insertResult(LoadTestResult result);
     void updateResult(LoadTestResult result);
+    LoadTestResult selectResultById(Long id);
     LoadTestResult selectResultByScenarioId(Long scenarioId);
+    List<LoadTestResult> selectResultsByParentId(Long parentResultId);
     void deleteResultByScenarioId(Long scenarioId);
 }
@@ -0,0 +1,16 @@
+package com.project.repository;
+
+import com.project.model.LoadTestResultStep;
+import org.apache.ibatis.annotations.Mapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Mapper
+@Repository
+public interface LoadTestResultStepRepository {
+
+    void insertResultSteps(List<LoadTestResultStep> resultSteps);
+    List<LoadTestResultStep> selectResultStepsByResultId(Long resultId);
+
+}
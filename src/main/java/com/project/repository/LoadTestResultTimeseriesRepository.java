@@ -0,0 +1,20 @@
+package com.project.repository;
+
+import com.project.model.LoadTestResultTimeseries;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Mapper
+@Repository
+public interface LoadTestResultTimeseriesRepository {
+
+    void insertTimeseriesBatch(List<LoadTestResultTimeseries> timeseries);
+    List<LoadTestResultTimeseries> selectTimeseriesByResultId(Long resultId);
+    int countTimeseriesByResultId(Long resultId);
+    Cursor<LoadTestResultTimeseries> streamTimeseriesByResultId(Long resultId);
+    void deleteTimeseriesByResultId(Long resultId);
+
+}
@@ -0,0 +1,16 @@
+package com.project.repository;
+
+import com.project.model.LoadTestScenarioStage;
+import org.apache.ibatis.annotations.Mapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Mapper
+@Repository
+public interface LoadTestScenarioStageRepository {
+
+    void insertStages(List<LoadTestScenarioStage> stages);
+    List<LoadTestScenarioStage> selectStagesByScenarioId(Long scenarioId);
+
+}
@@ -0,0 +1,16 @@
+package com.project.repository;
+
+import com.project.model.LoadTestScenarioStep;
+import org.apache.ibatis.annotations.Mapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Mapper
+@Repository
+public interface LoadTestScenarioStepRepository {
+
+    void insertSteps(List<LoadTestScenarioStep> steps);
+    List<LoadTestScenarioStep> selectStepsByScenarioId(Long scenarioId);
+
+}
@@ -1,50 +1,408 @@
 package com.project.service;
 
+import com.project.config.CapacitySearchProperties;
+import com.project.config.ThresholdProperties;
 import com.project.model.LoadTestResult;
+import com.project.model.LoadTestResultStep;
 import com.project.model.LoadTestScenario;
+import com.project.model.LoadTestScenarioStage;
+import com.project.model.LoadTestScenarioStep;
 import com.project.repository.LoadTestResultRepository;
+import com.project.repository.LoadTestResultStepRepository;
 import com.project.repository.LoadTestScenarioRepository;
+import com.project.repository.LoadTestScenarioStageRepository;
+import com.project.repository.LoadTestScenarioStepRepository;
+import com.project.service.capacity.CapacitySearch;
+import com.project.service.capacity.SloEvaluator;
+import com.project.service.distributed.LoadTestCoordinator;
+import com.project.service.dto.CapacitySearchRequest;
+import com.project.service.dto.CapacitySearchResult;
+import com.project.service.dto.DistributedRunResult;
+import com.project.service.dto.GeneratorHealth;
+import com.project.service.dto.LatencyDistribution;
+import com.project.service.dto.SloVerdict;
+import com.project.service.dto.StepStats;
 import com.project.service.dto.TestStats;
+import com.project.service.dto.ThresholdVerdict;
+import com.project.service.faillog.AsyncFailLogWriter;
+import com.project.service.runner.LoadProfile;
 import com.project.service.runner.LoadTestRunner;
+import com.project.service.runner.RunAbort;
+import com.project.service.threshold.ThresholdEvaluator;
+import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Service;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Service
 public class LoadTestService {
 
+    private static final int ERROR_MESSAGE_MAX_LENGTH = 1000; // load_test_result.error_message 길이
+
     private final LoadTestRunner loadTestRunner;
     private final LoadTestResultRepository loadTestResultRepository;
     private final LoadTestScenarioRepository loadTestScenarioRepository;
+    private final LoadTestScenarioStepRepository loadTestScenarioStepRepository;
+    private final LoadTestScenarioStageRepository loadTestScenarioStageRepository;
+    private final LoadTestResultStepRepository loadTestResultStepRepository;
+    private final AsyncFailLogWriter failLogWriter;
+    private final LoadTestCoordinator loadTestCoordinator;
+    private final CapacitySearchProperties capacitySearchProperties;
+    private final ThresholdProperties thresholdProperties;
     private final Clock clock;
 
     public LoadTestService(
             LoadTestRunner loadTestRunner,
             LoadTestResultRepository loadTestResultRepository,
             LoadTestScenarioRepository loadTestScenarioRepository,
+            LoadTestScenarioStepRepository loadTestScenarioStepRepository,
+            LoadTestScenarioStageRepository loadTestScenarioStageRepository,
+            LoadTestResultStepRepository loadTestResultStepRepository,
+            AsyncFailLogWriter failLogWriter,
+            LoadTestCoordinator loadTestCoordinator,
+            CapacitySearchProperties capacitySearchProperties,
+            ThresholdProperties thresholdProperties,
             Clock clock
     ) {
         this.loadTestRunner = loadTestRunner;
         this.loadTestResultRepository = loadTestResultRepository;
         this.loadTestScenarioRepository = loadTestScenarioRepository;
+        this.loadTestScenarioStepRepository = loadTestScenarioStepRepository;
+        this.loadTestScenarioStageRepository = loadTestScenarioStageRepository;
+        this.loadTestResultStepRepository = loadTestResultStepRepository;
+        this.failLogWriter = failLogWriter;
+        this.loadTestCoordinator = loadTestCoordinator;
+        this.capacitySearchProperties = capacitySearchProperties;
+        this.thresholdProperties = thresholdProperties;
         this.clock = clock;
     }
 
+    // 동기 실행: 비동기 실행과 같은 경로(통과 기준 판정/중단/실패 처리 포함)를 호출한 스레드에서 실행
     public void startTestEngine(LoadTestScenario scenario) {
-        // 1. 시나리오 insert 후 생성된 ID 확보
-        loadTestScenarioRepository.insertScenario(scenario);
+        executeRun(scenario, prepareRun(scenario), new RunAbort());
+    }
+
+    // 실행 전 준비: 비동기 실행(LoadTestRunManager)은 여기서 만든 결과 ID를 실행 ID로 바로 돌려줌
+    public LoadTestResult prepareRun(LoadTestScenario scenario) {
+        // 1. 시나리오(+ 다단계 여정 단계) insert 후 생성된 ID 확보
+        insertScenario(scenario);
 
         // 2. 결과 row 선생성 후 생성된 Result ID 확보
         LoadTestResult result = new LoadTestResult();
         result.setScenarioId(scenario.getId());
         result.setStartedAt(LocalDateTime.now(clock));
         loadTestResultRepository.insertResult(result);
+        return result;
+    }
+
+    // 비동기 실행: abort로 중단되면 그때까지의 집계로 결과를 확정하고 aborted로 표시
+    // 통과 기준을 abortOnBreach로 어겨도 같은 abort로 멈추므로 aborted로 표시됨 (사유는 thresholdBreaches)
+    // 실행이 예외로 끝나면 결과 row를 aborted + errorMessage로 확정한 뒤 예외를 다시 던짐
+    public LoadTestResult executeRun(LoadTestScenario scenario, LoadTestResult result, RunAbort abort) {
+        result.setStartedAt(LocalDateTime.now(clock));
+        try {
+            // 3. 가상 스레드 기반 테스트 실행 (통과 기준이 있으면 구간마다 판정)
+            TestStats stats;
+            if (scenario.hasThresholds()) {
+                ThresholdEvaluator thresholds = new ThresholdEvaluator(scenario, abort, thresholdProperties.minRequests());
+                stats = loadTestRunner.runObserved(scenario, result.getId(), thresholds, abort);
+                applyThresholdVerdict(result, thresholds.verdict());
+            } else {
+                stats = loadTestRunner.run(scenario, result.getId(), abort);
+            }
+            result.setAborted(abort.isAborted());
+            completeRun(scenario, result, stats);
+            return result;
+        } catch (RuntimeException | Error e) {
+            failRun(result, e);
+            throw e;
+        }
+    }
+
+    // 대기열에서 시작하기 전에 중단된 실행: 요청 없이 종료 처리
+    public void abandonRun(LoadTestResult result) {
+        result.setAborted(true);
+        result.setEndedAt(LocalDateTime.now(clock));
+        loadTestResultRepository.updateResult(result);
+    }
+
+    private void completeRun(LoadTestScenario scenario, LoadTestResult result, TestStats stats) {
+        // 4. 버퍼에 남은 실패 로그까지 유형별로 집계해 저장한 뒤 결과를 확정
+        failLogWriter.flush();
+        failLogWriter.saveFailures(result.getId());
+        result.setFailLogDroppedCount(failLogWriter.takeDroppedCount(result.getId()));
+
+        // 5. 테스트 완료 후 집계 결과/성능 지표 최종 업데이트
+        applyStats(result, stats, scenario.getDurationSeconds());
+        result.setEndedAt(LocalDateTime.now(clock));
+        loadTestResultRepository.updateResult(result);
+        insertStepResults(result.getId(), stats.steps());
+    }
+
+    // 여러 워커 노드에 시나리오를 나눠 실행하고, 워커 집계를 병합해 결과 row 하나로 저장
+    // 동기 실행: 비동기 실행(LoadTestRunManager.submitDistributed)과 같은 경로를 호출한 스레드에서 실행
+    public LoadTestResult startDistributedTest(LoadTestScenario scenario, List<String> workerUrls) {
+        // 1. 시나리오/결과 row는 코디네이터에서만 생성 (워커는 같은 resultId로 실패 로그만 저장)
+        return executeDistributedRun(scenario, workerUrls, prepareRun(scenario), new RunAbort());
+    }
+
+    // abort로 중단되면 워커의 부하를 멈추고, 워커들이 중단 시점까지 집계한 결과를 병합해 aborted로 확정
+    // 통과 기준은 코디네이터가 병합한 구간으로 판정 (abortOnBreach로 어기면 같은 abort로 워커까지 멈춤)
+    public LoadTestResult executeDistributedRun(LoadTestScenario scenario, List<String> workerUrls,
+                                                LoadTestResult result, RunAbort abort) {
+        result.setStartedAt(LocalDateTime.now(clock));
+
+        // 2. 워커 동시 시작 -> 구간 지표 병합 저장(+ 통과 기준 판정) -> 종료 후 최종 집계 병합
+        ThresholdEvaluator thresholds = scenario.hasThresholds()
+                ? new ThresholdEvaluator(scenario, abort, thresholdProperties.minRequests())
+                : null;
+        DistributedRunResult runResult;
+        try {
+            runResult = loadTestCoordinator.run(scenario, result.getId(), workerUrls, thresholds, abort);
+        } catch (RuntimeException | Error e) {
+            failRun(result, e);
+            throw e;
+        }
+
+        // 3. 병합된 집계로 결과 확정 (버려진 실패 로그 건수는 워커별 합)
+        if (thresholds != null) {
+            applyThresholdVerdict(result, thresholds.verdict());
+        }
+        result.setAborted(abort.isAborted());
+        result.setFailLogDroppedCount(runResult.failLogDroppedCount());
+        applyStats(result, runResult.stats(), scenario.getDurationSeconds());
+        result.setEndedAt(LocalDateTime.now(clock));
+        loadTestResultRepository.updateResult(result);
+        insertStepResults(result.getId(), runResult.stats().steps());
+        return result;
+    }
+
+    /*
+     * 실행이 예외로 끝난 경우 (호출자는 원래 예외를 다시 던짐)
+     * 기존 방식: 결과 row를 갱신하지 않아 endedAt = null로 남아, 아직 실행 중인 것처럼 보였습니다.
+     * 변경 방식: 버퍼에 남은 실패 로그를 저장하고 aborted + errorMessage + endedAt으로 결과를 확정
+     * 정리 중 난 예외는 원래 예외에 suppressed로 붙여, 원인이 가려지지 않게 합니다.
+     */
+    private void failRun(LoadTestResult result, Throwable cause) {
+        result.setAborted(true);
+        result.setErrorMessage(truncate(cause.toString(), ERROR_MESSAGE_MAX_LENGTH));
+        result.setEndedAt(LocalDateTime.now(clock));
+        try {
+            failLogWriter.flush();
+            failLogWriter.saveFailures(result.getId());
+            result.setFailLogDroppedCount(failLogWriter.takeDroppedCount(result.getId()));
+        } catch (RuntimeException e) {
+            suppress(cause, e);
+        }
+        try {
+            loadTestResultRepository.updateResult(result);
+        } catch (RuntimeException e) {
+            suppress(cause, e);
+        }
+    }
+
+    /*
+     * SLO를 지키는 최대 TPS 탐색: 목표 TPS 하나로 짧게 실행하는 probe를 반복하며 목표 TPS를 올리거나 이분 탐색으로 좁힘
+     * 결과는 요약 row 하나(capacityTps, 지표는 용량 TPS probe와 같음)와 이를 parentResultId로 가리키는 probe row들로 저장
+     * 동기 실행: 비동기 실행(LoadTestRunManager.submitCapacitySearch)과 같은 경로를 호출한 스레드에서 실행
+     */
+    public CapacitySearchResult startCapacitySearch(CapacitySearchRequest request) {
+        return executeCapacitySearch(request, prepareCapacitySearch(request), new RunAbort());
+    }
+
+    // 탐색 전 준비: 비동기 실행은 여기서 만든 요약 결과 ID를 실행 ID로 바로 돌려줌
+    public LoadTestResult prepareCapacitySearch(CapacitySearchRequest request) {
+        LoadTestScenario scenario = request.scenario();
+        if (scenario.hasStages()) {
+            throw new IllegalArgumentException("Capacity search sets the load itself; scenario stages are not supported");
+        }
+
+        // 1. 시나리오 row에는 탐색 상한 TPS와 probe 시간을 기록 (probe마다 목표 TPS만 바꿔 실행)
+        scenario.setTargetTps(request.maxTps());
+        scenario.setDurationSeconds(capacitySearchProperties.probeDurationSeconds());
+        insertScenario(scenario);
+
+        LoadTestResult summary = new LoadTestResult();
+        summary.setScenarioId(scenario.getId());
+        summary.setStartedAt(LocalDateTime.now(clock));
+        loadTestResultRepository.insertResult(summary);
+        return summary;
+    }
 
-        // 3. 가상 스레드 기반 테스트 실행
-        TestStats stats = loadTestRunner.run(scenario, result.getId());
+    /*
+     * probe 반복 (abort로 중단되면 진행 중 probe까지 멈추고, 그때까지 통과한 최대 TPS로 요약 row를 aborted로 확정)
+     * 기존 방식: probe나 요약 row 확정 중 예외가 나면 row들이 endedAt = null로 남아 아직 실행 중인 것처럼 보였습니다.
+     * 변경 방식: 실패한 probe row와 요약 row 모두 failRun으로 aborted + errorMessage로 확정한 뒤 예외를 다시 던짐
+     */
+    public CapacitySearchResult executeCapacitySearch(CapacitySearchRequest request, LoadTestResult summary, RunAbort abort) {
+        LoadTestScenario scenario = request.scenario();
+        CapacitySearchProperties properties = capacitySearchProperties;
+        CapacitySearch search = new CapacitySearch(request.startTps(), request.maxTps(),
+                properties.growthFactor(), properties.resolutionPercent(), properties.maxProbes());
+        summary.setStartedAt(LocalDateTime.now(clock));
+        try {
+            // 2. probe 반복: 판정 결과로 다음 목표 TPS를 정함
+            List<LoadTestResult> probes = new ArrayList<>();
+            TestStats capacityStats = null;
+            for (int tps = search.nextTps(); tps > 0 && !abort.isAborted(); tps = search.nextTps()) {
+                LoadTestScenario probeScenario = new LoadTestScenario();
+                BeanUtils.copyProperties(scenario, probeScenario);
+                probeScenario.setTargetTps(tps);
 
-        // 4. 테스트 완료 후 집계 결과/성능 지표 최종 업데이트
+                LoadTestResult probe = new LoadTestResult();
+                probe.setScenarioId(scenario.getId());
+                probe.setParentResultId(summary.getId());
+                probe.setOfferedTps(tps);
+                TestStats stats = runProbe(probeScenario, probe, request, abort);
+                probes.add(probe);
+                // 중단된 probe는 일부 구간만 실행했으므로 판정에 쓰지 않음
+                if (probe.isAborted()) {
+                    break;
+                }
+                if (probe.getSloPassed() && tps > search.capacityTps()) {
+                    capacityStats = stats;
+                }
+                search.record(tps, probe.getSloPassed());
+            }
+
+            // 3. 요약 row 확정
+            if (capacityStats != null) {
+                applyStats(summary, capacityStats, properties.probeDurationSeconds());
+                summary.setOfferedTps(search.capacityTps());
+            }
+            summary.setAborted(abort.isAborted());
+            summary.setCapacityTps(search.capacityTps());
+            summary.setEndedAt(LocalDateTime.now(clock));
+            loadTestResultRepository.updateResult(summary);
+            return new CapacitySearchResult(summary, probes);
+        } catch (RuntimeException | Error e) {
+            failRun(summary, e);
+            throw e;
+        }
+    }
+
+    // 용량 탐색 요약 결과의 probe row들 (실행 순서)
+    public List<LoadTestResult> getCapacityProbes(long summaryResultId) {
+        return loadTestResultRepository.selectResultsByParentId(summaryResultId);
+    }
+
+    private TestStats runProbe(LoadTestScenario probeScenario, LoadTestResult probe, CapacitySearchRequest request,
+                               RunAbort abort) {
+        probe.setStartedAt(LocalDateTime.now(clock));
+        loadTestResultRepository.insertResult(probe);
+        try {
+            // 구간 지표를 저장하면서 warm-up 이후 구간으로 SLO 판정
+            SloEvaluator sloEvaluator = new SloEvaluator(request.maxP99LatencyMs(), request.maxErrorRate(),
+                    capacitySearchProperties.minThroughputRatio(),
+                    TimeUnit.SECONDS.toMillis(capacitySearchProperties.warmupSeconds()));
+            TestStats stats = loadTestRunner.runObserved(probeScenario, probe.getId(), sloEvaluator, abort);
+
+            failLogWriter.flush();
+            failLogWriter.saveFailures(probe.getId());
+            probe.setFailLogDroppedCount(failLogWriter.takeDroppedCount(probe.getId()));
+            applyStats(probe, stats, probeScenario.getDurationSeconds());
+            SloVerdict verdict = sloEvaluator.verdict(probeScenario.getTargetTps());
+            probe.setAchievedTps(verdict.achievedTps());
+            // 중단된 probe는 판정하지 않음 (sloPassed = null)
+            probe.setAborted(abort.isAborted());
+            if (!probe.isAborted()) {
+                probe.setSloPassed(verdict.passed());
+            }
+            probe.setEndedAt(LocalDateTime.now(clock));
+            loadTestResultRepository.updateResult(probe);
+            insertStepResults(probe.getId(), stats.steps());
+            return stats;
+        } catch (RuntimeException | Error e) {
+            failRun(probe, e);
+            throw e;
+        }
+    }
+
+    private void insertScenario(LoadTestScenario scenario) {
+        if (scenario.hasSteps()) {
+            // 다단계 시나리오: 시나리오 row의 대표 URL/메서드는 첫 단계 값으로 채움
+            LoadTestScenarioStep firstStep = scenario.getSteps().get(0);
+            if (scenario.getTargetUrl() == null) {
+                scenario.setTargetUrl(firstStep.getTargetUrl());
+            }
+            if (scenario.getHttpMethod() == null) {
+                scenario.setHttpMethod(firstStep.getHttpMethod());
+            }
+        }
+        if (scenario.hasStages()) {
+            applyStages(scenario);
+        }
+        loadTestScenarioRepository.insertScenario(scenario);
+
+        if (scenario.hasSteps()) {
+            for (int i = 0; i < scenario.getSteps().size(); i++) {
+                LoadTestScenarioStep step = scenario.getSteps().get(i);
+                step.setScenarioId(scenario.getId());
+                step.setStepOrder(i + 1);
+                if (step.getName() == null) {
+                    step.setName("step-" + (i + 1));
+                }
+            }
+            loadTestScenarioStepRepository.insertSteps(scenario.getSteps());
+        }
+        if (scenario.hasStages()) {
+            scenario.getStages().forEach(stage -> stage.setScenarioId(scenario.getId()));
+            loadTestScenarioStageRepository.insertStages(scenario.getStages());
+        }
+    }
+
+    // 부하 프로파일 시나리오: 지속 시간은 단계 시간의 합, 목표 TPS(open model) 또는 워커 수(closed model)는 최대 단계 목표
+    private static void applyStages(LoadTestScenario scenario) {
+        // 잘못된 단계(종류 누락, 0초 등)는 저장 전에 거부
+        LoadProfile profile = LoadProfile.of(scenario.getStages());
+
+        int durationSeconds = 0;
+        for (int i = 0; i < scenario.getStages().size(); i++) {
+            LoadTestScenarioStage stage = scenario.getStages().get(i);
+            stage.setStageOrder(i + 1);
+            durationSeconds += stage.getDurationSeconds();
+        }
+        scenario.setDurationSeconds(durationSeconds);
+        if (scenario.getTargetTps() > 0) {
+            scenario.setTargetTps(Math.max(1, profile.peakLevel()));
+        } else {
+            scenario.setVirtualThreadCount(profile.peakLevel());
+        }
+    }
+
+    private void insertStepResults(Long resultId, List<StepStats> steps) {
+        if (steps.isEmpty()) {
+            return;
+        }
+        List<LoadTestResultStep> resultSteps = new ArrayList<>(steps.size());
+        for (StepStats step : steps) {
+            LoadTestResultStep resultStep = new LoadTestResultStep();
+            resultStep.setResultId(resultId);
+            resultStep.setStepOrder(step.stepOrder());
+            resultStep.setStepName(step.name());
+            resultStep.setTotalRequests(step.totalRequests());
+            resultStep.setSuccessCount(step.success());
+            resultStep.setFailCount(step.fail());
+            resultStep.setExtractionFailCount(step.extractionFailures());
+
+            LatencyDistribution latency = step.latency();
+            resultStep.setAvgLatencyUs(latency.avgUs());
+            resultStep.setP50LatencyUs(latency.p50Us());
+            resultStep.setP90LatencyUs(latency.p90Us());
+            resultStep.setP99LatencyUs(latency.p99Us());
+            resultStep.setMaxLatencyUs(latency.maxUs());
+            resultStep.setLatencyHistogram(latency.histogram());
+            resultSteps.add(resultStep);
+        }
+        loadTestResultStepRepository.insertResultSteps(resultSteps);
+    }
+
+    private void applyStats(LoadTestResult result, TestStats stats, int durationSeconds) {
         result.setSuccessCount(stats.success());
         result.setFailCount(stats.fail());
         result.setTotalRequests(stats.totalRequests());
@@ -52,7 +410,87 @@ public class LoadTestService {
         result.setMinLatencyMs(stats.minLatencyMs());
         result.setMaxLatencyMs(stats.maxLatencyMs());
         result.setP99LatencyMs(stats.p99LatencyMs());
-        result.setEndedAt(LocalDateTime.now(clock));
-        loadTestResultRepository.updateResult(result);
+
+        LatencyDistribution latency = stats.latency();
+        result.setAvgLatencyUs(latency.avgUs());
+        result.setMinLatencyUs(latency.minUs());
+        result.setMaxLatencyUs(latency.maxUs());
+        result.setP50LatencyUs(latency.p50Us());
+        result.setP90LatencyUs(latency.p90Us());
+        result.setP95LatencyUs(latency.p95Us());
+        result.setP99LatencyUs(latency.p99Us());
+        result.setP999LatencyUs(latency.p999Us());
+        result.setP9999LatencyUs(latency.p9999Us());
+        result.setLatencyHistogram(latency.histogram());
+
+        LatencyDistribution corrected = stats.correctedLatency();
+        result.setCorrectedAvgLatencyUs(corrected.avgUs());
+        result.setCorrectedMaxLatencyUs(corrected.maxUs());
+        result.setCorrectedP50LatencyUs(corrected.p50Us());
+        result.setCorrectedP90LatencyUs(corrected.p90Us());
+        result.setCorrectedP95LatencyUs(corrected.p95Us());
+        result.setCorrectedP99LatencyUs(corrected.p99Us());
+        result.setCorrectedP999LatencyUs(corrected.p999Us());
+        result.setCorrectedP9999LatencyUs(corrected.p9999Us());
+        result.setCorrectedLatencyHistogram(corrected.histogram());
+
+        LatencyDistribution poolAcquireWait = stats.poolAcquireWait();
+        result.setPoolAcquireAvgUs(poolAcquireWait.avgUs());
+        result.setPoolAcquireP99Us(poolAcquireWait.p99Us());
+        result.setPoolAcquireMaxUs(poolAcquireWait.maxUs());
+
+        /*
+         * 처리량/초당 전송량은 실제 측정 구간으로 나눔
+         * 기존 방식: 시나리오 durationSeconds로 나눠, 종료 후 늦게 끝난 요청까지 분자에만 들어갔습니다.
+         * 측정 구간을 남기지 않은 집계(구버전 워커 등)는 durationSeconds로 대신합니다.
+         */
+        double windowSeconds = stats.measuredWindowMs() > 0 ? stats.measuredWindowMs() / 1_000.0 : durationSeconds;
+        result.setCutOffCount(stats.cutOffRequests());
+        result.setMeasuredWindowMs(stats.measuredWindowMs() > 0 ? stats.measuredWindowMs() : durationSeconds * 1_000L);
+        result.setThroughputRps(perSecond(stats.totalRequests(), windowSeconds));
+
+        result.setBytesSent(stats.bytesSent());
+        result.setBytesReceived(stats.bytesReceived());
+        result.setSentBytesPerSec(perSecond(stats.bytesSent(), windowSeconds));
+        result.setReceivedBytesPerSec(perSecond(stats.bytesReceived(), windowSeconds));
+
+        result.setMissedDispatchCount(stats.missedDispatches());
+        result.setLateDispatchCount(stats.lateDispatches());
+        result.setMaxDispatchLagUs(stats.maxDispatchLagUs());
+
+        // 생성기 자체 상태: 한도를 넘은 항목이 있으면 결과를 신뢰할 수 없음으로 표시
+        GeneratorHealth health = stats.health();
+        if (health != null) {
+            result.setGeneratorPeakCpuLoad(health.peakProcessCpuLoad());
+            result.setGeneratorGcPauseMs(health.gcPauseMs());
+            result.setGeneratorPinnedCount(health.pinnedCount());
+            result.setUntrustworthy(health.untrustworthy());
+            result.setUntrustworthyReasons(health.untrustworthy()
+                    ? health.reasons().stream().map(Enum::name).collect(Collectors.joining(","))
+                    : null);
+        }
+    }
+
+    private static void applyThresholdVerdict(LoadTestResult result, ThresholdVerdict verdict) {
+        result.setThresholdsPassed(verdict.passed());
+        result.setThresholdBreaches(verdict.passed()
+                ? null
+                : verdict.breaches().stream().map(Enum::name).collect(Collectors.joining(",")));
+        result.setThresholdBreachedAt(verdict.breachedAt());
+    }
+
+    // 같은 예외가 다시 던져지면(같은 저장소 호출 실패 등) 자기 자신은 suppressed로 붙일 수 없음
+    private static void suppress(Throwable cause, Throwable e) {
+        if (e != cause) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    private static double perSecond(long total, double windowSeconds) {
+        return windowSeconds > 0 ? total / windowSeconds : 0.0;
     }
 }
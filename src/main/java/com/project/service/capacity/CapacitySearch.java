@@ -0,0 +1,79 @@
+package com.project.service.capacity;
+
+/*
+ * SLO를 지키는 최대 TPS 탐색 (probe 결과만 보고 다음 목표 TPS를 정하는 상태 기계).
+ *
+ * 기존 방식:
+ * targetTps를 바꿔 가며 시나리오를 한 번씩 손으로 실행하고, 결과를 비교해 한계점을 찾았습니다.
+ *
+ * 1. 확장: startTps부터 SLO를 지키는 동안 growthFactor배씩 올림 (maxTps까지)
+ * 2. 이분 탐색: SLO를 처음 어긴 TPS와 마지막으로 지킨 TPS 사이를 반씩 좁혀,
+ *    간격이 실패 TPS의 resolutionPercent% 이하가 되거나 probe 횟수를 다 쓰면 종료
+ * 첫 probe부터 SLO를 어기면 0 ~ startTps 사이를 이분 탐색합니다.
+ */
+public final class CapacitySearch {
+
+    private final int startTps;
+    private final int maxTps;
+    private final double growthFactor;
+    private final int resolutionPercent;
+    private final int maxProbes;
+
+    private int passedTps;  // SLO를 지킨 최대 TPS (0이면 아직 없음)
+    private int failedTps;  // SLO를 어긴 최소 TPS (0이면 아직 없음)
+    private int probes;
+
+    public CapacitySearch(int startTps, int maxTps, double growthFactor, int resolutionPercent, int maxProbes) {
+        if (startTps <= 0 || maxTps < startTps) {
+            throw new IllegalArgumentException("Capacity search needs 0 < startTps <= maxTps");
+        }
+        if (growthFactor <= 1.0) {
+            throw new IllegalArgumentException("growthFactor must be greater than 1");
+        }
+        this.startTps = startTps;
+        this.maxTps = maxTps;
+        this.growthFactor = growthFactor;
+        this.resolutionPercent = Math.max(0, resolutionPercent);
+        this.maxProbes = maxProbes;
+    }
+
+    // 다음 probe의 목표 TPS (탐색이 끝났으면 0)
+    public int nextTps() {
+        if (probes >= maxProbes) {
+            return 0;
+        }
+        if (failedTps == 0) {
+            if (passedTps == 0) {
+                return startTps;
+            }
+            if (passedTps >= maxTps) {
+                return 0;
+            }
+            long grown = (long) Math.ceil(passedTps * growthFactor);
+            return (int) Math.min(maxTps, Math.max(passedTps + 1L, grown));
+        }
+        int gap = failedTps - passedTps;
+        if (gap <= Math.max(1L, (long) failedTps * resolutionPercent / 100)) {
+            return 0;
+        }
+        return passedTps + gap / 2;
+    }
+
+    public void record(int tps, boolean passed) {
+        probes++;
+        if (passed) {
+            passedTps = Math.max(passedTps, tps);
+        } else {
+            failedTps = failedTps == 0 ? tps : Math.min(failedTps, tps);
+        }
+    }
+
+    // SLO를 지킨 최대 TPS (모든 probe가 어겼으면 0)
+    public int capacityTps() {
+        return passedTps;
+    }
+
+    public int probeCount() {
+        return probes;
+    }
+}
@@ -0,0 +1,61 @@
+package com.project.service.capacity;
+
+import com.project.model.LoadTestResultTimeseries;
+import com.project.service.dto.SloVerdict;
+import com.project.service.live.IntervalSink;
+import com.project.service.metrics.HistogramSupport;
+import org.HdrHistogram.Histogram;
+
+/*
+ * probe 실행의 구간 지표를 받아 SLO를 판정합니다.
+ * 최종 집계(toStats)는 warm-up 구간까지 섞여 있으므로, 집계기가 구간마다 넘기는 구간 히스토그램 중
+ * warm-up 이후에 시작한 구간만 병합해 p99/에러율/처리량을 계산합니다.
+ * accept()는 live-metrics ticker 스레드에서만 호출되고, verdict()는 실행 종료(세션 close) 후에 호출합니다.
+ */
+public final class SloEvaluator implements IntervalSink {
+
+    private static final int SIGNIFICANT_VALUE_DIGITS = 3;
+
+    private final long maxP99Us;
+    private final double maxErrorRate;
+    private final double minThroughputRatio;
+    private final long warmupMs;
+
+    private final Histogram latency = new Histogram(SIGNIFICANT_VALUE_DIGITS); // 자동 확장
+    private long requests;
+    private long fail;
+    private long measuredMs;
+
+    public SloEvaluator(double maxP99LatencyMs, double maxErrorRate, double minThroughputRatio, long warmupMs) {
+        this.maxP99Us = Math.round(maxP99LatencyMs * 1_000);
+        this.maxErrorRate = maxErrorRate;
+        this.minThroughputRatio = minThroughputRatio;
+        this.warmupMs = warmupMs;
+    }
+
+    @Override
+    public void accept(LoadTestResultTimeseries interval) {
+        if (interval.getElapsedMs() - interval.getIntervalMs() < warmupMs) {
+            return;
+        }
+        requests += interval.getRequestCount();
+        fail += interval.getFailCount();
+        measuredMs += interval.getIntervalMs();
+        // 요청이 없던 구간은 히스토그램이 없음
+        if (interval.getLatencyHistogram() != null) {
+            latency.add(HistogramSupport.decode(interval.getLatencyHistogram()));
+        }
+    }
+
+    // 목표 TPS를 따라갔고(minThroughputRatio) p99/에러율이 한도 안이면 통과
+    public SloVerdict verdict(int offeredTps) {
+        double achievedTps = measuredMs > 0 ? requests * 1_000.0 / measuredMs : 0.0;
+        double errorRate = requests > 0 ? (double) fail / requests : 0.0;
+        long p99Us = HistogramSupport.summarize(latency).p99Us();
+        boolean passed = requests > 0
+                && p99Us <= maxP99Us
+                && errorRate <= maxErrorRate
+                && achievedTps >= offeredTps * minThroughputRatio;
+        return new SloVerdict(requests, achievedTps, errorRate, p99Us, passed);
+    }
+}
@@ -0,0 +1,54 @@
+package com.project.service.client;
+
+import com.project.model.LoadTestScenario;
+
+import java.time.Duration;
+
+/*
+ * 시나리오별 부하 생성 커넥션 설정.
+ * 시나리오 값이 0(미지정)이면 아래 기본값을 사용합니다.
+ *  - maxConnections: 최대 동시 요청 수(virtualThreadCount)와 동일 (Reactor Netty 기본값 500에 막혀 풀 대기로 몰리지 않도록)
+ *  - pendingAcquireMaxCount: maxConnections * 2 (Reactor Netty 기본 규칙)
+ *  - pendingAcquireTimeout / connectTimeout: 45초 / 30초 (Reactor Netty, Netty 기본값)
+ *  - responseTimeout: 없음
+ *  - eventLoopThreads: CPU 코어 수
+ */
+public record ConnectionProfile(
+        int maxConnections,
+        int pendingAcquireMaxCount,
+        Duration pendingAcquireTimeout,
+        boolean keepAlive,          // false면 요청마다 새 커넥션 (Connection: close)
+        boolean http2,              // h2c(prior knowledge) 멀티플렉싱
+        Duration connectTimeout,
+        Duration responseTimeout,   // null이면 제한 없음
+        int eventLoopThreads
+) {
+
+    private static final Duration DEFAULT_PENDING_ACQUIRE_TIMEOUT = Duration.ofSeconds(45);
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
+
+    public static ConnectionProfile from(LoadTestScenario scenario) {
+        int maxConnections = scenario.getMaxConnections() > 0
+                ? scenario.getMaxConnections()
+                : Math.max(1, scenario.getVirtualThreadCount());
+        int pendingAcquireMaxCount = scenario.getPendingAcquireMaxCount() > 0
+                ? scenario.getPendingAcquireMaxCount()
+                : maxConnections * 2;
+
+        return new ConnectionProfile(
+                maxConnections,
+                pendingAcquireMaxCount,
+                millisOrDefault(scenario.getPendingAcquireTimeoutMs(), DEFAULT_PENDING_ACQUIRE_TIMEOUT),
+                scenario.isKeepAlive(),
+                scenario.isHttp2Enabled(),
+                millisOrDefault(scenario.getConnectTimeoutMs(), DEFAULT_CONNECT_TIMEOUT),
+                millisOrDefault(scenario.getResponseTimeoutMs(), null),
+                scenario.getEventLoopThreads() > 0
+                        ? scenario.getEventLoopThreads()
+                        : Runtime.getRuntime().availableProcessors());
+    }
+
+    private static Duration millisOrDefault(int millis, Duration defaultValue) {
+        return millis > 0 ? Duration.ofMillis(millis) : defaultValue;
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.service.client;
+
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+/*
+ * 테스트 실행 1회 동안 사용하는 WebClient와 그 커넥션 풀/이벤트 루프 묶음.
+ * 시나리오마다 풀 설정이 다르므로 실행마다 새로 만들고, 실행이 끝나면 close()로 모두 해제합니다.
+ */
+public class LoadTestHttpClient implements AutoCloseable {
+
+    private final WebClient webClient;
+    private final ConnectionProvider connectionProvider;
+    private final LoopResources loopResources;
+
+    LoadTestHttpClient(WebClient webClient, ConnectionProvider connectionProvider, LoopResources loopResources) {
+        this.webClient = webClient;
+        this.connectionProvider = connectionProvider;
+        this.loopResources = loopResources;
+    }
+
+    public WebClient webClient() {
+        return webClient;
+    }
+
+    @Override
+    public void close() {
+        connectionProvider.disposeLater().block();
+        loopResources.disposeLater().block();
+    }
+}
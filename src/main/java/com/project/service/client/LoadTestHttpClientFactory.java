@@ -0,0 +1,61 @@
+package com.project.service.client;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+/*
+ * 시나리오의 커넥션 설정(ConnectionProfile)으로 부하 생성용 WebClient를 만듭니다.
+ *
+ * 기존 방식:
+ * webClientBuilder.build() 하나를 모든 테스트가 공유했습니다.
+ * Reactor Netty 기본 풀(최대 500 커넥션, HTTP/1.1)이라 virtualThreadCount를 5,000으로 잡아도
+ * 대부분의 요청이 풀 대기열에서 기다리기만 했습니다.
+ */
+@Component
+public class LoadTestHttpClientFactory {
+
+    private final WebClient.Builder webClientBuilder;
+
+    public LoadTestHttpClientFactory(WebClient.Builder webClientBuilder) {
+        this.webClientBuilder = webClientBuilder;
+    }
+
+    public LoadTestHttpClient create(ConnectionProfile profile) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("load-test")
+                .maxConnections(profile.maxConnections())
+                .pendingAcquireMaxCount(profile.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(profile.pendingAcquireTimeout())
+                .build();
+        LoopResources loopResources = LoopResources.create("load-test", profile.eventLoopThreads(), true);
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .runOn(loopResources)
+                .keepAlive(profile.keepAlive())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(profile.connectTimeout().toMillis()))
+                // 커넥션(HTTP/2는 스트림)을 확보하고 요청을 쓰기 직전 시각 = 풀 대기 종료 시각
+                .doOnRequest((request, connection) -> {
+                    if (request.currentContextView().hasKey(RequestTiming.class)) {
+                        request.currentContextView().<RequestTiming>get(RequestTiming.class).markAcquired();
+                    }
+                });
+
+        if (profile.http2()) {
+            // 업그레이드 협상 없이 처음부터 HTTP/2로 통신(prior knowledge): 커넥션 하나에 여러 요청을 동시에 보냄
+            httpClient = httpClient.protocol(HttpProtocol.H2C);
+        }
+        if (profile.responseTimeout() != null) {
+            httpClient = httpClient.responseTimeout(profile.responseTimeout());
+        }
+
+        WebClient webClient = webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        return new LoadTestHttpClient(webClient, connectionProvider, loopResources);
+    }
+}
@@ -1,12 +1,12 @@
 package com.project.service.client;
 
 import com.project.model.LoadTestFailLog;
-import com.project.model.LoadTestScenario;
-import com.project.repository.LoadTestFailLogRepository;
 import com.project.service.dto.RequestResult;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatusCode;
+import com.project.service.faillog.AsyncFailLogWriter;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
@@ -17,56 +17,130 @@ import java.time.LocalDateTime;
 @Component
 public class LoadTestRequestExecutor {
 
-    private final WebClient webClient;
-    private final LoadTestFailLogRepository loadTestFailLogRepository;
+    private final AsyncFailLogWriter failLogWriter;
     private final Clock clock;
 
-    public LoadTestRequestExecutor(WebClient.Builder webClientBuilder, LoadTestFailLogRepository loadTestFailLogRepository, Clock clock) {
-        this.webClient = webClientBuilder.build();
-        this.loadTestFailLogRepository = loadTestFailLogRepository;
+    public LoadTestRequestExecutor(AsyncFailLogWriter failLogWriter, Clock clock) {
+        this.failLogWriter = failLogWriter;
         this.clock = clock;
     }
 
-    public RequestResult execute(LoadTestScenario scenario, long resultId, long currentOrder) {
-        long startTime = System.currentTimeMillis();
-        boolean isSuccess;
+    // 가상 스레드 모드: 요청 하나를 현재 (가상) 스레드에서 block()으로 완료까지 대기
+    public RequestResult execute(LoadTestHttpClient httpClient, RequestTemplate template, long resultId, long currentOrder) {
+        return executeAsync(httpClient, template, resultId, currentOrder).block();
+    }
+
+    /*
+     * Reactive 모드: 스레드를 점유하지 않는 Mono로 요청을 표현합니다.
+     * 실패는 예외로 전파하지 않고 실패 로그를 남긴 뒤 RequestResult(false)로 변환하므로,
+     * 상위 파이프라인(flatMap 등)이 중단되지 않습니다.
+     */
+    public Mono<RequestResult> executeAsync(LoadTestHttpClient httpClient, RequestTemplate template,
+                                            long resultId, long currentOrder) {
+        return executeAsync(httpClient, template, resultId, currentOrder, ResponseCapture.NONE);
+    }
 
-        try {
-            // 시나리오 설정(메서드/URL/파라미터)으로 실제 HTTP 요청 실행
-            webClient
-                    .method(HttpMethod.valueOf(scenario.getHttpMethod()))
-                    .uri(scenario.getTargetUrl())
-                    .bodyValue(scenario.getRequestParams())
-                    .retrieve()
-                    .onStatus(HttpStatusCode::isError, response ->
-                            Mono.error(new WebClientResponseException(
-                                    response.statusCode().value(),
-                                    "HTTP Error",
-                                    null, null, null))
-                    )
-                    .bodyToMono(String.class)
-                    .block();
-            isSuccess = true;
-        } catch (Exception e) {
-            // 실패 요청은 상세 로그(resultId, 순번, 에러메시지, 상태코드)로 저장
-            LoadTestFailLog failLog = new LoadTestFailLog();
-            failLog.setResultId(resultId);
-            failLog.setRequestOrder(currentOrder);
-            failLog.setErrorMsg(e.getMessage());
-            failLog.setRequestTime(LocalDateTime.now(clock));
+    // 응답 헤더/본문에서 값을 꺼내야 하는 요청: 추출 실패도 요청 실패로 기록
+    public Mono<RequestResult> executeAsync(LoadTestHttpClient httpClient, RequestTemplate template,
+                                            long resultId, long currentOrder, ResponseCapture capture) {
+        Mono<RequestResult> execution = Mono.defer(() -> {
+            // 단조 증가 시계(nanoTime)로 측정: 벽시계 보정(NTP 등)에 영향받지 않고 us 이하 정밀도 확보
+            RequestTiming timing = new RequestTiming(System.nanoTime(), template.bodyLength());
 
-            if (e instanceof WebClientResponseException ex) {
-                failLog.setHttpStatus(ex.getStatusCode().value());
-            } else {
-                failLog.setHttpStatus(0);
+            // 미리 해석/인코딩해 둔 템플릿(메서드/URI/본문)으로 실제 HTTP 요청 실행
+            WebClient.RequestBodySpec request = httpClient.webClient()
+                    .method(template.method())
+                    .uri(template.uri());
+            if (!template.headers().isEmpty()) {
+                request.headers(headers -> headers.addAll(template.headers()));
+            }
+            if (template.hasBody()) {
+                request.contentType(template.contentType())
+                        .contentLength(template.bodyLength())
+                        .body(template.bodyInserter());
             }
 
-            loadTestFailLogRepository.insertFailLog(failLog);
-            isSuccess = false;
+            return request
+                    .exchangeToMono(response -> drain(response, timing, capture))
+                    .onErrorResume(e -> {
+                        // 실패 로그 저장 시간이 latency에 섞이지 않도록 먼저 측정
+                        RequestResult failed = timing.complete(false, httpStatusOf(e));
+                        failLogWriter.enqueue(toFailLog(e, resultId, currentOrder));
+                        return Mono.just(failed);
+                    })
+                    // HttpClient의 doOnRequest 훅이 커넥션 확보 시각을 기록할 수 있도록 전달
+                    .contextWrite(context -> context.put(RequestTiming.class, timing));
+        });
+        // 값 추출용으로 모아 둔 본문 버퍼는 요청이 어떻게 끝나든 해제
+        return capture == ResponseCapture.NONE ? execution : execution.doFinally(signal -> capture.release());
+    }
+
+    /*
+     * 응답 본문은 문자열로 디코딩하지 않고 수신한 버퍼 크기만 센 뒤 바로 해제합니다.
+     *
+     * 기존 방식:
+     * retrieve().bodyToMono(String.class)로 본문 전체를 String으로 만든 뒤 버렸습니다.
+     *
+     * 값 추출이 필요한 요청(capture)만 해제 전에 청크를 넘겨받아 필요한 바이트를 복사해 둡니다.
+     */
+    private static Mono<RequestResult> drain(ClientResponse response, RequestTiming timing, ResponseCapture capture) {
+        capture.onHeaders(response.headers().asHttpHeaders());
+        boolean capturesBody = capture.capturesBody();
+        return response.bodyToFlux(DataBuffer.class)
+                .doOnNext(buffer -> {
+                    timing.addBytesReceived(buffer.readableByteCount());
+                    if (capturesBody) {
+                        capture.onBody(buffer);
+                    }
+                    DataBufferUtils.release(buffer);
+                })
+                // 본문을 끝까지 읽어 커넥션을 풀에 반환한 뒤 상태 코드로 성공/실패 판정
+                .then(Mono.defer(() -> response.statusCode().isError()
+                        ? Mono.error(new WebClientResponseException(
+                                response.statusCode().value(),
+                                "HTTP Error",
+                                null, null, null))
+                        // 요청 지연시간(ns) 측정값과 성공 여부를 함께 반환 (풀 대기 시간은 따로 분리)
+                        : complete(response, timing, capture)));
+    }
+
+    private static Mono<RequestResult> complete(ClientResponse response, RequestTiming timing, ResponseCapture capture) {
+        String extractionFailure = capture.complete();
+        if (extractionFailure != null) {
+            return Mono.error(new ResponseExtractionException(response.statusCode().value(), extractionFailure));
         }
+        return Mono.just(timing.complete(true, response.statusCode().value()));
+    }
+
+    // 실패 요청은 상세 로그(resultId, 순번, 에러메시지, 상태코드)로 남김 (DB 저장은 writer 스레드가 비동기로 처리)
+    private LoadTestFailLog toFailLog(Throwable e, long resultId, long currentOrder) {
+        LoadTestFailLog failLog = new LoadTestFailLog();
+        failLog.setResultId(resultId);
+        failLog.setRequestOrder(currentOrder);
+        failLog.setErrorMsg(e.getMessage());
+        failLog.setErrorType(rootCause(e).getClass().getName());
+        failLog.setRequestTime(LocalDateTime.now(clock));
+        failLog.setHttpStatus(httpStatusOf(e));
+        return failLog;
+    }
+
+    // 응답을 받은 실패는 그 상태 코드, 연결/타임아웃 등 응답이 없는 실패는 0
+    private static int httpStatusOf(Throwable e) {
+        if (e instanceof WebClientResponseException ex) {
+            return ex.getStatusCode().value();
+        }
+        if (e instanceof ResponseExtractionException ex) {
+            return ex.getStatusCode();
+        }
+        return 0;
+    }
 
-        // 요청 지연시간(ms) 측정값과 성공 여부를 함께 반환
-        long latencyMs = System.currentTimeMillis() - startTime;
-        return new RequestResult(isSuccess, latencyMs);
+    // WebClientRequestException 등 감싼 예외가 아니라 실제 원인(ConnectException, ReadTimeoutException 등)으로 유형을 나눔
+    private static Throwable rootCause(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
     }
 }
@@ -0,0 +1,116 @@
+package com.project.service.client;
+
+import com.project.model.LoadTestScenario;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.web.reactive.function.BodyInserter;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+/*
+ * 시나리오의 요청(메서드/URL/본문)을 실행 1회당 한 번만 해석/인코딩해 둔 템플릿.
+ *
+ * 기존 방식:
+ * 요청마다 HttpMethod.valueOf(), URI 템플릿 확장, bodyValue(String) 인코딩을 반복했습니다.
+ * 고부하에서는 이 할당이 GC 압박이 되어 대상 서버보다 부하 생성기가 먼저 느려집니다.
+ *
+ * 본문은 direct ByteBuf 하나에 미리 인코딩하고, 요청마다 복사 없이 duplicate()(인덱스만 별도인 뷰)로 전송합니다.
+ * 전송 후 Netty가 release를 호출해도 원본이 해제되지 않도록 unreleasable로 감싸며, 원본은 close()에서 해제합니다.
+ */
+public final class RequestTemplate implements AutoCloseable {
+
+    // bodyValue(String) 사용 시 Spring이 붙이던 Content-Type과 동일
+    static final MediaType CONTENT_TYPE = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+    private final HttpMethod method;
+    private final URI uri;
+    private final ByteBuf body;         // null이면 본문 없음
+    private final ByteBuf sharedBody;   // 요청마다 duplicate()해서 쓰는 unreleasable 뷰
+    private final HttpHeaders headers;  // 추가 요청 헤더 (읽기 전용, 없으면 비어 있음)
+    private final MediaType contentType;
+    private final BodyInserter<Object, ReactiveHttpOutputMessage> bodyInserter;
+
+    private RequestTemplate(HttpMethod method, URI uri, ByteBuf body, HttpHeaders headers) {
+        this.method = method;
+        this.uri = uri;
+        this.body = body;
+        this.sharedBody = body != null ? Unpooled.unreleasableBuffer(body) : null;
+        this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+        this.contentType = headers.getContentType() != null ? headers.getContentType() : CONTENT_TYPE;
+        this.bodyInserter = (message, context) -> message.writeWith(Mono.just(wrap(message.bufferFactory())));
+    }
+
+    public static RequestTemplate compile(LoadTestScenario scenario) {
+        return compile(scenario.getHttpMethod(), scenario.getTargetUrl(), scenario.getRequestParams(), HttpHeaders.EMPTY);
+    }
+
+    // 실행 내내 재사용할 템플릿: 본문을 direct 버퍼에 한 번만 인코딩 (close()로 해제)
+    public static RequestTemplate compile(String httpMethod, String targetUrl, String requestBody, HttpHeaders headers) {
+        ByteBuf body = null;
+        if (requestBody != null) {
+            byte[] encoded = requestBody.getBytes(StandardCharsets.UTF_8);
+            body = Unpooled.directBuffer(encoded.length).writeBytes(encoded);
+        }
+        return new RequestTemplate(HttpMethod.valueOf(httpMethod), URI.create(targetUrl), body, headers);
+    }
+
+    // 요청 한 번만 쓰는 템플릿 (앞 단계 응답 값을 치환한 요청 등): 힙 버퍼라 close()하지 않아도 됨
+    public static RequestTemplate render(HttpMethod method, URI uri, byte[] requestBody, HttpHeaders headers) {
+        ByteBuf body = requestBody != null ? Unpooled.wrappedBuffer(requestBody) : null;
+        return new RequestTemplate(method, uri, body, headers);
+    }
+
+    public HttpMethod method() {
+        return method;
+    }
+
+    public URI uri() {
+        return uri;
+    }
+
+    public boolean hasBody() {
+        return body != null;
+    }
+
+    public int bodyLength() {
+        return body != null ? body.readableBytes() : 0;
+    }
+
+    public HttpHeaders headers() {
+        return headers;
+    }
+
+    // 헤더에 Content-Type이 있으면 그 값, 없으면 기본값(text/plain)
+    public MediaType contentType() {
+        return contentType;
+    }
+
+    BodyInserter<Object, ReactiveHttpOutputMessage> bodyInserter() {
+        return bodyInserter;
+    }
+
+    private DataBuffer wrap(DataBufferFactory bufferFactory) {
+        if (bufferFactory instanceof NettyDataBufferFactory nettyBufferFactory) {
+            return nettyBufferFactory.wrap(sharedBody.duplicate());
+        }
+        // Netty 이외의 커넥터: 복사본으로 전송
+        return bufferFactory.wrap(ByteBufUtil.getBytes(sharedBody));
+    }
+
+    @Override
+    public void close() {
+        if (body != null && body.refCnt() > 0) {
+            body.release();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.service.client;
+
+import com.project.service.dto.RequestResult;
+
+/*
+ * 요청 하나의 구간 시각과 전송량 기록.
+ * Reactor Context로 HttpClient까지 전달되어, 커넥션을 확보하고 요청을 쓰기 직전에 acquiredNanos가 찍힙니다.
+ *  - 풀 대기: startNanos ~ acquiredNanos (신규 연결이면 TCP connect 포함)
+ *  - 서버 응답: acquiredNanos ~ 응답 완료
+ */
+final class RequestTiming {
+
+    private final long startNanos;
+    private final int requestBodyBytes;
+    private volatile long acquiredNanos;
+    private long bytesReceived;     // 응답 본문 청크는 한 이벤트 루프 스레드에서 순서대로 도착
+
+    RequestTiming(long startNanos, int requestBodyBytes) {
+        this.startNanos = startNanos;
+        this.requestBodyBytes = requestBodyBytes;
+    }
+
+    // 이벤트 루프 스레드에서 호출
+    void markAcquired() {
+        if (acquiredNanos == 0L) {
+            acquiredNanos = System.nanoTime();
+        }
+    }
+
+    void addBytesReceived(int bytes) {
+        bytesReceived += bytes;
+    }
+
+    // httpStatus: 응답을 받지 못한 실패면 0
+    RequestResult complete(boolean success, int httpStatus) {
+        long endNanos = System.nanoTime();
+        long acquired = acquiredNanos;
+        if (acquired == 0L) {
+            // 커넥션을 얻기 전에 실패(connect 실패, 풀 대기 초과 등): 전체 구간을 latency로 기록, 전송량 없음
+            return new RequestResult(success, endNanos - startNanos, 0L, 0L, 0L, httpStatus);
+        }
+        return new RequestResult(success, endNanos - acquired, acquired - startNanos, requestBodyBytes, bytesReceived,
+                httpStatus);
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.service.client;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+
+/*
+ * 응답에서 값을 꺼내야 하는 요청(다단계 여정의 단계 등)이 응답 헤더/본문을 받아보는 훅.
+ * 단일 요청 시나리오는 NONE을 사용하며, 이때 응답 본문은 기존처럼 크기만 센 뒤 바로 해제됩니다.
+ */
+public interface ResponseCapture {
+
+    ResponseCapture NONE = new ResponseCapture() {
+    };
+
+    default void onHeaders(HttpHeaders headers) {
+    }
+
+    // true일 때만 onBody 호출 (본문 청크는 호출 직후 해제되므로 필요한 바이트는 복사해 둘 것)
+    default boolean capturesBody() {
+        return false;
+    }
+
+    default void onBody(DataBuffer chunk) {
+    }
+
+    // 2xx/3xx 응답 수신 완료 시 호출: 실패하면 실패 사유, 성공하면 null
+    default String complete() {
+        return null;
+    }
+
+    // 요청이 끝나면(성공/실패/취소) 항상 호출
+    default void release() {
+    }
+}
@@ -0,0 +1,18 @@
+package com.project.service.client;
+
+// 응답은 정상이지만 다음 단계에 필요한 값을 꺼내지 못한 경우 (실패 로그에 응답 상태 코드와 함께 기록)
+public class ResponseExtractionException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int statusCode;
+
+    public ResponseExtractionException(int statusCode, String message) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
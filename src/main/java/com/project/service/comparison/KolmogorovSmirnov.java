@@ -0,0 +1,101 @@
+package com.project.service.comparison;
+
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+/*
+ * 두 지연시간 히스토그램에 대한 2표본 Kolmogorov-Smirnov 검정.
+ *
+ * 원본 지연시간은 저장하지 않으므로 HdrHistogram 버킷 경계에서 두 누적 분포를 비교합니다.
+ * 같은 정밀도(유효숫자 3자리)로 기록한 히스토그램이라 버킷 경계가 같고, 버킷 폭(값의 0.1%) 안의 차이는 보지 않습니다.
+ * 부하 테스트의 요청들은 서로 독립이 아니라서(같은 시점 요청끼리 지연이 비슷함) p-value가 실제보다 작게 나오는 편이므로,
+ * 유의성만으로 판정하지 말고 거리(D)도 함께 봐야 합니다.
+ */
+final class KolmogorovSmirnov {
+
+    private KolmogorovSmirnov() {
+    }
+
+    // D = max |F_a(x) - F_b(x)| (둘 중 하나라도 비어 있으면 0)
+    static double distance(AbstractHistogram a, AbstractHistogram b) {
+        long totalA = a.getTotalCount();
+        long totalB = b.getTotalCount();
+        if (totalA == 0 || totalB == 0) {
+            return 0.0;
+        }
+        long[][] stepsA = steps(a);
+        long[][] stepsB = steps(b);
+        long[] valuesA = stepsA[0];
+        long[] cumulativeA = stepsA[1];
+        long[] valuesB = stepsB[0];
+        long[] cumulativeB = stepsB[1];
+
+        // 두 히스토그램의 버킷 경계를 합친 순서대로 누적 비율 차이를 봄
+        int i = 0;
+        int j = 0;
+        double maxDistance = 0.0;
+        while (i < valuesA.length || j < valuesB.length) {
+            long value = Math.min(
+                    i < valuesA.length ? valuesA[i] : Long.MAX_VALUE,
+                    j < valuesB.length ? valuesB[j] : Long.MAX_VALUE);
+            while (i < valuesA.length && valuesA[i] <= value) {
+                i++;
+            }
+            while (j < valuesB.length && valuesB[j] <= value) {
+                j++;
+            }
+            double cdfA = i > 0 ? (double) cumulativeA[i - 1] / totalA : 0.0;
+            double cdfB = j > 0 ? (double) cumulativeB[j - 1] / totalB : 0.0;
+            maxDistance = Math.max(maxDistance, Math.abs(cdfA - cdfB));
+        }
+        return maxDistance;
+    }
+
+    // 두 분포가 같다는 가설에서 거리 D 이상이 나올 확률 (점근 Kolmogorov 분포, Stephens 보정)
+    static double pValue(double distance, long countA, long countB) {
+        if (countA == 0 || countB == 0) {
+            return 1.0;
+        }
+        double effectiveCount = (double) countA * countB / (countA + countB);
+        double sqrtCount = Math.sqrt(effectiveCount);
+        return kolmogorovQ((sqrtCount + 0.12 + 0.11 / sqrtCount) * distance);
+    }
+
+    // Q(λ) = 2 Σ (-1)^(j-1) exp(-2 j² λ²)
+    static double kolmogorovQ(double lambda) {
+        // λ가 작으면 급수가 느리게 수렴하고 값은 1에 가까움
+        if (lambda < 0.2) {
+            return 1.0;
+        }
+        double sum = 0.0;
+        double sign = 2.0;
+        double previousTerm = 0.0;
+        for (int j = 1; j <= 100; j++) {
+            double term = sign * Math.exp(-2.0 * j * j * lambda * lambda);
+            sum += term;
+            if (Math.abs(term) <= 1e-3 * previousTerm || Math.abs(term) <= 1e-8 * sum) {
+                return Math.min(1.0, Math.max(0.0, sum));
+            }
+            sign = -sign;
+            previousTerm = Math.abs(term);
+        }
+        return 1.0;
+    }
+
+    // 기록된 버킷마다 (버킷 상한 값, 그 값까지의 누적 건수) - iterator가 값 객체를 재사용하므로 배열로 복사
+    private static long[][] steps(AbstractHistogram histogram) {
+        int size = 0;
+        for (HistogramIterationValue ignored : histogram.recordedValues()) {
+            size++;
+        }
+        long[] values = new long[size];
+        long[] cumulative = new long[size];
+        int index = 0;
+        for (HistogramIterationValue value : histogram.recordedValues()) {
+            values[index] = value.getValueIteratedTo();
+            cumulative[index] = value.getTotalCountToThisValue();
+            index++;
+        }
+        return new long[][]{values, cumulative};
+    }
+}
@@ -0,0 +1,165 @@
+package com.project.service.comparison;
+
+import com.project.config.RunComparisonProperties;
+import com.project.model.LoadTestResult;
+import com.project.model.LoadTestResultTimeseries;
+import com.project.repository.LoadTestResultRepository;
+import com.project.repository.LoadTestResultTimeseriesRepository;
+import com.project.service.dto.RegressionReason;
+import com.project.service.dto.RunComparison;
+import com.project.service.dto.RunDelta;
+import com.project.service.dto.RunSnapshot;
+import com.project.service.metrics.HistogramSupport;
+import org.HdrHistogram.Histogram;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/*
+ * 실행 간 성능 비교 (배포마다 같은 시나리오를 다시 돌린 결과를 기준 실행과 비교).
+ *
+ * - 백분위 변화: 결과 row에 저장된 p50 ~ p99.9
+ * - 처리량 변화: 구간 시계열의 초당 요청 수 중앙값 (ramp-up/마지막 구간이 전체 평균을 끌어내리지 않도록)
+ * - 분포 변화: 결과 row에 저장된 전체 히스토그램끼리 KS 검정
+ *
+ * p50 회귀는 분포 변화가 유의할 때만 표시합니다. (실행마다 생기는 작은 흔들림을 회귀로 보지 않도록)
+ * p99는 KS 검정이 꼬리 변화에 둔감하므로 증가율 한도만으로 판정합니다.
+ */
+@Service
+public class RunComparisonService {
+
+    private final LoadTestResultRepository resultRepository;
+    private final LoadTestResultTimeseriesRepository timeseriesRepository;
+    private final RunComparisonProperties properties;
+
+    public RunComparisonService(LoadTestResultRepository resultRepository,
+                                LoadTestResultTimeseriesRepository timeseriesRepository,
+                                RunComparisonProperties properties) {
+        this.resultRepository = resultRepository;
+        this.timeseriesRepository = timeseriesRepository;
+        this.properties = properties;
+    }
+
+    public RunComparison compare(long baselineResultId, List<Long> candidateResultIds) {
+        if (candidateResultIds == null || candidateResultIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one candidate result is required");
+        }
+        if (candidateResultIds.size() + 1 > properties.maxRuns()) {
+            throw new IllegalArgumentException("Too many runs to compare: " + (candidateResultIds.size() + 1)
+                    + " (max " + properties.maxRuns() + ")");
+        }
+        if (candidateResultIds.contains(baselineResultId) || new HashSet<>(candidateResultIds).size() != candidateResultIds.size()) {
+            throw new IllegalArgumentException("Result ids to compare must be distinct");
+        }
+
+        LoadTestResult baselineResult = loadResult(baselineResultId);
+        RunSnapshot baseline = snapshot(baselineResult);
+        Histogram baselineHistogram = histogram(baselineResult);
+
+        List<RunDelta> candidates = new ArrayList<>(candidateResultIds.size());
+        boolean regressed = false;
+        for (long candidateResultId : candidateResultIds) {
+            LoadTestResult candidateResult = loadResult(candidateResultId);
+            RunDelta delta = delta(baseline, baselineHistogram, snapshot(candidateResult), histogram(candidateResult));
+            regressed |= !delta.regressions().isEmpty();
+            candidates.add(delta);
+        }
+        return new RunComparison(baseline, candidates, regressed);
+    }
+
+    private RunDelta delta(RunSnapshot baseline, Histogram baselineHistogram, RunSnapshot candidate, Histogram candidateHistogram) {
+        Double ksDistance = null;
+        Double ksPValue = null;
+        boolean distributionChanged = false;
+        if (baselineHistogram != null && candidateHistogram != null) {
+            ksDistance = KolmogorovSmirnov.distance(baselineHistogram, candidateHistogram);
+            ksPValue = KolmogorovSmirnov.pValue(ksDistance,
+                    baselineHistogram.getTotalCount(), candidateHistogram.getTotalCount());
+            distributionChanged = ksPValue < properties.significanceLevel() && ksDistance >= properties.minKsDistance();
+        }
+
+        double p50Change = changePercent(baseline.p50Us(), candidate.p50Us());
+        double p99Change = changePercent(baseline.p99Us(), candidate.p99Us());
+        double throughputChange = changePercent(baseline.steadyRps(), candidate.steadyRps());
+        double errorRateChange = candidate.errorRate() - baseline.errorRate();
+
+        List<RegressionReason> regressions = new ArrayList<>();
+        if (distributionChanged && p50Change > properties.maxP50IncreasePercent()) {
+            regressions.add(RegressionReason.P50_LATENCY);
+        }
+        if (p99Change > properties.maxP99IncreasePercent()) {
+            regressions.add(RegressionReason.P99_LATENCY);
+        }
+        if (throughputChange < -properties.maxThroughputDropPercent()) {
+            regressions.add(RegressionReason.THROUGHPUT);
+        }
+        if (errorRateChange > properties.maxErrorRateIncrease()) {
+            regressions.add(RegressionReason.ERROR_RATE);
+        }
+
+        return new RunDelta(
+                candidate,
+                p50Change,
+                changePercent(baseline.p90Us(), candidate.p90Us()),
+                p99Change,
+                changePercent(baseline.p999Us(), candidate.p999Us()),
+                throughputChange,
+                errorRateChange,
+                ksDistance,
+                ksPValue,
+                distributionChanged,
+                regressions);
+    }
+
+    private LoadTestResult loadResult(long resultId) {
+        LoadTestResult result = resultRepository.selectResultById(resultId);
+        if (result == null) {
+            throw new NoSuchElementException("No result " + resultId);
+        }
+        return result;
+    }
+
+    private RunSnapshot snapshot(LoadTestResult result) {
+        return new RunSnapshot(
+                result.getId(),
+                result.getScenarioId(),
+                result.getStartedAt(),
+                result.getTotalRequests(),
+                result.getTotalRequests() > 0 ? (double) result.getFailCount() / result.getTotalRequests() : 0.0,
+                steadyRps(result),
+                result.getP50LatencyUs(),
+                result.getP90LatencyUs(),
+                result.getP99LatencyUs(),
+                result.getP999LatencyUs(),
+                result.isAborted(),
+                result.isUntrustworthy());
+    }
+
+    // 구간별 초당 요청 수의 중앙값 (시계열이 없는 실행이면 측정 구간 전체 처리량)
+    private double steadyRps(LoadTestResult result) {
+        List<LoadTestResultTimeseries> intervals = timeseriesRepository.selectTimeseriesByResultId(result.getId());
+        double[] rps = intervals.stream()
+                .filter(interval -> interval.getIntervalMs() > 0)
+                .mapToDouble(interval -> interval.getRequestCount() * 1_000.0 / interval.getIntervalMs())
+                .toArray();
+        if (rps.length == 0) {
+            return result.getThroughputRps();
+        }
+        Arrays.sort(rps);
+        int middle = rps.length / 2;
+        return rps.length % 2 == 1 ? rps[middle] : (rps[middle - 1] + rps[middle]) / 2.0;
+    }
+
+    // 요청이 없던 실행은 히스토그램이 없음
+    private static Histogram histogram(LoadTestResult result) {
+        return result.getLatencyHistogram() != null ? HistogramSupport.decode(result.getLatencyHistogram()) : null;
+    }
+
+    private static double changePercent(double baseline, double candidate) {
+        return baseline > 0 ? (candidate - baseline) * 100.0 / baseline : 0.0;
+    }
+}
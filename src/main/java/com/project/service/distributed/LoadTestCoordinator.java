@@ -0,0 +1,206 @@
+package com.project.service.distributed;
+
+import com.project.config.DistributedProperties;
+import com.project.config.LiveMetricsProperties;
+import com.project.model.LoadTestResultTimeseries;
+import com.project.model.LoadTestScenario;
+import com.project.service.dto.DistributedRunResult;
+import com.project.service.dto.TestStats;
+import com.project.service.dto.WorkerRunRequest;
+import com.project.service.dto.WorkerRunState;
+import com.project.service.dto.WorkerRunStatus;
+import com.project.service.live.IntervalSink;
+import com.project.service.runner.RunAbort;
+import com.project.service.timeseries.ResultTimeseriesWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/*
+ * 분산 실행 코디네이터.
+ *
+ * 1. 시나리오를 워커 수만큼 나누고, 모든 워커에 같은 시작 시각(now + startDelayMs)을 보내 동시에 시작
+ * 2. pollIntervalMs마다 워커 구간 지표를 가져와, 모든 워커가 보고한 구간 번호부터 병합해 시계열로 저장
+ * 3. 모든 워커가 끝나면 최종 집계(히스토그램 포함)를 병합 -> 단일 결과 row 용 TestStats
+ * abort로 중단되면 실행 중인 워커에 중단을 보내고, 워커들이 중단 시점까지의 집계로 끝나면 같은 방식으로 병합합니다.
+ * observer(통과 기준 판정)에는 병합한 구간을 넘기므로, 기준은 워커별이 아니라 전체 부하 기준으로 판정됩니다.
+ */
+@Slf4j
+@Component
+public class LoadTestCoordinator {
+
+    private final WorkerClient workerClient;
+    private final ResultTimeseriesWriter timeseriesWriter;
+    private final DistributedProperties properties;
+    private final LiveMetricsProperties liveMetricsProperties;
+    private final Clock clock;
+
+    public LoadTestCoordinator(WorkerClient workerClient,
+                               ResultTimeseriesWriter timeseriesWriter,
+                               DistributedProperties properties,
+                               LiveMetricsProperties liveMetricsProperties,
+                               Clock clock) {
+        this.workerClient = workerClient;
+        this.timeseriesWriter = timeseriesWriter;
+        this.properties = properties;
+        this.liveMetricsProperties = liveMetricsProperties;
+        this.clock = clock;
+    }
+
+    // observer: 병합한 구간을 받는 곳 (통과 기준이 없으면 null), 기준을 어겨 abort하면 워커 부하도 멈춤
+    public DistributedRunResult run(LoadTestScenario scenario, long resultId, List<String> workerUrls,
+                                    IntervalSink observer, RunAbort abort) {
+        if (workerUrls == null || workerUrls.isEmpty()) {
+            throw new IllegalArgumentException("workerUrls must not be empty");
+        }
+        List<LoadTestScenario> shares = ScenarioSplitter.split(scenario, workerUrls.size());
+        // 몫이 0인 워커는 제외됨
+        List<String> workers = workerUrls.subList(0, shares.size());
+
+        long startAtEpochMs = clock.millis() + properties.startDelayMs();
+        // 시작 요청이 실패(타임아웃 등)해도 워커에는 실행이 예약됐을 수 있으므로 요청을 보낸 워커는 모두 정리 대상
+        List<String> requested = new ArrayList<>(workers.size());
+        try {
+            for (int i = 0; i < workers.size(); i++) {
+                requested.add(workers.get(i));
+                workerClient.start(workers.get(i), new WorkerRunRequest(resultId, shares.get(i), startAtEpochMs));
+            }
+
+            long deadlineEpochMs = startAtEpochMs
+                    + TimeUnit.SECONDS.toMillis(scenario.getDurationSeconds())
+                    + properties.completionTimeoutMs();
+            return collect(resultId, workers, deadlineEpochMs, observer, abort);
+        } finally {
+            // 성공이면 끝난 실행의 정리, 실패(워커 실패/시작 실패/완료 대기 초과/인터럽트)면 남은 워커의 부하 중단
+            releaseAll(requested, resultId);
+        }
+    }
+
+    private DistributedRunResult collect(long resultId, List<String> workers, long deadlineEpochMs,
+                                         IntervalSink observer, RunAbort abort) {
+        int workerCount = workers.size();
+        long[] lastSeq = new long[workerCount];
+        Arrays.fill(lastSeq, -1L);
+        WorkerRunStatus[] completed = new WorkerRunStatus[workerCount];
+        int remaining = workerCount;
+        boolean abortSent = false;
+
+        // 구간 번호 -> 워커별 구간 (모든 워커가 보고할 때까지 보관)
+        Map<Long, List<LoadTestResultTimeseries>> pendingBySeq = new TreeMap<>();
+        IntervalSink timeseries = timeseriesWriter.newBatchingSink(liveMetricsProperties.timeseriesBatchSize());
+        IntervalSink sink = observer != null ? timeseries.andThen(observer) : timeseries;
+        try {
+            while (true) {
+                if (abort.isAborted() && !abortSent) {
+                    abortSent = true;
+                    for (int i = 0; i < workerCount; i++) {
+                        if (completed[i] == null) {
+                            abortQuietly(workers.get(i), resultId);
+                        }
+                    }
+                }
+                for (int i = 0; i < workerCount; i++) {
+                    if (completed[i] != null) {
+                        continue;
+                    }
+                    WorkerRunStatus status = workerClient.status(workers.get(i), resultId, lastSeq[i]);
+                    for (LoadTestResultTimeseries interval : status.intervals()) {
+                        pendingBySeq.computeIfAbsent(interval.getIntervalSeq(), seq -> new ArrayList<>()).add(interval);
+                        lastSeq[i] = Math.max(lastSeq[i], interval.getIntervalSeq());
+                    }
+                    if (status.state() == WorkerRunState.FAILED) {
+                        throw new IllegalStateException("Worker failed: " + workers.get(i) + " - " + status.error());
+                    }
+                    if (status.state() == WorkerRunState.COMPLETED) {
+                        completed[i] = status;
+                        remaining--;
+                    }
+                }
+
+                // 아직 실행 중인 워커가 모두 보고한 구간까지만 병합 (끝난 워커는 더 보낼 구간이 없음)
+                long readySeq = Long.MAX_VALUE;
+                for (int i = 0; i < workerCount; i++) {
+                    if (completed[i] == null) {
+                        readySeq = Math.min(readySeq, lastSeq[i]);
+                    }
+                }
+                flushReady(resultId, pendingBySeq, readySeq, sink);
+
+                if (remaining == 0) {
+                    break;
+                }
+                if (clock.millis() > deadlineEpochMs) {
+                    throw new IllegalStateException("Workers did not complete in time",
+                            new TimeoutException(remaining + " of " + workerCount + " workers still running"));
+                }
+                Thread.sleep(properties.pollIntervalMs());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for workers", e);
+        } finally {
+            sink.complete();
+        }
+
+        List<TestStats> workerStats = new ArrayList<>(workerCount);
+        long failLogDroppedCount = 0;
+        for (WorkerRunStatus status : completed) {
+            workerStats.add(status.stats());
+            failLogDroppedCount += status.failLogDroppedCount();
+        }
+        return new DistributedRunResult(StatsMerger.mergeStats(workerStats), failLogDroppedCount, workerCount);
+    }
+
+    private static void flushReady(long resultId, Map<Long, List<LoadTestResultTimeseries>> pendingBySeq,
+                                   long readySeq, IntervalSink sink) {
+        Iterator<Map.Entry<Long, List<LoadTestResultTimeseries>>> iterator = pendingBySeq.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, List<LoadTestResultTimeseries>> entry = iterator.next();
+            if (entry.getKey() > readySeq) {
+                break;
+            }
+            sink.accept(StatsMerger.mergeIntervals(resultId, entry.getValue()));
+            iterator.remove();
+        }
+    }
+
+    // 인터럽트 상태로는 block()이 바로 실패해 워커를 멈추지 못하므로, 정리하는 동안만 인터럽트 상태를 내려 둠
+    private void releaseAll(List<String> workerUrls, long resultId) {
+        boolean interrupted = Thread.interrupted();
+        try {
+            for (String workerUrl : workerUrls) {
+                releaseQuietly(workerUrl, resultId);
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // 중단 요청이 실패한 워커는 남은 duration 동안 실행된 뒤 COMPLETED로 끝남 (완료 대기 초과면 releaseAll로 멈춤)
+    private void abortQuietly(String workerUrl, long resultId) {
+        try {
+            workerClient.abort(workerUrl, resultId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to abort worker run. worker={}, resultId={}", workerUrl, resultId, e);
+        }
+    }
+
+    private void releaseQuietly(String workerUrl, long resultId) {
+        try {
+            workerClient.release(workerUrl, resultId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release worker run. worker={}, resultId={}", workerUrl, resultId, e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.project.service.distributed;
+
+import com.project.model.DataFeedMode;
+import com.project.model.LoadTestScenario;
+import com.project.model.LoadTestScenarioStage;
+import org.springframework.beans.BeanUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 시나리오를 워커 수만큼 나눕니다.
+ * 목표 TPS / 가상 스레드 수 / 커넥션 한도처럼 "합"이 의미 있는 값만 나누고 나머지 설정은 그대로 복사합니다.
+ * 나누어 떨어지지 않는 나머지는 앞쪽 워커에 1씩 더 배정하고, 몫이 0인 워커는 제외합니다. (예: 목표 TPS 2를 워커 3대에 -> 2대만 사용)
+ * 부하 프로파일 단계의 목표(TPS 또는 워커 수)도 단계마다 같은 방식으로 나눕니다.
+ * UNIQUE 데이터 피드는 워커마다 행을 번갈아 나눠(dataFeedPartition) 같은 행을 두 워커가 쓰지 않게 합니다.
+ */
+public final class ScenarioSplitter {
+
+    private ScenarioSplitter() {
+    }
+
+    public static List<LoadTestScenario> split(LoadTestScenario scenario, int workerCount) {
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("workerCount must be positive: " + workerCount);
+        }
+
+        List<LoadTestScenario> shares = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            int virtualThreadCount = share(scenario.getVirtualThreadCount(), workerCount, i);
+            int targetTps = share(scenario.getTargetTps(), workerCount, i);
+
+            // open model은 TPS 몫, closed model은 스레드 몫이 없으면 보낼 요청이 없음
+            boolean openModel = scenario.getTargetTps() > 0;
+            if ((openModel && targetTps == 0) || (!openModel && virtualThreadCount == 0)) {
+                continue;
+            }
+
+            LoadTestScenario workerScenario = new LoadTestScenario();
+            BeanUtils.copyProperties(scenario, workerScenario);
+            workerScenario.setTargetTps(targetTps);
+            workerScenario.setVirtualThreadCount(Math.max(1, virtualThreadCount));
+            // 0(기본값 사용)은 그대로 두어 워커에서도 나눈 스레드 수 기준 기본값이 적용되게 함
+            workerScenario.setMaxConnections(positiveShare(scenario.getMaxConnections(), workerCount, i));
+            workerScenario.setPendingAcquireMaxCount(positiveShare(scenario.getPendingAcquireMaxCount(), workerCount, i));
+            if (scenario.hasStages()) {
+                workerScenario.setStages(splitStages(scenario.getStages(), workerCount, i));
+            }
+            shares.add(workerScenario);
+        }
+        // 몫이 0인 워커를 뺀 뒤의 워커 수로 나눠야 버려지는 행이 없음
+        if (scenario.hasDataFeed() && scenario.getDataFeedMode() == DataFeedMode.UNIQUE) {
+            for (int i = 0; i < shares.size(); i++) {
+                shares.get(i).setDataFeedPartition(i);
+                shares.get(i).setDataFeedPartitionCount(shares.size());
+            }
+        }
+        return shares;
+    }
+
+    private static List<LoadTestScenarioStage> splitStages(List<LoadTestScenarioStage> stages, int workerCount, int index) {
+        List<LoadTestScenarioStage> workerStages = new ArrayList<>(stages.size());
+        for (LoadTestScenarioStage stage : stages) {
+            LoadTestScenarioStage workerStage = new LoadTestScenarioStage();
+            BeanUtils.copyProperties(stage, workerStage);
+            workerStage.setTarget(share(stage.getTarget(), workerCount, index));
+            workerStages.add(workerStage);
+        }
+        return workerStages;
+    }
+
+    private static int share(int total, int workerCount, int index) {
+        if (total <= 0) {
+            return 0;
+        }
+        return total / workerCount + (index < total % workerCount ? 1 : 0);
+    }
+
+    private static int positiveShare(int total, int workerCount, int index) {
+        return total > 0 ? Math.max(1, share(total, workerCount, index)) : 0;
+    }
+}
@@ -0,0 +1,199 @@
+package com.project.service.distributed;
+
+import com.project.model.GeneratorSaturation;
+import com.project.model.LoadTestResultTimeseries;
+import com.project.service.dto.GeneratorHealth;
+import com.project.service.dto.LatencyDistribution;
+import com.project.service.dto.StepStats;
+import com.project.service.dto.TestStats;
+import com.project.service.metrics.HistogramSupport;
+import org.HdrHistogram.Histogram;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/*
+ * 여러 워커의 집계를 하나로 합칩니다.
+ *
+ * 백분위는 워커별 p99의 평균이 아니라 워커 히스토그램을 더한(add) 뒤 다시 계산합니다.
+ * (워커 A p99=10ms, 워커 B p99=200ms 를 평균 내면 105ms지만, 실제 전체 p99는 요청 비중에 따라 완전히 다름)
+ * 건수/전송량은 합, 평균은 요청 수 가중 평균, 최소/최대는 워커 값 중 최소/최대를 사용합니다.
+ */
+public final class StatsMerger {
+
+    private static final int SIGNIFICANT_VALUE_DIGITS = 3;
+
+    private StatsMerger() {
+    }
+
+    public static TestStats mergeStats(List<TestStats> workerStats) {
+        int success = 0;
+        int fail = 0;
+        long missedDispatches = 0;
+        long lateDispatches = 0;
+        long maxDispatchLagUs = 0;
+        long bytesSent = 0;
+        long bytesReceived = 0;
+        long cutOffRequests = 0;
+        long measuredWindowMs = 0;
+        for (TestStats stats : workerStats) {
+            success += stats.success();
+            fail += stats.fail();
+            missedDispatches += stats.missedDispatches();
+            lateDispatches += stats.lateDispatches();
+            maxDispatchLagUs = Math.max(maxDispatchLagUs, stats.maxDispatchLagUs());
+            bytesSent += stats.bytesSent();
+            bytesReceived += stats.bytesReceived();
+            cutOffRequests += stats.cutOffRequests();
+            // 워커들은 같은 시각에 시작하므로 가장 늦게 끝난 워커까지를 측정 구간으로 봄
+            measuredWindowMs = Math.max(measuredWindowMs, stats.measuredWindowMs());
+        }
+
+        return new TestStats(success, fail, success + fail,
+                mergeDistributions(workerStats, TestStats::latency, true),
+                mergeDistributions(workerStats, TestStats::correctedLatency, false),
+                mergeDistributions(workerStats, TestStats::poolAcquireWait, false),
+                missedDispatches, lateDispatches, maxDispatchLagUs, bytesSent, bytesReceived,
+                cutOffRequests, measuredWindowMs, mergeSteps(workerStats), mergeHealth(workerStats));
+    }
+
+    /*
+     * 워커마다 별도 프로세스이므로 CPU/GC는 가장 나쁜 워커 기준(최대), pinning 이벤트는 합,
+     * 신뢰할 수 없는 사유는 어느 한 워커라도 해당하면 포함합니다. (생성기 상태를 보내지 않은 워커는 제외)
+     */
+    private static GeneratorHealth mergeHealth(List<TestStats> workerStats) {
+        List<GeneratorHealth> workerHealth = workerStats.stream()
+                .map(TestStats::health)
+                .filter(Objects::nonNull)
+                .toList();
+        if (workerHealth.isEmpty()) {
+            return null;
+        }
+        Double peakCpuLoad = null;
+        Double avgCpuLoad = null;
+        long gcPauseMs = 0;
+        Long pinnedCount = null;
+        Set<GeneratorSaturation> reasons = EnumSet.noneOf(GeneratorSaturation.class);
+        for (GeneratorHealth health : workerHealth) {
+            peakCpuLoad = maxOf(peakCpuLoad, health.peakProcessCpuLoad());
+            avgCpuLoad = maxOf(avgCpuLoad, health.avgProcessCpuLoad());
+            gcPauseMs = Math.max(gcPauseMs, health.gcPauseMs());
+            if (health.pinnedCount() != null) {
+                pinnedCount = (pinnedCount == null ? 0L : pinnedCount) + health.pinnedCount();
+            }
+            reasons.addAll(health.reasons());
+        }
+        return new GeneratorHealth(peakCpuLoad, avgCpuLoad, gcPauseMs, pinnedCount, List.copyOf(reasons));
+    }
+
+    private static Double maxOf(Double current, Double value) {
+        if (value == null) {
+            return current;
+        }
+        return current == null ? value : Math.max(current, value);
+    }
+
+    // 모든 워커가 같은 시나리오 단계를 실행하므로 같은 위치의 단계끼리 합침
+    private static List<StepStats> mergeSteps(List<TestStats> workerStats) {
+        int stepCount = workerStats.stream().mapToInt(stats -> stats.steps().size()).max().orElse(0);
+        List<StepStats> merged = new ArrayList<>(stepCount);
+        for (int i = 0; i < stepCount; i++) {
+            int index = i;
+            List<StepStats> workerSteps = workerStats.stream()
+                    .filter(stats -> stats.steps().size() > index)
+                    .map(stats -> stats.steps().get(index))
+                    .toList();
+            Histogram histogram = new Histogram(SIGNIFICANT_VALUE_DIGITS);
+            long success = 0;
+            long fail = 0;
+            long extractionFailures = 0;
+            for (StepStats step : workerSteps) {
+                success += step.success();
+                fail += step.fail();
+                extractionFailures += step.extractionFailures();
+                if (step.latency().histogram() != null) {
+                    histogram.add(HistogramSupport.decode(step.latency().histogram()));
+                }
+            }
+            StepStats first = workerSteps.get(0);
+            merged.add(new StepStats(first.stepOrder(), first.name(), success, fail, extractionFailures,
+                    HistogramSupport.summarize(histogram)));
+        }
+        return merged;
+    }
+
+    // 같은 구간 번호를 가진 워커별 구간을 하나로 합침
+    public static LoadTestResultTimeseries mergeIntervals(long resultId, List<LoadTestResultTimeseries> workerIntervals) {
+        LoadTestResultTimeseries merged = new LoadTestResultTimeseries();
+        merged.setResultId(resultId);
+        Histogram histogram = new Histogram(SIGNIFICANT_VALUE_DIGITS); // 자동 확장
+        LocalDateTime recordedAt = null;
+
+        for (LoadTestResultTimeseries interval : workerIntervals) {
+            merged.setIntervalSeq(interval.getIntervalSeq());
+            // 워커마다 틱 시각이 조금씩 다르므로 가장 늦게 끝난 워커 기준
+            merged.setElapsedMs(Math.max(merged.getElapsedMs(), interval.getElapsedMs()));
+            merged.setIntervalMs(Math.max(merged.getIntervalMs(), interval.getIntervalMs()));
+            // 워커들은 같은 프로파일을 같은 시각에 시작하므로 같은 구간 번호는 같은 단계
+            if (merged.getStageIndex() == null) {
+                merged.setStageIndex(interval.getStageIndex());
+            }
+            merged.setRequestCount(merged.getRequestCount() + interval.getRequestCount());
+            merged.setSuccessCount(merged.getSuccessCount() + interval.getSuccessCount());
+            merged.setFailCount(merged.getFailCount() + interval.getFailCount());
+            merged.setBytesSent(merged.getBytesSent() + interval.getBytesSent());
+            merged.setBytesReceived(merged.getBytesReceived() + interval.getBytesReceived());
+            if (interval.getLatencyHistogram() != null) {
+                histogram.add(HistogramSupport.decode(interval.getLatencyHistogram()));
+            }
+            if (recordedAt == null || (interval.getRecordedAt() != null && interval.getRecordedAt().isAfter(recordedAt))) {
+                recordedAt = interval.getRecordedAt();
+            }
+        }
+
+        LatencyDistribution latency = HistogramSupport.summarize(histogram);
+        merged.setAvgLatencyUs(latency.avgUs());
+        merged.setP50LatencyUs(latency.p50Us());
+        merged.setP90LatencyUs(latency.p90Us());
+        merged.setP99LatencyUs(latency.p99Us());
+        merged.setP999LatencyUs(latency.p999Us());
+        merged.setMaxLatencyUs(latency.maxUs());
+        merged.setLatencyHistogram(latency.histogram());
+        merged.setRecordedAt(recordedAt);
+        return merged;
+    }
+
+    private static LatencyDistribution mergeDistributions(List<TestStats> workerStats,
+                                                          Function<TestStats, LatencyDistribution> distribution,
+                                                          boolean exactAggregates) {
+        Histogram histogram = new Histogram(SIGNIFICANT_VALUE_DIGITS);
+        long count = 0;
+        double sumUs = 0.0;
+        long minUs = Long.MAX_VALUE;
+        long maxUs = 0;
+        for (TestStats stats : workerStats) {
+            LatencyDistribution workerDistribution = distribution.apply(stats);
+            // 요청이 없던 워커는 히스토그램이 없음
+            if (workerDistribution.count() == 0 || workerDistribution.histogram() == null) {
+                continue;
+            }
+            histogram.add(HistogramSupport.decode(workerDistribution.histogram()));
+            count += workerDistribution.count();
+            sumUs += workerDistribution.avgUs() * workerDistribution.count();
+            minUs = Math.min(minUs, workerDistribution.minUs());
+            maxUs = Math.max(maxUs, workerDistribution.maxUs());
+        }
+        if (count == 0) {
+            return LatencyDistribution.EMPTY;
+        }
+
+        LatencyDistribution merged = HistogramSupport.summarize(histogram);
+        // 워커가 보낸 평균/최소/최대가 버킷 반올림 없는 정확한 값이면 합친 결과도 정확한 값으로 유지
+        return exactAggregates ? merged.withExactAggregates(sumUs / count, minUs, maxUs) : merged;
+    }
+}
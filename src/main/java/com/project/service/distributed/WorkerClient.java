@@ -0,0 +1,54 @@
+package com.project.service.distributed;
+
+import com.project.service.dto.WorkerRunRequest;
+import com.project.service.dto.WorkerRunStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+// 코디네이터 -> 워커 제어 API 호출 (부하용 커넥션 풀과 분리된 기본 WebClient 사용)
+@Component
+public class WorkerClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final WebClient webClient;
+
+    public WorkerClient(WebClient.Builder webClientBuilder) {
+        this.webClient = webClientBuilder.build();
+    }
+
+    public void start(String workerUrl, WorkerRunRequest request) {
+        webClient.post()
+                .uri(workerUrl + "/api/workers/runs")
+                .bodyValue(request)
+                .retrieve()
+                .toBodilessEntity()
+                .block(TIMEOUT);
+    }
+
+    public WorkerRunStatus status(String workerUrl, long resultId, long afterSeq) {
+        return webClient.get()
+                .uri(workerUrl + "/api/workers/runs/{resultId}?afterSeq={afterSeq}", resultId, afterSeq)
+                .retrieve()
+                .bodyToMono(WorkerRunStatus.class)
+                .block(TIMEOUT);
+    }
+
+    public void abort(String workerUrl, long resultId) {
+        webClient.post()
+                .uri(workerUrl + "/api/workers/runs/{resultId}/abort", resultId)
+                .retrieve()
+                .toBodilessEntity()
+                .block(TIMEOUT);
+    }
+
+    public void release(String workerUrl, long resultId) {
+        webClient.delete()
+                .uri(workerUrl + "/api/workers/runs/{resultId}", resultId)
+                .retrieve()
+                .toBodilessEntity()
+                .block(TIMEOUT);
+    }
+}
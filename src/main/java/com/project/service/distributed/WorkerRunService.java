@@ -0,0 +1,203 @@
+package com.project.service.distributed;
+
+import com.project.config.DistributedProperties;
+import com.project.model.LoadTestResultTimeseries;
+import com.project.service.dto.TestStats;
+import com.project.service.dto.WorkerRunRequest;
+import com.project.service.dto.WorkerRunState;
+import com.project.service.dto.WorkerRunStatus;
+import com.project.service.faillog.AsyncFailLogWriter;
+import com.project.service.runner.LoadTestRunner;
+import com.project.service.run.LoadTestRunManager;
+import com.project.service.runner.RunAbort;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 분산 실행의 워커 측 실행 관리.
+ *
+ * 코디네이터가 나눠 준 시나리오를 startAtEpochMs에 맞춰 실행하고,
+ * 구간 지표(히스토그램 포함)와 최종 집계를 메모리에 보관했다가 코디네이터가 가져가게(poll) 합니다.
+ * 결과 row/시계열은 코디네이터가 병합해서 저장하므로 워커는 저장하지 않습니다. (실패 로그만 같은 DB에 직접 저장)
+ * 코디네이터가 정리(release)하면 아직 실행 중인 부하도 RunAbort로 바로 멈춥니다. (다른 워커 실패/완료 대기 초과 등)
+ * 코디네이터가 중단(abort)하면 부하만 멈추고, 중단 시점까지의 집계로 COMPLETED가 되어 코디네이터가 가져갑니다.
+ * 동시 요청 수/커넥션 수는 이 노드의 실행 한도(LoadTestRunManager.reserve)로 시작 요청 시점에 잡고, 실행이 끝나면 반환합니다.
+ *
+ * 기존 방식: 구간 지표를 실행이 끝날 때까지 모두 쌓아 두고, 코디네이터가 정리하지 않으면(코디네이터 장애 등) 끝난 실행이 계속 남았습니다.
+ * 변경 방식: 코디네이터가 afterSeq로 받았다고 알린 구간은 지우고, 아직 가져가지 않은 구간도 workerIntervalBufferSize개까지만 보관.
+ * 끝난 실행은 workerRunRetentionMs가 지나면 정리 요청이 없어도 지웁니다.
+ */
+@Slf4j
+@Service
+public class WorkerRunService {
+
+    private final LoadTestRunner loadTestRunner;
+    private final AsyncFailLogWriter failLogWriter;
+    private final LoadTestRunManager runManager;
+    private final DistributedProperties properties;
+    private final Clock clock;
+    private final Map<Long, WorkerRun> runsByResultId = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("worker-run-evictor").daemon(true).factory());
+
+    public WorkerRunService(LoadTestRunner loadTestRunner, AsyncFailLogWriter failLogWriter,
+                            LoadTestRunManager runManager, DistributedProperties properties, Clock clock) {
+        this.loadTestRunner = loadTestRunner;
+        this.failLogWriter = failLogWriter;
+        this.runManager = runManager;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    // 이 노드의 실행 한도를 넘으면 IllegalStateException (코디네이터는 분산 실행을 실패로 정리)
+    public void start(WorkerRunRequest request) {
+        WorkerRun run = new WorkerRun(properties.workerIntervalBufferSize());
+        if (runsByResultId.putIfAbsent(request.resultId(), run) != null) {
+            throw new IllegalStateException("Run already exists on this worker: " + request.resultId());
+        }
+        LoadTestRunManager.Reservation reservation;
+        try {
+            reservation = runManager.reserve(request.scenario());
+        } catch (RuntimeException e) {
+            runsByResultId.remove(request.resultId(), run);
+            throw e;
+        }
+        Thread.ofVirtual().name("worker-run-" + request.resultId()).start(() -> {
+            try {
+                execute(request, run);
+            } finally {
+                reservation.release();
+                evictor.schedule(() -> runsByResultId.remove(request.resultId(), run),
+                        properties.workerRunRetentionMs(), TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+
+    // afterSeq 이후 구간만 반환 (처음 조회는 -1), afterSeq까지는 코디네이터가 받은 구간이므로 지움
+    // (응답이 유실돼 같은 afterSeq로 다시 조회해도 아직 받지 못한 구간은 남아 있음)
+    public Optional<WorkerRunStatus> status(long resultId, long afterSeq) {
+        WorkerRun run = runsByResultId.get(resultId);
+        if (run == null) {
+            return Optional.empty();
+        }
+        // 상태를 먼저 읽어야 COMPLETED 응답에 마지막 구간까지 포함됨
+        WorkerRunState state = run.state;
+        List<LoadTestResultTimeseries> intervals = run.takeIntervalsAfter(afterSeq);
+        return Optional.of(new WorkerRunStatus(resultId, state, intervals, run.stats, run.failLogDroppedCount, run.error));
+    }
+
+    // 부하만 멈춤: 실행 중이면 중단 시점까지의 집계로 COMPLETED, 시작 전이면 시작하지 않고 FAILED
+    public boolean abort(long resultId) {
+        WorkerRun run = runsByResultId.get(resultId);
+        if (run == null) {
+            return false;
+        }
+        run.abort.abort();
+        return true;
+    }
+
+    /*
+     * 코디네이터가 결과를 모두 가져간 뒤, 또는 분산 실행이 실패했을 때 호출
+     * 기존 방식: 항목만 지워, 실패한 분산 실행의 워커가 남은 duration 동안 부하를 계속 보내고 멈출 방법이 없었음
+     * 변경 방식: 항목을 지우기 전에 abort (시작 전이면 시작하지 않고, 실행 중이면 진행 중 요청까지 바로 취소)
+     */
+    public boolean release(long resultId) {
+        WorkerRun run = runsByResultId.get(resultId);
+        if (run == null) {
+            return false;
+        }
+        run.abort.abort();
+        return runsByResultId.remove(resultId, run);
+    }
+
+    private void execute(WorkerRunRequest request, WorkerRun run) {
+        try {
+            long waitMs = request.startAtEpochMs() - clock.millis();
+            if (waitMs > 0) {
+                Thread.sleep(waitMs);
+            }
+            // 시작 시각 전에 정리된 실행
+            if (run.abort.isAborted()) {
+                run.fail("Aborted");
+                return;
+            }
+            run.state = WorkerRunState.RUNNING;
+
+            TestStats stats = loadTestRunner.run(request.scenario(), request.resultId(), run::addInterval, run.abort);
+
+            failLogWriter.flush();
+            failLogWriter.saveFailures(request.resultId());
+            run.failLogDroppedCount = failLogWriter.takeDroppedCount(request.resultId());
+            run.stats = stats;
+            run.state = WorkerRunState.COMPLETED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            run.fail("Interrupted");
+        } catch (RuntimeException e) {
+            log.warn("Worker run failed. resultId={}", request.resultId(), e);
+            run.fail(e.toString());
+        } catch (Error e) {
+            // 기존 방식: Error(OOM 등)는 잡지 않아 RUNNING으로 남고, 코디네이터는 완료 대기 초과까지 기다렸습니다.
+            log.error("Worker run failed. resultId={}", request.resultId(), e);
+            run.fail(e.toString());
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        evictor.shutdownNow();
+    }
+
+    private static final class WorkerRun {
+
+        private final Deque<LoadTestResultTimeseries> intervals = new ArrayDeque<>(); // intervals 락 안에서만 접근
+        private final int intervalBufferSize;
+        private final RunAbort abort = new RunAbort();
+        // state는 나머지 필드를 모두 쓴 뒤에 마지막으로 씀 (volatile write 이후 읽는 쪽에서 모두 보임)
+        private volatile WorkerRunState state = WorkerRunState.SCHEDULED;
+        private TestStats stats;
+        private long failLogDroppedCount;
+        private String error;
+
+        private WorkerRun(int intervalBufferSize) {
+            this.intervalBufferSize = intervalBufferSize;
+        }
+
+        // live-metrics ticker 스레드: 코디네이터가 가져가지 않는 동안에도 오래된 구간부터 버려 한도를 지킴
+        private void addInterval(LoadTestResultTimeseries interval) {
+            synchronized (intervals) {
+                intervals.addLast(interval);
+                while (intervals.size() > intervalBufferSize) {
+                    intervals.pollFirst();
+                }
+            }
+        }
+
+        private List<LoadTestResultTimeseries> takeIntervalsAfter(long afterSeq) {
+            synchronized (intervals) {
+                while (!intervals.isEmpty() && intervals.peekFirst().getIntervalSeq() <= afterSeq) {
+                    intervals.pollFirst();
+                }
+                return List.copyOf(intervals);
+            }
+        }
+
+        private void fail(String error) {
+            this.error = error;
+            this.state = WorkerRunState.FAILED;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.project.service.dto;
+
+import com.project.model.LoadTestScenario;
+
+/*
+ * 용량 탐색 요청: 시나리오(요청/커넥션 설정) + SLO + 탐색할 목표 TPS 범위
+ * 시나리오의 targetTps/durationSeconds는 probe마다 탐색이 정합니다.
+ * 예: p99 < 200ms, 에러율 < 0.1% -> maxP99LatencyMs = 200, maxErrorRate = 0.001
+ */
+public record CapacitySearchRequest(
+        LoadTestScenario scenario,
+        double maxP99LatencyMs,
+        double maxErrorRate,    // 0.0 ~ 1.0
+        int startTps,
+        int maxTps
+) {
+}
@@ -0,0 +1,9 @@
+package com.project.service.dto;
+
+import com.project.model.LoadTestResult;
+
+import java.util.List;
+
+// 용량 탐색 결과: 요약 row(찾은 용량) + probe row들(목표 TPS별 처리량/지연시간 곡선, 실행 순서)
+public record CapacitySearchResult(LoadTestResult summary, List<LoadTestResult> probes) {
+}
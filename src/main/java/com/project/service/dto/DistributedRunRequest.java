@@ -0,0 +1,9 @@
+package com.project.service.dto;
+
+import com.project.model.LoadTestScenario;
+
+import java.util.List;
+
+// 분산 실행 요청: 전체 시나리오 + 부하를 나눠 받을 워커 주소 목록 (예: http://localhost:8081)
+public record DistributedRunRequest(LoadTestScenario scenario, List<String> workerUrls) {
+}
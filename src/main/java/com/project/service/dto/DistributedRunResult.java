@@ -0,0 +1,5 @@
+package com.project.service.dto;
+
+// 모든 워커의 최종 집계를 합친 결과
+public record DistributedRunResult(TestStats stats, long failLogDroppedCount, int workerCount) {
+}
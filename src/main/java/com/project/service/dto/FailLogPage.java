@@ -0,0 +1,12 @@
+package com.project.service.dto;
+
+import com.project.model.LoadTestFailLog;
+
+import java.util.List;
+
+// 실패 예시 로그 한 페이지: 다음 페이지는 afterId=nextAfterId로 조회 (마지막 페이지면 null)
+public record FailLogPage(
+        List<LoadTestFailLog> items,
+        Long nextAfterId
+) {
+}
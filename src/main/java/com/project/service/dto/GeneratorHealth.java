@@ -0,0 +1,19 @@
+package com.project.service.dto;
+
+import com.project.model.GeneratorSaturation;
+
+import java.util.List;
+
+// 실행 동안 부하 생성기 자신의 상태 요약 (reasons가 비어 있지 않으면 결과 수치에 생성기 병목이 섞였을 수 있음)
+public record GeneratorHealth(
+        Double peakProcessCpuLoad,     // 샘플 중 최대 프로세스 CPU 사용률 (0~1, 측정 불가면 null)
+        Double avgProcessCpuLoad,      // 샘플 평균 프로세스 CPU 사용률
+        long gcPauseMs,                // 실행 동안 GC 정지 시간 합 (ms)
+        Long pinnedCount,              // 가상 스레드 pinning 이벤트 수 (JFR 미사용이면 null)
+        List<GeneratorSaturation> reasons
+) {
+
+    public boolean untrustworthy() {
+        return !reasons.isEmpty();
+    }
+}
@@ -0,0 +1,37 @@
+package com.project.service.dto;
+
+// 실행 중 스트리밍하는 구간 지표 (백분위는 해당 구간 히스토그램 기준, us 단위)
+public record IntervalSnapshot(
+        long resultId,
+        long sequence,          // 0부터 증가하는 구간 번호
+        long timestampMs,       // 구간 종료 시각 (epoch ms)
+        long elapsedMs,         // 테스트 시작 ~ 구간 종료
+        long intervalMs,        // 구간 길이
+        Integer stageIndex,     // 구간이 속한 부하 프로파일 단계 (0부터, 프로파일이 없으면 null)
+        long requests,
+        long success,
+        long fail,
+        double rps,
+        double errorRate,       // 0.0 ~ 1.0
+        long bytesSent,
+        long bytesReceived,
+        double avgUs,
+        long p50Us,
+        long p90Us,
+        long p99Us,
+        long p999Us,
+        long maxUs
+) {
+
+    public static IntervalSnapshot of(long resultId, long sequence, long timestampMs,
+                                      long elapsedMs, long intervalMs, Integer stageIndex, IntervalStats stats) {
+        long requests = stats.requests();
+        LatencyDistribution latency = stats.latency();
+        return new IntervalSnapshot(resultId, sequence, timestampMs, elapsedMs, intervalMs, stageIndex,
+                requests, stats.success(), stats.fail(),
+                intervalMs > 0 ? requests * 1_000.0 / intervalMs : 0.0,
+                requests > 0 ? (double) stats.fail() / requests : 0.0,
+                stats.bytesSent(), stats.bytesReceived(),
+                latency.avgUs(), latency.p50Us(), latency.p90Us(), latency.p99Us(), latency.p999Us(), latency.maxUs());
+    }
+}
@@ -0,0 +1,15 @@
+package com.project.service.dto;
+
+// 직전 스냅샷 이후 한 구간 동안의 요청 수와 지연시간 분포 (누적값 아님)
+public record IntervalStats(
+        long success,
+        long fail,
+        long bytesSent,
+        long bytesReceived,
+        LatencyDistribution latency
+) {
+
+    public long requests() {
+        return success + fail;
+    }
+}
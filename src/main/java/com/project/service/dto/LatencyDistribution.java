@@ -0,0 +1,41 @@
+package com.project.service.dto;
+
+// HdrHistogram 한 개에서 뽑아낸 지연시간 분포 요약 (us 단위)
+public record LatencyDistribution(
+        long count,
+        double avgUs,
+        long minUs,
+        long maxUs,
+        long p50Us,
+        long p90Us,
+        long p95Us,
+        long p99Us,
+        long p999Us,
+        long p9999Us,
+        String histogram // 전체 히스토그램 (HdrHistogram V2 compressed, Base64)
+) {
+
+    public static final LatencyDistribution EMPTY = new LatencyDistribution(0L, 0.0, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, null);
+
+    // 히스토그램의 평균/최소/최대 대신 버킷 반올림 없는 정확한 값으로 교체
+    public LatencyDistribution withExactAggregates(double avgUs, long minUs, long maxUs) {
+        return new LatencyDistribution(count, avgUs, minUs, maxUs, p50Us, p90Us, p95Us, p99Us, p999Us, p9999Us, histogram);
+    }
+
+    // ms 단위 값은 소수점 이하로 us 정밀도를 유지
+    public double avgMs() {
+        return avgUs / 1_000.0;
+    }
+
+    public double minMs() {
+        return minUs / 1_000.0;
+    }
+
+    public double maxMs() {
+        return maxUs / 1_000.0;
+    }
+
+    public double p99Ms() {
+        return p99Us / 1_000.0;
+    }
+}
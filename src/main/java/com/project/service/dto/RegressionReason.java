@@ -0,0 +1,9 @@
+package com.project.service.dto;
+
+// 비교 대상 실행이 기준 실행보다 나빠졌다고 판단한 이유 (RunComparisonProperties 한도 기준)
+public enum RegressionReason {
+    P50_LATENCY,   // p50 증가율이 한도를 넘고 지연시간 분포 변화가 유의함
+    P99_LATENCY,   // p99 증가율이 한도를 넘음
+    THROUGHPUT,    // 정상 구간 처리량 감소율이 한도를 넘음
+    ERROR_RATE     // 에러율 증가폭이 한도를 넘음
+}
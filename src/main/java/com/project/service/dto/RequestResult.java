@@ -1,4 +1,22 @@
 package com.project.service.dto;
 
-public record RequestResult(boolean success, long latencyMs) {
+// latencyNanos: 커넥션 확보 후 요청 전송 ~ 응답 완료 구간 (System.nanoTime() 기준)
+// poolAcquireNanos: 요청 시작 ~ 커넥션 확보 구간 (풀 대기, 신규 연결이면 connect 포함)
+// bytesSent / bytesReceived: 요청/응답 본문 크기 (byte)
+// httpStatus: 응답 상태 코드 (응답을 받지 못한 실패면 0)
+public record RequestResult(boolean success, long latencyNanos, long poolAcquireNanos,
+                            long bytesSent, long bytesReceived, int httpStatus) {
+
+    public RequestResult(boolean success, long latencyNanos) {
+        this(success, latencyNanos, 0L, 0L, 0L);
+    }
+
+    public RequestResult(boolean success, long latencyNanos, long poolAcquireNanos, long bytesSent, long bytesReceived) {
+        this(success, latencyNanos, poolAcquireNanos, bytesSent, bytesReceived, 0);
+    }
+
+    // 요청 시작부터 응답 완료까지 전체 구간
+    public long totalNanos() {
+        return latencyNanos + poolAcquireNanos;
+    }
 }
@@ -0,0 +1,12 @@
+package com.project.service.dto;
+
+import java.util.List;
+
+// 실행 간 비교 결과: 기준 실행 하나와 비교 대상 실행들 (요청 순서)
+// regressed: 비교 대상 중 하나라도 회귀가 있으면 true (배포 gate 판정용)
+public record RunComparison(
+        RunSnapshot baseline,
+        List<RunDelta> candidates,
+        boolean regressed
+) {
+}
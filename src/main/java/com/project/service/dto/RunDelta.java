@@ -0,0 +1,19 @@
+package com.project.service.dto;
+
+import java.util.List;
+
+// 기준 실행 대비 비교 대상 실행 1회의 변화 (변화율은 % 단위, 기준 값이 0이면 0)
+public record RunDelta(
+        RunSnapshot run,
+        double p50ChangePercent,
+        double p90ChangePercent,
+        double p99ChangePercent,
+        double p999ChangePercent,
+        double throughputChangePercent,
+        double errorRateChange,        // 에러율 차이 (0.01 = 1%p)
+        Double ksDistance,             // 두 지연시간 분포의 Kolmogorov-Smirnov 거리 (히스토그램이 없으면 null)
+        Double ksPValue,
+        boolean distributionChanged,   // KS 검정이 유의하고 거리가 최소 거리 이상
+        List<RegressionReason> regressions
+) {
+}
@@ -0,0 +1,20 @@
+package com.project.service.dto;
+
+import java.time.LocalDateTime;
+
+// 비교에 쓰는 실행 1회의 요약 (지연시간 us 단위)
+public record RunSnapshot(
+        long resultId,
+        long scenarioId,
+        LocalDateTime startedAt,
+        long requests,
+        double errorRate,       // 0.0 ~ 1.0
+        double steadyRps,       // 구간별 초당 요청 수의 중앙값 (ramp-up/마지막 구간 영향 제외, 시계열이 없으면 전체 처리량)
+        long p50Us,
+        long p90Us,
+        long p99Us,
+        long p999Us,
+        boolean aborted,
+        boolean untrustworthy   // 생성기 병목이 섞였을 수 있는 실행 (비교 결과도 함께 의심해야 함)
+) {
+}
@@ -0,0 +1,15 @@
+package com.project.service.dto;
+
+// 비동기 실행(LoadTestRunManager)의 상태
+public enum RunState {
+    QUEUED,     // 동시 실행 수/자원 한도 때문에 대기 중
+    RUNNING,
+    ABORTING,   // 중단 요청을 받아 진행 중 요청을 정리하고 결과를 저장하는 중
+    COMPLETED,
+    ABORTED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == ABORTED || this == FAILED;
+    }
+}
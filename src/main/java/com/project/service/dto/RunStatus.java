@@ -0,0 +1,22 @@
+package com.project.service.dto;
+
+import com.project.model.LoadTestResult;
+
+import java.time.LocalDateTime;
+
+// 비동기 실행 상태 응답
+// runId: 결과 row ID (live/timeseries 등 결과 API의 resultId와 같음)
+// queuePosition: QUEUED일 때 대기열 위치 (0부터, 그 외 null)
+// result: 종료된 실행만 채워짐 (중단된 실행은 중단 시점까지의 지표)
+public record RunStatus(
+        long runId,
+        long scenarioId,
+        RunState state,
+        Integer queuePosition,
+        LocalDateTime submittedAt,
+        LocalDateTime startedAt,
+        LocalDateTime endedAt,
+        LoadTestResult result,
+        String error
+) {
+}
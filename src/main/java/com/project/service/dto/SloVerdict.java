@@ -0,0 +1,11 @@
+package com.project.service.dto;
+
+// probe 하나의 SLO 판정 (warm-up 이후 측정 구간 기준)
+public record SloVerdict(
+        long requests,
+        double achievedTps,     // 측정 구간의 초당 요청 수
+        double errorRate,       // 0.0 ~ 1.0
+        long p99Us,             // 측정 구간 히스토그램 병합 p99
+        boolean passed
+) {
+}
@@ -0,0 +1,16 @@
+package com.project.service.dto;
+
+// 다단계 여정의 단계 하나에 대한 집계 (extractionFailures는 fail에 포함)
+public record StepStats(
+        int stepOrder,
+        String name,
+        long success,
+        long fail,
+        long extractionFailures,
+        LatencyDistribution latency
+) {
+
+    public long totalRequests() {
+        return success + fail;
+    }
+}
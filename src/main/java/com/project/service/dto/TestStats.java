@@ -1,12 +1,79 @@
 package com.project.service.dto;
 
+import java.util.List;
+
 public record TestStats(
         int success,
         int fail,
         int totalRequests,
-        double avgLatencyMs,
-        double minLatencyMs,
-        double maxLatencyMs,
-        double p99LatencyMs
+        LatencyDistribution latency,          // 실제 발송 시각 기준 분포
+        /*
+         * 발송 예정 시각 기준(Coordinated Omission 보정) 분포
+         * 발송한 요청만 담습니다. 동시 처리 한도로 건너뛴 요청(missedDispatches)은 응답 시간이 없어 포함하지 않으므로,
+         * missedDispatches가 0이 아니면 보정 분포도 실제 사용자 지연을 낮게 잡습니다.
+         */
+        LatencyDistribution correctedLatency,
+        LatencyDistribution poolAcquireWait,  // 커넥션 풀 대기 시간 분포
+        long missedDispatches,
+        long lateDispatches,
+        long maxDispatchLagUs,
+        long bytesSent,                       // 요청 본문 전송량 (byte)
+        long bytesReceived,                   // 응답 본문 수신량 (byte)
+        long cutOffRequests,                  // 종료 유예 시간이 지나 취소된 요청 수 (성공/실패/분포에 포함하지 않음)
+        long measuredWindowMs,                // 측정 구간: 시작부터 마지막 요청이 끝나거나 잘린 시각까지 (기록하지 않았으면 0)
+        List<StepStats> steps,                // 다단계 여정의 단계별 집계 (단일 요청 시나리오는 비어 있음)
+        GeneratorHealth health                // 실행 동안 부하 생성기 자체 상태 (측정하지 않았으면 null)
 ) {
+
+    public TestStats(int success, int fail, int totalRequests,
+                     LatencyDistribution latency, LatencyDistribution correctedLatency, LatencyDistribution poolAcquireWait,
+                     long missedDispatches, long lateDispatches, long maxDispatchLagUs, long bytesSent, long bytesReceived) {
+        this(success, fail, totalRequests, latency, correctedLatency, poolAcquireWait,
+                missedDispatches, lateDispatches, maxDispatchLagUs, bytesSent, bytesReceived, 0L, 0L, List.of(), null);
+    }
+
+    // ms 단위 지표로 만드는 결과용 (closed model: 예정 시각 = 실제 발송 시각이므로 보정 분포 = 측정 분포)
+    public TestStats(int success, int fail, int totalRequests,
+                     double avgLatencyMs, double minLatencyMs, double maxLatencyMs, double p99LatencyMs) {
+        this(success, fail, totalRequests,
+                fromMs(totalRequests, avgLatencyMs, minLatencyMs, maxLatencyMs, p99LatencyMs),
+                fromMs(totalRequests, avgLatencyMs, minLatencyMs, maxLatencyMs, p99LatencyMs),
+                LatencyDistribution.EMPTY,
+                0L, 0L, 0L, 0L, 0L);
+    }
+
+    public TestStats withSteps(List<StepStats> steps) {
+        return new TestStats(success, fail, totalRequests, latency, correctedLatency, poolAcquireWait,
+                missedDispatches, lateDispatches, maxDispatchLagUs, bytesSent, bytesReceived,
+                cutOffRequests, measuredWindowMs, steps, health);
+    }
+
+    public TestStats withHealth(GeneratorHealth health) {
+        return new TestStats(success, fail, totalRequests, latency, correctedLatency, poolAcquireWait,
+                missedDispatches, lateDispatches, maxDispatchLagUs, bytesSent, bytesReceived,
+                cutOffRequests, measuredWindowMs, steps, health);
+    }
+
+    public double avgLatencyMs() {
+        return latency.avgMs();
+    }
+
+    public double minLatencyMs() {
+        return latency.minMs();
+    }
+
+    public double maxLatencyMs() {
+        return latency.maxMs();
+    }
+
+    public double p99LatencyMs() {
+        return latency.p99Ms();
+    }
+
+    private static LatencyDistribution fromMs(long count, double avgMs, double minMs, double maxMs, double p99Ms) {
+        long p99Us = Math.round(p99Ms * 1_000.0);
+        return new LatencyDistribution(count, avgMs * 1_000.0,
+                Math.round(minMs * 1_000.0), Math.round(maxMs * 1_000.0),
+                0L, 0L, 0L, p99Us, 0L, 0L, null);
+    }
 }
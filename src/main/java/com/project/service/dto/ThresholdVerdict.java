@@ -0,0 +1,17 @@
+package com.project.service.dto;
+
+import com.project.model.ThresholdBreach;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 시나리오 통과 기준 판정 (breaches가 비어 있으면 통과)
+public record ThresholdVerdict(
+        List<ThresholdBreach> breaches,
+        LocalDateTime breachedAt     // 처음 기준을 어긴 구간의 종료 시각 (통과면 null)
+) {
+
+    public boolean passed() {
+        return breaches.isEmpty();
+    }
+}
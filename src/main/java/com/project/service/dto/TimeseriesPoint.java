@@ -0,0 +1,23 @@
+package com.project.service.dto;
+
+// 시계열 조회 결과의 한 점: 연속된 구간 여러 개를 합친 값 (백분위는 구간 히스토그램을 병합해서 계산, us 단위)
+public record TimeseriesPoint(
+        long startElapsedMs,    // 테스트 시작 ~ 첫 구간 시작
+        long endElapsedMs,      // 테스트 시작 ~ 마지막 구간 종료
+        int mergedIntervals,    // 합친 구간 수
+        Integer stageIndex,     // 부하 프로파일 단계 (여러 단계에 걸쳐 묶이면 마지막 구간 기준, 프로파일이 없으면 null)
+        long requests,
+        long success,
+        long fail,
+        double rps,
+        double errorRate,
+        long bytesSent,
+        long bytesReceived,
+        double avgUs,
+        long p50Us,
+        long p90Us,
+        long p99Us,
+        long p999Us,
+        long maxUs
+) {
+}
@@ -0,0 +1,10 @@
+package com.project.service.dto;
+
+import com.project.model.LoadTestScenario;
+
+// 코디네이터 -> 워커 실행 요청
+// resultId: 코디네이터가 만든 결과 row ID (실패 로그는 같은 DB의 이 결과에 저장)
+// scenario: 이 워커가 담당할 몫으로 나눈 시나리오
+// startAtEpochMs: 모든 워커가 동시에 시작할 시각 (epoch ms, 워커 간 시계는 NTP로 맞춰져 있다고 가정)
+public record WorkerRunRequest(long resultId, LoadTestScenario scenario, long startAtEpochMs) {
+}
@@ -0,0 +1,9 @@
+package com.project.service.dto;
+
+// 분산 실행에서 워커 한 대의 실행 상태
+public enum WorkerRunState {
+    SCHEDULED,  // 시작 시각 대기 중
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,18 @@
+package com.project.service.dto;
+
+import com.project.model.LoadTestResultTimeseries;
+
+import java.util.List;
+
+// 워커 -> 코디네이터 상태 응답
+// intervals: 요청한 afterSeq 이후에 만들어진 구간 (히스토그램 포함)
+// stats / failLogDroppedCount: COMPLETED일 때만 채워짐
+public record WorkerRunStatus(
+        long resultId,
+        WorkerRunState state,
+        List<LoadTestResultTimeseries> intervals,
+        TestStats stats,
+        long failLogDroppedCount,
+        String error
+) {
+}
@@ -0,0 +1,7 @@
+package com.project.service.export;
+
+import java.util.function.Function;
+
+// CSV 열 하나: 헤더 이름과 row에서 값을 꺼내는 함수
+record ExportColumn<T>(String header, Function<T, Object> value) {
+}
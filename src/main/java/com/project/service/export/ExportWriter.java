@@ -0,0 +1,133 @@
+package com.project.service.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/*
+ * row를 하나씩 받아 바로 출력 스트림에 쓰는 writer.
+ * 모아 두지 않고 고정 크기 버퍼만 거쳐 내보내므로, row 수와 관계없이 메모리 사용량이 일정합니다.
+ * FLUSH_EVERY_ROWS건마다 flush해 받는 쪽이 진행 상황을 볼 수 있게 합니다. (chunked 전송)
+ */
+abstract class ExportWriter<T> {
+
+    static final int FLUSH_EVERY_ROWS = 1_000;
+
+    private long rowCount;
+
+    static <T> ExportWriter<T> open(ExportFormat format, OutputStream out, ObjectMapper objectMapper,
+                                    Class<T> type, List<ExportColumn<T>> columns) throws IOException {
+        return switch (format) {
+            case NDJSON -> new Ndjson<>(out, objectMapper, type);
+            case CSV -> new Csv<>(out, columns);
+        };
+    }
+
+    final void write(T row) throws IOException {
+        writeRow(row);
+        if (++rowCount % FLUSH_EVERY_ROWS == 0) {
+            flush();
+        }
+    }
+
+    final long rowCount() {
+        return rowCount;
+    }
+
+    abstract void writeRow(T row) throws IOException;
+
+    // 출력 스트림은 닫지 않음 (응답 스트림은 컨테이너가 닫음)
+    abstract void flush() throws IOException;
+
+    private static final class Ndjson<T> extends ExportWriter<T> {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter rowWriter;
+
+        private Ndjson(OutputStream out, ObjectMapper objectMapper, Class<T> type) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // row마다 flush하지 않도록 (flush는 FLUSH_EVERY_ROWS 단위)
+            this.rowWriter = objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        void writeRow(T row) throws IOException {
+            rowWriter.writeValue(generator, row);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static final class Csv<T> extends ExportWriter<T> {
+
+        private final Writer writer;
+        private final List<ExportColumn<T>> columns;
+
+        private Csv(OutputStream out, List<ExportColumn<T>> columns) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.columns = columns;
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeField(columns.get(i).header());
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        void writeRow(T row) throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = columns.get(i).value().apply(row);
+                if (value != null) {
+                    writeField(value.toString());
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        void flush() throws IOException {
+            writer.flush();
+        }
+
+        // RFC 4180: 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 안의 따옴표는 두 번 씀
+        private void writeField(String value) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    writer.write('"');
+                }
+                writer.write(c);
+            }
+            writer.write('"');
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.project.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.model.LoadTestFailLog;
+import com.project.model.LoadTestResultTimeseries;
+import com.project.repository.LoadTestFailLogRepository;
+import com.project.repository.LoadTestResultTimeseriesRepository;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Function;
+
+/*
+ * 실패 로그 / 결과 시계열 내보내기.
+ *
+ * 기존 방식:
+ * selectFailLogByResultId()가 List로 반환해, 큰 실행의 실패 로그 전체가 한 번에 힙에 올라왔습니다.
+ *
+ * 변경 방식:
+ * MyBatis Cursor + MySQL 스트리밍(fetchSize=Integer.MIN_VALUE)으로 row를 하나씩 읽어 바로 응답 스트림에 씁니다.
+ * Cursor는 읽는 동안 커넥션을 붙잡고 있어야 하므로, 읽기 전용 트랜잭션 안에서 끝까지 쓴 뒤 커넥션을 돌려줍니다.
+ */
+@Service
+public class ResultExportService {
+
+    private static final List<ExportColumn<LoadTestFailLog>> FAIL_LOG_COLUMNS = List.of(
+            new ExportColumn<>("id", LoadTestFailLog::getId),
+            new ExportColumn<>("resultId", LoadTestFailLog::getResultId),
+            new ExportColumn<>("requestOrder", LoadTestFailLog::getRequestOrder),
+            new ExportColumn<>("requestTime", LoadTestFailLog::getRequestTime),
+            new ExportColumn<>("httpStatus", LoadTestFailLog::getHttpStatus),
+            new ExportColumn<>("errorType", LoadTestFailLog::getErrorType),
+            new ExportColumn<>("signatureHash", LoadTestFailLog::getSignatureHash),
+            new ExportColumn<>("errorMsg", LoadTestFailLog::getErrorMsg));
+
+    // 구간 히스토그램(Base64)은 CSV에서 빼고 NDJSON에만 포함
+    private static final List<ExportColumn<LoadTestResultTimeseries>> TIMESERIES_COLUMNS = List.of(
+            new ExportColumn<>("intervalSeq", LoadTestResultTimeseries::getIntervalSeq),
+            new ExportColumn<>("elapsedMs", LoadTestResultTimeseries::getElapsedMs),
+            new ExportColumn<>("intervalMs", LoadTestResultTimeseries::getIntervalMs),
+            new ExportColumn<>("stageIndex", LoadTestResultTimeseries::getStageIndex),
+            new ExportColumn<>("requestCount", LoadTestResultTimeseries::getRequestCount),
+            new ExportColumn<>("successCount", LoadTestResultTimeseries::getSuccessCount),
+            new ExportColumn<>("failCount", LoadTestResultTimeseries::getFailCount),
+            new ExportColumn<>("bytesSent", LoadTestResultTimeseries::getBytesSent),
+            new ExportColumn<>("bytesReceived", LoadTestResultTimeseries::getBytesReceived),
+            new ExportColumn<>("avgLatencyUs", LoadTestResultTimeseries::getAvgLatencyUs),
+            new ExportColumn<>("p50LatencyUs", LoadTestResultTimeseries::getP50LatencyUs),
+            new ExportColumn<>("p90LatencyUs", LoadTestResultTimeseries::getP90LatencyUs),
+            new ExportColumn<>("p99LatencyUs", LoadTestResultTimeseries::getP99LatencyUs),
+            new ExportColumn<>("p999LatencyUs", LoadTestResultTimeseries::getP999LatencyUs),
+            new ExportColumn<>("maxLatencyUs", LoadTestResultTimeseries::getMaxLatencyUs),
+            new ExportColumn<>("recordedAt", LoadTestResultTimeseries::getRecordedAt));
+
+    private final LoadTestFailLogRepository failLogRepository;
+    private final LoadTestResultTimeseriesRepository timeseriesRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ResultExportService(LoadTestFailLogRepository failLogRepository,
+                               LoadTestResultTimeseriesRepository timeseriesRepository,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager) {
+        this.failLogRepository = failLogRepository;
+        this.timeseriesRepository = timeseriesRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // 내보낸 row 수를 반환
+    public long exportFailLogs(long resultId, ExportFormat format, OutputStream out) {
+        return export(failLogRepository::streamFailLogByResultId, resultId, format, out,
+                LoadTestFailLog.class, FAIL_LOG_COLUMNS);
+    }
+
+    public long exportTimeseries(long resultId, ExportFormat format, OutputStream out) {
+        return export(timeseriesRepository::streamTimeseriesByResultId, resultId, format, out,
+                LoadTestResultTimeseries.class, TIMESERIES_COLUMNS);
+    }
+
+    private <T> long export(Function<Long, Cursor<T>> query, long resultId, ExportFormat format, OutputStream out,
+                            Class<T> type, List<ExportColumn<T>> columns) {
+        Long rowCount = readOnlyTransaction.execute(status -> {
+            try (Cursor<T> cursor = query.apply(resultId)) {
+                ExportWriter<T> writer = ExportWriter.open(format, out, objectMapper, type, columns);
+                for (T row : cursor) {
+                    writer.write(row);
+                }
+                writer.flush();
+                return writer.rowCount();
+            } catch (IOException e) {
+                // 클라이언트가 중간에 연결을 끊은 경우 등: Cursor를 닫고 트랜잭션을 끝낸 뒤 전파
+                throw new UncheckedIOException(e);
+            }
+        });
+        return rowCount == null ? 0L : rowCount;
+    }
+}
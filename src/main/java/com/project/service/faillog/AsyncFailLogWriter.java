@@ -0,0 +1,268 @@
+package com.project.service.faillog;
+
+import com.project.config.FailLogWriterProperties;
+import com.project.config.FailLogWriterProperties.OverflowPolicy;
+import com.project.model.LoadTestFailLog;
+import com.project.model.LoadTestFailSignature;
+import com.project.model.LoadTestFailSignatureSecond;
+import com.project.repository.LoadTestFailLogRepository;
+import com.project.repository.LoadTestFailSignatureRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+ * 실패 로그 비동기 배치 저장기.
+ *
+ * 기존 방식:
+ * 워커 스레드가 실패할 때마다 insertFailLog()를 동기 호출했습니다.
+ * 대상 서버가 5xx를 쏟아내면 모든 가상 스레드가 JDBC 왕복에 묶이고 커넥션 풀이 고갈되어,
+ * 정작 부하가 가장 필요한 순간에 생성 부하가 무너졌습니다.
+ *
+ * 변경 방식:
+ * 워커는 lock-free 큐에 로그를 넣기만 하고, 전용 writer 스레드가 batchSize 단위 multi-row INSERT로 저장합니다.
+ *
+ * 실패 유형별 집계:
+ * 장애 구간에서는 거의 같은 실패 로그가 요청마다 한 row씩 수백만 건 쌓여, 테이블이 불어나고 조회가 불가능해졌습니다.
+ * 이제 writer 스레드는 로그를 저장하지 않고 결과별 FailureAggregate에 유형(상태 코드 + 예외 종류 + 메시지 템플릿)별로 모으며,
+ * 실행이 끝나면 saveFailures()가 유형별 집계 / 초당 실패 수 / 유형별 원본 로그 표본만 저장합니다.
+ *
+ * 결과별 버퍼:
+ * 기존 방식: 모든 실행이 큐 하나를 공유해, SAMPLE 정책에서 실패가 많은 실행이 다른 실행의 로그를 밀어내고
+ * 그 로그가 엉뚱한 resultId의 누락 건수로 세어졌습니다.
+ * 변경 방식: 용량(bufferCapacity)은 전체가 공유하되 큐는 resultId별로 나누고, SAMPLE은 같은 실행의 가장 오래된 로그만 밀어냅니다.
+ * 버퍼에 자기 로그가 없는 실행은 새 로그를 자기 누락으로 셉니다.
+ */
+@Slf4j
+@Component
+public class AsyncFailLogWriter {
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long FLUSH_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final LoadTestFailLogRepository loadTestFailLogRepository;
+    private final LoadTestFailSignatureRepository loadTestFailSignatureRepository;
+    private final FailLogWriterProperties properties;
+
+    // 버퍼: 결과별 ConcurrentLinkedQueue(lock-free) + 전체 공유 크기 카운터로 용량 제한
+    private final Map<Long, ConcurrentLinkedQueue<LoadTestFailLog>> buffers = new ConcurrentHashMap<>();
+    private final AtomicInteger bufferedCount = new AtomicInteger(0);
+
+    // flush 보장용 순번: 받은 건수(accepted) / 처리 완료 건수(저장 + 샘플링으로 밀려난 건수)
+    private final AtomicLong acceptedSequence = new AtomicLong(0);
+    private final AtomicLong completedSequence = new AtomicLong(0);
+
+    private final AtomicLong overflowSequence = new AtomicLong(0);
+    // 결과별 버퍼 초과 누락 (워커 스레드에서 갱신, saveFailures()가 유형 집계에 합침)
+    private final Map<Long, DroppedFailures> droppedByResultId = new ConcurrentHashMap<>();
+    // 결과별 실패 유형 집계 (writer 스레드만 갱신)
+    private final Map<Long, FailureAggregate> aggregateByResultId = new ConcurrentHashMap<>();
+
+    private volatile Thread writerThread;
+    private volatile boolean running;
+
+    public AsyncFailLogWriter(LoadTestFailLogRepository loadTestFailLogRepository,
+                              LoadTestFailSignatureRepository loadTestFailSignatureRepository,
+                              FailLogWriterProperties properties) {
+        this.loadTestFailLogRepository = loadTestFailLogRepository;
+        this.loadTestFailSignatureRepository = loadTestFailSignatureRepository;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name("fail-log-writer")
+                .daemon(true)
+                .start(this::drainLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        flush();
+        running = false;
+        LockSupport.unpark(writerThread);
+    }
+
+    // 워커 스레드에서 호출: DB 왕복 없이 버퍼에 넣고 즉시 반환 (BLOCK 정책일 때만 대기 가능)
+    public void enqueue(LoadTestFailLog failLog) {
+        ConcurrentLinkedQueue<LoadTestFailLog> queue = bufferOf(failLog.getResultId());
+        if (tryReserve()) {
+            append(queue, failLog);
+            return;
+        }
+
+        OverflowPolicy policy = properties.overflowPolicy();
+        if (policy == OverflowPolicy.BLOCK) {
+            while (!tryReserve()) {
+                LockSupport.unpark(writerThread);
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            }
+            append(queue, failLog);
+        } else if (policy == OverflowPolicy.SAMPLE && overflowSequence.incrementAndGet() % properties.sampleRate() == 0) {
+            // 같은 실행의 가장 오래된 로그를 밀어내고 표본으로 보관 -> 과부하 구간 전체에 걸쳐 고르게 남음
+            // 다른 실행의 로그는 밀어내지 않음 (누락 건수가 엉뚱한 resultId로 세어지지 않도록)
+            LoadTestFailLog evicted = queue.poll();
+            if (evicted != null) {
+                countDropped(evicted);
+                completedSequence.incrementAndGet();
+                acceptedSequence.incrementAndGet();
+                queue.offer(failLog);
+            } else {
+                countDropped(failLog);
+            }
+        } else {
+            countDropped(failLog);
+        }
+    }
+
+    /*
+     * 호출 시점까지 받은 로그가 모두 유형별 집계에 반영될 때까지 대기합니다.
+     * 최종 결과를 저장하기 전에 호출하고, 이어서 saveFailures()로 집계를 저장합니다.
+     */
+    public void flush() {
+        long target = acceptedSequence.get();
+        long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+        while (completedSequence.get() < target) {
+            if (System.nanoTime() - deadline > 0) {
+                log.warn("Fail log flush timed out: completed={}, target={}", completedSequence.get(), target);
+                return;
+            }
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+    }
+
+    // 버퍼 초과로 저장하지 못한 로그 건수 (조회 후 초기화, saveFailures() 다음에 호출)
+    public long takeDroppedCount(long resultId) {
+        DroppedFailures dropped = droppedByResultId.remove(resultId);
+        return dropped == null ? 0L : dropped.total();
+    }
+
+    /*
+     * 결과의 실패 유형별 집계를 저장하고 메모리에서 제거합니다. (flush() 이후, 해당 실행의 요청이 모두 끝난 뒤 호출)
+     * 분산 실행에서는 워커마다 같은 resultId로 호출하며, 유형별 건수/초당 실패 수는 DB에서 더해집니다.
+     * 버퍼 초과로 누락된 실패도 <dropped> 유형으로 합쳐, 유형별 건수 합이 실행의 실패 수와 맞습니다.
+     */
+    public void saveFailures(long resultId) {
+        ConcurrentLinkedQueue<LoadTestFailLog> queue = buffers.get(resultId);
+        if (queue != null && queue.isEmpty()) {
+            buffers.remove(resultId, queue);
+        }
+        FailureAggregate aggregate = aggregateByResultId.remove(resultId);
+        DroppedFailures dropped = droppedByResultId.get(resultId);
+        if (dropped != null) {
+            if (aggregate == null) {
+                aggregate = newAggregate(resultId);
+            }
+            dropped.drainTo(aggregate);
+        }
+        if (aggregate == null) {
+            return;
+        }
+        try {
+            for (List<LoadTestFailSignature> chunk : chunks(aggregate.signatureRows())) {
+                loadTestFailSignatureRepository.upsertSignatureBatch(chunk);
+            }
+            for (List<LoadTestFailSignatureSecond> chunk : chunks(aggregate.secondRows())) {
+                loadTestFailSignatureRepository.upsertSecondBatch(chunk);
+            }
+            for (List<LoadTestFailLog> chunk : chunks(aggregate.exemplars())) {
+                loadTestFailLogRepository.insertFailLogBatch(chunk);
+            }
+        } catch (Exception e) {
+            // 실패 유형 저장 실패가 결과 저장을 막지 않도록 로그만 남김
+            log.error("Failed to save {} fail signatures. resultId={}", aggregate.failCount(), resultId, e);
+        }
+    }
+
+    private <T> List<List<T>> chunks(List<T> rows) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += properties.batchSize()) {
+            chunks.add(rows.subList(from, Math.min(from + properties.batchSize(), rows.size())));
+        }
+        return chunks;
+    }
+
+    private boolean tryReserve() {
+        int capacity = properties.bufferCapacity();
+        int current;
+        do {
+            current = bufferedCount.get();
+            if (current >= capacity) {
+                return false;
+            }
+        } while (!bufferedCount.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private ConcurrentLinkedQueue<LoadTestFailLog> bufferOf(long resultId) {
+        ConcurrentLinkedQueue<LoadTestFailLog> queue = buffers.get(resultId);
+        return queue != null ? queue : buffers.computeIfAbsent(resultId, id -> new ConcurrentLinkedQueue<>());
+    }
+
+    private void append(ConcurrentLinkedQueue<LoadTestFailLog> queue, LoadTestFailLog failLog) {
+        queue.offer(failLog);
+        acceptedSequence.incrementAndGet();
+        // 한 배치 분량이 쌓이면 flush 주기를 기다리지 않고 writer를 깨움
+        if (bufferedCount.get() >= properties.batchSize()) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    private void countDropped(LoadTestFailLog failLog) {
+        droppedByResultId.computeIfAbsent(failLog.getResultId(), id -> new DroppedFailures()).add(failLog);
+    }
+
+    private FailureAggregate newAggregate(long resultId) {
+        return new FailureAggregate(resultId, properties.maxSignaturesPerResult(), properties.exemplarsPerSignature());
+    }
+
+    private void drainLoop() {
+        long flushIntervalNanos = Duration.ofMillis(properties.flushIntervalMs()).toNanos();
+        List<LoadTestFailLog> batch = new ArrayList<>(properties.batchSize());
+
+        while (running || bufferedCount.get() > 0) {
+            for (ConcurrentLinkedQueue<LoadTestFailLog> queue : buffers.values()) {
+                LoadTestFailLog failLog;
+                while (batch.size() < properties.batchSize() && (failLog = queue.poll()) != null) {
+                    batch.add(failLog);
+                }
+            }
+
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(flushIntervalNanos);
+                continue;
+            }
+
+            aggregate(batch);
+            bufferedCount.addAndGet(-batch.size());
+            completedSequence.addAndGet(batch.size());
+            batch.clear();
+        }
+    }
+
+    private void aggregate(List<LoadTestFailLog> batch) {
+        for (LoadTestFailLog failLog : batch) {
+            try {
+                aggregateByResultId.computeIfAbsent(failLog.getResultId(), this::newAggregate).add(failLog);
+            } catch (RuntimeException e) {
+                // 집계 실패가 writer 스레드를 멈추지 않도록 로그만 남기고 다음 로그 진행
+                log.error("Failed to aggregate fail log. resultId={}", failLog.getResultId(), e);
+            }
+        }
+    }
+}
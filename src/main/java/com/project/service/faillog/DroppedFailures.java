@@ -0,0 +1,62 @@
+package com.project.service.faillog;
+
+import com.project.model.LoadTestFailLog;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * 버퍼 초과(DROP/SAMPLE)로 writer 스레드의 유형 집계까지 가지 못한 실행 1회의 실패 (워커 스레드에서 갱신)
+ *
+ * 기존 방식: 누락 건수만 세어, 유형별 건수 합이 실행의 실패 수보다 적었습니다.
+ * 변경 방식: 메시지 템플릿(정규식)은 만들지 않고 상태 코드 + 예외 종류별 <dropped> 유형으로 세고,
+ * saveFailures()에서 FailureAggregate에 합쳐 유형별 건수 합이 실패 수와 맞도록 합니다.
+ * 누락된 로그는 초당 실패 수와 표본에는 들어가지 않습니다.
+ */
+final class DroppedFailures {
+
+    private final LongAdder total = new LongAdder();
+    private final Map<FailureSignature, Counter> counters = new ConcurrentHashMap<>();
+
+    void add(LoadTestFailLog failLog) {
+        total.increment();
+        counters.computeIfAbsent(FailureSignature.dropped(failLog.getHttpStatus(), failLog.getErrorType()), Counter::new)
+                .add(failLog.getRequestOrder());
+    }
+
+    // 누락 건수 합 (takeDroppedCount)
+    long total() {
+        return total.sum();
+    }
+
+    // 지금까지 센 유형별 건수를 집계에 넘기고 초기화 (saveFailures를 다시 호출해도 두 번 더하지 않음)
+    void drainTo(FailureAggregate aggregate) {
+        for (Counter counter : counters.values()) {
+            long count = counter.count.sumThenReset();
+            if (count > 0) {
+                aggregate.addDropped(counter.signature, count,
+                        counter.firstRequestOrder.getThenReset(), counter.lastRequestOrder.getThenReset());
+            }
+        }
+    }
+
+    private static final class Counter {
+
+        private final FailureSignature signature;
+        private final LongAdder count = new LongAdder();
+        private final LongAccumulator firstRequestOrder = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator lastRequestOrder = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        private Counter(FailureSignature signature) {
+            this.signature = signature;
+        }
+
+        private void add(long requestOrder) {
+            count.increment();
+            firstRequestOrder.accumulate(requestOrder);
+            lastRequestOrder.accumulate(requestOrder);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.project.service.faillog;
+
+import com.project.model.LoadTestFailLog;
+import com.project.model.LoadTestFailSignature;
+import com.project.model.LoadTestFailSignatureSecond;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/*
+ * 실행 1회의 실패 유형별 집계 (writer 스레드에서만 갱신, flush() 이후 저장 시에만 다른 스레드가 읽음)
+ *
+ * 유형마다 건수, 처음/마지막 순번과 시각, 초당 실패 수, 원본 로그 표본(최대 exemplarsPerSignature건)을 유지합니다.
+ * 표본은 reservoir sampling(Algorithm R)으로 뽑아, 실패가 몇 건이든 실행 전 구간에서 고르게 남습니다.
+ */
+final class FailureAggregate {
+
+    private final long resultId;
+    private final int maxSignatures;
+    private final int exemplarsPerSignature;
+    private final Map<FailureSignature, SignatureStats> signatures = new LinkedHashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+
+    FailureAggregate(long resultId, int maxSignatures, int exemplarsPerSignature) {
+        this.resultId = resultId;
+        this.maxSignatures = Math.max(1, maxSignatures);
+        this.exemplarsPerSignature = Math.max(0, exemplarsPerSignature);
+    }
+
+    void add(LoadTestFailLog failLog) {
+        FailureSignature signature = FailureSignature.of(failLog.getHttpStatus(), failLog.getErrorType(), failLog.getErrorMsg());
+        SignatureStats stats = signatures.get(signature);
+        if (stats == null) {
+            // 메시지 템플릿이 계속 새로 생기는 경우(치환되지 않은 값이 섞인 메시지)에도 유형 수가 한도를 넘지 않도록
+            if (signatures.size() >= maxSignatures) {
+                signature = signature.withOtherTemplate();
+            }
+            stats = signatures.computeIfAbsent(signature, SignatureStats::new);
+        }
+        stats.add(failLog);
+    }
+
+    // 버퍼 초과로 누락된 실패 (유형 수 한도와 무관하게 상태 코드/예외 종류별 <dropped> 유형으로 합침)
+    void addDropped(FailureSignature signature, long count, long firstRequestOrder, long lastRequestOrder) {
+        signatures.computeIfAbsent(signature, SignatureStats::new).addDropped(count, firstRequestOrder, lastRequestOrder);
+    }
+
+    long failCount() {
+        long total = 0;
+        for (SignatureStats stats : signatures.values()) {
+            total += stats.count;
+        }
+        return total;
+    }
+
+    List<LoadTestFailSignature> signatureRows() {
+        List<LoadTestFailSignature> rows = new ArrayList<>(signatures.size());
+        for (SignatureStats stats : signatures.values()) {
+            rows.add(stats.toRow());
+        }
+        return rows;
+    }
+
+    List<LoadTestFailSignatureSecond> secondRows() {
+        List<LoadTestFailSignatureSecond> rows = new ArrayList<>();
+        for (SignatureStats stats : signatures.values()) {
+            stats.perSecond.forEach((second, count) ->
+                    rows.add(new LoadTestFailSignatureSecond(resultId, stats.hash, second, count[0])));
+        }
+        return rows;
+    }
+
+    List<LoadTestFailLog> exemplars() {
+        List<LoadTestFailLog> exemplars = new ArrayList<>();
+        for (SignatureStats stats : signatures.values()) {
+            exemplars.addAll(stats.reservoir);
+        }
+        return exemplars;
+    }
+
+    private final class SignatureStats {
+
+        private final FailureSignature signature;
+        private final long hash;
+        private final Map<LocalDateTime, long[]> perSecond = new HashMap<>();
+        private final List<LoadTestFailLog> reservoir = new ArrayList<>(exemplarsPerSignature);
+        private long count;
+        private long firstRequestOrder = Long.MAX_VALUE;
+        private long lastRequestOrder = Long.MIN_VALUE;
+        private LocalDateTime firstFailedAt;
+        private LocalDateTime lastFailedAt;
+
+        private SignatureStats(FailureSignature signature) {
+            this.signature = signature;
+            this.hash = signature.hash();
+        }
+
+        private void add(LoadTestFailLog failLog) {
+            count++;
+            firstRequestOrder = Math.min(firstRequestOrder, failLog.getRequestOrder());
+            lastRequestOrder = Math.max(lastRequestOrder, failLog.getRequestOrder());
+
+            LocalDateTime failedAt = failLog.getRequestTime();
+            if (failedAt != null) {
+                if (firstFailedAt == null || failedAt.isBefore(firstFailedAt)) {
+                    firstFailedAt = failedAt;
+                }
+                if (lastFailedAt == null || failedAt.isAfter(lastFailedAt)) {
+                    lastFailedAt = failedAt;
+                }
+                perSecond.computeIfAbsent(failedAt.truncatedTo(ChronoUnit.SECONDS), second -> new long[1])[0]++;
+            }
+
+            // Algorithm R: count번째 로그를 exemplarsPerSignature / count 확률로 표본에 넣음
+            if (reservoir.size() < exemplarsPerSignature) {
+                reservoir.add(exemplar(failLog));
+            } else if (exemplarsPerSignature > 0) {
+                long slot = random.nextLong(count);
+                if (slot < exemplarsPerSignature) {
+                    reservoir.set((int) slot, exemplar(failLog));
+                }
+            }
+        }
+
+        // 누락된 실패는 건수와 순번 범위만 반영 (시각/초당 실패 수/표본 없음)
+        private void addDropped(long droppedCount, long droppedFirstOrder, long droppedLastOrder) {
+            count += droppedCount;
+            firstRequestOrder = Math.min(firstRequestOrder, droppedFirstOrder);
+            lastRequestOrder = Math.max(lastRequestOrder, droppedLastOrder);
+        }
+
+        private LoadTestFailLog exemplar(LoadTestFailLog failLog) {
+            failLog.setSignatureHash(hash);
+            return failLog;
+        }
+
+        private LoadTestFailSignature toRow() {
+            LoadTestFailSignature row = new LoadTestFailSignature();
+            row.setResultId(resultId);
+            row.setSignatureHash(hash);
+            row.setHttpStatus(signature.httpStatus());
+            row.setErrorType(signature.errorType());
+            row.setMessageTemplate(signature.messageTemplate());
+            row.setFailCount(count);
+            row.setFirstRequestOrder(firstRequestOrder);
+            row.setLastRequestOrder(lastRequestOrder);
+            row.setFirstFailedAt(firstFailedAt);
+            row.setLastFailedAt(lastFailedAt);
+            return row;
+        }
+    }
+}
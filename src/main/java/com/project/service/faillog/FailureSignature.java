@@ -0,0 +1,74 @@
+package com.project.service.faillog;
+
+import java.util.regex.Pattern;
+
+/*
+ * 실패 유형: HTTP 상태 코드 + 예외 종류 + 메시지 템플릿.
+ *
+ * 같은 원인의 실패도 메시지에 순번/ID/주소/시간 값이 섞여 있어 문자열이 매번 다르므로,
+ * 값 자리를 치환한 템플릿으로 묶습니다. (예: "Connection refused: /10.0.0.7:8080" -> "Connection refused: /<ip>:<n>")
+ */
+record FailureSignature(int httpStatus, String errorType, String messageTemplate) {
+
+    static final int MAX_TEMPLATE_LENGTH = 200;
+    // 유형 수 한도를 넘은 뒤 새로 나타난 메시지는 상태 코드/예외 종류별로 이 템플릿에 합침
+    static final String OTHER_TEMPLATE = "<other>";
+    // 버퍼 초과로 유형 집계까지 가지 못한 실패는 메시지 없이 상태 코드/예외 종류별 이 템플릿으로 셈 (DroppedFailures)
+    static final String DROPPED_TEMPLATE = "<dropped>";
+
+    private static final Pattern UUID = Pattern.compile(
+            "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final Pattern IPV4 = Pattern.compile("\\b\\d{1,3}(?:\\.\\d{1,3}){3}\\b");
+    private static final Pattern HEX = Pattern.compile(
+            "\\b(?:0x)?(?=[0-9a-fA-F]*\\d)(?=[0-9a-fA-F]*[a-fA-F])[0-9a-fA-F]{8,}\\b");
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+
+    // JSON 숫자(double)로 내려도 값이 깨지지 않도록 53비트 양수로 자름
+    private static final long HASH_MASK = (1L << 53) - 1;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    static FailureSignature of(int httpStatus, String errorType, String errorMsg) {
+        return new FailureSignature(httpStatus, errorType, template(errorMsg));
+    }
+
+    static FailureSignature dropped(int httpStatus, String errorType) {
+        return new FailureSignature(httpStatus, errorType, DROPPED_TEMPLATE);
+    }
+
+    FailureSignature withOtherTemplate() {
+        return new FailureSignature(httpStatus, errorType, OTHER_TEMPLATE);
+    }
+
+    static String template(String errorMsg) {
+        if (errorMsg == null || errorMsg.isBlank()) {
+            return "";
+        }
+        String template = UUID.matcher(errorMsg).replaceAll("<uuid>");
+        template = IPV4.matcher(template).replaceAll("<ip>");
+        template = HEX.matcher(template).replaceAll("<hex>");
+        template = NUMBER.matcher(template).replaceAll("<n>");
+        template = template.strip();
+        return template.length() > MAX_TEMPLATE_LENGTH ? template.substring(0, MAX_TEMPLATE_LENGTH) : template;
+    }
+
+    // 상태 코드 + 예외 종류 + 템플릿의 64비트 FNV-1a 해시 (결과 안에서 유형을 구분하는 키)
+    long hash() {
+        long hash = FNV_OFFSET;
+        hash = mix(hash, Integer.toString(httpStatus));
+        hash = mix(hash, errorType == null ? "" : errorType);
+        hash = mix(hash, messageTemplate);
+        return hash & HASH_MASK;
+    }
+
+    private static long mix(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        // 구분자: ("1", "23")과 ("12", "3")이 같은 해시가 되지 않도록
+        hash ^= 0xff;
+        hash *= FNV_PRIME;
+        return hash;
+    }
+}
@@ -0,0 +1,53 @@
+package com.project.service.faillog;
+
+import com.project.model.LoadTestFailLog;
+import com.project.model.LoadTestFailSignature;
+import com.project.model.LoadTestFailSignatureSecond;
+import com.project.repository.LoadTestFailLogRepository;
+import com.project.repository.LoadTestFailSignatureRepository;
+import com.project.service.dto.FailLogPage;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/*
+ * 실패 유형별 집계 조회.
+ * 유형 목록(많은 순) -> 유형별 초당 실패 수 -> 유형별 원본 로그 표본 순으로 좁혀 보도록 나눠서 제공합니다.
+ * 표본 로그는 id 기준 keyset 페이지로 조회하므로 페이지가 깊어져도 OFFSET 스캔 비용이 늘지 않습니다.
+ */
+@Service
+public class FailureSignatureService {
+
+    static final int MAX_PAGE_SIZE = 1_000;
+
+    private final LoadTestFailSignatureRepository failSignatureRepository;
+    private final LoadTestFailLogRepository failLogRepository;
+
+    public FailureSignatureService(LoadTestFailSignatureRepository failSignatureRepository,
+                                   LoadTestFailLogRepository failLogRepository) {
+        this.failSignatureRepository = failSignatureRepository;
+        this.failLogRepository = failLogRepository;
+    }
+
+    public List<LoadTestFailSignature> getSignatures(long resultId) {
+        return failSignatureRepository.selectSignaturesByResultId(resultId);
+    }
+
+    public List<LoadTestFailSignatureSecond> getSignatureSeconds(long resultId, long signatureHash) {
+        return failSignatureRepository.selectSecondsBySignature(resultId, signatureHash);
+    }
+
+    // signatureHash가 null이면 모든 유형의 표본, afterId가 null이면 첫 페이지
+    public FailLogPage getExemplars(long resultId, Long signatureHash, Long afterId, int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE + ": " + limit);
+        }
+        // 한 건 더 읽어서 다음 페이지 유무를 판단
+        List<LoadTestFailLog> rows = failLogRepository.selectFailLogPage(resultId, signatureHash, afterId, limit + 1);
+        if (rows.size() <= limit) {
+            return new FailLogPage(rows, null);
+        }
+        List<LoadTestFailLog> page = rows.subList(0, limit);
+        return new FailLogPage(List.copyOf(page), page.get(limit - 1).getId());
+    }
+}
@@ -0,0 +1,90 @@
+package com.project.service.feed;
+
+import io.netty.buffer.ByteBuf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * CSV 행 디코더: 쉼표 구분, 큰따옴표로 감싼 필드("a,b", "say ""hi""")를 지원합니다. (필드 안 줄바꿈은 미지원)
+ * 행을 앞에서부터 훑으며 템플릿에서 쓰는 컬럼만 String으로 만들고, 마지막으로 필요한 컬럼 뒤는 읽지 않습니다.
+ */
+final class CsvRowDecoder implements RowDecoder {
+
+    private static final int UNUSED = -1;
+
+    private final int[] slotByColumn;   // 컬럼 번호 -> 변수 슬롯 (템플릿에서 안 쓰면 UNUSED)
+    private final int lastColumn;
+
+    private CsvRowDecoder(int[] slotByColumn, int lastColumn) {
+        this.slotByColumn = slotByColumn;
+        this.lastColumn = lastColumn;
+    }
+
+    static CsvRowDecoder bind(List<String> columns, Map<String, Integer> slotsByName) {
+        int[] slotByColumn = new int[columns.size()];
+        Arrays.fill(slotByColumn, UNUSED);
+        int lastColumn = UNUSED;
+        for (int column = 0; column < columns.size(); column++) {
+            Integer slot = slotsByName.get(columns.get(column));
+            if (slot != null) {
+                slotByColumn[column] = slot;
+                lastColumn = column;
+            }
+        }
+        return new CsvRowDecoder(slotByColumn, lastColumn);
+    }
+
+    static List<String> parseHeader(ByteBuf row, int start, int end) {
+        List<String> columns = new ArrayList<>();
+        int pos = start;
+        while (pos <= end) {
+            int fieldEnd = fieldEnd(row, pos, end);
+            columns.add(field(row, pos, fieldEnd).trim());
+            pos = fieldEnd + 1;
+        }
+        return columns;
+    }
+
+    @Override
+    public void decode(ByteBuf row, int start, int end, String[] values) {
+        int pos = start;
+        for (int column = 0; column <= lastColumn && pos <= end; column++) {
+            int fieldEnd = fieldEnd(row, pos, end);
+            if (slotByColumn[column] != UNUSED) {
+                values[slotByColumn[column]] = field(row, pos, fieldEnd);
+            }
+            pos = fieldEnd + 1;
+        }
+    }
+
+    // pos에서 시작하는 필드의 끝(구분 쉼표 위치 또는 행 끝)
+    private static int fieldEnd(ByteBuf row, int pos, int end) {
+        if (pos < end && row.getByte(pos) == '"') {
+            int i = pos + 1;
+            while (i < end) {
+                if (row.getByte(i) == '"') {
+                    if (i + 1 < end && row.getByte(i + 1) == '"') {
+                        i += 2;
+                        continue;
+                    }
+                    break;
+                }
+                i++;
+            }
+            pos = Math.min(i + 1, end);
+        }
+        int comma = row.indexOf(pos, end, (byte) ',');
+        return comma < 0 ? end : comma;
+    }
+
+    private static String field(ByteBuf row, int start, int end) {
+        if (end - start >= 2 && row.getByte(start) == '"' && row.getByte(end - 1) == '"') {
+            String quoted = DataFeed.utf8(row, start + 1, end - 1);
+            return quoted.indexOf('"') < 0 ? quoted : quoted.replace("\"\"", "\"");
+        }
+        return DataFeed.utf8(row, start, end);
+    }
+}
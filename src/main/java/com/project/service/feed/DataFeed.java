@@ -0,0 +1,257 @@
+package com.project.service.feed;
+
+import com.project.model.DataFeedMode;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 요청 파라미터용 데이터 피드 파일 (CSV: 첫 줄이 컬럼명 / JSONL: 한 줄에 JSON 객체 하나).
+ *
+ * 수백만 행짜리 파일을 힙에 올리지 않도록 파일은 읽기 전용으로 메모리 매핑(mmap)하고,
+ * 열 때 한 번 훑어 각 행의 시작 위치(long)만 off-heap(direct) 인덱스에 적어 둡니다.
+ * 요청마다 행 번호 -> 시작 위치 -> 필요한 컬럼만 String으로 디코딩하므로, 힙에는 치환에 쓰는 값만 잠깐 생깁니다.
+ *
+ * 행 선택은 락 없이 처리합니다.
+ *  - SEQUENTIAL / UNIQUE: AtomicLong 커서 하나를 getAndIncrement (공유 Iterator처럼 워커가 줄 서지 않음)
+ *    UNIQUE를 여러 노드가 나눠 쓸 때(분산 실행)는 partition()으로 행을 번갈아 나눠 노드끼리 같은 행을 쓰지 않게 함
+ *  - RANDOM: 스레드별 ThreadLocalRandom
+ * 매핑/인덱스는 만든 뒤 바뀌지 않고 절대 위치로만 읽으므로 여러 스레드가 동시에 읽어도 안전합니다.
+ * (표준 API에 unmap이 없어 매핑과 인덱스는 실행이 끝나 피드 객체가 GC될 때 해제됩니다)
+ */
+public final class DataFeed {
+
+    // 매핑 하나의 최대 크기 (MappedByteBuffer는 int 인덱스): 큰 파일은 줄 경계에서 여러 조각으로 나눠 매핑
+    static final long MAX_SEGMENT_BYTES = Integer.MAX_VALUE;
+
+    private static final long EXHAUSTED = -1L;
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final Path path;
+    private final DataFeedMode mode;
+    private final boolean jsonLines;
+    private final List<String> columns;   // CSV 헤더 (JSONL은 비어 있음)
+    private final ByteBuf[] segments;
+    private final long[] segmentStarts;   // 조각별 파일 내 시작 위치
+    private final ByteBuffer rowOffsets;  // 행마다 파일 내 시작 위치 (direct, long)
+    private final long rowCount;
+    private final int partition;          // UNIQUE: 행 번호 % partitionCount == partition인 행만 사용
+    private final int partitionCount;
+    private final AtomicLong cursor = new AtomicLong();
+
+    private DataFeed(Path path, DataFeedMode mode, boolean jsonLines, List<String> columns,
+                     ByteBuf[] segments, long[] segmentStarts, ByteBuffer rowOffsets, long rowCount,
+                     int partition, int partitionCount) {
+        this.path = path;
+        this.mode = mode;
+        this.jsonLines = jsonLines;
+        this.columns = columns;
+        this.segments = segments;
+        this.segmentStarts = segmentStarts;
+        this.rowOffsets = rowOffsets;
+        this.rowCount = rowCount;
+        this.partition = partition;
+        this.partitionCount = partitionCount;
+    }
+
+    // 확장자로 형식 판단: .jsonl / .ndjson은 JSONL, 그 외는 CSV
+    public static DataFeed open(Path path, DataFeedMode mode) {
+        return open(path, mode, MAX_SEGMENT_BYTES);
+    }
+
+    static DataFeed open(Path path, DataFeedMode mode, long maxSegmentBytes) {
+        String fileName = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        boolean jsonLines = fileName.endsWith(".jsonl") || fileName.endsWith(".ndjson");
+
+        List<MappedByteBuffer> mapped = new ArrayList<>();
+        List<Long> starts = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 채널을 닫아도 매핑은 GC될 때까지 유효
+            long size = channel.size();
+            long start = 0;
+            while (start < size) {
+                long length = Math.min(maxSegmentBytes, size - start);
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+                if (start + length < size) {
+                    length = lastLineEnd(segment, (int) length);
+                    if (length == 0) {
+                        throw new IllegalArgumentException("Data feed row longer than " + maxSegmentBytes + " bytes: " + path);
+                    }
+                    segment = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+                }
+                mapped.add(segment);
+                starts.add(start);
+                start += length;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open data feed: " + path, e);
+        }
+
+        ByteBuf[] segments = new ByteBuf[mapped.size()];
+        long[] segmentStarts = new long[mapped.size()];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = Unpooled.wrappedBuffer(mapped.get(i));
+            segmentStarts[i] = starts.get(i);
+        }
+
+        // 1차: 행 수만 세서 인덱스 크기를 정확히 잡고, 2차: 시작 위치 기록
+        List<String> columns = List.of();
+        long headerEnd = 0;
+        if (!jsonLines && segments.length > 0) {
+            // 엑셀 등에서 저장한 UTF-8 BOM은 첫 컬럼명에 섞이지 않도록 건너뜀
+            int headerStart = hasUtf8Bom(segments[0]) ? UTF8_BOM.length : 0;
+            int lineEnd = lineEnd(segments[0], headerStart);
+            columns = CsvRowDecoder.parseHeader(segments[0], headerStart, trimCarriageReturn(segments[0], headerStart, lineEnd));
+            headerEnd = Math.min(lineEnd + 1L, segments[0].writerIndex());
+        }
+        long rowCount = scanRows(segments, segmentStarts, headerEnd, null);
+        if (rowCount == 0) {
+            throw new IllegalArgumentException("Data feed has no rows: " + path);
+        }
+        if (rowCount > Integer.MAX_VALUE / Long.BYTES) {
+            throw new IllegalArgumentException("Data feed has too many rows (" + rowCount + "): " + path);
+        }
+        ByteBuffer rowOffsets = ByteBuffer.allocateDirect(Math.toIntExact(rowCount * Long.BYTES)).order(ByteOrder.nativeOrder());
+        scanRows(segments, segmentStarts, headerEnd, rowOffsets);
+
+        return new DataFeed(path, mode, jsonLines, columns, segments, segmentStarts, rowOffsets, rowCount, 0, 1);
+    }
+
+    // 같은 매핑/인덱스를 쓰면서 UNIQUE 행을 partitionCount개로 번갈아 나눈 중 partition번째만 쓰는 피드 (SEQUENTIAL/RANDOM은 그대로)
+    public DataFeed partition(int partition, int partitionCount) {
+        if (partitionCount <= 0 || partition < 0 || partition >= partitionCount) {
+            throw new IllegalArgumentException("Invalid data feed partition " + partition + " of " + partitionCount);
+        }
+        return new DataFeed(path, mode, jsonLines, columns, segments, segmentStarts, rowOffsets, rowCount,
+                partition, partitionCount);
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public long rowCount() {
+        return rowCount;
+    }
+
+    public List<String> columns() {
+        return columns;
+    }
+
+    // 템플릿 변수(slotsByName) 중 피드에서 채울 수 있는 것만 연결 (CSV: 같은 이름의 컬럼 / JSONL: $.변수명 필드)
+    public FeedBinding bind(Map<String, Integer> slotsByName) {
+        RowDecoder decoder = jsonLines
+                ? JsonLineRowDecoder.bind(slotsByName)
+                : CsvRowDecoder.bind(columns, slotsByName);
+        return new FeedBinding(this, decoder);
+    }
+
+    // 다음에 쓸 행 번호 (UNIQUE 모드에서 모두 소진되면 -1)
+    long nextRow() {
+        return switch (mode) {
+            case SEQUENTIAL -> Long.remainderUnsigned(cursor.getAndIncrement(), rowCount);
+            case RANDOM -> ThreadLocalRandom.current().nextLong(rowCount);
+            case UNIQUE -> {
+                long row = partition + cursor.getAndIncrement() * partitionCount;
+                yield row < rowCount ? row : EXHAUSTED;
+            }
+        };
+    }
+
+    // 행 하나를 decoder로 values에 채움
+    void read(long row, RowDecoder decoder, String[] values) {
+        long offset = rowOffsets.getLong(Math.toIntExact(row * Long.BYTES));
+        int segmentIndex = segmentOf(offset);
+        ByteBuf segment = segments[segmentIndex];
+        int start = (int) (offset - segmentStarts[segmentIndex]);
+        int end = trimCarriageReturn(segment, start, lineEnd(segment, start));
+        decoder.decode(segment, start, end, values);
+    }
+
+    private int segmentOf(long offset) {
+        int low = 0;
+        int high = segmentStarts.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (segmentStarts[mid] <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    // 빈 줄은 건너뜀. rowOffsets가 null이면 세기만 함
+    private static long scanRows(ByteBuf[] segments, long[] segmentStarts, long headerEnd, ByteBuffer rowOffsets) {
+        long rows = 0;
+        for (int s = 0; s < segments.length; s++) {
+            ByteBuf segment = segments[s];
+            int limit = segment.writerIndex();
+            int pos = s == 0 ? (int) headerEnd : 0;
+            while (pos < limit) {
+                int end = lineEnd(segment, pos);
+                if (trimCarriageReturn(segment, pos, end) > pos) {
+                    if (rowOffsets != null) {
+                        rowOffsets.putLong(segmentStarts[s] + pos);
+                    }
+                    rows++;
+                }
+                pos = end + 1;
+            }
+        }
+        return rows;
+    }
+
+    // pos부터 다음 '\n' 위치 (없으면 조각 끝)
+    private static int lineEnd(ByteBuf segment, int pos) {
+        int newline = segment.indexOf(pos, segment.writerIndex(), (byte) '\n');
+        return newline < 0 ? segment.writerIndex() : newline;
+    }
+
+    private static int trimCarriageReturn(ByteBuf segment, int start, int end) {
+        return end > start && segment.getByte(end - 1) == '\r' ? end - 1 : end;
+    }
+
+    private static boolean hasUtf8Bom(ByteBuf segment) {
+        if (segment.writerIndex() < UTF8_BOM.length) {
+            return false;
+        }
+        for (int i = 0; i < UTF8_BOM.length; i++) {
+            if (segment.getByte(i) != UTF8_BOM[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 매핑 조각 안에서 마지막 줄바꿈 다음 위치 (조각이 줄 중간에서 끊기지 않도록)
+    private static long lastLineEnd(MappedByteBuffer segment, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (segment.get(i) == '\n') {
+                return i + 1L;
+            }
+        }
+        return 0L;
+    }
+
+    // 피드 바이트 구간 -> 문자열 (direct 버퍼라 스레드별 임시 배열을 거쳐 한 번만 복사)
+    static String utf8(ByteBuf segment, int start, int end) {
+        return segment.toString(start, end - start, StandardCharsets.UTF_8);
+    }
+}
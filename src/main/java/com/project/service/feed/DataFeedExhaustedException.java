@@ -0,0 +1,13 @@
+package com.project.service.feed;
+
+import java.nio.file.Path;
+
+// UNIQUE 피드의 행을 모두 사용함: 실행 엔진은 이 예외를 받으면 남은 발송을 건너뜀
+public class DataFeedExhaustedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DataFeedExhaustedException(Path path, long rowCount) {
+        super("Data feed exhausted (" + rowCount + " rows): " + path);
+    }
+}
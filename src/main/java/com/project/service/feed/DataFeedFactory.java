@@ -0,0 +1,38 @@
+package com.project.service.feed;
+
+import com.project.config.DataFeedProperties;
+import com.project.model.LoadTestScenario;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// 시나리오의 dataFeedPath를 피드 디렉터리 안에서 해석해 실행 1회용 DataFeed를 엽니다.
+@Component
+public class DataFeedFactory {
+
+    private final Path baseDir;
+
+    public DataFeedFactory(DataFeedProperties properties) {
+        this.baseDir = Path.of(properties.baseDir()).toAbsolutePath().normalize();
+    }
+
+    public DataFeed open(LoadTestScenario scenario) {
+        DataFeed feed = DataFeed.open(resolve(scenario.getDataFeedPath()), scenario.getDataFeedMode());
+        // 분산 실행의 워커 몫: 다른 워커와 같은 UNIQUE 행을 쓰지 않도록 나눈 행만 사용
+        return scenario.getDataFeedPartitionCount() > 1
+                ? feed.partition(scenario.getDataFeedPartition(), scenario.getDataFeedPartitionCount())
+                : feed;
+    }
+
+    Path resolve(String dataFeedPath) {
+        Path path = baseDir.resolve(dataFeedPath).normalize();
+        if (!path.startsWith(baseDir)) {
+            throw new IllegalArgumentException("Data feed path must be inside " + baseDir + ": " + dataFeedPath);
+        }
+        if (!Files.isRegularFile(path)) {
+            throw new IllegalArgumentException("Data feed file not found: " + dataFeedPath);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,25 @@
+package com.project.service.feed;
+
+/*
+ * 데이터 피드와 템플릿 변수 슬롯의 연결.
+ * 요청(여정)마다 fill()로 다음 행을 골라 연결된 변수 값만 채웁니다.
+ */
+public final class FeedBinding {
+
+    private final DataFeed feed;
+    private final RowDecoder decoder;
+
+    FeedBinding(DataFeed feed, RowDecoder decoder) {
+        this.feed = feed;
+        this.decoder = decoder;
+    }
+
+    // UNIQUE 피드가 모두 소진되면 DataFeedExhaustedException
+    public void fill(String[] values) {
+        long row = feed.nextRow();
+        if (row < 0) {
+            throw new DataFeedExhaustedException(feed.path(), feed.rowCount());
+        }
+        feed.read(row, decoder, values);
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.service.feed;
+
+import com.project.service.journey.JsonPathExtractor;
+import io.netty.buffer.ByteBuf;
+
+import java.util.Map;
+
+/*
+ * JSONL 행 디코더: 변수 user.id -> $.user.id 경로로 행 JSON에서 값을 꺼냄.
+ * 응답 값 추출과 같은 바이트 스캐너를 쓰므로 행 전체를 JSON 트리로 만들지 않습니다.
+ */
+final class JsonLineRowDecoder implements RowDecoder {
+
+    private final JsonPathExtractor[] paths;
+    private final int[] slots;
+
+    private JsonLineRowDecoder(JsonPathExtractor[] paths, int[] slots) {
+        this.paths = paths;
+        this.slots = slots;
+    }
+
+    static JsonLineRowDecoder bind(Map<String, Integer> slotsByName) {
+        JsonPathExtractor[] paths = new JsonPathExtractor[slotsByName.size()];
+        int[] slots = new int[slotsByName.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : slotsByName.entrySet()) {
+            paths[i] = JsonPathExtractor.compile("$." + entry.getKey());
+            slots[i] = entry.getValue();
+            i++;
+        }
+        return new JsonLineRowDecoder(paths, slots);
+    }
+
+    @Override
+    public void decode(ByteBuf row, int start, int end, String[] values) {
+        // slice는 인덱스만 별도인 뷰 (복사 없음)
+        ByteBuf line = row.slice(start, end - start);
+        for (int i = 0; i < paths.length; i++) {
+            String value = paths[i].extract(line);
+            if (value != null) {
+                values[slots[i]] = value;
+            }
+        }
+    }
+}
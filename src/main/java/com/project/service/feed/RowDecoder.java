@@ -0,0 +1,9 @@
+package com.project.service.feed;
+
+import io.netty.buffer.ByteBuf;
+
+// 피드 한 행([start, end) 바이트)에서 연결된 변수 값만 꺼내 values의 해당 슬롯에 채움
+interface RowDecoder {
+
+    void decode(ByteBuf row, int start, int end, String[] values);
+}
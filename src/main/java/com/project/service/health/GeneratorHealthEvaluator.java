@@ -0,0 +1,74 @@
+package com.project.service.health;
+
+import com.project.config.GeneratorHealthProperties;
+import com.project.model.GeneratorSaturation;
+import com.project.model.LoadTestGeneratorHealth;
+import com.project.service.dto.GeneratorHealth;
+import com.project.service.dto.TestStats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 생성기 상태 샘플과 최종 집계로 결과를 믿을 수 있는지 판정합니다.
+ * CPU/GC/pinning은 샘플러가 모은 구간 샘플로, 발송 지연/풀 대기는 최종 집계(TestStats)로 판단합니다.
+ * accept()는 샘플러 스레드에서만 호출되고, assess()는 샘플링이 끝난 뒤(세션 close 후)에 호출합니다.
+ */
+public final class GeneratorHealthEvaluator {
+
+    private final GeneratorHealthProperties properties;
+
+    private long cpuSamples;
+    private long saturatedSamples;
+    private double cpuLoadSum;
+    private Double peakCpuLoad;
+    private long gcPauseMs;
+    private long measuredMs;
+    private Long pinnedCount;
+
+    public GeneratorHealthEvaluator(GeneratorHealthProperties properties) {
+        this.properties = properties;
+    }
+
+    public void accept(LoadTestGeneratorHealth sample) {
+        measuredMs += sample.getIntervalMs();
+        gcPauseMs += sample.getGcPauseMs();
+        // CPU 사용률을 얻지 못한 플랫폼이면 CPU 판정 없음
+        Double cpuLoad = sample.getProcessCpuLoad();
+        if (cpuLoad != null) {
+            cpuSamples++;
+            cpuLoadSum += cpuLoad;
+            peakCpuLoad = peakCpuLoad == null ? cpuLoad : Math.max(peakCpuLoad, cpuLoad);
+            if (cpuLoad >= properties.maxProcessCpuLoad()) {
+                saturatedSamples++;
+            }
+        }
+        if (sample.getPinnedCount() != null) {
+            pinnedCount = (pinnedCount == null ? 0L : pinnedCount) + sample.getPinnedCount();
+        }
+    }
+
+    public GeneratorHealth assess(TestStats stats) {
+        List<GeneratorSaturation> reasons = new ArrayList<>();
+        if (cpuSamples > 0 && (double) saturatedSamples / cpuSamples > properties.maxSaturatedSampleRatio()) {
+            reasons.add(GeneratorSaturation.CPU_SATURATED);
+        }
+        if (measuredMs > 0 && (double) gcPauseMs / measuredMs > properties.maxGcPauseRatio()) {
+            reasons.add(GeneratorSaturation.GC_PAUSES);
+        }
+        if (pinnedCount != null && pinnedCount > properties.maxPinnedEvents()) {
+            reasons.add(GeneratorSaturation.CARRIER_PINNING);
+        }
+        // 발송 시도 = 발송한 요청 + 동시 처리 한도로 건너뛴 요청 (closed model은 늦은 발송이 없음)
+        long dispatches = stats.totalRequests() + stats.missedDispatches();
+        if (dispatches > 0 && (double) stats.lateDispatches() / dispatches > properties.maxLateDispatchRatio()) {
+            reasons.add(GeneratorSaturation.DISPATCH_LAG);
+        }
+        if (stats.poolAcquireWait().p99Us() > properties.maxPoolAcquireP99Ms() * 1_000L) {
+            reasons.add(GeneratorSaturation.POOL_EXHAUSTED);
+        }
+
+        Double avgCpuLoad = cpuSamples > 0 ? cpuLoadSum / cpuSamples : null;
+        return new GeneratorHealth(peakCpuLoad, avgCpuLoad, gcPauseMs, pinnedCount, List.copyOf(reasons));
+    }
+}
@@ -0,0 +1,245 @@
+package com.project.service.health;
+
+import com.project.config.GeneratorHealthProperties;
+import com.project.model.LoadTestGeneratorHealth;
+import com.project.repository.LoadTestGeneratorHealthRepository;
+import com.project.service.dto.GeneratorHealth;
+import com.project.service.dto.TestStats;
+import com.project.service.metrics.LoadTestMetricsCollector;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.OperatingSystemMXBean;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * 부하 생성기 자체 상태 감시.
+ *
+ * 기존 방식:
+ * 생성기 CPU가 포화되거나 GC 정지, carrier 스레드 pinning이 생기면 요청 발송/응답 처리가 밀리는데,
+ * TestStats는 이 지연을 대상 서버의 응답 시간처럼 그대로 보고했습니다.
+ *
+ * 변경 방식:
+ * 실행마다 sampleIntervalMs 주기로 프로세스 CPU, GC 정지 시간(JMX), 가상 스레드 pinning(JFR), 발송 지연을 샘플링해
+ * 실행 종료 시 load_test_generator_health에 저장하고, 한도를 넘은 항목을 결과의 untrustworthy 사유로 남깁니다.
+ * JFR 이벤트는 JVM 전체 기준이라 동시에 여러 실행이 돌면 pinning 이벤트는 모든 실행에 함께 집계됩니다.
+ */
+@Slf4j
+@Component
+public class GeneratorHealthMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final LoadTestGeneratorHealthRepository healthRepository;
+    private final GeneratorHealthProperties properties;
+    private final Clock clock;
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("generator-health-sampler").daemon(true).factory());
+
+    private final OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    // 동시 수집(concurrent cycle) 시간은 애플리케이션을 멈추지 않으므로 정지 시간 합에서 제외
+    private final List<GarbageCollectorMXBean> pauseCollectors = ManagementFactory.getGarbageCollectorMXBeans().stream()
+            .filter(collector -> !collector.getName().contains("Concurrent") && !collector.getName().contains("Cycles"))
+            .toList();
+
+    public GeneratorHealthMonitor(LoadTestGeneratorHealthRepository healthRepository,
+                                  GeneratorHealthProperties properties, Clock clock) {
+        this.healthRepository = healthRepository;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    // 실행 시작 시 호출: 반환된 세션을 close()하면 마지막 샘플을 남기고 저장, 이후 assess()로 판정
+    public Session start(long resultId, LoadTestMetricsCollector metricsCollector) {
+        Session session = new Session(resultId, metricsCollector, openPinningStream());
+        long intervalMs = Math.max(1L, properties.sampleIntervalMs());
+        session.future = sampler.scheduleAtFixedRate(session::sample, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        return session;
+    }
+
+    public List<LoadTestGeneratorHealth> getSamples(long resultId) {
+        return healthRepository.selectHealthByResultId(resultId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sampler.shutdownNow();
+    }
+
+    private PinningStream openPinningStream() {
+        if (!properties.pinningDetectionEnabled()) {
+            return null;
+        }
+        try {
+            RecordingStream stream = new RecordingStream();
+            PinningStream pinning = new PinningStream(stream);
+            stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(properties.pinnedThresholdMs()));
+            stream.onEvent(PINNED_EVENT, event -> pinning.record(event.getDuration().toNanos()));
+            stream.startAsync();
+            return pinning;
+        } catch (RuntimeException e) {
+            // JFR을 쓸 수 없는 JVM: pinning 판정 없이 진행
+            log.warn("JFR pinning detection unavailable: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private long totalGcPauseMs() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : pauseCollectors) {
+            total += Math.max(0L, collector.getCollectionTime());
+        }
+        return total;
+    }
+
+    private long totalGcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : pauseCollectors) {
+            total += Math.max(0L, collector.getCollectionCount());
+        }
+        return total;
+    }
+
+    // 0~1 범위 CPU 사용률 (플랫폼이 지원하지 않거나 아직 값이 없으면 null)
+    private static Double cpuLoad(double load) {
+        return load >= 0.0 ? load : null;
+    }
+
+    // JFR 스트림 스레드가 기록하고 샘플러 스레드가 구간마다 가져감
+    private static final class PinningStream {
+        private final RecordingStream stream;
+        private final LongAdder count = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0L);
+
+        private PinningStream(RecordingStream stream) {
+            this.stream = stream;
+        }
+
+        private void record(long durationNanos) {
+            count.increment();
+            maxNanos.accumulate(durationNanos);
+        }
+
+        // 스트림을 멈추기 전에 이미 기록된 이벤트까지 전달받은 뒤 닫음
+        private void close() {
+            try {
+                stream.stop();
+            } catch (RuntimeException e) {
+                log.debug("Failed to stop JFR stream", e);
+            } finally {
+                stream.close();
+            }
+        }
+    }
+
+    public final class Session implements AutoCloseable {
+
+        private final long resultId;
+        private final LoadTestMetricsCollector metricsCollector;
+        private final PinningStream pinning;
+        private final GeneratorHealthEvaluator evaluator = new GeneratorHealthEvaluator(properties);
+        private final List<LoadTestGeneratorHealth> samples = new ArrayList<>();
+        private final long startNanos = System.nanoTime();
+        private volatile ScheduledFuture<?> future;
+
+        // 아래 필드는 샘플러 스레드에서만 사용
+        private long sequence;
+        private long lastSampleNanos = startNanos;
+        private long lastGcPauseMs = totalGcPauseMs();
+        private long lastGcCount = totalGcCount();
+
+        private Session(long resultId, LoadTestMetricsCollector metricsCollector, PinningStream pinning) {
+            this.resultId = resultId;
+            this.metricsCollector = metricsCollector;
+            this.pinning = pinning;
+        }
+
+        private void sample() {
+            try {
+                long nowNanos = System.nanoTime();
+                long gcPauseMs = totalGcPauseMs();
+                long gcCount = totalGcCount();
+
+                LoadTestGeneratorHealth sample = new LoadTestGeneratorHealth();
+                sample.setResultId(resultId);
+                sample.setSampleSeq(sequence++);
+                sample.setElapsedMs(TimeUnit.NANOSECONDS.toMillis(nowNanos - startNanos));
+                sample.setIntervalMs(TimeUnit.NANOSECONDS.toMillis(nowNanos - lastSampleNanos));
+                if (operatingSystem instanceof com.sun.management.OperatingSystemMXBean os) {
+                    sample.setProcessCpuLoad(cpuLoad(os.getProcessCpuLoad()));
+                    sample.setSystemCpuLoad(cpuLoad(os.getCpuLoad()));
+                }
+                sample.setGcPauseMs(gcPauseMs - lastGcPauseMs);
+                sample.setGcCount(gcCount - lastGcCount);
+                sample.setHeapUsedBytes(memory.getHeapMemoryUsage().getUsed());
+                if (pinning != null) {
+                    sample.setPinnedCount(pinning.count.sumThenReset());
+                    sample.setMaxPinnedUs(pinning.maxNanos.getThenReset() / 1_000L);
+                }
+                sample.setMaxDispatchLagUs(metricsCollector.takeMaxDispatchLagUs());
+                sample.setRecordedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(clock.millis()), clock.getZone()));
+
+                lastSampleNanos = nowNanos;
+                lastGcPauseMs = gcPauseMs;
+                lastGcCount = gcCount;
+                samples.add(sample);
+                evaluator.accept(sample);
+            } catch (RuntimeException e) {
+                // 예외가 나가면 scheduleAtFixedRate가 이후 실행을 멈추므로 여기서 삼킴
+                log.warn("Failed to sample generator health. resultId={}", resultId, e);
+            }
+        }
+
+        // 샘플과 최종 집계로 판정 (close() 이후 호출)
+        public GeneratorHealth assess(TestStats stats) {
+            return evaluator.assess(stats);
+        }
+
+        @Override
+        public void close() {
+            future.cancel(false);
+            if (pinning != null) {
+                pinning.close();
+            }
+            try {
+                // 마지막(부분) 샘플을 샘플러 스레드에서 남겨 진행 중인 샘플과 겹치지 않게 함
+                sampler.submit(this::sample).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                log.warn("Failed to take final generator health sample. resultId={}", resultId, e.getCause());
+            }
+            save();
+        }
+
+        private void save() {
+            try {
+                for (int from = 0; from < samples.size(); from += INSERT_BATCH_SIZE) {
+                    healthRepository.insertHealthBatch(samples.subList(from, Math.min(from + INSERT_BATCH_SIZE, samples.size())));
+                }
+            } catch (Exception e) {
+                // 상태 샘플 저장 실패가 실행 결과 저장을 막지 않도록 로그만 남김
+                log.error("Failed to save {} generator health samples. resultId={}", samples.size(), resultId, e);
+            }
+        }
+    }
+}
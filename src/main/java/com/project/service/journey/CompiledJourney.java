@@ -0,0 +1,71 @@
+package com.project.service.journey;
+
+import com.project.model.LoadTestScenarioStep;
+import com.project.service.feed.DataFeed;
+import com.project.service.feed.FeedBinding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 시나리오 단계 목록을 실행 1회당 한 번 해석한 여정.
+ * 단계 사이에 주고받는 변수는 이름이 아니라 슬롯 번호로 접근하므로, 여정마다 String[] 하나만 만들면 됩니다.
+ * 데이터 피드가 있으면 여정을 시작할 때 피드의 한 행으로 같은 이름의 변수를 미리 채웁니다.
+ */
+public final class CompiledJourney implements AutoCloseable {
+
+    private final List<CompiledStep> steps;
+    private final int variableCount;
+    private final FeedBinding feedBinding;  // 데이터 피드가 없으면 null
+
+    private CompiledJourney(List<CompiledStep> steps, int variableCount, FeedBinding feedBinding) {
+        this.steps = steps;
+        this.variableCount = variableCount;
+        this.feedBinding = feedBinding;
+    }
+
+    public static CompiledJourney compile(List<LoadTestScenarioStep> scenarioSteps) {
+        return compile(scenarioSteps, null);
+    }
+
+    public static CompiledJourney compile(List<LoadTestScenarioStep> scenarioSteps, DataFeed dataFeed) {
+        Map<String, Integer> slotsByName = new HashMap<>();
+        List<CompiledStep> steps = new ArrayList<>(scenarioSteps.size());
+        try {
+            for (int i = 0; i < scenarioSteps.size(); i++) {
+                steps.add(CompiledStep.compile(i, scenarioSteps.get(i), slotsByName));
+            }
+        } catch (RuntimeException e) {
+            // 앞 단계에서 인코딩해 둔 본문 버퍼 해제
+            steps.forEach(CompiledStep::close);
+            throw e;
+        }
+        FeedBinding feedBinding = dataFeed != null ? dataFeed.bind(slotsByName) : null;
+        return new CompiledJourney(Collections.unmodifiableList(steps), slotsByName.size(), feedBinding);
+    }
+
+    public List<CompiledStep> steps() {
+        return steps;
+    }
+
+    public List<String> stepNames() {
+        return steps.stream().map(CompiledStep::name).toList();
+    }
+
+    // 여정(가상 사용자 1회 방문)마다 새 변수 저장소 (UNIQUE 피드가 소진되면 DataFeedExhaustedException)
+    String[] newVariables() {
+        String[] values = new String[variableCount];
+        if (feedBinding != null) {
+            feedBinding.fill(values);
+        }
+        return values;
+    }
+
+    @Override
+    public void close() {
+        steps.forEach(CompiledStep::close);
+    }
+}
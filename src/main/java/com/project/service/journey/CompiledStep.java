@@ -0,0 +1,168 @@
+package com.project.service.journey;
+
+import com.project.model.LoadTestScenarioStep;
+import com.project.service.client.RequestTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * 실행 전에 한 번 해석해 둔 여정 단계.
+ * 변수가 없는 단계는 단일 요청 시나리오와 같이 미리 인코딩한 RequestTemplate을 재사용하고,
+ * 변수가 있는 단계만 요청마다 URL/본문/헤더를 치환합니다.
+ */
+public final class CompiledStep implements AutoCloseable {
+
+    // 응답 값 추출 규칙 하나 (jsonPath 또는 headerName 중 하나만 사용)
+    record Extraction(String variable, int slot, JsonPathExtractor jsonPath, String headerName) {
+    }
+
+    private static final String HEADER_PREFIX = "header:";
+
+    private final int index;
+    private final String name;
+    private final int weight;
+    private final Duration thinkTime;
+    private final HttpMethod method;
+    private final TemplateString url;
+    private final TemplateString body;            // null이면 본문 없음
+    private final String[] headerNames;
+    private final TemplateString[] headerValues;
+    private final Extraction[] extractions;
+    private final boolean capturesBody;
+    private final RequestTemplate staticTemplate; // 변수가 없을 때만 사용
+
+    private CompiledStep(int index, LoadTestScenarioStep step, Map<String, Integer> slotsByName) {
+        this.index = index;
+        this.name = step.getName() != null ? step.getName() : "step-" + (index + 1);
+        this.weight = step.getWeight();
+        this.thinkTime = Duration.ofMillis(Math.max(0, step.getThinkTimeMs()));
+        this.method = HttpMethod.valueOf(step.getHttpMethod());
+        this.url = TemplateString.compile(step.getTargetUrl(), slotsByName);
+        this.body = step.getRequestParams() != null ? TemplateString.compile(step.getRequestParams(), slotsByName) : null;
+
+        List<String> names = new ArrayList<>();
+        List<TemplateString> values = new ArrayList<>();
+        for (String line : lines(step.getRequestHeaders(), "\n")) {
+            int colon = line.indexOf(':');
+            if (colon <= 0) {
+                throw new IllegalArgumentException("Invalid header line (expected 'Name: value'): " + line);
+            }
+            names.add(line.substring(0, colon).trim());
+            values.add(TemplateString.compile(line.substring(colon + 1).trim(), slotsByName));
+        }
+        this.headerNames = names.toArray(new String[0]);
+        this.headerValues = values.toArray(new TemplateString[0]);
+
+        List<Extraction> parsed = new ArrayList<>();
+        for (String rule : lines(step.getExtractions(), ";|\n")) {
+            int equals = rule.indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("Invalid extraction (expected 'name=$.path' or 'name=header:Name'): " + rule);
+            }
+            String variable = rule.substring(0, equals).trim();
+            String expression = rule.substring(equals + 1).trim();
+            int slot = slotsByName.computeIfAbsent(variable, key -> slotsByName.size());
+            parsed.add(expression.startsWith(HEADER_PREFIX)
+                    ? new Extraction(variable, slot, null, expression.substring(HEADER_PREFIX.length()).trim())
+                    : new Extraction(variable, slot, JsonPathExtractor.compile(expression), null));
+        }
+        this.extractions = parsed.toArray(new Extraction[0]);
+        this.capturesBody = parsed.stream().anyMatch(extraction -> extraction.jsonPath() != null);
+
+        this.staticTemplate = isStatic()
+                ? RequestTemplate.compile(step.getHttpMethod(), step.getTargetUrl(), step.getRequestParams(), renderHeaders(null))
+                : null;
+    }
+
+    static CompiledStep compile(int index, LoadTestScenarioStep step, Map<String, Integer> slotsByName) {
+        return new CompiledStep(index, step, slotsByName);
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    Duration thinkTime() {
+        return thinkTime;
+    }
+
+    Extraction[] extractions() {
+        return extractions;
+    }
+
+    boolean capturesBody() {
+        return capturesBody;
+    }
+
+    boolean hasExtractions() {
+        return extractions.length > 0;
+    }
+
+    // weight(%) 확률로 이번 여정에서 실행할지 결정
+    boolean shouldRun() {
+        return weight >= 100 || (weight > 0 && ThreadLocalRandom.current().nextInt(100) < weight);
+    }
+
+    RequestTemplate requestTemplate(String[] values) {
+        if (staticTemplate != null) {
+            return staticTemplate;
+        }
+        byte[] renderedBody = body != null ? body.render(values).getBytes(StandardCharsets.UTF_8) : null;
+        return RequestTemplate.render(method, URI.create(url.render(values)), renderedBody, renderHeaders(values));
+    }
+
+    @Override
+    public void close() {
+        if (staticTemplate != null) {
+            staticTemplate.close();
+        }
+    }
+
+    private boolean isStatic() {
+        if (!url.isStatic() || (body != null && !body.isStatic())) {
+            return false;
+        }
+        for (TemplateString headerValue : headerValues) {
+            if (!headerValue.isStatic()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private HttpHeaders renderHeaders(String[] values) {
+        if (headerNames.length == 0) {
+            return HttpHeaders.EMPTY;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        for (int i = 0; i < headerNames.length; i++) {
+            headers.add(headerNames[i], headerValues[i].render(values));
+        }
+        return headers;
+    }
+
+    private static List<String> lines(String text, String separatorRegex) {
+        List<String> lines = new ArrayList<>();
+        if (text == null) {
+            return lines;
+        }
+        for (String line : text.split(separatorRegex)) {
+            if (!line.isBlank()) {
+                lines.add(line.trim());
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,81 @@
+package com.project.service.journey;
+
+import com.project.service.client.LoadTestHttpClient;
+import com.project.service.client.LoadTestRequestExecutor;
+import com.project.service.client.ResponseCapture;
+import com.project.service.dto.RequestResult;
+import com.project.service.metrics.LoadTestMetricsCollector;
+import com.project.service.metrics.StepMetricsCollector;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 여정 1회(가상 사용자 1회 방문)를 단계 순서대로 실행하는 실행 1회용 실행기.
+ *
+ * - 단계 요청은 전체 집계기(요청 단위)와 단계별 집계기에 함께 기록합니다.
+ * - 단계가 실패하면(HTTP 에러, 값 추출 실패) 뒤 단계에 넘길 값이 없으므로 그 여정은 중단합니다.
+ * - think time은 Mono.delay로 기다리므로 대기 중인 여정이 스레드를 점유하지 않습니다.
+ * - 발송 예정 시각 보정(Coordinated Omission)은 여정의 첫 요청에만 적용합니다.
+ *   이후 단계의 예정 시각은 "앞 단계 응답 + think time"이라 실제 발송 시각과 같습니다.
+ */
+public final class JourneyExecutor {
+
+    private final LoadTestRequestExecutor requestExecutor;
+    private final LoadTestHttpClient httpClient;
+    private final List<CompiledStep> steps;
+    private final CompiledJourney journey;
+    private final long resultId;
+    private final AtomicLong globalOrder;
+    private final LoadTestMetricsCollector metricsCollector;
+    private final StepMetricsCollector stepMetrics;
+
+    public JourneyExecutor(LoadTestRequestExecutor requestExecutor, LoadTestHttpClient httpClient,
+                           CompiledJourney journey, long resultId, AtomicLong globalOrder,
+                           LoadTestMetricsCollector metricsCollector, StepMetricsCollector stepMetrics) {
+        this.requestExecutor = requestExecutor;
+        this.httpClient = httpClient;
+        this.journey = journey;
+        this.steps = journey.steps();
+        this.resultId = resultId;
+        this.globalOrder = globalOrder;
+        this.metricsCollector = metricsCollector;
+        this.stepMetrics = stepMetrics;
+    }
+
+    // intendedNanos: 여정 발송 예정 시각 (음수면 예정 시각 없음 = closed model)
+    public Mono<Void> execute(long intendedNanos) {
+        return Mono.defer(() -> executeStep(0, journey.newVariables(), intendedNanos));
+    }
+
+    private Mono<Void> executeStep(int from, String[] values, long intendedNanos) {
+        int index = from;
+        while (index < steps.size() && !steps.get(index).shouldRun()) {
+            index++;
+        }
+        if (index >= steps.size()) {
+            return Mono.empty();
+        }
+
+        CompiledStep step = steps.get(index);
+        StepCapture capture = step.hasExtractions() ? new StepCapture(step, values) : null;
+        int next = index + 1;
+        return requestExecutor
+                .executeAsync(httpClient, step.requestTemplate(values), resultId, globalOrder.incrementAndGet(),
+                        capture != null ? capture : ResponseCapture.NONE)
+                .flatMap(result -> {
+                    record(step, result, capture, intendedNanos);
+                    if (!result.success()) {
+                        return Mono.empty();
+                    }
+                    Mono<Void> rest = Mono.defer(() -> executeStep(next, values, -1L));
+                    return step.thinkTime().isZero() ? rest : Mono.delay(step.thinkTime()).then(rest);
+                });
+    }
+
+    private void record(CompiledStep step, RequestResult result, StepCapture capture, long intendedNanos) {
+        metricsCollector.record(result, intendedNanos >= 0 ? System.nanoTime() - intendedNanos : result.totalNanos());
+        stepMetrics.record(step.index(), result, capture != null && capture.extractionFailed());
+    }
+}
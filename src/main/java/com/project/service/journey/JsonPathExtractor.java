@@ -0,0 +1,265 @@
+package com.project.service.journey;
+
+import io.netty.buffer.ByteBuf;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 응답 본문(JSON 바이트)에서 경로 하나의 값을 꺼내는 추출기. ($.data.token, $.items[0].id 형태만 지원)
+ *
+ * Jackson으로 트리(JsonNode)를 만들면 응답마다 전체 문서 크기만큼 객체가 생기고, 부하 생성기가 대상 서버보다 먼저 GC에 묶입니다.
+ * 여기서는 바이트를 앞에서부터 한 번 훑으며 경로에 해당하지 않는 값은 건너뛰기만 하고,
+ * 찾은 값 하나만 String으로 만듭니다. 키 비교도 미리 인코딩해 둔 바이트와 직접 비교합니다.
+ */
+public final class JsonPathExtractor {
+
+    private static final int NOT_FOUND = -1;
+
+    private final String path;
+    private final byte[][] fieldNames;  // 필드 구간이면 UTF-8 키, 배열 인덱스 구간이면 null
+    private final int[] indexes;
+
+    private JsonPathExtractor(String path, byte[][] fieldNames, int[] indexes) {
+        this.path = path;
+        this.fieldNames = fieldNames;
+        this.indexes = indexes;
+    }
+
+    public static JsonPathExtractor compile(String path) {
+        if (path == null || !path.startsWith("$")) {
+            throw new IllegalArgumentException("JSON path must start with '$': " + path);
+        }
+        List<byte[]> names = new ArrayList<>();
+        List<Integer> indexList = new ArrayList<>();
+        int i = 1;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == '.') {
+                int end = i + 1;
+                while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                    end++;
+                }
+                if (end == i + 1) {
+                    throw new IllegalArgumentException("Empty field name in JSON path: " + path);
+                }
+                names.add(path.substring(i + 1, end).getBytes(StandardCharsets.UTF_8));
+                indexList.add(-1);
+                i = end;
+            } else if (c == '[') {
+                int end = path.indexOf(']', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unclosed '[' in JSON path: " + path);
+                }
+                names.add(null);
+                indexList.add(Integer.parseInt(path.substring(i + 1, end).trim()));
+                i = end + 1;
+            } else {
+                throw new IllegalArgumentException("Unexpected '" + c + "' in JSON path: " + path);
+            }
+        }
+        return new JsonPathExtractor(path, names.toArray(new byte[0][]),
+                indexList.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    public String path() {
+        return path;
+    }
+
+    // 값이 문자열이면 따옴표를 뗀 값, 숫자/true/false면 그대로, 객체/배열이면 원문 JSON. 경로가 없거나 null이면 null
+    public String extract(ByteBuf json) {
+        int end = json.writerIndex();
+        int pos = skipWhitespace(json, json.readerIndex(), end);
+        for (int segment = 0; segment < fieldNames.length && pos != NOT_FOUND; segment++) {
+            pos = fieldNames[segment] != null
+                    ? enterField(json, pos, end, fieldNames[segment])
+                    : enterIndex(json, pos, end, indexes[segment]);
+        }
+        return pos == NOT_FOUND ? null : readValue(json, pos, end);
+    }
+
+    // pos의 객체에서 name 키의 값 시작 위치
+    private static int enterField(ByteBuf json, int pos, int end, byte[] name) {
+        if (pos >= end || json.getByte(pos) != '{') {
+            return NOT_FOUND;
+        }
+        pos = skipWhitespace(json, pos + 1, end);
+        while (pos < end && json.getByte(pos) == '"') {
+            int keyEnd = skipString(json, pos, end);
+            if (keyEnd == NOT_FOUND) {
+                return NOT_FOUND;
+            }
+            boolean matched = matches(json, pos + 1, keyEnd - 1, name);
+            pos = skipWhitespace(json, keyEnd, end);
+            if (pos >= end || json.getByte(pos) != ':') {
+                return NOT_FOUND;
+            }
+            pos = skipWhitespace(json, pos + 1, end);
+            if (matched) {
+                return pos;
+            }
+            pos = skipValue(json, pos, end);
+            if (pos == NOT_FOUND) {
+                return NOT_FOUND;
+            }
+            pos = skipWhitespace(json, pos, end);
+            if (pos >= end || json.getByte(pos) != ',') {
+                return NOT_FOUND; // '}': 키 없음
+            }
+            pos = skipWhitespace(json, pos + 1, end);
+        }
+        return NOT_FOUND;
+    }
+
+    // pos의 배열에서 index번째 값 시작 위치
+    private static int enterIndex(ByteBuf json, int pos, int end, int index) {
+        if (pos >= end || json.getByte(pos) != '[') {
+            return NOT_FOUND;
+        }
+        pos = skipWhitespace(json, pos + 1, end);
+        if (pos >= end || json.getByte(pos) == ']') {
+            return NOT_FOUND;
+        }
+        for (int i = 0; i < index; i++) {
+            pos = skipValue(json, pos, end);
+            if (pos == NOT_FOUND) {
+                return NOT_FOUND;
+            }
+            pos = skipWhitespace(json, pos, end);
+            if (pos >= end || json.getByte(pos) != ',') {
+                return NOT_FOUND; // ']': 인덱스 범위 밖
+            }
+            pos = skipWhitespace(json, pos + 1, end);
+        }
+        return pos;
+    }
+
+    private static String readValue(ByteBuf json, int pos, int end) {
+        if (pos >= end) {
+            return null;
+        }
+        int valueEnd = skipValue(json, pos, end);
+        if (valueEnd == NOT_FOUND) {
+            return null;
+        }
+        byte first = json.getByte(pos);
+        if (first == '"') {
+            return unescape(json.toString(pos + 1, valueEnd - pos - 2, StandardCharsets.UTF_8));
+        }
+        String raw = json.toString(pos, valueEnd - pos, StandardCharsets.UTF_8);
+        return "null".equals(raw) ? null : raw;
+    }
+
+    // pos의 값 바로 다음 위치
+    private static int skipValue(ByteBuf json, int pos, int end) {
+        byte first = json.getByte(pos);
+        if (first == '"') {
+            return skipString(json, pos, end);
+        }
+        if (first == '{' || first == '[') {
+            int depth = 0;
+            while (pos < end) {
+                byte b = json.getByte(pos);
+                if (b == '"') {
+                    pos = skipString(json, pos, end);
+                    if (pos == NOT_FOUND) {
+                        return NOT_FOUND;
+                    }
+                    continue;
+                }
+                if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    depth--;
+                    if (depth == 0) {
+                        return pos + 1;
+                    }
+                }
+                pos++;
+            }
+            return NOT_FOUND;
+        }
+        // 숫자, true, false, null
+        while (pos < end) {
+            byte b = json.getByte(pos);
+            if (b == ',' || b == '}' || b == ']' || isWhitespace(b)) {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    // pos의 여는 따옴표부터 닫는 따옴표 다음 위치
+    private static int skipString(ByteBuf json, int pos, int end) {
+        pos++;
+        while (pos < end) {
+            byte b = json.getByte(pos);
+            if (b == '\\') {
+                pos += 2;
+            } else if (b == '"') {
+                return pos + 1;
+            } else {
+                pos++;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private static boolean matches(ByteBuf json, int from, int to, byte[] name) {
+        if (to - from != name.length) {
+            return false;
+        }
+        for (int i = 0; i < name.length; i++) {
+            if (json.getByte(from + i) != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipWhitespace(ByteBuf json, int pos, int end) {
+        while (pos < end && isWhitespace(json.getByte(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    // 이스케이프가 없으면(대부분의 토큰/ID) 그대로 반환
+    private static String unescape(String value) {
+        int backslash = value.indexOf('\\');
+        if (backslash < 0) {
+            return value;
+        }
+        StringBuilder builder = new StringBuilder(value.length());
+        builder.append(value, 0, backslash);
+        for (int i = backslash; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '\\' || i + 1 >= value.length()) {
+                builder.append(c);
+                continue;
+            }
+            char escaped = value.charAt(++i);
+            switch (escaped) {
+                case 'n' -> builder.append('\n');
+                case 't' -> builder.append('\t');
+                case 'r' -> builder.append('\r');
+                case 'b' -> builder.append('\b');
+                case 'f' -> builder.append('\f');
+                case 'u' -> {
+                    if (i + 4 < value.length()) {
+                        builder.append((char) Integer.parseInt(value.substring(i + 1, i + 5), 16));
+                        i += 4;
+                    }
+                }
+                default -> builder.append(escaped); // \" \\ \/
+            }
+        }
+        return builder.toString();
+    }
+}
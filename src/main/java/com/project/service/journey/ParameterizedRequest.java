@@ -0,0 +1,53 @@
+package com.project.service.journey;
+
+import com.project.model.LoadTestScenario;
+import com.project.model.LoadTestScenarioStep;
+import com.project.service.client.RequestTemplate;
+import com.project.service.feed.DataFeed;
+import com.project.service.feed.FeedBinding;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+ * 데이터 피드를 쓰는 단일 요청 시나리오의 요청 공급자.
+ * 시나리오의 URL/본문을 여정 단계와 같은 방식으로 한 번 분해해 두고, 요청마다 피드의 한 행으로 ${컬럼명}을 치환합니다.
+ * (UNIQUE 피드가 소진되면 get()이 DataFeedExhaustedException)
+ */
+public final class ParameterizedRequest implements Supplier<RequestTemplate>, AutoCloseable {
+
+    private final CompiledStep step;
+    private final int variableCount;
+    private final FeedBinding feedBinding;
+
+    private ParameterizedRequest(CompiledStep step, int variableCount, FeedBinding feedBinding) {
+        this.step = step;
+        this.variableCount = variableCount;
+        this.feedBinding = feedBinding;
+    }
+
+    public static ParameterizedRequest compile(LoadTestScenario scenario, DataFeed dataFeed) {
+        LoadTestScenarioStep request = new LoadTestScenarioStep();
+        request.setName(scenario.getName());
+        request.setTargetUrl(scenario.getTargetUrl());
+        request.setHttpMethod(scenario.getHttpMethod());
+        request.setRequestParams(scenario.getRequestParams());
+
+        Map<String, Integer> slotsByName = new HashMap<>();
+        CompiledStep step = CompiledStep.compile(0, request, slotsByName);
+        return new ParameterizedRequest(step, slotsByName.size(), dataFeed.bind(slotsByName));
+    }
+
+    @Override
+    public RequestTemplate get() {
+        String[] values = new String[variableCount];
+        feedBinding.fill(values);
+        return step.requestTemplate(values);
+    }
+
+    @Override
+    public void close() {
+        step.close();
+    }
+}
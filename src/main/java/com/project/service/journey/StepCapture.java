@@ -0,0 +1,86 @@
+package com.project.service.journey;
+
+import com.project.service.client.ResponseCapture;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.http.HttpHeaders;
+
+import java.nio.ByteBuffer;
+
+/*
+ * 여정 단계 하나의 응답에서 변수 값을 꺼내 여정 변수 저장소(values)에 채웁니다.
+ * JSON 추출이 있는 단계만 본문을 모으며, 모을 때는 풀링된 버퍼에 복사하고 추출 직후 해제합니다.
+ */
+final class StepCapture implements ResponseCapture {
+
+    private final CompiledStep step;
+    private final String[] values;
+    private HttpHeaders headers;
+    private ByteBuf body;
+    private boolean extractionFailed;
+
+    StepCapture(CompiledStep step, String[] values) {
+        this.step = step;
+        this.values = values;
+    }
+
+    @Override
+    public void onHeaders(HttpHeaders headers) {
+        this.headers = headers;
+    }
+
+    @Override
+    public boolean capturesBody() {
+        return step.capturesBody();
+    }
+
+    @Override
+    public void onBody(DataBuffer chunk) {
+        if (body == null) {
+            body = ByteBufAllocator.DEFAULT.heapBuffer(chunk.readableByteCount());
+        }
+        if (chunk instanceof NettyDataBuffer nettyChunk) {
+            ByteBuf nativeChunk = nettyChunk.getNativeBuffer();
+            body.writeBytes(nativeChunk, nativeChunk.readerIndex(), nativeChunk.readableBytes());
+            return;
+        }
+        try (DataBuffer.ByteBufferIterator iterator = chunk.readableByteBuffers()) {
+            while (iterator.hasNext()) {
+                ByteBuffer buffer = iterator.next();
+                body.writeBytes(buffer);
+            }
+        }
+    }
+
+    @Override
+    public String complete() {
+        for (CompiledStep.Extraction extraction : step.extractions()) {
+            String value;
+            if (extraction.jsonPath() != null) {
+                value = body != null ? extraction.jsonPath().extract(body) : null;
+            } else {
+                value = headers != null ? headers.getFirst(extraction.headerName()) : null;
+            }
+            if (value == null) {
+                extractionFailed = true;
+                return "Extraction failed: " + extraction.variable() + " (step " + step.name() + ")";
+            }
+            values[extraction.slot()] = value;
+        }
+        return null;
+    }
+
+    @Override
+    public void release() {
+        if (body != null) {
+            body.release();
+            body = null;
+        }
+    }
+
+    boolean extractionFailed() {
+        return extractionFailed;
+    }
+}
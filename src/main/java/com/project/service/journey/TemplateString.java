@@ -0,0 +1,66 @@
+package com.project.service.journey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * ${변수명} 자리표시자를 가진 문자열을 실행 전에 한 번 분해해 둔 템플릿.
+ * 요청마다 문자열을 다시 파싱하지 않고, 고정 조각과 변수 슬롯 번호를 번갈아 이어 붙이기만 합니다.
+ */
+final class TemplateString {
+
+    private final String[] literals;   // literals.length == slots.length + 1
+    private final int[] slots;
+    private final int literalLength;
+
+    private TemplateString(String[] literals, int[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    // 처음 보는 변수명은 slotsByName에 다음 번호로 등록 (여정 전체가 슬롯 번호를 공유)
+    static TemplateString compile(String text, Map<String, Integer> slotsByName) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        int from = 0;
+        while (true) {
+            int start = text.indexOf("${", from);
+            int end = start < 0 ? -1 : text.indexOf('}', start + 2);
+            if (end < 0) {
+                literals.add(text.substring(from));
+                break;
+            }
+            literals.add(text.substring(from, start));
+            String name = text.substring(start + 2, end).trim();
+            slots.add(slotsByName.computeIfAbsent(name, key -> slotsByName.size()));
+            from = end + 1;
+        }
+        return new TemplateString(literals.toArray(new String[0]), slots.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    boolean isStatic() {
+        return slots.length == 0;
+    }
+
+    // 값이 없는 변수(건너뛴 단계에서 추출할 값 등)는 빈 문자열로 치환
+    String render(String[] values) {
+        if (slots.length == 0) {
+            return literals[0];
+        }
+        StringBuilder builder = new StringBuilder(literalLength + 32 * slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(literals[i]);
+            String value = values[slots[i]];
+            if (value != null) {
+                builder.append(value);
+            }
+        }
+        return builder.append(literals[slots.length]).toString();
+    }
+}
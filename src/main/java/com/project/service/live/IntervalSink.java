@@ -0,0 +1,32 @@
+package com.project.service.live;
+
+import com.project.model.LoadTestResultTimeseries;
+
+// 실행 중 만들어진 구간 지표를 받는 곳 (기본: load_test_result_timeseries 저장, 워커 모드: 코디네이터 전달용 버퍼)
+public interface IntervalSink {
+
+    // live-metrics ticker 스레드에서 구간마다 호출
+    void accept(LoadTestResultTimeseries interval);
+
+    // 실행 종료 시 한 번 호출: 남은 구간 처리가 끝날 때까지 대기
+    default void complete() {
+    }
+
+    // 같은 구간을 이 sink와 next 모두에 넘김
+    default IntervalSink andThen(IntervalSink next) {
+        IntervalSink first = this;
+        return new IntervalSink() {
+            @Override
+            public void accept(LoadTestResultTimeseries interval) {
+                first.accept(interval);
+                next.accept(interval);
+            }
+
+            @Override
+            public void complete() {
+                first.complete();
+                next.complete();
+            }
+        };
+    }
+}
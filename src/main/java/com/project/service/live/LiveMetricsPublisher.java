@@ -0,0 +1,209 @@
+package com.project.service.live;
+
+import com.project.config.LiveMetricsProperties;
+import com.project.model.LoadTestResultTimeseries;
+import com.project.service.dto.IntervalSnapshot;
+import com.project.service.dto.IntervalStats;
+import com.project.service.dto.LatencyDistribution;
+import com.project.service.metrics.LoadTestMetricsCollector;
+import com.project.service.runner.LoadProfile;
+import com.project.service.timeseries.ResultTimeseriesWriter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 실행 중 구간 지표 발행기.
+ *
+ * 기존 방식:
+ * 테스트가 끝난 뒤 toStats()를 한 번 호출할 뿐이라, 30분짜리 soak 테스트는 끝날 때까지 진행 상황을 알 수 없었습니다.
+ *
+ * 변경 방식:
+ * 실행마다 intervalMs 주기로 집계기의 구간 히스토그램을 교체해 스냅샷을 만들고, 실행별 Sink로 구독자(SSE)에게 흘려보냅니다.
+ * 스냅샷은 전용 스레드 하나에서만 만들며 기록 경로에는 락을 추가하지 않습니다.
+ * 구독자가 느리면 최신 스냅샷만 유지하므로(replay latest) 발행이 구독자에 의해 막히지 않습니다.
+ * 같은 구간 지표는 IntervalSink로도 넘깁니다. (기본: timeseriesBatchSize개씩 모아 load_test_result_timeseries에 저장)
+ * 부하 프로파일이 있으면 단계가 바뀌는 시각에도 구간을 끊어, 구간마다 속한 단계 번호를 붙입니다.
+ */
+@Slf4j
+@Component
+public class LiveMetricsPublisher {
+
+    private final LiveMetricsProperties properties;
+    private final ResultTimeseriesWriter timeseriesWriter;
+    private final Clock clock;
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("live-metrics-ticker").daemon(true).factory());
+    private final Map<Long, Sinks.Many<IntervalSnapshot>> sinksByResultId = new ConcurrentHashMap<>();
+
+    public LiveMetricsPublisher(LiveMetricsProperties properties, ResultTimeseriesWriter timeseriesWriter, Clock clock) {
+        this.properties = properties;
+        this.timeseriesWriter = timeseriesWriter;
+        this.clock = clock;
+    }
+
+    // 실행 시작 시 호출: 반환된 세션을 close()하면 마지막 구간을 발행하고 스트림을 종료
+    public Session start(long resultId, LoadTestMetricsCollector metricsCollector) {
+        return start(resultId, metricsCollector, timeseriesWriter.newBatchingSink(properties.timeseriesBatchSize()));
+    }
+
+    // 구간을 평소처럼 저장하면서 observer에도 넘김 (용량 탐색 probe의 SLO 판정 등)
+    public Session startObserved(long resultId, LoadTestMetricsCollector metricsCollector, IntervalSink observer) {
+        return start(resultId, metricsCollector,
+                timeseriesWriter.newBatchingSink(properties.timeseriesBatchSize()).andThen(observer));
+    }
+
+    public Session start(long resultId, LoadTestMetricsCollector metricsCollector, IntervalSink intervalSink) {
+        Sinks.Many<IntervalSnapshot> sink = Sinks.many().replay().latest();
+        sinksByResultId.put(resultId, sink);
+
+        Session session = new Session(resultId, metricsCollector, sink, intervalSink, System.nanoTime());
+        long intervalMs = Math.max(1L, properties.intervalMs());
+        session.future = ticker.scheduleAtFixedRate(session::publishInterval, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        return session;
+    }
+
+    // 진행 중인 실행의 구간 지표 스트림 (없는 실행이면 empty)
+    public Optional<Flux<IntervalSnapshot>> stream(long resultId) {
+        return Optional.ofNullable(sinksByResultId.get(resultId)).map(Sinks.Many::asFlux);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    public final class Session implements AutoCloseable {
+
+        private final long resultId;
+        private final LoadTestMetricsCollector metricsCollector;
+        private final Sinks.Many<IntervalSnapshot> sink;
+        private final IntervalSink intervalSink;
+        private final long startNanos;
+
+        // 아래 필드는 ticker 스레드에서만 사용
+        private long sequence;
+        private long lastTickNanos;
+        private volatile ScheduledFuture<?> future;
+
+        // 부하 프로파일 (없으면 단계 번호 없음)
+        private volatile long profileStartNanos;
+        private volatile LoadProfile profile;
+        private volatile List<ScheduledFuture<?>> stageTicks = List.of();
+
+        private Session(long resultId, LoadTestMetricsCollector metricsCollector,
+                        Sinks.Many<IntervalSnapshot> sink, IntervalSink intervalSink, long startNanos) {
+            this.resultId = resultId;
+            this.metricsCollector = metricsCollector;
+            this.sink = sink;
+            this.intervalSink = intervalSink;
+            this.startNanos = startNanos;
+            this.lastTickNanos = startNanos;
+        }
+
+        // 부하 시작 직전에 호출: 단계 시작 시각마다 추가로 구간을 끊어 한 구간이 두 단계에 걸치지 않게 함
+        public void trackStages(LoadProfile loadProfile) {
+            long loadStartNanos = System.nanoTime();
+            this.profileStartNanos = loadStartNanos;
+            this.profile = loadProfile;
+
+            List<ScheduledFuture<?>> ticks = new ArrayList<>(loadProfile.stageCount());
+            for (int stage = 1; stage < loadProfile.stageCount(); stage++) {
+                long delayNanos = loadStartNanos + loadProfile.stageStartNanos(stage) - System.nanoTime();
+                ticks.add(ticker.schedule(this::publishInterval, delayNanos, TimeUnit.NANOSECONDS));
+            }
+            this.stageTicks = ticks;
+        }
+
+        private void publishInterval() {
+            try {
+                long nowNanos = System.nanoTime();
+                IntervalStats intervalStats = metricsCollector.takeIntervalStats();
+                IntervalSnapshot snapshot = IntervalSnapshot.of(
+                        resultId,
+                        sequence++,
+                        clock.millis(),
+                        TimeUnit.NANOSECONDS.toMillis(nowNanos - startNanos),
+                        TimeUnit.NANOSECONDS.toMillis(nowNanos - lastTickNanos),
+                        stageOf(lastTickNanos, nowNanos),
+                        intervalStats);
+                lastTickNanos = nowNanos;
+                sink.tryEmitNext(snapshot);
+
+                intervalSink.accept(toTimeseries(snapshot, intervalStats.latency()));
+            } catch (RuntimeException e) {
+                // 예외가 나가면 scheduleAtFixedRate가 이후 실행을 멈추므로 여기서 삼킴
+                log.warn("Failed to publish live metrics. resultId={}", resultId, e);
+            }
+        }
+
+        // 구간 중간 시각이 속한 단계 (단계 경계에서 구간을 끊으므로 틱 오차가 있어도 한 단계로 정해짐)
+        private Integer stageOf(long fromNanos, long toNanos) {
+            LoadProfile loadProfile = profile;
+            if (loadProfile == null) {
+                return null;
+            }
+            long midNanos = fromNanos + (toNanos - fromNanos) / 2;
+            return loadProfile.stageAt(midNanos - profileStartNanos);
+        }
+
+        @Override
+        public void close() {
+            future.cancel(false);
+            stageTicks.forEach(tick -> tick.cancel(false));
+            try {
+                // 마지막(부분) 구간 발행과 종료를 ticker 스레드에서 처리해 진행 중인 틱과 겹치지 않게 함
+                ticker.submit(() -> {
+                    publishInterval();
+                    sink.tryEmitComplete();
+                }).get();
+                intervalSink.complete();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                log.warn("Failed to complete live metrics stream. resultId={}", resultId, e.getCause());
+            } finally {
+                sinksByResultId.remove(resultId, sink);
+            }
+        }
+
+        private LoadTestResultTimeseries toTimeseries(IntervalSnapshot snapshot, LatencyDistribution latency) {
+            LoadTestResultTimeseries interval = new LoadTestResultTimeseries();
+            interval.setResultId(resultId);
+            interval.setIntervalSeq(snapshot.sequence());
+            interval.setElapsedMs(snapshot.elapsedMs());
+            interval.setIntervalMs(snapshot.intervalMs());
+            interval.setStageIndex(snapshot.stageIndex());
+            interval.setRequestCount(snapshot.requests());
+            interval.setSuccessCount(snapshot.success());
+            interval.setFailCount(snapshot.fail());
+            interval.setBytesSent(snapshot.bytesSent());
+            interval.setBytesReceived(snapshot.bytesReceived());
+            interval.setAvgLatencyUs(latency.avgUs());
+            interval.setP50LatencyUs(latency.p50Us());
+            interval.setP90LatencyUs(latency.p90Us());
+            interval.setP99LatencyUs(latency.p99Us());
+            interval.setP999LatencyUs(latency.p999Us());
+            interval.setMaxLatencyUs(latency.maxUs());
+            interval.setLatencyHistogram(latency.histogram());
+            interval.setRecordedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(snapshot.timestampMs()), clock.getZone()));
+            return interval;
+        }
+    }
+}
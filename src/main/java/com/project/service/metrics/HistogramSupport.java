@@ -0,0 +1,76 @@
+package com.project.service.metrics;
+
+import com.project.service.dto.LatencyDistribution;
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+
+/*
+ * HdrHistogram 요약/직렬화 유틸.
+ *
+ * - summarize: 평균과 p50 ~ p99.99를 카운트 배열 한 번 순회로 계산 (getValueAtPercentile 반복 호출 시 백분위마다 전체 순회)
+ * - encode/decode: HdrHistogram V2 compressed 포맷 + Base64. 결과 row에 히스토그램 전체를 저장해두면
+ *   나중에 임의의 백분위를 다시 계산하거나 여러 실행 결과를 합칠(add) 수 있습니다.
+ */
+public final class HistogramSupport {
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 95.0, 99.0, 99.9, 99.99};
+
+    private HistogramSupport() {
+    }
+
+    public static LatencyDistribution summarize(AbstractHistogram histogram) {
+        long totalCount = histogram.getTotalCount();
+        if (totalCount == 0) {
+            return LatencyDistribution.EMPTY;
+        }
+
+        // getValueAtPercentile과 같은 기준: 누적 카운트가 ceil(p% * total) 이상이 되는 첫 값
+        // (99.99% * 100000 = 99990.00000000001 같은 부동소수 오차로 한 칸 밀리지 않도록 p를 1ulp 내림)
+        long[] countAtPercentile = new long[PERCENTILES.length];
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            double percentile = Math.nextAfter(PERCENTILES[i], Double.NEGATIVE_INFINITY);
+            countAtPercentile[i] = Math.max(1L, (long) Math.ceil(percentile / 100.0 * totalCount));
+        }
+
+        long[] values = new long[PERCENTILES.length];
+        int next = 0;
+        double weightedSum = 0.0;
+        for (HistogramIterationValue value : histogram.recordedValues()) {
+            weightedSum += (double) histogram.medianEquivalentValue(value.getValueIteratedTo()) * value.getCountAtValueIteratedTo();
+            while (next < PERCENTILES.length && value.getTotalCountToThisValue() >= countAtPercentile[next]) {
+                values[next++] = value.getValueIteratedTo();
+            }
+        }
+
+        return new LatencyDistribution(
+                totalCount,
+                weightedSum / totalCount,
+                histogram.getMinValue(),
+                histogram.getMaxValue(),
+                values[0], values[1], values[2], values[3], values[4], values[5],
+                encode(histogram)
+        );
+    }
+
+    public static String encode(AbstractHistogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer, Deflater.BEST_COMPRESSION);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    public static Histogram decode(String encodedHistogram) {
+        try {
+            byte[] bytes = Base64.getDecoder().decode(encodedHistogram);
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(bytes), 0);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Invalid encoded histogram", e);
+        }
+    }
+}
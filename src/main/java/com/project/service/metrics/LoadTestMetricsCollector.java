@@ -1,25 +1,93 @@
 package com.project.service.metrics;
 
+import com.project.service.dto.IntervalStats;
+import com.project.service.dto.LatencyDistribution;
+import com.project.service.dto.RequestResult;
 import com.project.service.dto.TestStats;
-import org.HdrHistogram.AtomicHistogram;
+import org.HdrHistogram.Histogram;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.List;
 import java.util.concurrent.atomic.LongAccumulator;
 import java.util.concurrent.atomic.LongAdder;
 
 public class LoadTestMetricsCollector {
 
-    // 요청 결과 카운터
-    private final AtomicInteger successCount = new AtomicInteger(0);
-    private final AtomicInteger failCount = new AtomicInteger(0);
+    /*
+     * 요청 결과 카운터
+     * 기존 방식: AtomicInteger - 모든 워커가 같은 필드에 CAS (LongAdder는 경합 시 스레드별 셀로 분산)
+     */
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder failCount = new LongAdder();
 
     // 지연시간 집계값
     private final LongAdder latencySum = new LongAdder();
     private final LongAccumulator minLatency = new LongAccumulator(Long::min, Long.MAX_VALUE);
     private final LongAccumulator maxLatency = new LongAccumulator(Long::max, 0L);
 
-    private static final long MAX_TRACKABLE_LATENCY_MS = 3_600_000L; // 1시간
-    private final AtomicHistogram latencyHistogram = new AtomicHistogram(MAX_TRACKABLE_LATENCY_MS, 3);
+    // 요청/응답 본문 전송량 (byte)
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+
+    // 도착률(open model) 스케줄 준수 지표
+    private final LongAdder missedDispatchCount = new LongAdder();
+    private final LongAdder lateDispatchCount = new LongAdder();
+    private final LongAccumulator maxDispatchLagNanos = new LongAccumulator(Long::max, 0L);
+    private final LongAccumulator sampleMaxDispatchLagNanos = new LongAccumulator(Long::max, 0L); // 생성기 상태 샘플마다 초기화
+
+    // 종료 유예 시간까지 끝나지 않아 취소된 요청 수 / 시작부터 마지막 요청이 끝나거나 잘린 시각까지 (실행 종료 시 기록)
+    private final LongAdder cutOffCount = new LongAdder();
+    private volatile long measuredWindowNanos;
+
+    // 실행별 Micrometer 지표 (RunMeterBinder가 기록 스레드 시작 전에 한 번 연결, 없으면 null)
+    private RunMeters meters;
+
+    /*
+     * 지연시간은 us 단위로 기록합니다. (System.nanoTime() 측정값을 us로 내림)
+     * ms 단위로 기록하면 1ms 미만으로 응답하는 내부 서비스는 모든 요청이 0 또는 1 버킷에 몰려 통계가 무의미해집니다.
+     * 최대 1시간(3.6e9us) / 유효숫자 3자리 기준 카운트 배열은 최대 약 180KB로, 요청 수와 무관하게 고정됩니다.
+     * (히스토그램은 자동 확장이라 실제로 기록된 최대값 범위만큼만 차지)
+     */
+    static final long MAX_TRACKABLE_LATENCY_US = 3_600_000_000L; // 1시간
+    static final int SIGNIFICANT_VALUE_DIGITS = 3;
+    public static final long DEFAULT_LATE_DISPATCH_THRESHOLD_NANOS = 1_000_000L; // 예정 시각보다 1ms 넘게 늦으면 지연 발송
+
+    /*
+     * 기록 경로의 히스토그램은 모두 조각(stripe)으로 나눈 Recorder입니다. (StripedRecorder 참고)
+     * 기존 방식: 전체 분포(AtomicHistogram)와 구간 분포(Recorder)에 요청마다 두 번 기록
+     * 변경 방식: 조각에 한 번만 기록하고, 읽는 쪽(drain)이 조각을 모아 구간 분포와 전체 분포에 함께 더함
+     */
+    private final StripedRecorder latencyRecorder;
+
+    /*
+     * Coordinated Omission 보정 분포:
+     * 실제 발송 시각이 아니라 "발송했어야 하는 시각(intended)"부터 응답까지를 측정합니다.
+     * 대상 서버가 멈춘 동안 밀려난 요청들의 대기 시간까지 포함되므로 사용자가 실제로 겪는 지연에 가깝습니다.
+     * expectedIntervalMs > 0이면 HdrHistogram의 expected interval 보정으로 누락된 샘플을 추가로 채워 넣습니다.
+     * (open model은 이미 예정 시각 기준으로 재므로 실행기가 closed model에만 expectedIntervalMs를 넘깁니다)
+     * 동시 처리 한도로 건너뛴 발송(recordMissedDispatch)은 응답 시간이 없어 이 분포에 들어가지 않습니다. (개수만 따로 집계)
+     */
+    private final StripedRecorder correctedLatencyRecorder;
+    private final long expectedIntervalUs;
+
+    // 이 값보다 늦게 발송되면 지연 발송 (발송 방식마다 정상 범위의 지연이 다름, 예: reactive 엔진의 1ms 틱)
+    private final long lateDispatchThresholdNanos;
+
+    // 커넥션 풀 대기 시간 분포 (서버 응답 시간과 분리, us 단위)
+    private final StripedRecorder poolAcquireRecorder;
+
+    /*
+     * 읽는 쪽 상태: drain()이 조각에서 가져온 값을 누적 (synchronized 메서드에서만 접근)
+     * 구간(interval) 분포는 직전 takeIntervalStats() 이후 값만, 나머지는 실행 전체 값을 담습니다.
+     * 조각 교체는 기록을 멈추지 않으며(WriterReaderPhaser), 스냅샷 스레드와 toStats()가 겹쳐도 값을 나눠 갖지 않습니다.
+     */
+    private final Histogram latencyHistogram = new Histogram(SIGNIFICANT_VALUE_DIGITS);
+    private final Histogram correctedLatencyHistogram = new Histogram(SIGNIFICANT_VALUE_DIGITS);
+    private final Histogram poolAcquireHistogram = new Histogram(SIGNIFICANT_VALUE_DIGITS);
+    private final Histogram intervalLatencyHistogram = new Histogram(SIGNIFICANT_VALUE_DIGITS);
+    private long lastIntervalSuccess;
+    private long lastIntervalFail;
+    private long lastIntervalBytesSent;
+    private long lastIntervalBytesReceived;
 
     /*
      * 기존 방식:
@@ -29,40 +97,193 @@ public class LoadTestMetricsCollector {
      * private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
      */
 
-    public void recordSuccess(long latencyMs) {
-        successCount.incrementAndGet();
-        recordLatency(latencyMs);
+    public LoadTestMetricsCollector() {
+        this(0L);
+    }
+
+    public LoadTestMetricsCollector(long expectedIntervalMs) {
+        this(expectedIntervalMs, DEFAULT_LATE_DISPATCH_THRESHOLD_NANOS);
+    }
+
+    public LoadTestMetricsCollector(long expectedIntervalMs, long lateDispatchThresholdNanos) {
+        this(expectedIntervalMs, lateDispatchThresholdNanos, StripedRecorder.defaultStripeCount());
+    }
+
+    LoadTestMetricsCollector(long expectedIntervalMs, long lateDispatchThresholdNanos, int stripeCount) {
+        this.expectedIntervalUs = Math.max(0L, expectedIntervalMs) * 1_000L;
+        this.lateDispatchThresholdNanos = lateDispatchThresholdNanos;
+        this.latencyRecorder = new StripedRecorder(stripeCount, SIGNIFICANT_VALUE_DIGITS);
+        this.correctedLatencyRecorder = new StripedRecorder(stripeCount, SIGNIFICANT_VALUE_DIGITS);
+        this.poolAcquireRecorder = new StripedRecorder(stripeCount, SIGNIFICANT_VALUE_DIGITS);
+    }
+
+    // 발송 예정 시각이 따로 없는 경우(closed model): 예정 시각 = 실제 발송 시각
+    public void recordSuccess(long latencyNanos) {
+        recordSuccess(latencyNanos, latencyNanos);
+    }
+
+    public void recordFailure(long latencyNanos) {
+        recordFailure(latencyNanos, latencyNanos);
+    }
+
+    public void recordSuccess(long latencyNanos, long intendedLatencyNanos) {
+        successCount.increment();
+        recordLatency(latencyNanos, intendedLatencyNanos);
+    }
+
+    public void recordFailure(long latencyNanos, long intendedLatencyNanos) {
+        failCount.increment();
+        recordLatency(latencyNanos, intendedLatencyNanos);
+    }
+
+    // 요청 결과를 성공/실패 + latency로 집계
+    public void record(RequestResult requestResult, long intendedLatencyNanos) {
+        if (requestResult.success()) {
+            recordSuccess(requestResult.latencyNanos(), intendedLatencyNanos);
+        } else {
+            recordFailure(requestResult.latencyNanos(), intendedLatencyNanos);
+        }
+        // 커넥션을 확보하지 못한 요청(0)은 풀 대기 분포에서 제외
+        if (requestResult.poolAcquireNanos() > 0) {
+            recordPoolAcquire(requestResult.poolAcquireNanos());
+        }
+        recordBytes(requestResult.bytesSent(), requestResult.bytesReceived());
+        if (meters != null) {
+            meters.record(requestResult);
+        }
+    }
+
+    public void recordBytes(long sent, long received) {
+        bytesSent.add(sent);
+        bytesReceived.add(received);
+    }
+
+    // 요청 시작부터 커넥션(HTTP/2는 스트림)을 확보하기까지의 대기 시간
+    public void recordPoolAcquire(long waitNanos) {
+        poolAcquireRecorder.recordValue(toBoundedMicros(waitNanos));
+    }
+
+    // 발송 예정 시각 대비 실제 발송 시각의 지연(lag)을 기록
+    public void recordDispatch(long lagNanos) {
+        if (lagNanos > lateDispatchThresholdNanos) {
+            lateDispatchCount.increment();
+        }
+        maxDispatchLagNanos.accumulate(lagNanos);
+        sampleMaxDispatchLagNanos.accumulate(lagNanos);
+        if (meters != null) {
+            meters.recordDispatchLag(lagNanos);
+        }
+    }
+
+    // 직전 호출 이후 최대 발송 지연 (us, 생성기 상태 샘플러 스레드에서만 호출)
+    public long takeMaxDispatchLagUs() {
+        return sampleMaxDispatchLagNanos.getThenReset() / 1_000L;
+    }
+
+    // 동시 처리 한도 초과로 예정 시각에 발송하지 못하고 건너뛴 요청 (보내지 않았으므로 보정 분포에도 넣지 않음)
+    public void recordMissedDispatch() {
+        missedDispatchCount.increment();
+    }
+
+    // 종료 유예 시간이 지나 취소된 요청 (성공/실패/지연시간 분포에는 넣지 않음)
+    public void recordCutOff() {
+        cutOffCount.increment();
+    }
+
+    public void recordMeasuredWindow(long windowNanos) {
+        this.measuredWindowNanos = windowNanos;
     }
 
-    public void recordFailure(long latencyMs) {
-        failCount.incrementAndGet();
-        recordLatency(latencyMs);
+    void attach(RunMeters meters) {
+        this.meters = meters;
     }
 
-    public TestStats toStats() {
-        int success = successCount.get();
-        int fail = failCount.get();
+    // scrape 시점에 읽는 누적 값 (RunMeterBinder)
+    long successCount() {
+        return successCount.sum();
+    }
+
+    long failCount() {
+        return failCount.sum();
+    }
+
+    long cutOffCount() {
+        return cutOffCount.sum();
+    }
+
+    long missedDispatchCount() {
+        return missedDispatchCount.sum();
+    }
+
+    public synchronized TestStats toStats() {
+        drain();
+        int success = (int) successCount.sum();
+        int fail = (int) failCount.sum();
         int totalRequests = success + fail;
 
+        long missedDispatches = missedDispatchCount.sum();
+        long lateDispatches = lateDispatchCount.sum();
+        long maxDispatchLagUs = maxDispatchLagNanos.get() / 1_000L;
+        long cutOffRequests = cutOffCount.sum();
+        long measuredWindowMs = measuredWindowNanos / 1_000_000L;
+
         if (totalRequests == 0) {
-            return new TestStats(0, 0, 0, 0.0, 0.0, 0.0, 0.0);
+            return new TestStats(0, 0, 0, LatencyDistribution.EMPTY, LatencyDistribution.EMPTY, LatencyDistribution.EMPTY,
+                    missedDispatches, lateDispatches, maxDispatchLagUs, bytesSent.sum(), bytesReceived.sum(),
+                    cutOffRequests, measuredWindowMs, List.of(), null);
         }
 
-        double avgLatencyMs = (double) latencySum.sum() / totalRequests;
-        double minLatencyMs = (double) minLatency.get();
-        double maxLatencyMs = (double) maxLatency.get();
-        double p99LatencyMs = latencyHistogram.getValueAtPercentile(99.0);
+        // 백분위는 히스토그램에서, 평균/최소/최대는 버킷 반올림 없는 정확한 값을 사용
+        LatencyDistribution latency = HistogramSupport.summarize(latencyHistogram)
+                .withExactAggregates((double) latencySum.sum() / totalRequests, minLatency.get(), maxLatency.get());
 
-        return new TestStats(success, fail, totalRequests, avgLatencyMs, minLatencyMs, maxLatencyMs, p99LatencyMs);
+        return new TestStats(success, fail, totalRequests, latency,
+                HistogramSupport.summarize(correctedLatencyHistogram), HistogramSupport.summarize(poolAcquireHistogram),
+                missedDispatches, lateDispatches, maxDispatchLagUs, bytesSent.sum(), bytesReceived.sum(),
+                cutOffRequests, measuredWindowMs, List.of(), null);
     }
 
-    private void recordLatency(long latencyMs) {
-        long boundedLatencyMs = Math.max(0L, Math.min(latencyMs, MAX_TRACKABLE_LATENCY_MS));
+    // 직전 호출 이후 구간의 요청 수/지연시간 분포 (스냅샷 스레드 하나에서 주기적으로 호출)
+    public synchronized IntervalStats takeIntervalStats() {
+        drain();
+        long success = successCount.sum();
+        long fail = failCount.sum();
+        long sent = bytesSent.sum();
+        long received = bytesReceived.sum();
 
-        latencySum.add(boundedLatencyMs);
-        minLatency.accumulate(boundedLatencyMs);
-        maxLatency.accumulate(boundedLatencyMs);
-        latencyHistogram.recordValue(boundedLatencyMs);
+        IntervalStats intervalStats = new IntervalStats(success - lastIntervalSuccess, fail - lastIntervalFail,
+                sent - lastIntervalBytesSent, received - lastIntervalBytesReceived,
+                HistogramSupport.summarize(intervalLatencyHistogram));
+        intervalLatencyHistogram.reset();
+        lastIntervalSuccess = success;
+        lastIntervalFail = fail;
+        lastIntervalBytesSent = sent;
+        lastIntervalBytesReceived = received;
+        return intervalStats;
+    }
+
+    // 조각들에 쌓인 값을 읽는 쪽 히스토그램으로 옮김 (toStats/takeIntervalStats에서만 호출)
+    private void drain() {
+        latencyRecorder.drainInto(latencyHistogram, intervalLatencyHistogram);
+        correctedLatencyRecorder.drainInto(correctedLatencyHistogram);
+        poolAcquireRecorder.drainInto(poolAcquireHistogram);
+    }
+
+    private void recordLatency(long latencyNanos, long intendedLatencyNanos) {
+        long boundedLatencyUs = toBoundedMicros(latencyNanos);
+
+        latencySum.add(boundedLatencyUs);
+        minLatency.accumulate(boundedLatencyUs);
+        maxLatency.accumulate(boundedLatencyUs);
+        latencyRecorder.recordValue(boundedLatencyUs);
+
+        // 예정 시각 기준 latency는 실제 측정값보다 작을 수 없음
+        long boundedIntendedLatencyUs = Math.max(boundedLatencyUs, toBoundedMicros(intendedLatencyNanos));
+        if (expectedIntervalUs > 0) {
+            correctedLatencyRecorder.recordValueWithExpectedInterval(boundedIntendedLatencyUs, expectedIntervalUs);
+        } else {
+            correctedLatencyRecorder.recordValue(boundedIntendedLatencyUs);
+        }
 
         /*
          * 기존 방식:
@@ -70,6 +291,10 @@ public class LoadTestMetricsCollector {
          */
     }
 
+    static long toBoundedMicros(long latencyNanos) {
+        return Math.max(0L, Math.min(latencyNanos / 1_000L, MAX_TRACKABLE_LATENCY_US));
+    }
+
     /*
      * 기존 방식:
      * private double calculateP99(List<Long> latencyValues) {
@@ -0,0 +1,111 @@
+package com.project.service.metrics;
+
+import com.project.config.RunMeterProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.ToDoubleFunction;
+
+/*
+ * 실행별 Micrometer 지표 등록 (GET /actuator/prometheus).
+ *
+ * 기존 방식:
+ * micrometer-registry-prometheus/actuator 의존성은 있었지만 실행 지표는 SSE와 결과 테이블로만 볼 수 있었습니다.
+ *
+ * 변경 방식:
+ * 실행 시작 시 resultId/scenarioId 태그를 붙인 지표를 한 번 등록하고 집계기에 연결, 실행 종료(close) 시 제거합니다.
+ *  - loadtest.run.requests{outcome=success|failure|cut_off}: 완료 요청 수 (rate()로 초당 요청 수)
+ *  - loadtest.run.requests.in.flight: 발송했지만 아직 끝나지 않은 요청 수
+ *  - loadtest.run.errors{status}: 상태 코드별 실패 수
+ *  - loadtest.run.latency: 지연시간 (percentile histogram 버킷)
+ *  - loadtest.run.pool.acquire / loadtest.run.dispatch.lag: 커넥션 풀 대기 / 발송 예정 시각 대비 지연
+ *  - loadtest.run.dispatch.missed: 동시 처리 한도로 발송하지 못한 요청 수
+ * 카운터/게이지는 scrape 시점에 집계기 값을 읽고, 요청마다 기록하는 Timer/실패 카운터는 RunMeters가 미리 들고 있습니다.
+ */
+@Component
+public class RunMeterBinder {
+
+    static final String REQUESTS = "loadtest.run.requests";
+    static final String IN_FLIGHT = "loadtest.run.requests.in.flight";
+    static final String LATENCY = "loadtest.run.latency";
+    static final String POOL_ACQUIRE = "loadtest.run.pool.acquire";
+    static final String DISPATCH_LAG = "loadtest.run.dispatch.lag";
+    static final String DISPATCH_MISSED = "loadtest.run.dispatch.missed";
+
+    private final MeterRegistry registry;
+    private final RunMeterProperties properties;
+
+    public RunMeterBinder(MeterRegistry registry, RunMeterProperties properties) {
+        this.registry = registry;
+        this.properties = properties;
+    }
+
+    /*
+     * 부하를 보내기 전에 호출 (집계기 연결은 기록 스레드가 시작되기 전이어야 함)
+     * startedRequests: 지금까지 발송한 요청 수 (실행의 글로벌 요청 순번)
+     */
+    public RunMeters bind(long resultId, Long scenarioId, LoadTestMetricsCollector metricsCollector,
+                          LongSupplier startedRequests) {
+        if (!properties.enabled()) {
+            return RunMeters.NONE;
+        }
+        Tags tags = Tags.of("result.id", Long.toString(resultId),
+                "scenario.id", scenarioId != null ? scenarioId.toString() : "none");
+
+        List<Meter> readMeters = List.of(
+                requests(tags, "success", metricsCollector, LoadTestMetricsCollector::successCount),
+                requests(tags, "failure", metricsCollector, LoadTestMetricsCollector::failCount),
+                requests(tags, "cut_off", metricsCollector, LoadTestMetricsCollector::cutOffCount),
+                Gauge.builder(IN_FLIGHT, metricsCollector, collector -> inFlight(collector, startedRequests))
+                        .description("발송했지만 아직 끝나지 않은 요청 수")
+                        .tags(tags)
+                        .register(registry),
+                FunctionCounter.builder(DISPATCH_MISSED, metricsCollector, LoadTestMetricsCollector::missedDispatchCount)
+                        .description("동시 처리 한도로 예정 시각에 발송하지 못한 요청 수")
+                        .tags(tags)
+                        .register(registry));
+
+        Timer latency = Timer.builder(LATENCY)
+                .description("커넥션 확보 후 요청 전송부터 응답 완료까지")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(properties.minExpectedLatencyUs() * 1_000L))
+                .maximumExpectedValue(Duration.ofMillis(properties.maxExpectedLatencyMs()))
+                .register(registry);
+        Timer poolAcquire = Timer.builder(POOL_ACQUIRE)
+                .description("요청 시작부터 커넥션 확보까지 (풀 대기)")
+                .tags(tags)
+                .register(registry);
+        Timer dispatchLag = Timer.builder(DISPATCH_LAG)
+                .description("발송 예정 시각 대비 실제 발송 지연 (목표 TPS 실행만)")
+                .tags(tags)
+                .register(registry);
+
+        RunMeters meters = new RunMeters(registry, tags, latency, poolAcquire, dispatchLag, readMeters);
+        metricsCollector.attach(meters);
+        return meters;
+    }
+
+    private FunctionCounter requests(Tags tags, String outcome, LoadTestMetricsCollector metricsCollector,
+                                     ToDoubleFunction<LoadTestMetricsCollector> count) {
+        return FunctionCounter.builder(REQUESTS, metricsCollector, count)
+                .description("완료된 요청 수 (cut_off: 종료 유예 시간이 지나 취소된 요청)")
+                .tags(tags)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    // 순번을 받은 뒤 결과를 기록하기 전까지의 요청 (scrape 시점에 읽는 값들이 서로 조금 어긋날 수 있어 0 미만은 0)
+    private static double inFlight(LoadTestMetricsCollector collector, LongSupplier startedRequests) {
+        long finished = collector.successCount() + collector.failCount() + collector.cutOffCount();
+        return Math.max(0L, startedRequests.getAsLong() - finished);
+    }
+}
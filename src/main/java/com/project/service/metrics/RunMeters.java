@@ -0,0 +1,96 @@
+package com.project.service.metrics;
+
+import com.project.service.dto.RequestResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+ * 실행 하나의 Micrometer 지표 (resultId 태그).
+ *
+ * 요청 수/진행 중 요청 수/누락·잘린 요청 수는 집계기의 LongAdder를 scrape 시점에 읽기만 하므로(RunMeterBinder) 기록 비용이 없습니다.
+ * 요청마다 기록하는 지연시간/풀 대기/발송 지연 Timer는 실행 시작 시 한 번 만들어 필드로 들고 있고,
+ * 실패 카운터는 상태 코드를 인덱스로 하는 배열에 담아 두어 기록 경로에서 태그 조회나 Map/Tags 할당이 없습니다.
+ * (상태 코드별 카운터는 그 코드가 처음 나올 때 한 번만 등록)
+ */
+public final class RunMeters implements AutoCloseable {
+
+    // 비활성화 또는 등록 실패 시: 집계기에 연결하지 않고 close()도 아무것도 하지 않음
+    static final RunMeters NONE = new RunMeters(null, Tags.empty(), null, null, null, List.of());
+
+    static final String ERRORS = "loadtest.run.errors";
+    private static final int MAX_STATUS = 599;
+    private static final int NO_RESPONSE = 0;
+
+    private final MeterRegistry registry;
+    private final Tags tags;
+    private final Timer latency;
+    private final Timer poolAcquire;
+    private final Timer dispatchLag;
+    private final List<Meter> readMeters;
+    private final AtomicReferenceArray<Counter> errorsByStatus = new AtomicReferenceArray<>(MAX_STATUS + 1);
+
+    RunMeters(MeterRegistry registry, Tags tags, Timer latency, Timer poolAcquire, Timer dispatchLag,
+              List<Meter> readMeters) {
+        this.registry = registry;
+        this.tags = tags;
+        this.latency = latency;
+        this.poolAcquire = poolAcquire;
+        this.dispatchLag = dispatchLag;
+        this.readMeters = readMeters;
+    }
+
+    // 요청 1건 (LoadTestMetricsCollector.record에서 호출)
+    void record(RequestResult requestResult) {
+        latency.record(requestResult.latencyNanos(), TimeUnit.NANOSECONDS);
+        if (requestResult.poolAcquireNanos() > 0) {
+            poolAcquire.record(requestResult.poolAcquireNanos(), TimeUnit.NANOSECONDS);
+        }
+        if (!requestResult.success()) {
+            errorCounter(requestResult.httpStatus()).increment();
+        }
+    }
+
+    void recordDispatchLag(long lagNanos) {
+        dispatchLag.record(Math.max(0L, lagNanos), TimeUnit.NANOSECONDS);
+    }
+
+    private Counter errorCounter(int httpStatus) {
+        int index = httpStatus > 0 && httpStatus <= MAX_STATUS ? httpStatus : NO_RESPONSE;
+        Counter counter = errorsByStatus.get(index);
+        if (counter == null) {
+            // 같은 id로 동시에 등록해도 레지스트리가 같은 카운터를 돌려주므로 덮어써도 안전
+            counter = Counter.builder(ERRORS)
+                    .description("응답 상태 코드별 실패 요청 수 (status=none: 응답을 받지 못한 실패)")
+                    .tags(tags)
+                    .tag("status", index == NO_RESPONSE ? "none" : Integer.toString(index))
+                    .register(registry);
+            errorsByStatus.set(index, counter);
+        }
+        return counter;
+    }
+
+    // 실행 종료 시: 레지스트리에서 이번 실행의 지표를 모두 제거 (끝난 실행의 시계열이 계속 노출되지 않도록)
+    @Override
+    public void close() {
+        if (registry == null) {
+            return;
+        }
+        readMeters.forEach(registry::remove);
+        registry.remove(latency);
+        registry.remove(poolAcquire);
+        registry.remove(dispatchLag);
+        for (int i = 0; i < errorsByStatus.length(); i++) {
+            Counter counter = errorsByStatus.get(i);
+            if (counter != null) {
+                registry.remove(counter);
+            }
+        }
+    }
+}
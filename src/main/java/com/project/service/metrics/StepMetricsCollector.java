@@ -0,0 +1,61 @@
+package com.project.service.metrics;
+
+import com.project.service.dto.RequestResult;
+import com.project.service.dto.StepStats;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+// 다단계 여정의 단계별 요청 수/에러 수/지연시간 분포 (단계 번호로 배열에 바로 접근)
+public class StepMetricsCollector {
+
+    private final String[] names;
+    private final LongAdder[] successCounts;
+    private final LongAdder[] failCounts;
+    private final LongAdder[] extractionFailCounts;
+    private final StripedRecorder[] latencyRecorders;  // 단계별 조각 Recorder (LoadTestMetricsCollector와 같은 방식)
+    private final Histogram[] latencyHistograms;       // toStats()가 조각에서 옮겨 담은 단계별 전체 분포
+
+    public StepMetricsCollector(List<String> stepNames) {
+        int size = stepNames.size();
+        this.names = stepNames.toArray(new String[0]);
+        this.successCounts = new LongAdder[size];
+        this.failCounts = new LongAdder[size];
+        this.extractionFailCounts = new LongAdder[size];
+        this.latencyRecorders = new StripedRecorder[size];
+        this.latencyHistograms = new Histogram[size];
+        for (int i = 0; i < size; i++) {
+            successCounts[i] = new LongAdder();
+            failCounts[i] = new LongAdder();
+            extractionFailCounts[i] = new LongAdder();
+            latencyRecorders[i] = new StripedRecorder(
+                    StripedRecorder.defaultStripeCount(), LoadTestMetricsCollector.SIGNIFICANT_VALUE_DIGITS);
+            latencyHistograms[i] = new Histogram(LoadTestMetricsCollector.SIGNIFICANT_VALUE_DIGITS);
+        }
+    }
+
+    public void record(int stepIndex, RequestResult requestResult, boolean extractionFailed) {
+        if (requestResult.success()) {
+            successCounts[stepIndex].increment();
+        } else {
+            failCounts[stepIndex].increment();
+            if (extractionFailed) {
+                extractionFailCounts[stepIndex].increment();
+            }
+        }
+        latencyRecorders[stepIndex].recordValue(LoadTestMetricsCollector.toBoundedMicros(requestResult.latencyNanos()));
+    }
+
+    public synchronized List<StepStats> toStats() {
+        List<StepStats> stats = new ArrayList<>(names.length);
+        for (int i = 0; i < names.length; i++) {
+            latencyRecorders[i].drainInto(latencyHistograms[i]);
+            stats.add(new StepStats(i + 1, names[i],
+                    successCounts[i].sum(), failCounts[i].sum(), extractionFailCounts[i].sum(),
+                    HistogramSupport.summarize(latencyHistograms[i])));
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,77 @@
+package com.project.service.metrics;
+
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/*
+ * 여러 조각(stripe)으로 나눈 Recorder 묶음.
+ *
+ * 기존 방식:
+ * 모든 워커가 AtomicHistogram 하나에 기록해, 카운트 배열/totalCount 같은 캐시 라인에 CAS가 몰렸습니다.
+ * 초당 수십만 건을 여러 코어에서 기록하면 CAS 실패/재시도와 캐시 라인 이동(false sharing)이 기록 비용의 대부분이 됩니다.
+ *
+ * 변경 방식:
+ * 기록 스레드는 스레드 ID로 정해지는 조각 하나에만 기록합니다. 조각 수는 코어 수 이상이라 같은 조각에 동시에 쓰는 스레드가 드뭅니다.
+ * (가상 스레드는 요청마다 새로 만들어지므로 ThreadLocal 히스토그램은 쓰지 않음: 스레드 수만큼 히스토그램이 생김)
+ * 각 조각은 wait-free Recorder라 같은 조각을 여러 스레드가 써도 안전하고,
+ * 읽는 쪽은 drainInto()로 조각마다 활성/비활성 히스토그램을 교체해 합칩니다. (기록을 멈추지 않음)
+ * 조각 히스토그램은 자동 확장이라 실제로 기록된 값 범위만큼만 메모리를 씁니다.
+ */
+final class StripedRecorder {
+
+    private final Recorder[] stripes;
+    private final Histogram[] recycled;   // 조각별로 재사용하는 구간 히스토그램 (drainInto 호출 스레드만 사용)
+    private final int mask;
+
+    StripedRecorder(int stripeCount, int significantValueDigits) {
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1; // 2의 거듭제곱으로 올림
+        this.stripes = new Recorder[size];
+        this.recycled = new Histogram[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Recorder(significantValueDigits);
+        }
+    }
+
+    // 코어 수의 2배 (가상 스레드가 carrier를 옮겨 다녀도 한 조각에 몰리지 않도록 여유)
+    static int defaultStripeCount() {
+        return Math.min(64, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    void recordValue(long value) {
+        stripe().recordValue(value);
+    }
+
+    void recordValueWithExpectedInterval(long value, long expectedInterval) {
+        stripe().recordValueWithExpectedInterval(value, expectedInterval);
+    }
+
+    int stripeCount() {
+        return stripes.length;
+    }
+
+    // 직전 호출 이후 모든 조각에 기록된 값을 targets에 더함 (호출자가 한 번에 한 스레드만 부르도록 보장)
+    void drainInto(AbstractHistogram... targets) {
+        for (int i = 0; i < stripes.length; i++) {
+            Histogram interval = stripes[i].getIntervalHistogram(recycled[i]);
+            recycled[i] = interval;
+            if (interval.getTotalCount() == 0) {
+                continue;
+            }
+            for (AbstractHistogram target : targets) {
+                target.add(interval);
+            }
+        }
+    }
+
+    private Recorder stripe() {
+        return stripes[stripeIndex(Thread.currentThread().threadId(), mask)];
+    }
+
+    // 연속된 스레드 ID가 여러 조각에 고르게 퍼지도록 곱셈 해시의 상위 비트를 사용 (Fibonacci hashing)
+    // 조각이 1개(mask = 0)면 시프트가 64(= 0)가 되지만 & mask로 항상 0
+    static int stripeIndex(long threadId, int mask) {
+        return (int) ((threadId * 0x9E3779B97F4A7C15L) >>> (64 - Integer.bitCount(mask))) & mask;
+    }
+}
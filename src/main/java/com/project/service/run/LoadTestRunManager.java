@@ -0,0 +1,366 @@
+package com.project.service.run;
+
+import com.project.config.RunManagerProperties;
+import com.project.model.LoadTestResult;
+import com.project.model.LoadTestScenario;
+import com.project.service.LoadTestService;
+import com.project.service.client.ConnectionProfile;
+import com.project.service.dto.CapacitySearchRequest;
+import com.project.service.dto.RunState;
+import com.project.service.dto.RunStatus;
+import com.project.service.runner.LoadProfile;
+import com.project.service.runner.RunAbort;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/*
+ * 비동기 실행 관리.
+ *
+ * 기존 방식:
+ * LoadTestService.startTestEngine()은 호출한 스레드를 durationSeconds 동안 붙잡고, 실행을 멈출 방법이 없었습니다.
+ *
+ * 변경 방식:
+ * submit()은 시나리오/결과 row만 만들고 결과 ID(= 실행 ID)를 바로 돌려주며, 실행은 실행마다 별도 스레드에서 진행합니다.
+ * 동시에 실행 중인 실행 수와 동시 요청 수/커넥션 수 합계가 한도를 넘지 않도록, 넘는 실행은 제출 순서대로 대기열에서 기다립니다.
+ * (실행마다 커넥션 풀/이벤트 루프는 이미 따로 만들므로, 여기서는 합계만 제한해 병렬 실행끼리 생성기 자원을 빼앗지 않게 함)
+ * abort()는 대기 중이면 시작하지 않고 종료, 실행 중이면 RunAbort로 발송을 멈추고 진행 중 요청을 바로 취소합니다.
+ * 용량 탐색도 probe 반복 전체를 실행 1회로 같은 대기열/한도/중단 경로에서 관리합니다.
+ * 분산 실행은 부하를 워커가 만들므로, 코디네이터 실행은 실행 수 한도만 쓰고 동시 요청 수/커넥션 수는 각 워커 노드가 reserve()로 잡습니다.
+ * (코디네이터가 워커를 겸해도 두 번 세지 않음)
+ */
+@Slf4j
+@Service
+public class LoadTestRunManager {
+
+    private final LoadTestService loadTestService;
+    private final RunManagerProperties properties;
+    private final Clock clock;
+
+    // 아래 필드는 모두 this 락 안에서만 접근
+    private final Map<Long, ManagedRun> runs = new LinkedHashMap<>(); // 제출 순서
+    private final Deque<ManagedRun> queue = new ArrayDeque<>();
+    private final Deque<ManagedRun> finished = new ArrayDeque<>();
+    private int pendingSubmits; // prepare 중인 제출 (대기열 자리를 미리 잡아 둔 수)
+    private int runningCount;
+    private int threadsInUse;
+    private int connectionsInUse;
+
+    public LoadTestRunManager(LoadTestService loadTestService, RunManagerProperties properties, Clock clock) {
+        this.loadTestService = loadTestService;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    public RunStatus submit(LoadTestScenario scenario) {
+        return submit(checkedBudget(scenario), () -> loadTestService.prepareRun(scenario),
+                (result, abort) -> loadTestService.executeRun(scenario, result, abort));
+    }
+
+    // 용량 탐색: 실행 ID = 요약 결과 ID, 진행 중 probe는 /results/{resultId}/probes로 조회
+    public RunStatus submitCapacitySearch(CapacitySearchRequest request) {
+        return submit(checkedBudget(request.scenario()), () -> loadTestService.prepareCapacitySearch(request),
+                (summary, abort) -> loadTestService.executeCapacitySearch(request, summary, abort));
+    }
+
+    // 분산 실행(코디네이터): 중단하면 워커의 부하도 멈추고 그때까지의 병합 집계로 확정
+    public RunStatus submitDistributed(LoadTestScenario scenario, List<String> workerUrls) {
+        return submit(RunBudget.NONE, () -> loadTestService.prepareRun(scenario),
+                (result, abort) -> loadTestService.executeDistributedRun(scenario, workerUrls, result, abort));
+    }
+
+    /*
+     * 바로 시작해야 하는 실행(분산 실행의 워커 몫)의 자원 확보
+     * 기존 방식: 워커 실행은 한도를 거치지 않아, 같은 노드의 다른 실행과 합쳐 동시 요청 수/커넥션 수 합계를 넘을 수 있었습니다.
+     * 변경 방식: 시작 시각이 정해져 있어 대기열에서 기다릴 수 없으므로, 지금 한도 안에 들어올 때만 자원을 잡고 아니면 거절
+     */
+    public synchronized Reservation reserve(LoadTestScenario scenario) {
+        RunBudget budget = checkedBudget(scenario);
+        if (runningCount >= properties.maxConcurrentRuns() || !fits(budget)) {
+            throw new IllegalStateException("Not enough load generator capacity: running " + runningCount
+                    + ", concurrent requests " + threadsInUse + ", connections " + connectionsInUse);
+        }
+        acquire(budget);
+        return new Reservation(budget);
+    }
+
+    // 혼자서도 한도를 넘는 실행은 대기열에서 영원히 시작하지 못하므로 제출 시점에 거절
+    private RunBudget checkedBudget(LoadTestScenario scenario) {
+        RunBudget budget = RunBudget.of(scenario);
+        int maxThreads = Math.min(properties.maxVirtualThreadsPerRun(), properties.maxTotalVirtualThreads());
+        int maxConnections = Math.min(properties.maxConnectionsPerRun(), properties.maxTotalConnections());
+        if (budget.threads() > maxThreads) {
+            throw new IllegalArgumentException("Run needs " + budget.threads() + " concurrent requests, limit is " + maxThreads);
+        }
+        if (budget.connections() > maxConnections) {
+            throw new IllegalArgumentException("Run needs " + budget.connections() + " connections, limit is " + maxConnections);
+        }
+        return budget;
+    }
+
+    /*
+     * 기존 방식: 대기열 길이 확인과 addLast가 서로 다른 락 구간이고 그 사이에 prepare(DB insert)가 있어,
+     * 동시에 제출하면 모두 확인을 통과해 maxQueuedRuns를 넘게 쌓였습니다.
+     * 변경 방식: 확인하는 락 안에서 자리를 미리 잡고(pendingSubmits), prepare가 실패하면 돌려줌
+     */
+    private RunStatus submit(RunBudget budget, Supplier<LoadTestResult> prepare, RunTask task) {
+        synchronized (this) {
+            if (queue.size() + pendingSubmits >= properties.maxQueuedRuns()) {
+                throw new IllegalStateException("Run queue is full: " + (queue.size() + pendingSubmits));
+            }
+            pendingSubmits++;
+        }
+
+        LoadTestResult result;
+        try {
+            result = prepare.get();
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                pendingSubmits--;
+            }
+            throw e;
+        }
+        ManagedRun run = new ManagedRun(task, result, budget, LocalDateTime.now(clock));
+        synchronized (this) {
+            pendingSubmits--;
+            runs.put(run.id(), run);
+            queue.addLast(run);
+            admit();
+            return toStatus(run);
+        }
+    }
+
+    public synchronized Optional<RunStatus> status(long runId) {
+        return Optional.ofNullable(runs.get(runId)).map(this::toStatus);
+    }
+
+    // 대기/실행 중인 실행과 최근 종료된 실행 (제출 순서)
+    public synchronized List<RunStatus> list() {
+        return runs.values().stream().map(this::toStatus).toList();
+    }
+
+    public Optional<RunStatus> abort(long runId) {
+        ManagedRun run;
+        boolean abandoned = false;
+        synchronized (this) {
+            run = runs.get(runId);
+            if (run == null) {
+                return Optional.empty();
+            }
+            if (run.state == RunState.QUEUED) {
+                queue.remove(run);
+                markFinished(run, RunState.ABORTED, null);
+                abandoned = true;
+            } else if (run.state == RunState.RUNNING) {
+                // 실행 스레드가 진행 중 요청을 정리하고 결과를 저장한 뒤 ABORTED로 바꿈
+                run.state = RunState.ABORTING;
+                run.abort.abort();
+            }
+        }
+        if (abandoned) {
+            loadTestService.abandonRun(run.result);
+        }
+        synchronized (this) {
+            return Optional.of(toStatus(run));
+        }
+    }
+
+    // 애플리케이션 종료: 실행 중인 실행은 중단하고, 대기 중인 실행은 시작하지 않고 종료 처리
+    @PreDestroy
+    public void shutdown() {
+        List<ManagedRun> abandoned;
+        synchronized (this) {
+            abandoned = new ArrayList<>(queue);
+            queue.clear();
+            abandoned.forEach(run -> markFinished(run, RunState.ABORTED, null));
+            runs.values().stream()
+                    .filter(run -> run.state == RunState.RUNNING)
+                    .forEach(run -> {
+                        run.state = RunState.ABORTING;
+                        run.abort.abort();
+                    });
+        }
+        for (ManagedRun run : abandoned) {
+            try {
+                loadTestService.abandonRun(run.result);
+            } catch (RuntimeException e) {
+                log.warn("Failed to mark queued run as aborted. runId={}", run.id(), e);
+            }
+        }
+    }
+
+    // 대기열 앞에서부터 한도 안에 들어오는 실행을 시작 (this 락 안에서 호출)
+    private void admit() {
+        while (!queue.isEmpty() && runningCount < properties.maxConcurrentRuns()) {
+            ManagedRun next = queue.peekFirst();
+            // 제출 순서 유지: 큰 실행이 뒤에 온 작은 실행들에 계속 밀리지 않도록 앞 실행을 건너뛰지 않음
+            if (!fits(next.budget)) {
+                return;
+            }
+            queue.pollFirst();
+            acquire(next.budget);
+            next.state = RunState.RUNNING;
+            next.startedAt = LocalDateTime.now(clock);
+            Thread.ofVirtual().name("load-test-run-" + next.id()).start(() -> execute(next));
+        }
+    }
+
+    /*
+     * 결과 row는 실패해도 executeRun/executeCapacitySearch가 aborted + errorMessage로 확정합니다.
+     * 기존 방식: RuntimeException만 잡아, Error(OOM 등)가 나면 finish()를 건너뛰어 한도 합계가 반환되지 않고 대기열이 영영 멈췄습니다.
+     * 변경 방식: 어떻게 끝나든 finally에서 finish()
+     */
+    private void execute(ManagedRun run) {
+        RunState state = RunState.FAILED;
+        String error = null;
+        try {
+            run.task.execute(run.result, run.abort);
+            state = run.abort.isAborted() ? RunState.ABORTED : RunState.COMPLETED;
+        } catch (RuntimeException e) {
+            log.warn("Load test run failed. runId={}", run.id(), e);
+            error = e.toString();
+        } catch (Error e) {
+            log.error("Load test run failed. runId={}", run.id(), e);
+            error = e.toString();
+            throw e;
+        } finally {
+            finish(run, state, error);
+        }
+    }
+
+    private synchronized void finish(ManagedRun run, RunState state, String error) {
+        release(run.budget);
+        markFinished(run, state, error);
+        admit();
+    }
+
+    // 아래 세 메서드는 this 락 안에서 호출
+    private boolean fits(RunBudget budget) {
+        return threadsInUse + budget.threads() <= properties.maxTotalVirtualThreads()
+                && connectionsInUse + budget.connections() <= properties.maxTotalConnections();
+    }
+
+    private void acquire(RunBudget budget) {
+        runningCount++;
+        threadsInUse += budget.threads();
+        connectionsInUse += budget.connections();
+    }
+
+    private void release(RunBudget budget) {
+        runningCount--;
+        threadsInUse -= budget.threads();
+        connectionsInUse -= budget.connections();
+    }
+
+    // 종료된 실행은 finishedRunRetention개까지만 상태 조회용으로 남김 (this 락 안에서 호출)
+    private void markFinished(ManagedRun run, RunState state, String error) {
+        run.state = state;
+        run.error = error;
+        run.endedAt = LocalDateTime.now(clock);
+        finished.addLast(run);
+        while (finished.size() > properties.finishedRunRetention()) {
+            runs.remove(finished.pollFirst().id());
+        }
+    }
+
+    private RunStatus toStatus(ManagedRun run) {
+        Integer queuePosition = null;
+        if (run.state == RunState.QUEUED) {
+            int position = 0;
+            for (ManagedRun queued : queue) {
+                if (queued == run) {
+                    queuePosition = position;
+                    break;
+                }
+                position++;
+            }
+        }
+        return new RunStatus(run.id(), run.result.getScenarioId(), run.state, queuePosition,
+                run.submittedAt, run.startedAt, run.endedAt,
+                run.state.isFinished() ? run.result : null, run.error);
+    }
+
+    /*
+     * 실행 1회가 차지하는 생성기 자원
+     * threads: 동시 요청 수 (closed model + 부하 프로파일이면 최대 워커 수, 그 외 virtualThreadCount)
+     * connections: 커넥션 풀 크기 (ConnectionProfile 기본값 규칙과 같음)
+     */
+    record RunBudget(int threads, int connections) {
+
+        // 부하를 직접 만들지 않는 실행 (분산 실행의 코디네이터)
+        static final RunBudget NONE = new RunBudget(0, 0);
+
+        static RunBudget of(LoadTestScenario scenario) {
+            LoadProfile profile = LoadProfile.of(scenario);
+            int threads = profile != null && scenario.getTargetTps() <= 0
+                    ? profile.peakLevel()
+                    : scenario.getVirtualThreadCount();
+            return new RunBudget(Math.max(1, threads), ConnectionProfile.from(scenario).maxConnections());
+        }
+    }
+
+    // reserve()로 잡은 자원: 실행이 끝나면(성공/실패 모두) release()로 반환, 두 번 호출해도 한 번만 반환
+    public final class Reservation {
+
+        private final RunBudget budget;
+        private boolean released; // LoadTestRunManager 락 안에서만 접근
+
+        private Reservation(RunBudget budget) {
+            this.budget = budget;
+        }
+
+        public void release() {
+            synchronized (LoadTestRunManager.this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+                LoadTestRunManager.this.release(budget);
+                admit();
+            }
+        }
+    }
+
+    // 실행 본문: 결과 row 확정(실패 시 포함)은 LoadTestService가 맡음
+    @FunctionalInterface
+    private interface RunTask {
+        void execute(LoadTestResult result, RunAbort abort);
+    }
+
+    private static final class ManagedRun {
+
+        private final RunTask task;
+        private final LoadTestResult result;
+        private final RunBudget budget;
+        private final RunAbort abort = new RunAbort();
+        private final LocalDateTime submittedAt;
+
+        // 아래 필드는 LoadTestRunManager 락 안에서만 접근
+        private RunState state = RunState.QUEUED;
+        private LocalDateTime startedAt;
+        private LocalDateTime endedAt;
+        private String error;
+
+        private ManagedRun(RunTask task, LoadTestResult result, RunBudget budget, LocalDateTime submittedAt) {
+            this.task = task;
+            this.result = result;
+            this.budget = budget;
+            this.submittedAt = submittedAt;
+        }
+
+        private long id() {
+            return result.getId();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.project.service.runner;
+
+import com.project.model.LoadTestScenario;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+ * 목표 TPS 기반 도착률(open model) 스케줄러.
+ *
+ * n번째 요청의 발송 예정 시각을 "시작시각 + n * (1초 / TPS)"로 고정 계산합니다.
+ * 응답이 느려져도 다음 발송 시각은 밀리지 않으므로, 대상 서버 상태와 무관하게 같은 부하를 재현할 수 있습니다.
+ * 시각 기준은 System.nanoTime()(단조 증가)이며, 벽시계(System.currentTimeMillis()) 폴링은 사용하지 않습니다.
+ * 부하 프로파일(ramp/step/spike)이 있으면 예정 시각을 프로파일의 누적 도착 수에서 역산합니다.
+ */
+public class ArrivalRateScheduler {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    // 남은 대기 시간이 이 값보다 짧으면 park 대신 spin (park의 깨어남 오차가 수십 us 수준이기 때문)
+    private static final long SPIN_THRESHOLD_NANOS = 50_000L;
+
+    private final int targetTps;
+    private final long durationNanos;
+    private final LoadProfile profile;  // null이면 targetTps로 일정
+
+    private long startNanos;
+    private long nextIndex;
+
+    public ArrivalRateScheduler(int targetTps, long durationNanos) {
+        if (targetTps <= 0) {
+            throw new IllegalArgumentException("targetTps must be positive: " + targetTps);
+        }
+        this.targetTps = targetTps;
+        this.durationNanos = durationNanos;
+        this.profile = null;
+    }
+
+    public ArrivalRateScheduler(LoadProfile profile) {
+        this.targetTps = profile.peakLevel();
+        this.durationNanos = profile.durationNanos();
+        this.profile = profile;
+    }
+
+    // 시나리오에 부하 프로파일이 있으면 프로파일대로, 없으면 targetTps로 durationSeconds 동안
+    public static ArrivalRateScheduler forScenario(LoadTestScenario scenario) {
+        LoadProfile profile = LoadProfile.of(scenario);
+        return profile != null
+                ? new ArrivalRateScheduler(profile)
+                : new ArrivalRateScheduler(scenario.getTargetTps(), TimeUnit.SECONDS.toNanos(scenario.getDurationSeconds()));
+    }
+
+    public void start() {
+        this.startNanos = System.nanoTime();
+        this.nextIndex = 0;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    // 다음 발송 예정 시각이 테스트 구간 안에 있는지 여부
+    public boolean hasNextSlot() {
+        return offsetOf(nextIndex) < durationNanos;
+    }
+
+    /*
+     * 다음 발송 예정 시각까지 대기한 뒤 그 예정 시각(nanoTime 기준)을 반환합니다.
+     * 이미 예정 시각이 지났다면(디스패처 지연) 대기 없이 즉시 반환하며, 지연량은 호출자가 측정합니다.
+     */
+    public long awaitNextSlot() {
+        long intendedNanos = nextSlot();
+        parkUntil(intendedNanos);
+        return intendedNanos;
+    }
+
+    // 다음 발송 예정 시각 (슬롯을 소비하지 않음)
+    public long peekNextSlotNanos() {
+        return startNanos + offsetOf(nextIndex);
+    }
+
+    // 대기 없이 다음 슬롯을 소비하고 그 예정 시각을 반환 (non-blocking 디스패처용)
+    public long nextSlot() {
+        long intendedNanos = peekNextSlotNanos();
+        nextIndex++;
+        return intendedNanos;
+    }
+
+    long offsetOf(long index) {
+        if (profile != null) {
+            return profile.arrivalOffsetNanos(index);
+        }
+        // index * 1e9 / tps : 정수 나눗셈 누적 오차가 생기지 않도록 매번 index 기준으로 재계산
+        return index * NANOS_PER_SECOND / targetTps;
+    }
+
+    static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
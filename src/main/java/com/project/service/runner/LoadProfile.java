@@ -0,0 +1,229 @@
+package com.project.service.runner;
+
+import com.project.model.LoadStageType;
+import com.project.model.LoadTestScenario;
+import com.project.model.LoadTestScenarioStage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 시나리오 부하 프로파일 단계들을 "시간 -> 부하 수준" 구간별 선형 함수로 펼친 것.
+ *
+ * 기존 방식:
+ * 테스트 시작과 동시에 virtualThreadCount개 워커(또는 targetTps)를 한 번에 띄우고 끝날 때까지 그대로 유지했습니다.
+ * 시작 순간 수천 개의 커넥션 요청이 대상 서버의 accept 큐로 몰려(stampede), 처리량 곡선의 꺾이는 지점(knee)을 찾기 어려웠습니다.
+ *
+ * 부하 수준은 open model이면 초당 도착 수(TPS), closed model이면 동시 워커 수입니다.
+ *  - open model: 도착 수의 누적값(수준의 적분)을 역산해 n번째 요청의 발송 예정 시각을 계산 -> ramp 동안 발송 간격이 고르게 줄어듦
+ *  - closed model: 워커 i는 수준이 i보다 클 때만 요청을 보냄 -> ramp 동안 워커가 한 개씩 차례로 시작/중지
+ * 두 경우 모두 ramp에서는 새 커넥션이 시간에 고르게 퍼지고, 일부러 한 번에 올리는 것은 STEP/SPIKE 단계뿐입니다.
+ */
+public final class LoadProfile {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    // [startNanos, startNanos + durationNanos) 동안 수준이 fromLevel -> toLevel로 선형 변화
+    private record Segment(long startNanos, long durationNanos,
+                           double fromLevel, double toLevel, double arrivalsBefore) {
+
+        long endNanos() {
+            return startNanos + durationNanos;
+        }
+
+        double arrivals() {
+            return (fromLevel + toLevel) / 2 * durationNanos / NANOS_PER_SECOND;
+        }
+
+        double levelAt(long offsetNanos) {
+            if (durationNanos == 0 || fromLevel == toLevel) {
+                return fromLevel;
+            }
+            return fromLevel + (toLevel - fromLevel) * (offsetNanos - startNanos) / durationNanos;
+        }
+    }
+
+    private final Segment[] segments;
+    private final long[] stageStartNanos;
+    private final long durationNanos;
+    private final double totalArrivals;
+    private final int peakLevel;
+
+    private LoadProfile(Segment[] segments, long[] stageStartNanos, long durationNanos, int peakLevel) {
+        this.segments = segments;
+        this.stageStartNanos = stageStartNanos;
+        this.durationNanos = durationNanos;
+        this.peakLevel = peakLevel;
+        Segment last = segments[segments.length - 1];
+        this.totalArrivals = last.arrivalsBefore() + last.arrivals();
+    }
+
+    // 단계가 없는 시나리오면 null (기존처럼 일정한 부하)
+    public static LoadProfile of(LoadTestScenario scenario) {
+        return scenario.hasStages() ? of(scenario.getStages()) : null;
+    }
+
+    public static LoadProfile of(List<LoadTestScenarioStage> stages) {
+        if (stages.isEmpty()) {
+            throw new IllegalArgumentException("Load profile needs at least one stage");
+        }
+        List<Segment> segments = new ArrayList<>();
+        long[] stageStartNanos = new long[stages.size()];
+        long offset = 0;
+        double level = 0;     // 프로파일은 부하 0에서 시작
+        double arrivals = 0;
+        int peak = 0;
+
+        for (int index = 0; index < stages.size(); index++) {
+            LoadTestScenarioStage stage = stages.get(index);
+            if (stage.getStageType() == null) {
+                throw new IllegalArgumentException("Stage " + (index + 1) + " has no stageType");
+            }
+            if (stage.getDurationSeconds() <= 0 || stage.getTarget() < 0) {
+                throw new IllegalArgumentException("Stage " + (index + 1) + " needs positive durationSeconds and non-negative target");
+            }
+            stageStartNanos[index] = offset;
+            long stageNanos = TimeUnit.SECONDS.toNanos(stage.getDurationSeconds());
+            double target = stage.getTarget();
+            peak = Math.max(peak, stage.getTarget());
+
+            List<double[]> parts = new ArrayList<>(); // {시작 수준, 끝 수준, 길이(ns)}
+            switch (stage.getStageType()) {
+                case RAMP -> parts.add(new double[]{level, target, stageNanos});
+                case PLATEAU, SPIKE -> parts.add(new double[]{target, target, stageNanos});
+                case STEP -> {
+                    int stepCount = Math.max(1, stage.getStepCount());
+                    long partStart = 0;
+                    for (int step = 1; step <= stepCount; step++) {
+                        // 나누어 떨어지지 않는 나머지는 마지막 계단에 포함
+                        long partEnd = stageNanos * step / stepCount;
+                        double stepLevel = level + (target - level) * step / stepCount;
+                        parts.add(new double[]{stepLevel, stepLevel, partEnd - partStart});
+                        partStart = partEnd;
+                    }
+                }
+            }
+            for (double[] part : parts) {
+                Segment segment = new Segment(offset, (long) part[2], part[0], part[1], arrivals);
+                segments.add(segment);
+                offset = segment.endNanos();
+                arrivals += segment.arrivals();
+            }
+            // SPIKE가 끝나면 급증 전 수준으로 복귀
+            if (stage.getStageType() != LoadStageType.SPIKE) {
+                level = target;
+            }
+        }
+        return new LoadProfile(segments.toArray(new Segment[0]), stageStartNanos, offset, peak);
+    }
+
+    public long durationNanos() {
+        return durationNanos;
+    }
+
+    public int stageCount() {
+        return stageStartNanos.length;
+    }
+
+    // 단계 시작 시각 (프로파일 시작 기준 오프셋)
+    public long stageStartNanos(int stage) {
+        return stageStartNanos[stage];
+    }
+
+    // 가장 높은 단계 목표 (closed model 워커 수 / 동시 처리 한도 산정용)
+    public int peakLevel() {
+        return peakLevel;
+    }
+
+    // offsetNanos 시점이 속한 단계 (시작 전이면 0, 끝난 뒤면 마지막 단계)
+    public int stageAt(long offsetNanos) {
+        int stage = 0;
+        while (stage + 1 < stageStartNanos.length && stageStartNanos[stage + 1] <= offsetNanos) {
+            stage++;
+        }
+        return stage;
+    }
+
+    public double levelAt(long offsetNanos) {
+        if (offsetNanos < 0 || offsetNanos >= durationNanos) {
+            return 0;
+        }
+        return segments[segmentAt(offsetNanos)].levelAt(offsetNanos);
+    }
+
+    /*
+     * open model: index번째(0부터) 요청의 발송 예정 시각 (프로파일 시작 기준, 없으면 Long.MAX_VALUE)
+     * 구간 안의 누적 도착 수 N(t) = r0 * t + (r1 - r0) / (2D) * t^2 를 t에 대해 풀어서 구합니다.
+     */
+    public long arrivalOffsetNanos(long index) {
+        if (index >= totalArrivals) {
+            return Long.MAX_VALUE;
+        }
+        Segment segment = segments[segmentOfArrival(index)];
+        double remaining = index - segment.arrivalsBefore();
+        double seconds = segment.durationNanos() / NANOS_PER_SECOND;
+        double r0 = segment.fromLevel();
+        double a = (segment.toLevel() - r0) / (2 * seconds);
+        // 근의 공식 대신 2c / (b + sqrt(b^2 + 4ac)) 형태: a가 0에 가깝거나 음수(ramp-down)여도 안정적
+        double root = Math.sqrt(Math.max(0, r0 * r0 + 4 * a * remaining));
+        double tau = r0 + root > 0 ? 2 * remaining / (r0 + root) : 0;
+        return segment.startNanos() + Math.min(segment.durationNanos(), (long) (tau * NANOS_PER_SECOND));
+    }
+
+    /*
+     * closed model: worker번(0부터) 워커가 offsetNanos 이후 처음으로 요청을 보낼 수 있는 시각
+     * (이미 보낼 수 있으면 offsetNanos 그대로, 프로파일이 끝날 때까지 다시 차례가 없으면 -1)
+     */
+    public long activeOffsetNanos(int worker, long offsetNanos) {
+        long from = Math.max(0, offsetNanos);
+        if (from >= durationNanos) {
+            return -1;
+        }
+        for (int i = segmentAt(from); i < segments.length; i++) {
+            Segment segment = segments[i];
+            long start = Math.max(from, segment.startNanos());
+            if (segment.levelAt(start) > worker) {
+                return start;
+            }
+            if (segment.toLevel() > segment.fromLevel() && segment.toLevel() > worker) {
+                // 증가 구간: 수준이 worker를 넘는 시각
+                double fraction = (worker - segment.fromLevel()) / (segment.toLevel() - segment.fromLevel());
+                long crossing = segment.startNanos() + (long) Math.ceil(fraction * segment.durationNanos()) + 1;
+                if (crossing < segment.endNanos()) {
+                    return Math.max(start, crossing);
+                }
+            }
+        }
+        return -1;
+    }
+
+    private int segmentAt(long offsetNanos) {
+        int low = 0;
+        int high = segments.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (segments[mid].startNanos() <= offsetNanos) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    // arrivalsBefore <= index 인 마지막 구간 (수준 0인 구간은 뒤 구간과 arrivalsBefore가 같아 선택되지 않음)
+    private int segmentOfArrival(long index) {
+        int low = 0;
+        int high = segments.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (segments[mid].arrivalsBefore() <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+}
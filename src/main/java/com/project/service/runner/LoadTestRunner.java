@@ -1,55 +1,290 @@
 package com.project.service.runner;
 
+import com.project.config.RunTerminationProperties;
+import com.project.model.ExecutionMode;
 import com.project.model.LoadTestScenario;
+import com.project.service.client.ConnectionProfile;
+import com.project.service.client.LoadTestHttpClient;
+import com.project.service.client.LoadTestHttpClientFactory;
 import com.project.service.client.LoadTestRequestExecutor;
+import com.project.service.client.RequestTemplate;
 import com.project.service.dto.RequestResult;
+import com.project.service.dto.StepStats;
 import com.project.service.dto.TestStats;
+import com.project.service.feed.DataFeed;
+import com.project.service.feed.DataFeedExhaustedException;
+import com.project.service.feed.DataFeedFactory;
+import com.project.service.health.GeneratorHealthMonitor;
+import com.project.service.journey.CompiledJourney;
+import com.project.service.journey.ParameterizedRequest;
+import com.project.service.live.IntervalSink;
+import com.project.service.live.LiveMetricsPublisher;
 import com.project.service.metrics.LoadTestMetricsCollector;
+import com.project.service.metrics.RunMeterBinder;
+import com.project.service.metrics.RunMeters;
+import com.project.service.metrics.StepMetricsCollector;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 @Component
 public class LoadTestRunner {
 
     private final LoadTestRequestExecutor requestExecutor;
+    private final LoadTestHttpClientFactory httpClientFactory;
+    private final ReactiveLoadEngine reactiveLoadEngine;
+    private final LiveMetricsPublisher liveMetricsPublisher;
+    private final DataFeedFactory dataFeedFactory;
+    private final GeneratorHealthMonitor generatorHealthMonitor;
+    private final RunMeterBinder runMeterBinder;
+    private final long gracePeriodNanos;
 
-    public LoadTestRunner(LoadTestRequestExecutor requestExecutor) {
+    public LoadTestRunner(LoadTestRequestExecutor requestExecutor,
+                          LoadTestHttpClientFactory httpClientFactory,
+                          ReactiveLoadEngine reactiveLoadEngine,
+                          LiveMetricsPublisher liveMetricsPublisher,
+                          DataFeedFactory dataFeedFactory,
+                          GeneratorHealthMonitor generatorHealthMonitor,
+                          RunMeterBinder runMeterBinder,
+                          RunTerminationProperties terminationProperties) {
         this.requestExecutor = requestExecutor;
+        this.httpClientFactory = httpClientFactory;
+        this.reactiveLoadEngine = reactiveLoadEngine;
+        this.liveMetricsPublisher = liveMetricsPublisher;
+        this.dataFeedFactory = dataFeedFactory;
+        this.generatorHealthMonitor = generatorHealthMonitor;
+        this.runMeterBinder = runMeterBinder;
+        this.gracePeriodNanos = TimeUnit.MILLISECONDS.toNanos(terminationProperties.gracePeriodMs());
     }
 
-    public TestStats run(LoadTestScenario scenario, long resultId) {
+    // 중단 가능한 실행: abort.abort()가 호출되면 종료 시각 전이라도 바로 멈추고 그때까지의 집계를 반환
+    public TestStats run(LoadTestScenario scenario, long resultId, RunAbort abort) {
+        // 성공/실패 카운트 + latency 통계를 누적하는 집계기
+        LoadTestMetricsCollector metricsCollector = newMetricsCollector(scenario);
+        // 실행 중 구간 지표 발행 시작 (종료 시 마지막 구간까지 발행, 구간은 시계열 테이블에 저장)
+        return run(scenario, resultId, metricsCollector, liveMetricsPublisher.start(resultId, metricsCollector), abort);
+    }
+
+    // 분산 실행의 워커: 구간 지표를 직접 저장하지 않고 intervalSink(코디네이터 전달용)로 넘김, 코디네이터가 정리하면 abort로 중단
+    public TestStats run(LoadTestScenario scenario, long resultId, IntervalSink intervalSink, RunAbort abort) {
+        LoadTestMetricsCollector metricsCollector = newMetricsCollector(scenario);
+        return run(scenario, resultId, metricsCollector, liveMetricsPublisher.start(resultId, metricsCollector, intervalSink),
+                abort);
+    }
+
+    // 구간 지표는 평소처럼 저장하고 observer에도 넘김
+    // 통과 기준이 있는 실행: observer(기준 판정)가 기준을 어기면 abort로 실행을 멈출 수 있음
+    // 용량 탐색 probe: observer는 SLO 판정, abort는 탐색 전체의 중단
+    public TestStats runObserved(LoadTestScenario scenario, long resultId, IntervalSink observer, RunAbort abort) {
+        LoadTestMetricsCollector metricsCollector = newMetricsCollector(scenario);
+        return run(scenario, resultId, metricsCollector, liveMetricsPublisher.startObserved(resultId, metricsCollector, observer),
+                abort);
+    }
+
+    /*
+     * 발송 지연 판정 기준: Reactor 파이프라인(reactive 모드, 다단계 여정)은 틱 단위 발송이라 틱 크기만큼 여유를 둠
+     * expected interval 보정은 closed model에만 적용합니다.
+     * open model(목표 TPS, 도착률 부하 프로파일 포함)은 이미 발송 예정 시각부터 지연을 재므로,
+     * 보정까지 하면 밀린 대기 시간을 가짜 샘플로 한 번 더 채워 보정 백분위가 부풀려집니다.
+     */
+    static LoadTestMetricsCollector newMetricsCollector(LoadTestScenario scenario) {
+        boolean tickDispatch = scenario.getExecutionMode() == ExecutionMode.REACTIVE || scenario.hasSteps();
+        long expectedIntervalMs = scenario.getTargetTps() > 0 ? 0L : scenario.getExpectedIntervalMs();
+        return new LoadTestMetricsCollector(expectedIntervalMs, tickDispatch
+                ? ReactiveLoadEngine.LATE_DISPATCH_THRESHOLD_NANOS
+                : LoadTestMetricsCollector.DEFAULT_LATE_DISPATCH_THRESHOLD_NANOS);
+    }
+
+    private TestStats run(LoadTestScenario scenario, long resultId,
+                          LoadTestMetricsCollector metricsCollector, LiveMetricsPublisher.Session liveMetrics,
+                          RunAbort abort) {
         // 모든 스레드가 공유하는 글로벌 요청 순번
         AtomicLong globalOrder = new AtomicLong(0);
-        // 성공/실패 카운트 + latency 통계를 누적하는 집계기
-        LoadTestMetricsCollector metricsCollector = new LoadTestMetricsCollector();
 
-        // 종료시각 = 현재시각 + 테스트 지속시간(초)
-        long endTimeMillis = System.currentTimeMillis() + (scenario.getDurationSeconds() * 1000L);
+        // 생성기 자체 상태(CPU/GC/pinning/발송 지연) 샘플링 시작 (종료 시 샘플 저장)
+        GeneratorHealthMonitor.Session generatorHealth = generatorHealthMonitor.start(resultId, metricsCollector);
+        // 실행별 Prometheus 지표 등록 (진행 중 요청 수 = 순번을 받은 요청 - 끝난 요청, 종료 시 레지스트리에서 제거)
+        RunMeters runMeters = runMeterBinder.bind(resultId, scenario.getId(), metricsCollector, globalOrder::get);
+
+        // 시나리오 커넥션 설정으로 이번 실행 전용 커넥션 풀/이벤트 루프 생성 (실행 종료 시 해제)
+        List<StepStats> stepStats = List.of();
+        try (liveMetrics;
+             generatorHealth;
+             runMeters;
+             LoadTestHttpClient httpClient = httpClientFactory.create(ConnectionProfile.from(scenario))) {
+            // 데이터 피드: 파일을 메모리 매핑하고 행 위치 인덱스만 만들어 둠 (힙에 파일 내용을 올리지 않음)
+            DataFeed dataFeed = scenario.hasDataFeed() ? dataFeedFactory.open(scenario) : null;
+            // 부하 프로파일: 단계가 바뀔 때마다 구간 지표를 끊고 단계 번호를 붙임
+            LoadProfile profile = LoadProfile.of(scenario);
+            if (profile != null) {
+                liveMetrics.trackStages(profile);
+            }
+            if (scenario.hasSteps()) {
+                // 다단계 여정: think time 동안 스레드를 점유하지 않도록 실행 모드와 무관하게 Reactor 파이프라인으로 실행
+                try (CompiledJourney journey = CompiledJourney.compile(scenario.getSteps(), dataFeed)) {
+                    StepMetricsCollector stepMetrics = new StepMetricsCollector(journey.stepNames());
+                    reactiveLoadEngine.runJourney(httpClient, journey, scenario, resultId, globalOrder,
+                            metricsCollector, stepMetrics, abort);
+                    stepStats = stepMetrics.toStats();
+                }
+            } else {
+                runSingleRequest(httpClient, scenario, dataFeed, resultId, globalOrder, metricsCollector, abort);
+            }
+        }
+
+        // 누적된 집계를 최종 통계 객체로 변환하고, 생성기 상태로 결과를 믿을 수 있는지 판정
+        TestStats stats = metricsCollector.toStats().withSteps(stepStats);
+        return stats.withHealth(generatorHealth.assess(stats));
+    }
+
+    private void runSingleRequest(LoadTestHttpClient httpClient, LoadTestScenario scenario, DataFeed dataFeed,
+                                  long resultId, AtomicLong globalOrder, LoadTestMetricsCollector metricsCollector,
+                                  RunAbort abort) {
+        if (dataFeed == null) {
+            // 요청 템플릿 1회 인코딩 (실행 종료 시 해제)
+            try (RequestTemplate template = RequestTemplate.compile(scenario)) {
+                runSingleRequest(httpClient, () -> template, scenario, resultId, globalOrder, metricsCollector, abort);
+            }
+        } else {
+            // URL/본문을 한 번 분해해 두고 요청마다 피드의 한 행으로 ${컬럼명} 치환
+            try (ParameterizedRequest requests = ParameterizedRequest.compile(scenario, dataFeed)) {
+                runSingleRequest(httpClient, requests, scenario, resultId, globalOrder, metricsCollector, abort);
+            }
+        }
+    }
+
+    private void runSingleRequest(LoadTestHttpClient httpClient, Supplier<RequestTemplate> requests,
+                                  LoadTestScenario scenario, long resultId,
+                                  AtomicLong globalOrder, LoadTestMetricsCollector metricsCollector, RunAbort abort) {
+        if (scenario.getExecutionMode() == ExecutionMode.REACTIVE) {
+            // 요청마다 스레드를 점유하지 않는 단일 Reactor 파이프라인으로 실행
+            reactiveLoadEngine.run(httpClient, requests, scenario, resultId, globalOrder, metricsCollector, abort);
+        } else if (scenario.getTargetTps() > 0) {
+            // 목표 TPS가 있으면 응답 속도와 무관하게 고정 스케줄로 발송 (open model)
+            runArrivalRate(httpClient, requests, scenario, resultId, globalOrder, metricsCollector, abort);
+        } else {
+            // 목표 TPS가 없으면 워커가 응답을 받는 즉시 다음 요청을 보냄 (closed model)
+            runClosedLoop(httpClient, requests, scenario, resultId, globalOrder, metricsCollector, abort);
+        }
+    }
+
+    private void runArrivalRate(LoadTestHttpClient httpClient, Supplier<RequestTemplate> requests,
+                                LoadTestScenario scenario, long resultId,
+                                AtomicLong globalOrder, LoadTestMetricsCollector metricsCollector, RunAbort abort) {
+        ArrivalRateScheduler scheduler = ArrivalRateScheduler.forScenario(scenario);
+
+        // virtualThreadCount = 동시에 처리 중일 수 있는 최대 요청 수 (무한정 쌓이지 않도록 하는 안전장치)
+        Semaphore inFlight = new Semaphore(Math.max(1, scenario.getVirtualThreadCount()));
+        // UNIQUE 데이터 피드를 모두 소진하면 남은 발송 없이 일찍 종료
+        AtomicBoolean feedExhausted = new AtomicBoolean(false);
+
+        scheduler.start();
+        // 종료 시각 이후에는 발송하지 않고, 유예 시간까지 끝나지 않은 요청은 취소 (executor close가 무한정 기다리지 않도록)
+        try (RunDeadline deadline = RunDeadline.start(metricsCollector, abort,
+                scheduler.getStartNanos(), scheduler.getDurationNanos(), gracePeriodNanos);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // 디스패처는 발송 예정 시각마다 요청을 가상 스레드로 넘기기만 하고 응답을 기다리지 않음
+            while (scheduler.hasNextSlot() && !feedExhausted.get()) {
+                // 예정 시각까지 대기 (중단되면 남은 슬롯을 버리고 종료)
+                long intendedNanos = scheduler.nextSlot();
+                if (!deadline.awaitUntil(intendedNanos)) {
+                    break;
+                }
+                metricsCollector.recordDispatch(System.nanoTime() - intendedNanos);
+
+                if (!inFlight.tryAcquire()) {
+                    // 동시 처리 한도에 걸려 예정 시각에 보내지 못한 요청은 누락으로 기록
+                    metricsCollector.recordMissedDispatch();
+                    continue;
+                }
+
+                long currentOrder = globalOrder.incrementAndGet();
+                executor.submit(() -> {
+                    try {
+                        RequestResult requestResult = deadline.bound(
+                                requestExecutor.executeAsync(httpClient, requests.get(), resultId, currentOrder)).block();
+                        // 유예 시간이 지나 잘린 요청(null)은 deadline이 cut-off로 집계
+                        if (requestResult != null) {
+                            // 응답 완료 시각 - 발송 예정 시각: 디스패처/동시성 한도로 밀린 대기 시간까지 포함
+                            metricsCollector.record(requestResult, System.nanoTime() - intendedNanos);
+                        }
+                    } catch (DataFeedExhaustedException e) {
+                        feedExhausted.set(true);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private void runClosedLoop(LoadTestHttpClient httpClient, Supplier<RequestTemplate> requests,
+                               LoadTestScenario scenario, long resultId,
+                               AtomicLong globalOrder, LoadTestMetricsCollector metricsCollector, RunAbort abort) {
+        // 부하 프로파일이 있으면 최대 단계 목표만큼 워커를 만들고, 각 워커는 자기 차례(수준 > 워커 번호)에만 요청을 보냄
+        LoadProfile profile = LoadProfile.of(scenario);
+        long durationNanos = profile != null
+                ? profile.durationNanos()
+                : TimeUnit.SECONDS.toNanos(scenario.getDurationSeconds());
+        int workers = profile != null ? profile.peakLevel() : scenario.getVirtualThreadCount();
+
+        /*
+         * 기존 방식:
+         * long endTimeMillis = System.currentTimeMillis() + durationMillis;
+         * while (System.currentTimeMillis() < endTimeMillis) { ... requestExecutor.execute(...) ... }
+         * 요청 사이에만 종료를 확인하고 executor close가 진행 중인 block()을 모두 기다려, 느린 대상에서는 실행이 몇 분씩 늘어났습니다.
+         *
+         * 변경 방식: nanoTime 기준 종료 시각 이후에는 새 요청을 보내지 않고, 유예 시간이 지나면 진행 중 요청을 취소
+         */
+        long startNanos = System.nanoTime();
 
         // Virtual Thread Worker 개수만큼 태스크 생성
-        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
-            for (int i = 0; i < scenario.getVirtualThreadCount(); i++) {
+        try (RunDeadline deadline = RunDeadline.start(metricsCollector, abort, startNanos, durationNanos, gracePeriodNanos);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < workers; i++) {
+                int worker = i;
                 executor.submit(() -> {
-                    // 종료시각 전까지 요청 반복 실행
-                    while (System.currentTimeMillis() < endTimeMillis) {
-                        long currentOrder = globalOrder.incrementAndGet();
-                        RequestResult requestResult = requestExecutor.execute(scenario, resultId, currentOrder);
-
-                        // 요청 결과를 성공/실패 + latency로 집계
-                        if (requestResult.success()) {
-                            metricsCollector.recordSuccess(requestResult.latencyMs());
-                        } else {
-                            metricsCollector.recordFailure(requestResult.latencyMs());
+                    // 종료시각 전까지 요청 반복 실행 (UNIQUE 데이터 피드를 소진하면 워커 종료)
+                    try {
+                        while (deadline.isOpen()) {
+                            if (profile != null && (!awaitTurn(profile, worker, deadline) || !deadline.isOpen())) {
+                                break;
+                            }
+                            RequestTemplate template = requests.get();
+                            long currentOrder = globalOrder.incrementAndGet();
+                            RequestResult requestResult = deadline.bound(
+                                    requestExecutor.executeAsync(httpClient, template, resultId, currentOrder)).block();
+                            if (requestResult == null) {
+                                // 유예 시간이 지나 잘린 요청 (deadline이 cut-off로 집계)
+                                break;
+                            }
+                            metricsCollector.record(requestResult, requestResult.totalNanos());
                         }
+                    } catch (DataFeedExhaustedException e) {
+                        // 남은 행이 없음
                     }
                 });
             }
         }
+    }
 
-        // 누적된 집계를 최종 통계 객체로 변환
-        return metricsCollector.toStats();
+    // 워커 차례가 올 때까지 대기 (프로파일이 끝날 때까지 차례가 없거나 중단되면 false)
+    private static boolean awaitTurn(LoadProfile profile, int worker, RunDeadline deadline) {
+        long offsetNanos = System.nanoTime() - deadline.startNanos();
+        long activeNanos = profile.activeOffsetNanos(worker, offsetNanos);
+        if (activeNanos < 0) {
+            return false;
+        }
+        if (activeNanos > offsetNanos) {
+            return deadline.awaitUntil(deadline.startNanos() + activeNanos);
+        }
+        return true;
     }
 }
@@ -0,0 +1,207 @@
+package com.project.service.runner;
+
+import com.project.config.RunTerminationProperties;
+import com.project.model.LoadTestScenario;
+import com.project.service.client.LoadTestHttpClient;
+import com.project.service.client.LoadTestRequestExecutor;
+import com.project.service.client.RequestTemplate;
+import com.project.service.feed.DataFeedExhaustedException;
+import com.project.service.journey.CompiledJourney;
+import com.project.service.journey.JourneyExecutor;
+import com.project.service.metrics.LoadTestMetricsCollector;
+import com.project.service.metrics.StepMetricsCollector;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/*
+ * Reactive 실행 모드 엔진.
+ *
+ * 가상 스레드 모드는 요청마다 block()으로 가상 스레드 하나를 점유하고, Reactor -> Loom 전환 비용을 매번 냅니다.
+ * 이 엔진은 테스트 전체를 하나의 Reactor 파이프라인으로 구성합니다.
+ *  - 발송 시각: ArrivalRateScheduler가 정한 예정 시각을 1ms 틱마다 몰아서 방출 (rate limiter 역할)
+ *  - 동시성: flatMap(concurrency = virtualThreadCount)로 제한, 요청/응답 처리는 Netty 이벤트 루프에서 진행
+ *  - 집계: 가상 스레드 모드와 같은 LoadTestMetricsCollector에 기록
+ * 발송 단위(요청 하나 / 다단계 여정 1회)는 예정 시각을 받아 Mono를 돌려주는 함수로 넘겨받아 두 경우가 같은 파이프라인을 씁니다.
+ * UNIQUE 데이터 피드를 모두 소진하면 남은 발송 없이 일찍 종료합니다.
+ * 종료 시각 이후에는 발송하지 않고, 유예 시간까지 끝나지 않은 발송 단위는 취소해 cut-off로 집계합니다. (RunDeadline)
+ */
+@Component
+public class ReactiveLoadEngine {
+
+    private static final Duration TICK = Duration.ofMillis(1);
+    /*
+     * 예정 시각은 틱마다 몰아서 방출하므로 한가한 생성기에서도 발송 지연이 틱 크기(최대 1ms)만큼 생기고,
+     * 틱 타이머가 깨어나는 시각도 OS 스케줄링에 따라 수 ms씩 흔들립니다.
+     * 틱 크기 + 타이머 흔들림 여유(4ms)를 넘어야 지연 발송으로 집계합니다.
+     */
+    public static final long LATE_DISPATCH_THRESHOLD_NANOS = TICK.toNanos() + TimeUnit.MILLISECONDS.toNanos(4);
+    private static final long UNSCHEDULED = -1L; // closed model: 발송 예정 시각 없음
+
+    private final LoadTestRequestExecutor requestExecutor;
+    private final long gracePeriodNanos;
+
+    public ReactiveLoadEngine(LoadTestRequestExecutor requestExecutor, RunTerminationProperties terminationProperties) {
+        this.requestExecutor = requestExecutor;
+        this.gracePeriodNanos = TimeUnit.MILLISECONDS.toNanos(terminationProperties.gracePeriodMs());
+    }
+
+    // 단일 요청: 템플릿은 발송 시점에 requests에서 꺼냄 (데이터 피드 치환이면 요청마다 다르고, 없으면 같은 템플릿)
+    public void run(LoadTestHttpClient httpClient, Supplier<RequestTemplate> requests,
+                    LoadTestScenario scenario, long resultId,
+                    AtomicLong globalOrder, LoadTestMetricsCollector metricsCollector, RunAbort abort) {
+        run(scenario, metricsCollector, abort, intendedNanos -> Mono
+                .defer(() -> requestExecutor.executeAsync(httpClient, requests.get(), resultId, globalOrder.incrementAndGet()))
+                // open model: 응답 완료 시각 - 발송 예정 시각 / closed model: 요청 전체 구간
+                .doOnNext(result -> metricsCollector.record(result,
+                        intendedNanos != UNSCHEDULED ? System.nanoTime() - intendedNanos : result.totalNanos()))
+                .then());
+    }
+
+    // 다단계 여정: 발송 단위가 요청 하나가 아니라 여정 1회 (목표 TPS = 초당 시작할 여정 수)
+    public void runJourney(LoadTestHttpClient httpClient, CompiledJourney journey,
+                           LoadTestScenario scenario, long resultId, AtomicLong globalOrder,
+                           LoadTestMetricsCollector metricsCollector, StepMetricsCollector stepMetrics, RunAbort abort) {
+        JourneyExecutor journeyExecutor = new JourneyExecutor(
+                requestExecutor, httpClient, journey, resultId, globalOrder, metricsCollector, stepMetrics);
+        run(scenario, metricsCollector, abort, journeyExecutor::execute);
+    }
+
+    private void run(LoadTestScenario scenario, LoadTestMetricsCollector metricsCollector, RunAbort abort,
+                     LongFunction<Mono<Void>> task) {
+        AtomicBoolean feedExhausted = new AtomicBoolean(false);
+        LongFunction<Mono<Void>> guardedTask = intendedNanos -> task.apply(intendedNanos)
+                .onErrorResume(DataFeedExhaustedException.class, e -> {
+                    feedExhausted.set(true);
+                    return Mono.empty();
+                });
+        if (scenario.getTargetTps() > 0) {
+            runArrivalRate(scenario, metricsCollector, abort, guardedTask, feedExhausted);
+        } else {
+            runClosedLoop(scenario, metricsCollector, abort, guardedTask, feedExhausted);
+        }
+    }
+
+    private void runArrivalRate(LoadTestScenario scenario, LoadTestMetricsCollector metricsCollector, RunAbort abort,
+                                LongFunction<Mono<Void>> task, AtomicBoolean feedExhausted) {
+        ArrivalRateScheduler scheduler = ArrivalRateScheduler.forScenario(scenario);
+        int maxInFlight = Math.max(1, scenario.getVirtualThreadCount());
+        AtomicInteger inFlight = new AtomicInteger(0);
+        DueSlots dueSlots = new DueSlots(scheduler);
+
+        // 틱 전용 단일 스케줄러: 다른 작업에 밀려 틱이 늦어지지 않도록 분리
+        Scheduler dispatcher = Schedulers.newSingle("reactive-dispatcher");
+        scheduler.start();
+        try (RunDeadline deadline = RunDeadline.start(metricsCollector, abort,
+                scheduler.getStartNanos(), scheduler.getDurationNanos(), gracePeriodNanos)) {
+            Flux.interval(TICK, dispatcher)
+                    .onBackpressureDrop()
+                    .takeWhile(tick -> scheduler.hasNextSlot() && deadline.isOpen() && !feedExhausted.get())
+                    .concatMapIterable(tick -> dueSlots)
+                    .filter(intendedNanos -> {
+                        metricsCollector.recordDispatch(System.nanoTime() - intendedNanos);
+                        // 동시 처리 한도에 걸린 슬롯은 가상 스레드 모드와 동일하게 누락으로 기록
+                        if (inFlight.get() >= maxInFlight) {
+                            metricsCollector.recordMissedDispatch();
+                            return false;
+                        }
+                        inFlight.incrementAndGet();
+                        return true;
+                    })
+                    .flatMap(intendedNanos -> deadline.bound(task.apply(intendedNanos))
+                                    .doFinally(signal -> inFlight.decrementAndGet()),
+                            maxInFlight)
+                    .then()
+                    .block();
+        } finally {
+            dispatcher.dispose();
+        }
+    }
+
+    private void runClosedLoop(LoadTestScenario scenario, LoadTestMetricsCollector metricsCollector, RunAbort abort,
+                               LongFunction<Mono<Void>> task, AtomicBoolean feedExhausted) {
+        // 부하 프로파일이 있으면 최대 단계 목표만큼 체인을 만들고, 각 체인은 자기 차례(수준 > 워커 번호)에만 요청을 보냄
+        LoadProfile profile = LoadProfile.of(scenario);
+        long startNanos = System.nanoTime();
+        long durationNanos = profile != null
+                ? profile.durationNanos()
+                : TimeUnit.SECONDS.toNanos(scenario.getDurationSeconds());
+        int workers = Math.max(1, profile != null ? profile.peakLevel() : scenario.getVirtualThreadCount());
+
+        // 워커 수만큼의 요청 체인이 각자 응답을 받는 즉시 다음 요청을 보냄 (스레드는 점유하지 않음)
+        try (RunDeadline deadline = RunDeadline.start(metricsCollector, abort, startNanos, durationNanos, gracePeriodNanos)) {
+            Flux.range(0, workers)
+                    .flatMap(worker -> Mono.defer(() -> nextTurn(profile, worker, deadline, task))
+                                    .repeat(() -> deadline.isOpen() && !feedExhausted.get()
+                                            && (profile == null || profile.activeOffsetNanos(worker, System.nanoTime() - startNanos) >= 0)),
+                            workers)
+                    .then()
+                    .block();
+        }
+    }
+
+    // 워커 차례가 아니면 차례가 올 때까지 Mono.delay로 기다린 뒤 요청 (스레드 점유 없음, 기다리는 사이 종료/중단되면 보내지 않음)
+    private static Mono<Void> nextTurn(LoadProfile profile, int worker, RunDeadline deadline, LongFunction<Mono<Void>> task) {
+        if (profile == null) {
+            return deadline.bound(task.apply(UNSCHEDULED));
+        }
+        long offsetNanos = System.nanoTime() - deadline.startNanos();
+        long activeNanos = profile.activeOffsetNanos(worker, offsetNanos);
+        if (activeNanos < 0) {
+            return Mono.empty();
+        }
+        if (activeNanos <= offsetNanos) {
+            return deadline.bound(task.apply(UNSCHEDULED));
+        }
+        return Mono.delay(Duration.ofNanos(activeNanos - offsetNanos))
+                .takeUntilOther(deadline.cutOffSignal())
+                .then(Mono.defer(() -> deadline.isOpen() ? deadline.bound(task.apply(UNSCHEDULED)) : Mono.<Void>empty()));
+    }
+
+    /*
+     * 틱마다 발송 예정 시각이 지난 슬롯을 꺼내는 반복자 (실행 1회에 하나를 재사용)
+     * 기존 방식: 틱마다 새 ArrayList에 예정 시각이 지난 슬롯을 모두 담아 넘겼습니다.
+     * 변경 방식: 담아 두지 않고 아래 단계가 하나씩 꺼낼 때 스케줄러에서 바로 꺼냄 (iterator()를 호출한 시각까지 도래한 슬롯)
+     * concatMapIterable은 틱 하나를 다 꺼낸 뒤 다음 틱의 iterator()를 호출하므로 같은 객체를 다시 써도 겹치지 않습니다.
+     */
+    private static final class DueSlots implements Iterable<Long>, Iterator<Long> {
+
+        private final ArrivalRateScheduler scheduler;
+        private long tickNanos;
+
+        private DueSlots(ArrivalRateScheduler scheduler) {
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public Iterator<Long> iterator() {
+            tickNanos = System.nanoTime();
+            return this;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return scheduler.hasNextSlot() && scheduler.peekNextSlotNanos() <= tickNanos;
+        }
+
+        @Override
+        public Long next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return scheduler.nextSlot();
+        }
+    }
+}
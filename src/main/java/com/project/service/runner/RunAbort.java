@@ -0,0 +1,28 @@
+package com.project.service.runner;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/*
+ * 실행 1회의 중단 신호.
+ * abort()가 호출되면 RunDeadline이 새 발송을 멈추고 진행 중 요청을 유예 시간 없이 바로 취소합니다. (cut-off로 집계)
+ */
+public final class RunAbort {
+
+    private final Sinks.One<Boolean> signal = Sinks.one();
+    private volatile boolean aborted;
+
+    public void abort() {
+        aborted = true;
+        signal.tryEmitValue(Boolean.TRUE);
+    }
+
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    // 중단되면 값을 내보내는 Mono (이미 중단됐으면 구독 즉시)
+    Mono<Boolean> asMono() {
+        return signal.asMono();
+    }
+}
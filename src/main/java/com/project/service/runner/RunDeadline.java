@@ -0,0 +1,98 @@
+package com.project.service.runner;
+
+import com.project.service.metrics.LoadTestMetricsCollector;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+ * 실행 1회의 종료 시각과 유예 시간(grace period).
+ *
+ * 기존 방식:
+ * 워커가 요청 사이에만 System.currentTimeMillis() < 종료시각을 확인하고, executor close()가 진행 중인 block()을 모두 기다렸습니다.
+ * 대상 서버가 느리면 60초 테스트가 몇 분씩 늘어나고, 늦게 끝난 요청들이 처리량을 왜곡했습니다.
+ *
+ * 변경 방식:
+ *  - 발송: 종료 시각(nanoTime 기준)이 지나면 새 요청을 만들지 않음 (isOpen)
+ *  - 진행 중 요청: 종료 시각 + 유예 시간까지 끝나지 않으면 구독을 취소하고 cut-off로 집계 (bound)
+ *    취소된 요청은 성공/실패/지연시간 분포에 넣지 않습니다. (응답을 받지 못해 지연시간을 알 수 없음)
+ *  - 측정 구간: 시작부터 마지막 요청이 끝나거나 잘린 시각까지를 집계기에 남겨 처리량 분모로 사용 (close)
+ *  - 중단(RunAbort): 종료 시각을 기다리지 않고 발송을 멈추고, 진행 중 요청도 유예 시간 없이 바로 취소
+ */
+final class RunDeadline implements AutoCloseable {
+
+    // 중단 신호를 기다리는 동안 한 번에 park하는 최대 시간 (중단 후 이 시간 안에 대기에서 빠져나옴)
+    private static final long ABORT_CHECK_NANOS = 1_000_000L;
+
+    private final LoadTestMetricsCollector metricsCollector;
+    private final RunAbort abort;
+    private final long startNanos;
+    private final long endNanos;
+    private final Sinks.One<Boolean> cutOff = Sinks.one();
+    private final Disposable cutOffTimer;
+    private final Disposable abortListener;
+
+    private RunDeadline(LoadTestMetricsCollector metricsCollector, RunAbort abort,
+                        long startNanos, long durationNanos, long graceNanos) {
+        this.metricsCollector = metricsCollector;
+        this.abort = abort;
+        this.startNanos = startNanos;
+        this.endNanos = startNanos + durationNanos;
+        long cutOffNanos = Math.max(0L, endNanos + Math.max(0L, graceNanos) - System.nanoTime());
+        this.cutOffTimer = Mono.delay(Duration.ofNanos(cutOffNanos))
+                .subscribe(tick -> cutOff.tryEmitValue(Boolean.TRUE));
+        this.abortListener = abort.asMono()
+                .subscribe(aborted -> cutOff.tryEmitValue(Boolean.TRUE));
+    }
+
+    // startNanos부터 durationNanos 동안 발송 (도착률 스케줄러와 같은 시작 시각을 쓰도록 시작 시각을 받음)
+    static RunDeadline start(LoadTestMetricsCollector metricsCollector, RunAbort abort,
+                             long startNanos, long durationNanos, long graceNanos) {
+        return new RunDeadline(metricsCollector, abort, startNanos, durationNanos, graceNanos);
+    }
+
+    long startNanos() {
+        return startNanos;
+    }
+
+    // 새 요청을 발송해도 되는지 여부
+    boolean isOpen() {
+        return !abort.isAborted() && System.nanoTime() < endNanos;
+    }
+
+    // 유예 시간이 끝났거나 중단되면 값을 내보내는 Mono (요청이 아닌 대기(Mono.delay)를 끊을 때 사용)
+    Mono<Boolean> cutOffSignal() {
+        return cutOff.asMono();
+    }
+
+    /*
+     * 발송 예정 시각까지 대기 (중단되면 false로 바로 반환)
+     * 긴 대기는 ABORT_CHECK_NANOS 단위로 나눠 park하고, 마지막 구간은 ArrivalRateScheduler.parkUntil의 spin으로 정밀도 유지
+     */
+    boolean awaitUntil(long targetNanos) {
+        while (targetNanos - System.nanoTime() > 2 * ABORT_CHECK_NANOS) {
+            if (abort.isAborted()) {
+                return false;
+            }
+            LockSupport.parkNanos(ABORT_CHECK_NANOS);
+        }
+        ArrivalRateScheduler.parkUntil(targetNanos);
+        return !abort.isAborted();
+    }
+
+    // 유예 시간이 끝날 때까지 완료되지 않으면 요청을 취소하고 cut-off로 집계 (취소되면 빈 Mono)
+    <T> Mono<T> bound(Mono<T> request) {
+        return request.timeout(cutOff.asMono(), Mono.fromRunnable(metricsCollector::recordCutOff));
+    }
+
+    // 진행 중 요청이 모두 끝나거나 잘린 뒤 호출: 측정 구간을 집계기에 기록
+    @Override
+    public void close() {
+        cutOffTimer.dispose();
+        abortListener.dispose();
+        metricsCollector.recordMeasuredWindow(System.nanoTime() - startNanos);
+    }
+}
@@ -0,0 +1,107 @@
+package com.project.service.threshold;
+
+import com.project.model.LoadTestResultTimeseries;
+import com.project.model.LoadTestScenario;
+import com.project.model.ThresholdBreach;
+import com.project.service.dto.ThresholdVerdict;
+import com.project.service.live.IntervalSink;
+import com.project.service.metrics.HistogramSupport;
+import com.project.service.runner.RunAbort;
+import org.HdrHistogram.Histogram;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 시나리오 통과 기준(p95 / 에러율 / 최소 처리량)을 구간 지표가 나올 때마다 판정합니다.
+ *
+ * 기존 방식:
+ * 기준이 없어 실행 초반에 에러율이 치솟아도 durationSeconds 동안 대상 서버에 부하를 계속 보냈습니다.
+ *
+ * 변경 방식:
+ * warm-up 이후 구간을 누적해서(구간 히스토그램 병합) 구간마다 기준을 확인하고, 처음 어긴 시각을 남깁니다.
+ * abortOnBreach면 그 자리에서 RunAbort로 실행을 멈춰 진행 중 요청까지 바로 정리합니다.
+ * 한 번 어긴 기준은 이후 값이 돌아와도 실패로 남습니다.
+ * accept()는 live-metrics ticker 스레드(분산 실행은 코디네이터 스레드, 병합한 구간)에서만 호출되고,
+ * verdict()는 실행 종료(세션 close) 후에 호출합니다.
+ */
+public final class ThresholdEvaluator implements IntervalSink {
+
+    private static final int SIGNIFICANT_VALUE_DIGITS = 3;
+
+    private final Long maxP95Us;
+    private final Double maxErrorRate;
+    private final Double minRps;
+    private final long warmupMs;
+    private final long minRequests;
+    private final RunAbort abort;
+
+    private final Histogram latency = new Histogram(SIGNIFICANT_VALUE_DIGITS); // 자동 확장
+    private final EnumSet<ThresholdBreach> breaches = EnumSet.noneOf(ThresholdBreach.class);
+    private long requests;
+    private long fail;
+    private long measuredMs;
+    private LocalDateTime lastRecordedAt;
+    private LocalDateTime breachedAt;
+
+    // abort: abortOnBreach가 아니면 null
+    public ThresholdEvaluator(LoadTestScenario scenario, RunAbort abort, long minRequests) {
+        this.maxP95Us = scenario.getMaxP95LatencyMs() != null ? Math.round(scenario.getMaxP95LatencyMs() * 1_000) : null;
+        this.maxErrorRate = scenario.getMaxErrorRate();
+        this.minRps = scenario.getMinRps();
+        this.warmupMs = TimeUnit.SECONDS.toMillis(Math.max(0, scenario.getThresholdWarmupSeconds()));
+        this.minRequests = minRequests;
+        this.abort = scenario.isAbortOnBreach() ? abort : null;
+    }
+
+    @Override
+    public void accept(LoadTestResultTimeseries interval) {
+        if (interval.getElapsedMs() - interval.getIntervalMs() < warmupMs) {
+            return;
+        }
+        requests += interval.getRequestCount();
+        fail += interval.getFailCount();
+        measuredMs += interval.getIntervalMs();
+        lastRecordedAt = interval.getRecordedAt();
+        // 요청이 없던 구간은 히스토그램이 없음
+        if (interval.getLatencyHistogram() != null) {
+            latency.add(HistogramSupport.decode(interval.getLatencyHistogram()));
+        }
+        if (requests >= minRequests) {
+            check();
+        }
+    }
+
+    // 실행 중에는 요청 수가 모자라 미뤘던 판정도 종료 시 남은 누적 값으로 한 번 더 확인
+    public ThresholdVerdict verdict() {
+        if (measuredMs > 0) {
+            check();
+        }
+        return new ThresholdVerdict(List.copyOf(breaches), breachedAt);
+    }
+
+    private void check() {
+        EnumSet<ThresholdBreach> current = EnumSet.noneOf(ThresholdBreach.class);
+        if (maxP95Us != null && latency.getTotalCount() > 0 && latency.getValueAtPercentile(95.0) > maxP95Us) {
+            current.add(ThresholdBreach.P95_LATENCY);
+        }
+        if (maxErrorRate != null && requests > 0 && (double) fail / requests > maxErrorRate) {
+            current.add(ThresholdBreach.ERROR_RATE);
+        }
+        if (minRps != null && measuredMs > 0 && requests * 1_000.0 / measuredMs < minRps) {
+            current.add(ThresholdBreach.MIN_RPS);
+        }
+        if (current.isEmpty()) {
+            return;
+        }
+        if (breaches.isEmpty()) {
+            breachedAt = lastRecordedAt;
+            if (abort != null) {
+                abort.abort();
+            }
+        }
+        breaches.addAll(current);
+    }
+}
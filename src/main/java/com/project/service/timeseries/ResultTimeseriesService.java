@@ -0,0 +1,189 @@
+package com.project.service.timeseries;
+
+import com.project.model.LoadTestResultTimeseries;
+import com.project.repository.LoadTestResultTimeseriesRepository;
+import com.project.service.dto.LatencyDistribution;
+import com.project.service.dto.TimeseriesPoint;
+import com.project.service.metrics.HistogramSupport;
+import org.HdrHistogram.Histogram;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+ * 실행 결과 시계열 조회.
+ * 긴 실행(예: 30분 = 1,800구간)은 maxPoints개 이하가 되도록 연속 구간을 묶어서 반환합니다.
+ * 묶인 구간의 백분위는 구간 백분위의 평균이 아니라 구간 히스토그램을 병합해서 다시 계산합니다.
+ * 부하 프로파일이 있던 실행은 단계별로 구간을 묶은 요약(단계별 처리량/백분위)도 제공합니다.
+ *
+ * 기존 방식: 구간 row 전체(Base64 히스토그램 포함)를 List로 읽은 뒤 묶었습니다.
+ * 변경 방식: 구간 수만 먼저 세고, Cursor로 row를 하나씩 읽으며 묶음에 바로 더합니다. (묶음 하나 분량의 히스토그램만 유지)
+ * Cursor는 읽는 동안 커넥션을 붙잡으므로 읽기 전용 트랜잭션 안에서 끝까지 읽습니다.
+ */
+@Service
+public class ResultTimeseriesService {
+
+    private static final int SIGNIFICANT_VALUE_DIGITS = 3;
+
+    private final LoadTestResultTimeseriesRepository timeseriesRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ResultTimeseriesService(LoadTestResultTimeseriesRepository timeseriesRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.timeseriesRepository = timeseriesRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public List<TimeseriesPoint> getTimeseries(long resultId, int maxPoints) {
+        if (maxPoints <= 0) {
+            throw new IllegalArgumentException("maxPoints must be positive: " + maxPoints);
+        }
+        return readOnlyTransaction.execute(status -> {
+            // 구간 수와 구간 row를 같은 트랜잭션(같은 스냅샷)에서 읽어, 실행 중 추가된 구간으로 maxPoints를 넘지 않게 함
+            int intervalCount = timeseriesRepository.countTimeseriesByResultId(resultId);
+
+            // 구간 수가 maxPoints를 넘으면 bucketSize개씩 묶음
+            int bucketSize = Math.max(1, (intervalCount + maxPoints - 1) / maxPoints);
+            List<TimeseriesPoint> points = new ArrayList<>((intervalCount + bucketSize - 1) / bucketSize);
+            Bucket bucket = new Bucket();
+            try (Cursor<LoadTestResultTimeseries> cursor = timeseriesRepository.streamTimeseriesByResultId(resultId)) {
+                for (LoadTestResultTimeseries interval : cursor) {
+                    if (bucketSize == 1) {
+                        points.add(toPoint(interval));
+                        continue;
+                    }
+                    bucket.add(interval);
+                    if (bucket.size == bucketSize) {
+                        points.add(bucket.toPoint());
+                        bucket = new Bucket();
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (bucket.size > 0) {
+                points.add(bucket.toPoint());
+            }
+            return points;
+        });
+    }
+
+    // 부하 프로파일 단계별 요약: 같은 단계의 구간을 모두 합친 한 점씩 (단계 순서, 프로파일이 없던 실행이면 빈 목록)
+    public List<TimeseriesPoint> getStageSummaries(long resultId) {
+        return readOnlyTransaction.execute(status -> {
+            Map<Integer, Bucket> bucketsByStage = new TreeMap<>();
+            try (Cursor<LoadTestResultTimeseries> cursor = timeseriesRepository.streamTimeseriesByResultId(resultId)) {
+                for (LoadTestResultTimeseries interval : cursor) {
+                    if (interval.getStageIndex() != null) {
+                        bucketsByStage.computeIfAbsent(interval.getStageIndex(), stage -> new Bucket()).add(interval);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            List<TimeseriesPoint> summaries = new ArrayList<>(bucketsByStage.size());
+            for (Bucket stageBucket : bucketsByStage.values()) {
+                summaries.add(stageBucket.toMergedPoint());
+            }
+            return summaries;
+        });
+    }
+
+    private static TimeseriesPoint toPoint(LoadTestResultTimeseries interval) {
+        return new TimeseriesPoint(
+                interval.getElapsedMs() - interval.getIntervalMs(),
+                interval.getElapsedMs(),
+                1,
+                interval.getStageIndex(),
+                interval.getRequestCount(),
+                interval.getSuccessCount(),
+                interval.getFailCount(),
+                perSecond(interval.getRequestCount(), interval.getIntervalMs()),
+                errorRate(interval.getFailCount(), interval.getRequestCount()),
+                interval.getBytesSent(),
+                interval.getBytesReceived(),
+                interval.getAvgLatencyUs(),
+                interval.getP50LatencyUs(),
+                interval.getP90LatencyUs(),
+                interval.getP99LatencyUs(),
+                interval.getP999LatencyUs(),
+                interval.getMaxLatencyUs());
+    }
+
+    private static double perSecond(long count, long durationMs) {
+        return durationMs > 0 ? count * 1_000.0 / durationMs : 0.0;
+    }
+
+    private static double errorRate(long fail, long requests) {
+        return requests > 0 ? (double) fail / requests : 0.0;
+    }
+
+    // 연속 구간 묶음: 구간 row를 모아 두지 않고 합계와 병합 히스토그램만 누적
+    private static final class Bucket {
+
+        private final Histogram merged = new Histogram(SIGNIFICANT_VALUE_DIGITS); // 자동 확장
+        private LoadTestResultTimeseries first;
+        private LoadTestResultTimeseries last;
+        private int size;
+        private long requests;
+        private long success;
+        private long fail;
+        private long bytesSent;
+        private long bytesReceived;
+        private long durationMs;
+
+        private void add(LoadTestResultTimeseries interval) {
+            if (first == null) {
+                first = interval;
+            }
+            last = interval;
+            size++;
+            requests += interval.getRequestCount();
+            success += interval.getSuccessCount();
+            fail += interval.getFailCount();
+            bytesSent += interval.getBytesSent();
+            bytesReceived += interval.getBytesReceived();
+            durationMs += interval.getIntervalMs();
+            // 요청이 없던 구간은 히스토그램이 없음
+            if (interval.getLatencyHistogram() != null) {
+                merged.add(HistogramSupport.decode(interval.getLatencyHistogram()));
+            }
+        }
+
+        // 마지막 묶음에 구간이 하나만 남으면 저장된 구간 값을 그대로 사용
+        private TimeseriesPoint toPoint() {
+            return size == 1 ? ResultTimeseriesService.toPoint(first) : toMergedPoint();
+        }
+
+        private TimeseriesPoint toMergedPoint() {
+            LatencyDistribution latency = HistogramSupport.summarize(merged);
+            return new TimeseriesPoint(
+                    first.getElapsedMs() - first.getIntervalMs(),
+                    last.getElapsedMs(),
+                    size,
+                    last.getStageIndex(),
+                    requests,
+                    success,
+                    fail,
+                    perSecond(requests, durationMs),
+                    errorRate(fail, requests),
+                    bytesSent,
+                    bytesReceived,
+                    latency.avgUs(),
+                    latency.p50Us(),
+                    latency.p90Us(),
+                    latency.p99Us(),
+                    latency.p999Us(),
+                    latency.maxUs());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.project.service.timeseries;
+
+import com.project.model.LoadTestResultTimeseries;
+import com.project.repository.LoadTestResultTimeseriesRepository;
+import com.project.service.live.IntervalSink;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 구간 지표 배치 저장기.
+ * 스냅샷 스레드가 모아 둔 구간들을 전용 writer 스레드에서 multi-row INSERT로 저장합니다.
+ * DB 왕복이 스냅샷 주기(틱)를 밀어내지 않도록 스냅샷 스레드와 분리합니다.
+ */
+@Slf4j
+@Component
+public class ResultTimeseriesWriter {
+
+    private final LoadTestResultTimeseriesRepository timeseriesRepository;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("timeseries-writer").daemon(true).factory());
+
+    public ResultTimeseriesWriter(LoadTestResultTimeseriesRepository timeseriesRepository) {
+        this.timeseriesRepository = timeseriesRepository;
+    }
+
+    // 저장 완료를 기다려야 하는 경우(실행 종료) 반환된 Future로 대기
+    public Future<?> write(List<LoadTestResultTimeseries> intervals) {
+        return writer.submit(() -> {
+            try {
+                timeseriesRepository.insertTimeseriesBatch(intervals);
+            } catch (RuntimeException e) {
+                // 시계열 저장 실패가 테스트 실행을 중단시키지 않도록 로그만 남김
+                log.warn("Failed to save timeseries batch. size={}", intervals.size(), e);
+            }
+        });
+    }
+
+    // 구간을 batchSize개씩 모아서 저장하는 실행 1회용 sink
+    public IntervalSink newBatchingSink(int batchSize) {
+        return new BatchingSink(Math.max(1, batchSize));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private final class BatchingSink implements IntervalSink {
+
+        private final int batchSize;
+        private List<LoadTestResultTimeseries> pending = new ArrayList<>();
+        private Future<?> lastWrite;
+
+        private BatchingSink(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public void accept(LoadTestResultTimeseries interval) {
+            pending.add(interval);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        @Override
+        public void complete() {
+            flush();
+            if (lastWrite == null) {
+                return;
+            }
+            try {
+                // 결과 확정 전에 남은 구간까지 저장 완료 (writer 스레드는 순서대로 처리하므로 마지막 배치만 대기)
+                lastWrite.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                log.warn("Failed to wait for timeseries batch", e.getCause());
+            }
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            lastWrite = write(pending);
+            pending = new ArrayList<>();
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.project.repository;
 
 import com.project.model.LoadTestFailLog;
+import com.project.model.LoadTestFailSignature;
+import com.project.model.LoadTestFailSignatureSecond;
+import com.project.model.LoadTestGeneratorHealth;
 import com.project.model.LoadTestResult;
+import com.project.model.LoadTestResultTimeseries;
 import com.project.model.LoadTestScenario;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +14,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,6 +29,12 @@ class RepositoryTest {
     LoadTestResultRepository resultRepository;
     @Autowired
     LoadTestFailLogRepository failLogRepository;
+    @Autowired
+    LoadTestResultTimeseriesRepository timeseriesRepository;
+    @Autowired
+    LoadTestGeneratorHealthRepository generatorHealthRepository;
+    @Autowired
+    LoadTestFailSignatureRepository failSignatureRepository;
 
     @Test
     @DisplayName("시나리오_저장_및_한글_조회_테스트")
@@ -101,4 +112,172 @@ class RepositoryTest {
 
         System.out.println("저장된 에러 메시지: " + logs.get(0).getErrorMsg());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("구간_시계열_배치_저장_테스트")
+    void timeseriesBatchInsertTest() {
+        // --- 1. 부모 데이터(Scenario, Result) 저장 ---
+        LoadTestScenario scenario = new LoadTestScenario();
+        scenario.setName("시계열 테스트용 시나리오");
+        scenario.setTargetUrl("http://test.com");
+        scenario.setHttpMethod("GET");
+        scenario.setTargetTps(10);
+        scenario.setVirtualThreadCount(5);
+        scenario.setDurationSeconds(10);
+        scenarioRepository.insertScenario(scenario);
+
+        LoadTestResult result = new LoadTestResult();
+        result.setScenarioId(scenario.getId());
+        result.setStartedAt(LocalDateTime.now());
+        resultRepository.insertResult(result);
+
+        // --- 2. 구간 3개를 한 번에 저장 ---
+        List<LoadTestResultTimeseries> intervals = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            LoadTestResultTimeseries interval = new LoadTestResultTimeseries();
+            interval.setResultId(result.getId());
+            interval.setIntervalSeq(i);
+            interval.setElapsedMs((i + 1) * 1_000L);
+            interval.setIntervalMs(1_000L);
+            interval.setRequestCount(100L);
+            interval.setSuccessCount(99L);
+            interval.setFailCount(1L);
+            interval.setP99LatencyUs(12_000L);
+            interval.setRecordedAt(LocalDateTime.now());
+            intervals.add(interval);
+        }
+        timeseriesRepository.insertTimeseriesBatch(intervals);
+
+        // --- 3. 검증 ---
+        List<LoadTestResultTimeseries> saved = timeseriesRepository.selectTimeseriesByResultId(result.getId());
+        assertThat(saved).hasSize(3);
+        assertThat(saved).extracting(LoadTestResultTimeseries::getIntervalSeq).containsExactly(0L, 1L, 2L);
+        assertThat(saved.get(0).getP99LatencyUs()).isEqualTo(12_000L);
+        assertThat(timeseriesRepository.countTimeseriesByResultId(result.getId())).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("생성기_상태_샘플_저장_및_신뢰도_표시_테스트")
+    void generatorHealthInsertTest() {
+        // --- 1. 부모 데이터(Scenario, Result) 저장 ---
+        LoadTestScenario scenario = new LoadTestScenario();
+        scenario.setName("생성기 상태 테스트용 시나리오");
+        scenario.setTargetUrl("http://test.com");
+        scenario.setHttpMethod("GET");
+        scenario.setTargetTps(10);
+        scenario.setVirtualThreadCount(5);
+        scenario.setDurationSeconds(10);
+        scenarioRepository.insertScenario(scenario);
+
+        LoadTestResult result = new LoadTestResult();
+        result.setScenarioId(scenario.getId());
+        result.setStartedAt(LocalDateTime.now());
+        resultRepository.insertResult(result);
+
+        // --- 2. 샘플 2개 저장 + 결과를 신뢰할 수 없음으로 표시 ---
+        List<LoadTestGeneratorHealth> samples = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            LoadTestGeneratorHealth sample = new LoadTestGeneratorHealth();
+            sample.setResultId(result.getId());
+            sample.setSampleSeq(i);
+            sample.setElapsedMs((i + 1) * 1_000L);
+            sample.setIntervalMs(1_000L);
+            sample.setProcessCpuLoad(0.95);
+            sample.setGcPauseMs(12L);
+            sample.setRecordedAt(LocalDateTime.now());
+            samples.add(sample);
+        }
+        generatorHealthRepository.insertHealthBatch(samples);
+
+        result.setUntrustworthy(true);
+        result.setUntrustworthyReasons("CPU_SATURATED");
+        result.setGeneratorPeakCpuLoad(0.95);
+        result.setThresholdsPassed(false);
+        result.setThresholdBreaches("P95_LATENCY");
+        result.setErrorMessage("java.lang.IllegalStateException: Worker failed");
+        resultRepository.updateResult(result);
+
+        // --- 3. 검증 ---
+        List<LoadTestGeneratorHealth> saved = generatorHealthRepository.selectHealthByResultId(result.getId());
+        assertThat(saved).hasSize(2);
+        assertThat(saved.get(0).getProcessCpuLoad()).isEqualTo(0.95);
+        assertThat(saved.get(0).getPinnedCount()).isNull();
+
+        LoadTestResult updated = resultRepository.selectResultByScenarioId(scenario.getId());
+        assertThat(updated.isUntrustworthy()).isTrue();
+        assertThat(updated.getUntrustworthyReasons()).isEqualTo("CPU_SATURATED");
+        assertThat(resultRepository.selectResultById(result.getId()).getScenarioId()).isEqualTo(scenario.getId());
+        assertThat(updated.getThresholdsPassed()).isFalse();
+        assertThat(updated.getThresholdBreaches()).isEqualTo("P95_LATENCY");
+        assertThat(updated.getErrorMessage()).isEqualTo("java.lang.IllegalStateException: Worker failed");
+    }
+
+    @Test
+    @DisplayName("실패_유형_집계_upsert_및_예시_로그_페이지_조회_테스트")
+    void failSignatureUpsertTest() {
+        // --- 1. 부모 데이터(Scenario, Result) 저장 ---
+        LoadTestScenario scenario = new LoadTestScenario();
+        scenario.setName("실패 유형 테스트용 시나리오");
+        scenario.setTargetUrl("http://test.com");
+        scenario.setHttpMethod("GET");
+        scenario.setTargetTps(10);
+        scenario.setVirtualThreadCount(5);
+        scenario.setDurationSeconds(10);
+        scenarioRepository.insertScenario(scenario);
+
+        LoadTestResult result = new LoadTestResult();
+        result.setScenarioId(scenario.getId());
+        result.setStartedAt(LocalDateTime.now());
+        resultRepository.insertResult(result);
+
+        // --- 2. 워커 2대가 같은 유형을 각각 저장 (분산 실행) ---
+        LocalDateTime second = LocalDateTime.of(2026, 2, 17, 10, 15, 30);
+        failSignatureRepository.upsertSignatureBatch(List.of(signature(result.getId(), 100L, 10L, 50L, second)));
+        failSignatureRepository.upsertSignatureBatch(List.of(signature(result.getId(), 40L, 5L, 80L, second.plusSeconds(3))));
+        failSignatureRepository.upsertSecondBatch(List.of(new LoadTestFailSignatureSecond(result.getId(), 42L, second, 7L)));
+        failSignatureRepository.upsertSecondBatch(List.of(new LoadTestFailSignatureSecond(result.getId(), 42L, second, 3L)));
+
+        List<LoadTestFailLog> exemplars = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            LoadTestFailLog failLog = new LoadTestFailLog();
+            failLog.setResultId(result.getId());
+            failLog.setRequestOrder(i);
+            failLog.setErrorMsg("503 HTTP Error");
+            failLog.setHttpStatus(503);
+            failLog.setSignatureHash(42L);
+            exemplars.add(failLog);
+        }
+        failLogRepository.insertFailLogBatch(exemplars);
+
+        // --- 3. 검증: 건수는 더하고 처음/마지막 값은 넓힘 ---
+        LoadTestFailSignature saved = failSignatureRepository.selectSignaturesByResultId(result.getId()).get(0);
+        assertThat(saved.getFailCount()).isEqualTo(140L);
+        assertThat(saved.getFirstRequestOrder()).isEqualTo(5L);
+        assertThat(saved.getLastRequestOrder()).isEqualTo(80L);
+        assertThat(saved.getFirstFailedAt()).isEqualTo(second);
+        assertThat(saved.getLastFailedAt()).isEqualTo(second.plusSeconds(3));
+        assertThat(failSignatureRepository.selectSecondsBySignature(result.getId(), 42L))
+                .singleElement().extracting(LoadTestFailSignatureSecond::getFailCount).isEqualTo(10L);
+
+        List<LoadTestFailLog> firstPage = failLogRepository.selectFailLogPage(result.getId(), 42L, null, 2);
+        assertThat(firstPage).hasSize(2);
+        List<LoadTestFailLog> nextPage = failLogRepository.selectFailLogPage(result.getId(), 42L, firstPage.get(1).getId(), 2);
+        assertThat(nextPage).singleElement().extracting(LoadTestFailLog::getRequestOrder).isEqualTo(2L);
+    }
+
+    private LoadTestFailSignature signature(Long resultId, long failCount, long firstOrder, long lastOrder,
+                                            LocalDateTime failedAt) {
+        LoadTestFailSignature signature = new LoadTestFailSignature();
+        signature.setResultId(resultId);
+        signature.setSignatureHash(42L);
+        signature.setHttpStatus(503);
+        signature.setErrorType("org.springframework.web.reactive.function.client.WebClientResponseException");
+        signature.setMessageTemplate("<n> HTTP Error");
+        signature.setFailCount(failCount);
+        signature.setFirstRequestOrder(firstOrder);
+        signature.setLastRequestOrder(lastOrder);
+        signature.setFirstFailedAt(failedAt);
+        signature.setLastFailedAt(failedAt);
+        return signature;
+    }
+}
@@ -1,11 +1,34 @@
 package com.project.service;
 
+import com.project.config.CapacitySearchProperties;
+import com.project.config.ThresholdProperties;
+import com.project.model.LoadStageType;
+import com.project.model.GeneratorSaturation;
 import com.project.model.LoadTestResult;
+import com.project.model.LoadTestResultStep;
+import com.project.model.LoadTestResultTimeseries;
 import com.project.model.LoadTestScenario;
+import com.project.model.LoadTestScenarioStage;
+import com.project.model.LoadTestScenarioStep;
 import com.project.repository.LoadTestResultRepository;
+import com.project.repository.LoadTestResultStepRepository;
 import com.project.repository.LoadTestScenarioRepository;
+import com.project.repository.LoadTestScenarioStageRepository;
+import com.project.repository.LoadTestScenarioStepRepository;
+import com.project.service.distributed.LoadTestCoordinator;
+import com.project.service.dto.CapacitySearchRequest;
+import com.project.service.dto.CapacitySearchResult;
+import com.project.service.dto.DistributedRunResult;
+import com.project.service.dto.GeneratorHealth;
+import com.project.service.dto.LatencyDistribution;
+import com.project.service.dto.StepStats;
 import com.project.service.dto.TestStats;
+import com.project.service.faillog.AsyncFailLogWriter;
+import com.project.service.live.IntervalSink;
+import com.project.service.metrics.HistogramSupport;
 import com.project.service.runner.LoadTestRunner;
+import com.project.service.runner.RunAbort;
+import org.HdrHistogram.Histogram;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,16 +42,21 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -45,6 +73,21 @@ class LoadTestServiceTest {
     @Mock
     private LoadTestScenarioRepository loadTestScenarioRepository;
 
+    @Mock
+    private LoadTestScenarioStepRepository loadTestScenarioStepRepository;
+
+    @Mock
+    private LoadTestScenarioStageRepository loadTestScenarioStageRepository;
+
+    @Mock
+    private LoadTestResultStepRepository loadTestResultStepRepository;
+
+    @Mock
+    private AsyncFailLogWriter failLogWriter;
+
+    @Mock
+    private LoadTestCoordinator loadTestCoordinator;
+
     private LoadTestService loadTestService;
     private Clock fixedClock;
     private LocalDateTime fixedNow;
@@ -58,6 +101,13 @@ class LoadTestServiceTest {
                 loadTestRunner,
                 loadTestResultRepository,
                 loadTestScenarioRepository,
+                loadTestScenarioStepRepository,
+                loadTestScenarioStageRepository,
+                loadTestResultStepRepository,
+                failLogWriter,
+                loadTestCoordinator,
+                new CapacitySearchProperties(10, 2, 2.0, 5, 15, 0.95),
+                new ThresholdProperties(100),
                 fixedClock
         );
     }
@@ -69,7 +119,7 @@ class LoadTestServiceTest {
         LoadTestScenario scenario = sampleScenario();
         TestStats stats = sampleStats();
         stubScenarioAndResultIds(10L, 20L);
-        when(loadTestRunner.run(scenario, 20L)).thenReturn(stats);
+        when(loadTestRunner.run(eq(scenario), eq(20L), any(RunAbort.class))).thenReturn(stats);
 
         // Act
         loadTestService.startTestEngine(scenario);
@@ -78,10 +128,156 @@ class LoadTestServiceTest {
         InOrder inOrder = inOrder(loadTestScenarioRepository, loadTestResultRepository, loadTestRunner);
         inOrder.verify(loadTestScenarioRepository).insertScenario(scenario);
         inOrder.verify(loadTestResultRepository).insertResult(any(LoadTestResult.class));
-        inOrder.verify(loadTestRunner).run(scenario, 20L);
+        inOrder.verify(loadTestRunner).run(eq(scenario), eq(20L), any(RunAbort.class));
         inOrder.verify(loadTestResultRepository).updateResult(any(LoadTestResult.class));
     }
 
+    @Test
+    @DisplayName("executeRun: 실행 중 중단되면 그때까지의 집계로 결과를 확정하고 aborted로 표시한다")
+    void executeRun_abortedRun_completesResultAsAborted() {
+        // Arrange
+        LoadTestScenario scenario = sampleScenario();
+        stubScenarioAndResultIds(17L, 45L);
+        LoadTestResult prepared = loadTestService.prepareRun(scenario);
+        RunAbort abort = new RunAbort();
+        when(loadTestRunner.run(scenario, 45L, abort)).thenAnswer(invocation -> {
+            abort.abort();
+            return sampleStats();
+        });
+
+        // Act
+        LoadTestResult result = loadTestService.executeRun(scenario, prepared, abort);
+
+        // Assert
+        ArgumentCaptor<LoadTestResult> captor = ArgumentCaptor.forClass(LoadTestResult.class);
+        verify(loadTestResultRepository).updateResult(captor.capture());
+        LoadTestResult updated = captor.getValue();
+        assertThat(updated).isSameAs(result);
+        assertThat(updated.isAborted()).isTrue();
+        assertThat(updated.getTotalRequests()).isEqualTo(100);
+        assertThat(updated.getEndedAt()).isEqualTo(fixedNow);
+        verify(failLogWriter).flush();
+        verify(failLogWriter).saveFailures(45L);
+    }
+
+    @Test
+    @DisplayName("executeRun: runner가 실패하면 버퍼의 실패 로그를 저장하고 결과 row를 중단/오류로 확정한 뒤 예외를 전파한다")
+    void executeRun_runnerFailure_finalizesResult() {
+        // Arrange
+        LoadTestScenario scenario = sampleScenario();
+        stubScenarioAndResultIds(17L, 46L);
+        LoadTestResult prepared = loadTestService.prepareRun(scenario);
+        RunAbort abort = new RunAbort();
+        when(loadTestRunner.run(scenario, 46L, abort)).thenThrow(new OutOfMemoryError("Java heap space"));
+        when(failLogWriter.takeDroppedCount(46L)).thenReturn(2L);
+
+        // Act
+        assertThrows(OutOfMemoryError.class, () -> loadTestService.executeRun(scenario, prepared, abort));
+
+        // Assert
+        ArgumentCaptor<LoadTestResult> captor = ArgumentCaptor.forClass(LoadTestResult.class);
+        verify(loadTestResultRepository).updateResult(captor.capture());
+        LoadTestResult updated = captor.getValue();
+        assertThat(updated.isAborted()).isTrue();
+        assertThat(updated.getErrorMessage()).isEqualTo("java.lang.OutOfMemoryError: Java heap space");
+        assertThat(updated.getEndedAt()).isEqualTo(fixedNow);
+        assertThat(updated.getFailLogDroppedCount()).isEqualTo(2L);
+        verify(failLogWriter).saveFailures(46L);
+    }
+
+    @Test
+    @DisplayName("executeRun: abortOnBreach 시나리오가 통과 기준을 어기면 바로 중단하고 판정과 처음 어긴 시각을 저장한다")
+    void executeRun_thresholdBreach_abortsAndSavesVerdict() {
+        // Arrange
+        LoadTestScenario scenario = sampleScenario();
+        scenario.setMaxErrorRate(0.05);
+        scenario.setAbortOnBreach(true);
+        stubScenarioAndResultIds(17L, 47L);
+        LoadTestResult prepared = loadTestService.prepareRun(scenario);
+        RunAbort abort = new RunAbort();
+        LocalDateTime breachedAt = fixedNow.plusSeconds(4);
+        when(loadTestRunner.runObserved(eq(scenario), eq(47L), any(IntervalSink.class), eq(abort)))
+                .thenAnswer(invocation -> {
+                    // 200건 중 50건 실패 (에러율 25%)
+                    LoadTestResultTimeseries interval = measuredInterval(200, 10_000L);
+                    interval.setSuccessCount(150L);
+                    interval.setFailCount(50L);
+                    interval.setRecordedAt(breachedAt);
+                    invocation.<IntervalSink>getArgument(2).accept(interval);
+                    assertThat(abort.isAborted()).isTrue();
+                    return sampleStats();
+                });
+
+        // Act
+        LoadTestResult result = loadTestService.executeRun(scenario, prepared, abort);
+
+        // Assert
+        verify(loadTestResultRepository).updateResult(result);
+        assertThat(result.isAborted()).isTrue();
+        assertThat(result.getThresholdsPassed()).isFalse();
+        assertThat(result.getThresholdBreaches()).isEqualTo("ERROR_RATE");
+        assertThat(result.getThresholdBreachedAt()).isEqualTo(breachedAt);
+    }
+
+    @Test
+    @DisplayName("startTestEngine: 통과 기준이 없는 시나리오는 판정 필드를 비워 둔다")
+    void startTestEngine_withoutThresholds_leavesVerdictEmpty() {
+        // Arrange
+        LoadTestScenario scenario = sampleScenario();
+        stubScenarioAndResultIds(17L, 48L);
+        when(loadTestRunner.run(eq(scenario), eq(48L), any(RunAbort.class))).thenReturn(sampleStats());
+
+        // Act
+        loadTestService.startTestEngine(scenario);
+
+        // Assert
+        ArgumentCaptor<LoadTestResult> captor = ArgumentCaptor.forClass(LoadTestResult.class);
+        verify(loadTestResultRepository).updateResult(captor.capture());
+        assertThat(captor.getValue().getThresholdsPassed()).isNull();
+        assertThat(captor.getValue().getThresholdBreaches()).isNull();
+        verify(loadTestRunner, never()).runObserved(any(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("abandonRun: 시작 전에 중단된 실행은 runner 호출 없이 aborted로 종료 처리한다")
+    void abandonRun_marksResultAbortedWithoutRunning() {
+        // Arrange
+        LoadTestScenario scenario = sampleScenario();
+        stubScenarioAndResultIds(17L, 46L);
+        LoadTestResult prepared = loadTestService.prepareRun(scenario);
+
+        // Act
+        loadTestService.abandonRun(prepared);
+
+        // Assert
+        verify(loadTestResultRepository).updateResult(prepared);
+        assertThat(prepared.isAborted()).isTrue();
+        assertThat(prepared.getEndedAt()).isEqualTo(fixedNow);
+        verifyNoInteractions(loadTestRunner);
+    }
+
+    @Test
+    @DisplayName("startTestEngine: 실패 로그 버퍼를 flush한 뒤 결과를 업데이트하고, 누락 건수를 반영한다")
+    void startTestEngine_flushesFailLogsBeforeUpdate() {
+        // Arrange
+        LoadTestScenario scenario = sampleScenario();
+        stubScenarioAndResultIds(16L, 27L);
+        when(loadTestRunner.run(eq(scenario), eq(27L), any(RunAbort.class))).thenReturn(sampleStats());
+        when(failLogWriter.takeDroppedCount(27L)).thenReturn(321L);
+
+        ArgumentCaptor<LoadTestResult> updateCaptor = ArgumentCaptor.forClass(LoadTestResult.class);
+
+        // Act
+        loadTestService.startTestEngine(scenario);
+
+        // Assert
+        InOrder inOrder = inOrder(loadTestRunner, failLogWriter, loadTestResultRepository);
+        inOrder.verify(loadTestRunner).run(eq(scenario), eq(27L), any(RunAbort.class));
+        inOrder.verify(failLogWriter).flush();
+        inOrder.verify(loadTestResultRepository).updateResult(updateCaptor.capture());
+        assertThat(updateCaptor.getValue().getFailLogDroppedCount()).isEqualTo(321L);
+    }
+
     @Test
     @DisplayName("startTestEngine: scenario insert로 생성된 ID를 result.scenarioId에 반영한다")
     void startTestEngine_generatedScenarioId_isUsedForResultScenarioId() {
@@ -103,7 +299,7 @@ class LoadTestServiceTest {
             return null;
         }).when(loadTestResultRepository).insertResult(any(LoadTestResult.class));
 
-        when(loadTestRunner.run(scenario, 202L)).thenReturn(stats);
+        when(loadTestRunner.run(eq(scenario), eq(202L), any(RunAbort.class))).thenReturn(stats);
 
         // Act
         loadTestService.startTestEngine(scenario);
@@ -120,7 +316,7 @@ class LoadTestServiceTest {
         LoadTestScenario scenario = sampleScenario();
         TestStats stats = new TestStats(70, 30, 100, 12.5, 3.0, 44.0, 40.0);
         stubScenarioAndResultIds(11L, 22L);
-        when(loadTestRunner.run(scenario, 22L)).thenReturn(stats);
+        when(loadTestRunner.run(eq(scenario), eq(22L), any(RunAbort.class))).thenReturn(stats);
 
         ArgumentCaptor<LoadTestResult> updateCaptor = ArgumentCaptor.forClass(LoadTestResult.class);
 
@@ -141,6 +337,192 @@ class LoadTestServiceTest {
         assertThat(updated.getP99LatencyMs()).isEqualTo(40.0);
     }
 
+    @Test
+    @DisplayName("startTestEngine: 발송 누락/지연 지표를 updateResult에 반영한다")
+    void startTestEngine_dispatchStats_areMappedToUpdatedResult() {
+        // Arrange
+        LoadTestScenario scenario = sampleScenario();
+        TestStats stats = new TestStats(70, 30, 100,
+                LatencyDistribution.EMPTY, LatencyDistribution.EMPTY, LatencyDistribution.EMPTY, 5L, 12L, 3_500L, 0L, 0L);
+        stubScenarioAndResultIds(12L, 23L);
+        when(loadTestRunner.run(eq(scenario), eq(23L), any(RunAbort.class))).thenReturn(stats);
+
+        ArgumentCaptor<LoadTestResult> updateCaptor = ArgumentCaptor.forClass(LoadTestResult.class);
+
+        // Act
+        loadTestService.startTestEngine(scenario);
+
+        // Assert
+        verify(loadTestResultRepository).updateResult(updateCaptor.capture());
+        LoadTestResult updated = updateCaptor.getValue();
+
+        assertThat(updated.getMissedDispatchCount()).isEqualTo(5L);
+        assertThat(updated.getLateDispatchCount()).isEqualTo(12L);
+        assertThat(updated.getMaxDispatchLagUs()).isEqualTo(3_500L);
+    }
+
+    @Test
+    @DisplayName("startTestEngine: 전송량과 테스트 시간 기준 초당 전송량을 updateResult에 반영한다")
+    void startTestEngine_byteCounts_areMappedWithThroughput() {
+        // Arrange
+        LoadTestScenario scenario = sampleScenario(); // 5초
+        TestStats stats = new TestStats(100, 0, 100,
+                LatencyDistribution.EMPTY, LatencyDistribution.EMPTY, LatencyDistribution.EMPTY, 0L, 0L, 0L, 5_000L, 50_000L);
+        stubScenarioAndResultIds(17L, 28L);
+        when(loadTestRunner.run(eq(scenario), eq(28L), any(RunAbort.class))).thenReturn(stats);
+
+        ArgumentCaptor<LoadTestResult> updateCaptor = ArgumentCaptor.forClass(LoadTestResult.class);
+
+        // Act
+        loadTestService.startTestEngine(scenario);
+
+        // Assert
+        verify(loadTestResultRepository).updateResult(updateCaptor.capture());
+        LoadTestResult updated = updateCaptor.getValue();
+
+        assertThat(updated.getBytesSent()).isEqualTo(5_000L);
+        assertThat(updated.getBytesReceived()).isEqualTo(50_000L);
+        assertThat(updated.getSentBytesPerSec()).isEqualTo(1_000.0);
+        assertThat(updated.getReceivedBytesPerSec()).isEqualTo(10_000.0);
+    }
+
+    @Test
+    @DisplayName("startTestEngine: 처리량/초당 전송량은 시나리오 시간이 아니라 측정 구간으로 나누고 cut-off 수를 저장한다")
+    void startTestEngine_measuredWindow_isUsedForThroughput() {
+        // Arrange: 5초 시나리오지만 종료 후 늦게 끝난 요청 때문에 측정 구간은 8초, 2건은 유예 시간 후 취소
+        LoadTestScenario scenario = sampleScenario();
+        TestStats stats = new TestStats(100, 0, 100,
+                LatencyDistribution.EMPTY, LatencyDistribution.EMPTY, LatencyDistribution.EMPTY, 0L, 0L, 0L, 8_000L, 80_000L,
+                2L, 8_000L, List.of(), null);
+        stubScenarioAndResultIds(17L, 29L);
+        when(loadTestRunner.run(eq(scenario), eq(29L), any(RunAbort.class))).thenReturn(stats);
+
+        ArgumentCaptor<LoadTestResult> updateCaptor = ArgumentCaptor.forClass(LoadTestResult.class);
+
+        // Act
+        loadTestService.startTestEngine(scenario);
+
+        // Assert
+        verify(loadTestResultRepository).updateResult(updateCaptor.capture());
+        LoadTestResult updated = updateCaptor.getValue();
+
+        assertThat(updated.getCutOffCount()).isEqualTo(2L);
+        assertThat(updated.getMeasuredWindowMs()).isEqualTo(8_000L);
+        assertThat(updated.getThroughputRps()).isEqualTo(12.5);
+        assertThat(updated.getSentBytesPerSec()).isEqualTo(1_000.0);
+        assertThat(updated.getReceivedBytesPerSec()).isEqualTo(10_000.0);
+    }
+
+    @Test
+    @DisplayName("startTestEngine: 발송 예정 시각 기준(보정) 분포를 측정 분포와 별도로 저장한다")
+    void startTestEngine_correctedLatency_isMappedSeparately() {
+        // Arrange
+        LoadTestScenario scenario = sampleScenario();
+        TestStats stats = new TestStats(100, 0, 100,
+                new LatencyDistribution(100L, 12_500.0, 3_000L, 44_000L, 10_000L, 20_000L, 30_000L, 40_000L, 43_000L, 44_000L, "raw"),
+                new LatencyDistribution(100L, 80_000.0, 3_000L, 900_000L, 50_000L, 200_000L, 400_000L, 850_000L, 890_000L, 900_000L, "corrected"),
+                LatencyDistribution.EMPTY,
+                0L, 0L, 0L, 0L, 0L);
+        stubScenarioAndResultIds(13L, 24L);
+        when(loadTestRunner.run(eq(scenario), eq(24L), any(RunAbort.class))).thenReturn(stats);
+
+        ArgumentCaptor<LoadTestResult> updateCaptor = ArgumentCaptor.forClass(LoadTestResult.class);
+
+        // Act
+        loadTestService.startTestEngine(scenario);
+
+        // Assert
+        verify(loadTestResultRepository).updateResult(updateCaptor.capture());
+        LoadTestResult updated = updateCaptor.getValue();
+
+        assertThat(updated.getP99LatencyMs()).isEqualTo(40.0);
+        assertThat(updated.getCorrectedAvgLatencyUs()).isEqualTo(80_000.0);
+        assertThat(updated.getCorrectedMaxLatencyUs()).isEqualTo(900_000L);
+        assertThat(updated.getCorrectedP99LatencyUs()).isEqualTo(850_000L);
+        assertThat(updated.getCorrectedLatencyHistogram()).isEqualTo("corrected");
+    }
+
+    @Test
+    @DisplayName("startTestEngine: 백분위 전 구간과 인코딩된 히스토그램을 저장한다")
+    void startTestEngine_fullPercentileSpectrumAndHistogram_areMapped() {
+        // Arrange
+        LoadTestScenario scenario = sampleScenario();
+        LatencyDistribution latency = new LatencyDistribution(
+                1_000L, 2_000.0, 100L, 90_000L, 1_500L, 3_000L, 4_000L, 9_000L, 40_000L, 88_000L, "encoded");
+        TestStats stats = new TestStats(1_000, 0, 1_000, latency, latency, LatencyDistribution.EMPTY, 0L, 0L, 0L, 0L, 0L);
+        stubScenarioAndResultIds(15L, 26L);
+        when(loadTestRunner.run(eq(scenario), eq(26L), any(RunAbort.class))).thenReturn(stats);
+
+        ArgumentCaptor<LoadTestResult> updateCaptor = ArgumentCaptor.forClass(LoadTestResult.class);
+
+        // Act
+        loadTestService.startTestEngine(scenario);
+
+        // Assert
+        verify(loadTestResultRepository).updateResult(updateCaptor.capture());
+        LoadTestResult updated = updateCaptor.getValue();
+
+        assertThat(updated.getP50LatencyUs()).isEqualTo(1_500L);
+        assertThat(updated.getP90LatencyUs()).isEqualTo(3_000L);
+        assertThat(updated.getP95LatencyUs()).isEqualTo(4_000L);
+        assertThat(updated.getP99LatencyUs()).isEqualTo(9_000L);
+        assertThat(updated.getP999LatencyUs()).isEqualTo(40_000L);
+        assertThat(updated.getP9999LatencyUs()).isEqualTo(88_000L);
+        assertThat(updated.getLatencyHistogram()).isEqualTo("encoded");
+    }
+
+    @Test
+    @DisplayName("startTestEngine: 생성기 상태 요약과 신뢰할 수 없는 사유를 결과 row에 저장한다")
+    void startTestEngine_generatorHealth_isMapped() {
+        // Arrange
+        LoadTestScenario scenario = sampleScenario();
+        GeneratorHealth health = new GeneratorHealth(0.97, 0.8, 420L, 3L,
+                List.of(GeneratorSaturation.CPU_SATURATED, GeneratorSaturation.CARRIER_PINNING));
+        TestStats stats = sampleStats().withHealth(health);
+        stubScenarioAndResultIds(16L, 27L);
+        when(loadTestRunner.run(eq(scenario), eq(27L), any(RunAbort.class))).thenReturn(stats);
+
+        ArgumentCaptor<LoadTestResult> updateCaptor = ArgumentCaptor.forClass(LoadTestResult.class);
+
+        // Act
+        loadTestService.startTestEngine(scenario);
+
+        // Assert
+        verify(loadTestResultRepository).updateResult(updateCaptor.capture());
+        LoadTestResult updated = updateCaptor.getValue();
+
+        assertThat(updated.isUntrustworthy()).isTrue();
+        assertThat(updated.getUntrustworthyReasons()).isEqualTo("CPU_SATURATED,CARRIER_PINNING");
+        assertThat(updated.getGeneratorPeakCpuLoad()).isEqualTo(0.97);
+        assertThat(updated.getGeneratorGcPauseMs()).isEqualTo(420L);
+        assertThat(updated.getGeneratorPinnedCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("startTestEngine: 1ms 미만 latency도 us 컬럼과 ms 컬럼 소수점으로 보존된다")
+    void startTestEngine_subMillisecondLatency_isPreserved() {
+        // Arrange
+        LoadTestScenario scenario = sampleScenario();
+        LatencyDistribution latency = new LatencyDistribution(100L, 412.5, 180L, 950L, 400L, 600L, 700L, 870L, 940L, 950L, null);
+        TestStats stats = new TestStats(100, 0, 100, latency, latency, LatencyDistribution.EMPTY, 0L, 0L, 0L, 0L, 0L);
+        stubScenarioAndResultIds(14L, 25L);
+        when(loadTestRunner.run(eq(scenario), eq(25L), any(RunAbort.class))).thenReturn(stats);
+
+        ArgumentCaptor<LoadTestResult> updateCaptor = ArgumentCaptor.forClass(LoadTestResult.class);
+
+        // Act
+        loadTestService.startTestEngine(scenario);
+
+        // Assert
+        verify(loadTestResultRepository).updateResult(updateCaptor.capture());
+        LoadTestResult updated = updateCaptor.getValue();
+
+        assertThat(updated.getMinLatencyUs()).isEqualTo(180L);
+        assertThat(updated.getP99LatencyUs()).isEqualTo(870L);
+        assertThat(updated.getAvgLatencyMs()).isEqualTo(0.4125);
+        assertThat(updated.getP99LatencyMs()).isEqualTo(0.87);
+    }
+
     @Test
     @DisplayName("startTestEngine: startedAt/endedAt은 주입된 Clock 기준으로 설정된다")
     void startTestEngine_timeFields_areSetFromInjectedClock() {
@@ -148,7 +530,7 @@ class LoadTestServiceTest {
         LoadTestScenario scenario = sampleScenario();
         TestStats stats = sampleStats();
         stubScenarioAndResultIds(33L, 44L);
-        when(loadTestRunner.run(scenario, 44L)).thenReturn(stats);
+        when(loadTestRunner.run(eq(scenario), eq(44L), any(RunAbort.class))).thenReturn(stats);
 
         ArgumentCaptor<LoadTestResult> insertCaptor = ArgumentCaptor.forClass(LoadTestResult.class);
         ArgumentCaptor<LoadTestResult> updateCaptor = ArgumentCaptor.forClass(LoadTestResult.class);
@@ -171,7 +553,7 @@ class LoadTestServiceTest {
         LoadTestScenario scenario = sampleScenario();
         TestStats zeroStats = new TestStats(0, 0, 0, 0.0, 0.0, 0.0, 0.0);
         stubScenarioAndResultIds(1L, 2L);
-        when(loadTestRunner.run(scenario, 2L)).thenReturn(zeroStats);
+        when(loadTestRunner.run(eq(scenario), eq(2L), any(RunAbort.class))).thenReturn(zeroStats);
 
         ArgumentCaptor<LoadTestResult> updateCaptor = ArgumentCaptor.forClass(LoadTestResult.class);
 
@@ -201,7 +583,7 @@ class LoadTestServiceTest {
 
         // Assert
         assertThat(actual).isSameAs(expected);
-        verifyNoInteractions(loadTestResultRepository, loadTestRunner);
+        verifyNoInteractions(loadTestResultRepository, loadTestRunner, failLogWriter);
     }
 
     @Test
@@ -226,18 +608,23 @@ class LoadTestServiceTest {
     }
 
     @Test
-    @DisplayName("startTestEngine: runner 예외 시 예외를 전파하고 updateResult는 호출하지 않는다")
-    void startTestEngine_whenRunnerFails_propagatesAndSkipsUpdate() {
+    @DisplayName("startTestEngine: runner 예외 시 결과 row를 중단/오류로 확정하고 예외를 전파한다")
+    void startTestEngine_whenRunnerFails_finalizesResultAndPropagates() {
         // Arrange
         LoadTestScenario scenario = sampleScenario();
         stubScenarioAndResultIds(77L, 88L);
-        when(loadTestRunner.run(scenario, 88L)).thenThrow(new RuntimeException("runner failed"));
+        when(loadTestRunner.run(eq(scenario), eq(88L), any(RunAbort.class))).thenThrow(new RuntimeException("runner failed"));
 
         // Act
         assertThrows(RuntimeException.class, () -> loadTestService.startTestEngine(scenario));
 
-        // Assert
-        verify(loadTestResultRepository, never()).updateResult(any(LoadTestResult.class));
+        // Assert: 통계 없이 종료 시각/오류만 남김
+        ArgumentCaptor<LoadTestResult> captor = ArgumentCaptor.forClass(LoadTestResult.class);
+        verify(loadTestResultRepository).updateResult(captor.capture());
+        assertThat(captor.getValue().isAborted()).isTrue();
+        assertThat(captor.getValue().getErrorMessage()).contains("runner failed");
+        assertThat(captor.getValue().getEndedAt()).isEqualTo(fixedNow);
+        assertThat(captor.getValue().getTotalRequests()).isZero();
     }
 
     @Test
@@ -246,7 +633,7 @@ class LoadTestServiceTest {
         // Arrange
         LoadTestScenario scenario = sampleScenario();
         stubScenarioAndResultIds(9L, 19L);
-        when(loadTestRunner.run(scenario, 19L)).thenReturn(sampleStats());
+        when(loadTestRunner.run(eq(scenario), eq(19L), any(RunAbort.class))).thenReturn(sampleStats());
         doThrow(new RuntimeException("update fail"))
                 .when(loadTestResultRepository).updateResult(any(LoadTestResult.class));
 
@@ -255,7 +642,373 @@ class LoadTestServiceTest {
 
         // Assert
         assertThat(exception).hasMessage("update fail");
-        verify(loadTestRunner).run(scenario, 19L);
+        verify(loadTestRunner).run(eq(scenario), eq(19L), any(RunAbort.class));
+    }
+
+    @Test
+    @DisplayName("startDistributedTest: 코디네이터가 병합한 집계로 결과 row 하나를 확정한다")
+    void startDistributedTest_mergedStats_areMappedToSingleResult() {
+        // Arrange
+        LoadTestScenario scenario = sampleScenario();
+        List<String> workerUrls = List.of("http://localhost:8081", "http://localhost:8082");
+        stubScenarioAndResultIds(11L, 31L);
+        when(loadTestCoordinator.run(eq(scenario), eq(31L), eq(workerUrls), isNull(), any(RunAbort.class)))
+                .thenReturn(new DistributedRunResult(sampleStats(), 4L, 2));
+
+        // Act
+        LoadTestResult result = loadTestService.startDistributedTest(scenario, workerUrls);
+
+        // Assert: 로컬 실행 경로(runner, 로컬 실패 로그 버퍼)는 사용하지 않음
+        ArgumentCaptor<LoadTestResult> captor = ArgumentCaptor.forClass(LoadTestResult.class);
+        verify(loadTestResultRepository).updateResult(captor.capture());
+        LoadTestResult updated = captor.getValue();
+        assertThat(updated).isSameAs(result);
+        assertThat(updated.getScenarioId()).isEqualTo(11L);
+        assertThat(updated.getTotalRequests()).isEqualTo(100);
+        assertThat(updated.getSuccessCount()).isEqualTo(90);
+        assertThat(updated.getP99LatencyMs()).isEqualTo(39.0);
+        assertThat(updated.getFailLogDroppedCount()).isEqualTo(4L);
+        assertThat(updated.getEndedAt()).isEqualTo(fixedNow);
+        verifyNoInteractions(loadTestRunner, failLogWriter);
+    }
+
+    @Test
+    @DisplayName("startDistributedTest: 코디네이터가 실패하면 결과 row를 종료 시각/중단/오류로 확정한 뒤 예외를 전파한다")
+    void startDistributedTest_coordinatorFailure_finalizesResult() {
+        // Arrange
+        LoadTestScenario scenario = sampleScenario();
+        List<String> workerUrls = List.of("http://localhost:8081");
+        stubScenarioAndResultIds(11L, 36L);
+        IllegalStateException failure = new IllegalStateException("Worker failed: http://localhost:8081 - boom");
+        when(loadTestCoordinator.run(eq(scenario), eq(36L), eq(workerUrls), isNull(), any(RunAbort.class)))
+                .thenThrow(failure);
+
+        // Act
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> loadTestService.startDistributedTest(scenario, workerUrls));
+
+        // Assert
+        assertThat(thrown).isSameAs(failure);
+        ArgumentCaptor<LoadTestResult> captor = ArgumentCaptor.forClass(LoadTestResult.class);
+        verify(loadTestResultRepository).updateResult(captor.capture());
+        LoadTestResult updated = captor.getValue();
+        assertThat(updated.getId()).isEqualTo(36L);
+        assertThat(updated.isAborted()).isTrue();
+        assertThat(updated.getErrorMessage()).contains("boom");
+        assertThat(updated.getEndedAt()).isEqualTo(fixedNow);
+    }
+
+    @Test
+    @DisplayName("executeDistributedRun: 병합한 구간으로 통과 기준을 판정하고, abortOnBreach면 워커까지 멈춘 뒤 판정을 저장한다")
+    void executeDistributedRun_thresholdBreach_abortsWorkersAndSavesVerdict() {
+        // Arrange
+        LoadTestScenario scenario = sampleScenario();
+        scenario.setMaxErrorRate(0.05);
+        scenario.setAbortOnBreach(true);
+        List<String> workerUrls = List.of("http://localhost:8081", "http://localhost:8082");
+        stubScenarioAndResultIds(11L, 37L);
+        LoadTestResult prepared = loadTestService.prepareRun(scenario);
+        RunAbort abort = new RunAbort();
+        LocalDateTime breachedAt = fixedNow.plusSeconds(4);
+        when(loadTestCoordinator.run(eq(scenario), eq(37L), eq(workerUrls), any(IntervalSink.class), eq(abort)))
+                .thenAnswer(invocation -> {
+                    // 두 워커를 병합한 구간: 200건 중 50건 실패 (에러율 25%)
+                    LoadTestResultTimeseries merged = measuredInterval(200, 10_000L);
+                    merged.setSuccessCount(150L);
+                    merged.setFailCount(50L);
+                    merged.setRecordedAt(breachedAt);
+                    invocation.<IntervalSink>getArgument(3).accept(merged);
+                    assertThat(abort.isAborted()).isTrue();
+                    return new DistributedRunResult(sampleStats(), 0L, 2);
+                });
+
+        // Act
+        LoadTestResult result = loadTestService.executeDistributedRun(scenario, workerUrls, prepared, abort);
+
+        // Assert
+        verify(loadTestResultRepository).updateResult(result);
+        assertThat(result.isAborted()).isTrue();
+        assertThat(result.getThresholdsPassed()).isFalse();
+        assertThat(result.getThresholdBreaches()).isEqualTo("ERROR_RATE");
+        assertThat(result.getThresholdBreachedAt()).isEqualTo(breachedAt);
+    }
+
+    @Test
+    @DisplayName("startTestEngine: 다단계 시나리오는 단계를 저장하고 단계별 결과를 함께 저장한다")
+    void startTestEngine_journeyScenario_persistsStepsAndStepResults() {
+        // Arrange
+        LoadTestScenario scenario = sampleScenario();
+        scenario.setTargetUrl(null);
+        scenario.setHttpMethod(null);
+        LoadTestScenarioStep login = new LoadTestScenarioStep();
+        login.setTargetUrl("http://localhost:8080/login");
+        login.setHttpMethod("POST");
+        LoadTestScenarioStep browse = new LoadTestScenarioStep();
+        browse.setName("browse");
+        browse.setTargetUrl("http://localhost:8080/items?token=${token}");
+        browse.setHttpMethod("GET");
+        scenario.setSteps(List.of(login, browse));
+        stubScenarioAndResultIds(12L, 32L);
+
+        LatencyDistribution latency = new LatencyDistribution(10L, 1_500.0, 1_000L, 3_000L,
+                1_400L, 2_000L, 2_500L, 2_900L, 3_000L, 3_000L, "step-histogram");
+        TestStats stats = sampleStats().withSteps(List.of(
+                new StepStats(1, "step-1", 9L, 1L, 1L, latency),
+                new StepStats(2, "browse", 9L, 0L, 0L, latency)));
+        when(loadTestRunner.run(eq(scenario), eq(32L), any(RunAbort.class))).thenReturn(stats);
+
+        // Act
+        loadTestService.startTestEngine(scenario);
+
+        // Assert: 시나리오 row의 대표 URL은 첫 단계, 단계 순서는 1부터
+        assertThat(scenario.getTargetUrl()).isEqualTo("http://localhost:8080/login");
+        assertThat(scenario.getHttpMethod()).isEqualTo("POST");
+        verify(loadTestScenarioStepRepository).insertSteps(scenario.getSteps());
+        assertThat(scenario.getSteps()).extracting(LoadTestScenarioStep::getScenarioId).containsOnly(12L);
+        assertThat(scenario.getSteps()).extracting(LoadTestScenarioStep::getStepOrder).containsExactly(1, 2);
+        assertThat(scenario.getSteps()).extracting(LoadTestScenarioStep::getName).containsExactly("step-1", "browse");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LoadTestResultStep>> captor = ArgumentCaptor.forClass(List.class);
+        verify(loadTestResultStepRepository).insertResultSteps(captor.capture());
+        List<LoadTestResultStep> resultSteps = captor.getValue();
+        assertThat(resultSteps).extracting(LoadTestResultStep::getResultId).containsOnly(32L);
+        assertThat(resultSteps).extracting(LoadTestResultStep::getStepName).containsExactly("step-1", "browse");
+        assertThat(resultSteps.get(0).getTotalRequests()).isEqualTo(10L);
+        assertThat(resultSteps.get(0).getExtractionFailCount()).isEqualTo(1L);
+        assertThat(resultSteps.get(0).getP99LatencyUs()).isEqualTo(2_900L);
+        assertThat(resultSteps.get(0).getLatencyHistogram()).isEqualTo("step-histogram");
+    }
+
+    @Test
+    @DisplayName("startTestEngine: 단일 요청 시나리오는 단계 테이블을 사용하지 않는다")
+    void startTestEngine_singleRequestScenario_skipsStepTables() {
+        // Arrange
+        LoadTestScenario scenario = sampleScenario();
+        stubScenarioAndResultIds(13L, 33L);
+        when(loadTestRunner.run(eq(scenario), eq(33L), any(RunAbort.class))).thenReturn(sampleStats());
+
+        // Act
+        loadTestService.startTestEngine(scenario);
+
+        // Assert
+        verifyNoInteractions(loadTestScenarioStepRepository, loadTestScenarioStageRepository, loadTestResultStepRepository);
+    }
+
+    @Test
+    @DisplayName("startTestEngine: 부하 프로파일 단계를 저장하고 지속 시간/목표 TPS를 단계에 맞춘다")
+    void startTestEngine_stagedScenario_persistsStagesAndNormalizesScenario() {
+        // Arrange: open model (targetTps > 0) -> 단계 목표는 TPS
+        LoadTestScenario scenario = sampleScenario();
+        scenario.setStages(List.of(
+                stage(LoadStageType.RAMP, 10, 200),
+                stage(LoadStageType.PLATEAU, 30, 200),
+                stage(LoadStageType.SPIKE, 5, 500),
+                stage(LoadStageType.RAMP, 10, 0)));
+        stubScenarioAndResultIds(14L, 34L);
+        when(loadTestRunner.run(eq(scenario), eq(34L), any(RunAbort.class))).thenReturn(sampleStats());
+
+        // Act
+        loadTestService.startTestEngine(scenario);
+
+        // Assert
+        assertThat(scenario.getDurationSeconds()).isEqualTo(55);
+        assertThat(scenario.getTargetTps()).isEqualTo(500);
+        assertThat(scenario.getVirtualThreadCount()).isEqualTo(10);
+        verify(loadTestScenarioStageRepository).insertStages(scenario.getStages());
+        assertThat(scenario.getStages()).extracting(LoadTestScenarioStage::getScenarioId).containsOnly(14L);
+        assertThat(scenario.getStages()).extracting(LoadTestScenarioStage::getStageOrder).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("startTestEngine: closed model 단계 시나리오는 최대 단계 목표를 워커 수로 쓴다")
+    void startTestEngine_stagedClosedScenario_usesPeakAsWorkerCount() {
+        // Arrange
+        LoadTestScenario scenario = sampleScenario();
+        scenario.setTargetTps(0);
+        scenario.setStages(List.of(
+                stage(LoadStageType.STEP, 20, 40),
+                stage(LoadStageType.PLATEAU, 10, 40)));
+        stubScenarioAndResultIds(15L, 35L);
+        when(loadTestRunner.run(eq(scenario), eq(35L), any(RunAbort.class))).thenReturn(sampleStats());
+
+        // Act
+        loadTestService.startTestEngine(scenario);
+
+        // Assert
+        assertThat(scenario.getDurationSeconds()).isEqualTo(30);
+        assertThat(scenario.getVirtualThreadCount()).isEqualTo(40);
+        assertThat(scenario.getTargetTps()).isZero();
+    }
+
+    @Test
+    @DisplayName("startTestEngine: 잘못된 단계는 시나리오를 저장하기 전에 거부한다")
+    void startTestEngine_invalidStage_rejectsBeforeInsert() {
+        // Arrange
+        LoadTestScenario scenario = sampleScenario();
+        scenario.setStages(List.of(stage(LoadStageType.RAMP, 0, 100)));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> loadTestService.startTestEngine(scenario));
+        verifyNoInteractions(loadTestScenarioRepository, loadTestScenarioStageRepository, loadTestRunner);
+    }
+
+    @Test
+    @DisplayName("startCapacitySearch: probe마다 구간 지표로 SLO를 판정하고 요약 row와 probe row들을 연결해 저장한다")
+    void startCapacitySearch_persistsLinkedProbeRows() {
+        // Arrange: 대상 서버는 300 TPS까지 p99 10ms, 그 이상은 p99 500ms
+        LoadTestScenario scenario = sampleScenario();
+        doAnswer(invocation -> {
+            invocation.<LoadTestScenario>getArgument(0).setId(16L);
+            return null;
+        }).when(loadTestScenarioRepository).insertScenario(any(LoadTestScenario.class));
+        AtomicLong resultIds = new AtomicLong(100L);
+        doAnswer(invocation -> {
+            invocation.<LoadTestResult>getArgument(0).setId(resultIds.getAndIncrement());
+            return null;
+        }).when(loadTestResultRepository).insertResult(any(LoadTestResult.class));
+        when(loadTestRunner.runObserved(any(LoadTestScenario.class), anyLong(), any(IntervalSink.class), any(RunAbort.class)))
+                .thenAnswer(invocation -> {
+                    int tps = invocation.<LoadTestScenario>getArgument(0).getTargetTps();
+                    IntervalSink observer = invocation.getArgument(2);
+                    // warm-up(2초) 이후 구간 하나
+                    observer.accept(measuredInterval(tps, tps <= 300 ? 10_000L : 500_000L));
+                    return sampleStats();
+                });
+
+        // Act
+        CapacitySearchResult result = loadTestService.startCapacitySearch(
+                new CapacitySearchRequest(scenario, 200, 0.001, 50, 1_000));
+
+        // Assert
+        assertThat(result.probes()).extracting(LoadTestResult::getOfferedTps)
+                .containsExactly(50, 100, 200, 400, 300, 350, 325, 312);
+        assertThat(result.probes()).extracting(LoadTestResult::getSloPassed)
+                .containsExactly(true, true, true, false, true, false, false, false);
+        assertThat(result.probes()).extracting(LoadTestResult::getParentResultId).containsOnly(100L);
+        assertThat(result.probes()).extracting(LoadTestResult::getScenarioId).containsOnly(16L);
+        assertThat(result.probes().get(0).getAchievedTps()).isEqualTo(50.0);
+
+        LoadTestResult summary = result.summary();
+        assertThat(summary.getId()).isEqualTo(100L);
+        assertThat(summary.getParentResultId()).isNull();
+        assertThat(summary.getCapacityTps()).isEqualTo(300);
+        assertThat(summary.getTotalRequests()).isEqualTo(100);
+        assertThat(scenario.getTargetTps()).isEqualTo(1_000);
+        assertThat(scenario.getDurationSeconds()).isEqualTo(10);
+        verify(loadTestResultRepository).updateResult(summary);
+        verify(failLogWriter, times(8)).flush();
+    }
+
+    @Test
+    @DisplayName("startCapacitySearch: 부하 프로파일 단계가 있는 시나리오는 거부한다")
+    void startCapacitySearch_stagedScenario_rejects() {
+        LoadTestScenario scenario = sampleScenario();
+        scenario.setStages(List.of(stage(LoadStageType.RAMP, 10, 100)));
+
+        assertThrows(IllegalArgumentException.class, () -> loadTestService.startCapacitySearch(
+                new CapacitySearchRequest(scenario, 200, 0.001, 50, 1_000)));
+        verifyNoInteractions(loadTestScenarioRepository, loadTestRunner);
+    }
+
+    @Test
+    @DisplayName("executeCapacitySearch: probe가 실패하면 probe row와 요약 row를 모두 종료 시각/중단/오류로 확정한 뒤 예외를 전파한다")
+    void executeCapacitySearch_probeFailure_finalizesProbeAndSummary() {
+        // Arrange: 첫 probe(50 TPS)는 통과, 두 번째 probe에서 실패
+        LoadTestScenario scenario = sampleScenario();
+        stubCapacitySearchIds();
+        IllegalStateException failure = new IllegalStateException("probe boom");
+        when(loadTestRunner.runObserved(any(LoadTestScenario.class), anyLong(), any(IntervalSink.class), any(RunAbort.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<IntervalSink>getArgument(2).accept(measuredInterval(50, 10_000L));
+                    return sampleStats();
+                })
+                .thenThrow(failure);
+        CapacitySearchRequest request = new CapacitySearchRequest(scenario, 200, 0.001, 50, 1_000);
+        LoadTestResult summary = loadTestService.prepareCapacitySearch(request);
+
+        // Act
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> loadTestService.executeCapacitySearch(request, summary, new RunAbort()));
+
+        // Assert: 요약 row(100), probe row(101, 102) 모두 확정
+        assertThat(thrown).isSameAs(failure);
+        ArgumentCaptor<LoadTestResult> captor = ArgumentCaptor.forClass(LoadTestResult.class);
+        verify(loadTestResultRepository, times(3)).updateResult(captor.capture());
+        LoadTestResult failedProbe = captor.getAllValues().get(1);
+        assertThat(failedProbe.getId()).isEqualTo(102L);
+        assertThat(failedProbe.isAborted()).isTrue();
+        assertThat(failedProbe.getErrorMessage()).contains("probe boom");
+        assertThat(failedProbe.getEndedAt()).isEqualTo(fixedNow);
+        LoadTestResult failedSummary = captor.getAllValues().get(2);
+        assertThat(failedSummary).isSameAs(summary);
+        assertThat(failedSummary.isAborted()).isTrue();
+        assertThat(failedSummary.getErrorMessage()).contains("probe boom");
+        assertThat(failedSummary.getEndedAt()).isEqualTo(fixedNow);
+    }
+
+    @Test
+    @DisplayName("executeCapacitySearch: 중단되면 진행 중 probe는 판정하지 않고 다음 probe 없이 요약 row를 aborted로 확정한다")
+    void executeCapacitySearch_abort_stopsSearchAndMarksSummaryAborted() {
+        // Arrange: 첫 probe(50 TPS)는 통과, 두 번째 probe 실행 중 중단
+        LoadTestScenario scenario = sampleScenario();
+        stubCapacitySearchIds();
+        when(loadTestRunner.runObserved(any(LoadTestScenario.class), anyLong(), any(IntervalSink.class), any(RunAbort.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<IntervalSink>getArgument(2).accept(measuredInterval(50, 10_000L));
+                    return sampleStats();
+                })
+                .thenAnswer(invocation -> {
+                    invocation.<RunAbort>getArgument(3).abort();
+                    return sampleStats();
+                });
+        CapacitySearchRequest request = new CapacitySearchRequest(scenario, 200, 0.001, 50, 1_000);
+        LoadTestResult summary = loadTestService.prepareCapacitySearch(request);
+
+        // Act
+        CapacitySearchResult result = loadTestService.executeCapacitySearch(request, summary, new RunAbort());
+
+        // Assert
+        assertThat(result.probes()).extracting(LoadTestResult::getOfferedTps).containsExactly(50, 100);
+        assertThat(result.probes()).extracting(LoadTestResult::getSloPassed).containsExactly(true, null);
+        assertThat(result.probes().get(1).isAborted()).isTrue();
+        assertThat(summary.isAborted()).isTrue();
+        assertThat(summary.getCapacityTps()).isEqualTo(50);
+        assertThat(summary.getEndedAt()).isEqualTo(fixedNow);
+        verify(loadTestRunner, times(2)).runObserved(any(), anyLong(), any(IntervalSink.class), any(RunAbort.class));
+        verify(loadTestResultRepository).updateResult(summary);
+    }
+
+    private void stubCapacitySearchIds() {
+        doAnswer(invocation -> {
+            invocation.<LoadTestScenario>getArgument(0).setId(16L);
+            return null;
+        }).when(loadTestScenarioRepository).insertScenario(any(LoadTestScenario.class));
+        AtomicLong resultIds = new AtomicLong(100L);
+        doAnswer(invocation -> {
+            invocation.<LoadTestResult>getArgument(0).setId(resultIds.getAndIncrement());
+            return null;
+        }).when(loadTestResultRepository).insertResult(any(LoadTestResult.class));
+    }
+
+    private LoadTestResultTimeseries measuredInterval(int requests, long latencyUs) {
+        Histogram histogram = new Histogram(3);
+        histogram.recordValueWithCount(latencyUs, requests);
+        LoadTestResultTimeseries interval = new LoadTestResultTimeseries();
+        interval.setElapsedMs(4_000L);
+        interval.setIntervalMs(1_000L);
+        interval.setRequestCount(requests);
+        interval.setSuccessCount(requests);
+        interval.setLatencyHistogram(HistogramSupport.encode(histogram));
+        return interval;
+    }
+
+    private LoadTestScenarioStage stage(LoadStageType type, int durationSeconds, int target) {
+        LoadTestScenarioStage stage = new LoadTestScenarioStage();
+        stage.setStageType(type);
+        stage.setDurationSeconds(durationSeconds);
+        stage.setTarget(target);
+        return stage;
     }
 
     private void stubScenarioAndResultIds(long scenarioId, long resultId) {
@@ -0,0 +1,78 @@
+package com.project.service.capacity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CapacitySearchTest {
+
+    @Test
+    @DisplayName("SLO를 지키는 동안 배수로 올리고, 처음 어긴 뒤에는 이분 탐색으로 해상도까지 좁힌다")
+    void search_growsThenBisects() {
+        // Arrange: 대상 서버는 300 TPS까지 SLO를 지킴
+        CapacitySearch search = new CapacitySearch(50, 1_000, 2.0, 5, 15);
+
+        // Act
+        List<Integer> probes = run(search, tps -> tps <= 300);
+
+        // Assert: 350의 5% = 17 -> 312와 300 사이(12)에서 종료
+        assertThat(probes).containsExactly(50, 100, 200, 400, 300, 350, 325, 312);
+        assertThat(search.capacityTps()).isEqualTo(300);
+        assertThat(search.probeCount()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("maxTps에서도 SLO를 지키면 maxTps에서 멈춘다")
+    void search_stopsAtMaxTps() {
+        CapacitySearch search = new CapacitySearch(100, 500, 2.0, 5, 15);
+
+        List<Integer> probes = run(search, tps -> true);
+
+        assertThat(probes).containsExactly(100, 200, 400, 500);
+        assertThat(search.capacityTps()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("첫 probe부터 어기면 startTps 아래로 이분 탐색하고, 끝까지 못 찾으면 용량은 0")
+    void search_bisectsBelowStartTps() {
+        CapacitySearch lower = new CapacitySearch(100, 1_000, 2.0, 5, 15);
+        assertThat(run(lower, tps -> tps <= 30)).startsWith(100, 50, 25);
+        assertThat(lower.capacityTps()).isBetween(28, 30);
+
+        CapacitySearch none = new CapacitySearch(4, 100, 2.0, 5, 15);
+        assertThat(run(none, tps -> false)).containsExactly(4, 2, 1);
+        assertThat(none.capacityTps()).isZero();
+    }
+
+    @Test
+    @DisplayName("probe 횟수 한도에 도달하면 해상도와 무관하게 종료한다")
+    void search_respectsMaxProbes() {
+        CapacitySearch search = new CapacitySearch(10, 100_000, 2.0, 0, 5);
+
+        assertThat(run(search, tps -> tps <= 1_000)).hasSize(5);
+        assertThat(search.nextTps()).isZero();
+    }
+
+    @Test
+    @DisplayName("생성자: 잘못된 TPS 범위나 1 이하의 배수는 거부한다")
+    void constructor_validatesArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new CapacitySearch(0, 10, 2.0, 5, 10));
+        assertThrows(IllegalArgumentException.class, () -> new CapacitySearch(20, 10, 2.0, 5, 10));
+        assertThrows(IllegalArgumentException.class, () -> new CapacitySearch(10, 100, 1.0, 5, 10));
+    }
+
+    private List<Integer> run(CapacitySearch search, IntPredicate sloHolds) {
+        List<Integer> probes = new ArrayList<>();
+        for (int tps = search.nextTps(); tps > 0; tps = search.nextTps()) {
+            probes.add(tps);
+            search.record(tps, sloHolds.test(tps));
+        }
+        return probes;
+    }
+}
@@ -0,0 +1,74 @@
+package com.project.service.capacity;
+
+import com.project.model.LoadTestResultTimeseries;
+import com.project.service.dto.SloVerdict;
+import com.project.service.metrics.HistogramSupport;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SloEvaluatorTest {
+
+    @Test
+    @DisplayName("warm-up 구간은 판정에서 빼고, 나머지 구간 히스토그램을 병합해 p99/에러율/처리량을 계산한다")
+    void verdict_excludesWarmupIntervals() {
+        // Arrange: p99 < 200ms, 에러율 <= 1%, warm-up 2초
+        SloEvaluator evaluator = new SloEvaluator(200, 0.01, 0.95, 2_000);
+        evaluator.accept(interval(1_000, 100, 50, 900_000L));  // warm-up: 느리고 실패가 많아도 무시
+        evaluator.accept(interval(2_000, 100, 50, 900_000L));
+        evaluator.accept(interval(3_000, 100, 1, 10_000L));
+        evaluator.accept(interval(4_000, 100, 0, 20_000L));
+
+        // Act
+        SloVerdict verdict = evaluator.verdict(100);
+
+        // Assert
+        assertThat(verdict.requests()).isEqualTo(200L);
+        assertThat(verdict.achievedTps()).isEqualTo(100.0);
+        assertThat(verdict.errorRate()).isEqualTo(0.005);
+        assertThat(verdict.p99Us()).isBetween(19_980L, 20_020L);
+        assertThat(verdict.passed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("p99 초과, 에러율 초과, 목표 TPS를 따라가지 못한 경우 모두 위반으로 판정한다")
+    void verdict_failsOnAnyViolation() {
+        SloEvaluator slow = new SloEvaluator(200, 0.01, 0.95, 0);
+        slow.accept(interval(1_000, 100, 0, 250_000L));
+        assertThat(slow.verdict(100).passed()).isFalse();
+
+        SloEvaluator failing = new SloEvaluator(200, 0.01, 0.95, 0);
+        failing.accept(interval(1_000, 100, 2, 10_000L));
+        assertThat(failing.verdict(100).passed()).isFalse();
+
+        SloEvaluator behind = new SloEvaluator(200, 0.01, 0.95, 0);
+        behind.accept(interval(1_000, 90, 0, 10_000L));
+        assertThat(behind.verdict(100).passed()).isFalse();
+        assertThat(behind.verdict(90).passed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("측정 구간에 요청이 없으면 위반으로 판정한다")
+    void verdict_noMeasuredRequests_fails() {
+        SloEvaluator evaluator = new SloEvaluator(200, 0.01, 0.95, 5_000);
+        evaluator.accept(interval(1_000, 100, 0, 10_000L));
+
+        assertThat(evaluator.verdict(100).passed()).isFalse();
+        assertThat(evaluator.verdict(100).requests()).isZero();
+    }
+
+    static LoadTestResultTimeseries interval(long elapsedMs, long requests, long fail, long latencyUs) {
+        Histogram histogram = new Histogram(3);
+        histogram.recordValueWithCount(latencyUs, requests);
+        LoadTestResultTimeseries interval = new LoadTestResultTimeseries();
+        interval.setElapsedMs(elapsedMs);
+        interval.setIntervalMs(1_000L);
+        interval.setRequestCount(requests);
+        interval.setSuccessCount(requests - fail);
+        interval.setFailCount(fail);
+        interval.setLatencyHistogram(HistogramSupport.encode(histogram));
+        return interval;
+    }
+}
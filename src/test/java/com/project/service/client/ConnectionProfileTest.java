@@ -0,0 +1,56 @@
+package com.project.service.client;
+
+import com.project.model.LoadTestScenario;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectionProfileTest {
+
+    @Test
+    @DisplayName("from: 커넥션 설정이 없으면 최대 동시 요청 수만큼 커넥션을 허용한다")
+    void from_withoutSettings_sizesPoolToConcurrency() {
+        // Arrange
+        LoadTestScenario scenario = new LoadTestScenario();
+        scenario.setVirtualThreadCount(5_000);
+
+        // Act
+        ConnectionProfile profile = ConnectionProfile.from(scenario);
+
+        // Assert
+        assertThat(profile.maxConnections()).isEqualTo(5_000);
+        assertThat(profile.pendingAcquireMaxCount()).isEqualTo(10_000);
+        assertThat(profile.pendingAcquireTimeout()).isEqualTo(Duration.ofSeconds(45));
+        assertThat(profile.keepAlive()).isTrue();
+        assertThat(profile.http2()).isFalse();
+        assertThat(profile.connectTimeout()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(profile.responseTimeout()).isNull();
+        assertThat(profile.eventLoopThreads()).isEqualTo(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Test
+    @DisplayName("from: 시나리오에 지정한 커넥션 설정을 그대로 사용한다")
+    void from_withSettings_usesScenarioValues() {
+        // Arrange
+        LoadTestScenario scenario = new LoadTestScenario();
+        scenario.setVirtualThreadCount(5_000);
+        scenario.setMaxConnections(200);
+        scenario.setPendingAcquireMaxCount(1_000);
+        scenario.setPendingAcquireTimeoutMs(500);
+        scenario.setKeepAlive(false);
+        scenario.setHttp2Enabled(true);
+        scenario.setConnectTimeoutMs(1_000);
+        scenario.setResponseTimeoutMs(2_000);
+        scenario.setEventLoopThreads(4);
+
+        // Act
+        ConnectionProfile profile = ConnectionProfile.from(scenario);
+
+        // Assert
+        assertThat(profile).isEqualTo(new ConnectionProfile(200, 1_000, Duration.ofMillis(500), false, true,
+                Duration.ofSeconds(1), Duration.ofSeconds(2), 4));
+    }
+}
@@ -0,0 +1,86 @@
+package com.project.service.client;
+
+import com.project.model.LoadTestScenario;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import reactor.core.publisher.Flux;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RequestTemplateTest {
+
+    @Test
+    @DisplayName("compile: 메서드/URI/본문을 한 번만 해석해 둔다")
+    void compile_resolvesRequestOnce() {
+        // Arrange
+        LoadTestScenario scenario = scenario("{\"id\":1}");
+
+        // Act
+        try (RequestTemplate template = RequestTemplate.compile(scenario)) {
+            // Assert
+            assertThat(template.method()).isEqualTo(HttpMethod.POST);
+            assertThat(template.uri()).isEqualTo(URI.create("http://localhost:8080/api"));
+            assertThat(template.hasBody()).isTrue();
+            assertThat(template.bodyLength()).isEqualTo(8);
+        }
+    }
+
+    @Test
+    @DisplayName("bodyInserter: 전송 후 버퍼가 해제돼도 같은 본문을 복사 없이 반복해서 보낸다")
+    void bodyInserter_reusesEncodedBodyAcrossRequests() {
+        // Arrange
+        List<String> written = new ArrayList<>();
+        ReactiveHttpOutputMessage message = mock(ReactiveHttpOutputMessage.class);
+        when(message.bufferFactory()).thenReturn(new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT));
+        when(message.writeWith(any())).thenAnswer(invocation -> Flux.<DataBuffer>from(invocation.getArgument(0))
+                .doOnNext(buffer -> {
+                    assertThat(buffer).isInstanceOf(NettyDataBuffer.class);
+                    written.add(buffer.toString(StandardCharsets.UTF_8));
+                    // 전송 계층처럼 보낸 버퍼를 해제
+                    DataBufferUtils.release(buffer);
+                })
+                .then());
+
+        try (RequestTemplate template = RequestTemplate.compile(scenario("{\"id\":1}"))) {
+            // Act
+            for (int i = 0; i < 3; i++) {
+                template.bodyInserter().insert(message, null).block();
+            }
+        }
+
+        // Assert
+        assertThat(written).containsExactly("{\"id\":1}", "{\"id\":1}", "{\"id\":1}");
+    }
+
+    @Test
+    @DisplayName("compile: 요청 파라미터가 없으면 본문 없이 보낸다")
+    void compile_withoutParams_hasNoBody() {
+        try (RequestTemplate template = RequestTemplate.compile(scenario(null))) {
+            assertThat(template.hasBody()).isFalse();
+            assertThat(template.bodyLength()).isZero();
+        }
+    }
+
+    private LoadTestScenario scenario(String requestParams) {
+        LoadTestScenario scenario = new LoadTestScenario();
+        scenario.setTargetUrl("http://localhost:8080/api");
+        scenario.setHttpMethod("POST");
+        scenario.setRequestParams(requestParams);
+        return scenario;
+    }
+}
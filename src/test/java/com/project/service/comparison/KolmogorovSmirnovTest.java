@@ -0,0 +1,78 @@
+package com.project.service.comparison;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class KolmogorovSmirnovTest {
+
+    @Test
+    @DisplayName("같은 분포에서 뽑은 두 히스토그램은 거리가 작고 유의하지 않다")
+    void sameDistribution_notSignificant() {
+        // Arrange
+        Histogram a = exponential(20_000, 5_000.0, 1L);
+        Histogram b = exponential(20_000, 5_000.0, 2L);
+
+        // Act
+        double distance = KolmogorovSmirnov.distance(a, b);
+        double pValue = KolmogorovSmirnov.pValue(distance, a.getTotalCount(), b.getTotalCount());
+
+        // Assert
+        assertThat(distance).isLessThan(0.03);
+        assertThat(pValue).isGreaterThan(0.01);
+    }
+
+    @Test
+    @DisplayName("평균이 20% 늘어난 분포는 거리가 크고 p-value가 0에 가깝다")
+    void shiftedDistribution_significant() {
+        // Arrange
+        Histogram a = exponential(20_000, 5_000.0, 1L);
+        Histogram b = exponential(20_000, 6_000.0, 2L);
+
+        // Act
+        double distance = KolmogorovSmirnov.distance(a, b);
+        double pValue = KolmogorovSmirnov.pValue(distance, a.getTotalCount(), b.getTotalCount());
+
+        // Assert
+        assertThat(distance).isGreaterThan(0.05);
+        assertThat(pValue).isLessThan(1e-6);
+    }
+
+    @Test
+    @DisplayName("겹치지 않는 두 분포의 거리는 1이다")
+    void disjointDistributions_distanceIsOne() {
+        // Arrange
+        Histogram a = new Histogram(3);
+        Histogram b = new Histogram(3);
+        for (int i = 0; i < 100; i++) {
+            a.recordValue(1_000 + i);
+            b.recordValue(50_000 + i);
+        }
+
+        // Act & Assert
+        assertThat(KolmogorovSmirnov.distance(a, b)).isEqualTo(1.0);
+        assertThat(KolmogorovSmirnov.distance(b, a)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("kolmogorovQ: 알려진 값과 일치한다 (Q(1.36) ≈ 0.05, Q(1.63) ≈ 0.01)")
+    void kolmogorovQ_matchesKnownValues() {
+        assertThat(KolmogorovSmirnov.kolmogorovQ(1.36)).isCloseTo(0.05, within(0.002));
+        assertThat(KolmogorovSmirnov.kolmogorovQ(1.63)).isCloseTo(0.01, within(0.001));
+        assertThat(KolmogorovSmirnov.kolmogorovQ(0.1)).isEqualTo(1.0);
+    }
+
+    private static Histogram exponential(int count, double meanUs, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Histogram histogram = new Histogram(3);
+        for (int i = 0; i < count; i++) {
+            histogram.recordValue(1 + (long) (-meanUs * Math.log(1.0 - random.nextDouble())));
+        }
+        return histogram;
+    }
+}
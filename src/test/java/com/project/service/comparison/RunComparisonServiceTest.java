@@ -0,0 +1,155 @@
+package com.project.service.comparison;
+
+import com.project.config.RunComparisonProperties;
+import com.project.model.LoadTestResult;
+import com.project.model.LoadTestResultTimeseries;
+import com.project.repository.LoadTestResultRepository;
+import com.project.repository.LoadTestResultTimeseriesRepository;
+import com.project.service.dto.LatencyDistribution;
+import com.project.service.dto.RegressionReason;
+import com.project.service.dto.RunComparison;
+import com.project.service.dto.RunDelta;
+import com.project.service.metrics.HistogramSupport;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RunComparisonServiceTest {
+
+    private final LoadTestResultRepository resultRepository = mock(LoadTestResultRepository.class);
+    private final LoadTestResultTimeseriesRepository timeseriesRepository = mock(LoadTestResultTimeseriesRepository.class);
+    private final RunComparisonService service = new RunComparisonService(resultRepository, timeseriesRepository,
+            new RunComparisonProperties(3, 0.01, 0.05, 10.0, 20.0, 10.0, 0.01));
+
+    @Test
+    @DisplayName("지연시간 분포가 30% 느려지면 p50/p99 회귀로 표시하고 KS 검정이 유의하다")
+    void compare_slowerCandidate_flagsLatencyRegression() {
+        // Arrange
+        stubResult(1L, 5_000.0, 1L, 0);
+        stubResult(2L, 6_500.0, 2L, 0);
+
+        // Act
+        RunComparison comparison = service.compare(1L, List.of(2L));
+
+        // Assert
+        RunDelta delta = comparison.candidates().get(0);
+        assertThat(comparison.regressed()).isTrue();
+        assertThat(delta.distributionChanged()).isTrue();
+        assertThat(delta.ksPValue()).isLessThan(0.01);
+        assertThat(delta.p50ChangePercent()).isCloseTo(30.0, within(5.0));
+        assertThat(delta.regressions()).containsExactly(RegressionReason.P50_LATENCY, RegressionReason.P99_LATENCY);
+    }
+
+    @Test
+    @DisplayName("같은 분포로 다시 돌린 실행은 회귀가 없다")
+    void compare_sameDistribution_noRegression() {
+        // Arrange
+        stubResult(1L, 5_000.0, 1L, 0);
+        stubResult(2L, 5_000.0, 2L, 0);
+
+        // Act
+        RunComparison comparison = service.compare(1L, List.of(2L));
+
+        // Assert
+        RunDelta delta = comparison.candidates().get(0);
+        assertThat(comparison.regressed()).isFalse();
+        assertThat(delta.distributionChanged()).isFalse();
+        assertThat(delta.regressions()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("처리량은 구간 초당 요청 수의 중앙값으로 비교해 ramp-up 구간에 흔들리지 않는다")
+    void compare_throughputUsesIntervalMedian() {
+        // Arrange: 기준은 ramp-up 구간(10 rps)이 있어도 정상 구간 100 rps, 비교 대상은 80 rps
+        stubResult(1L, 5_000.0, 1L, 0);
+        stubResult(2L, 5_000.0, 2L, 0);
+        when(timeseriesRepository.selectTimeseriesByResultId(1L)).thenReturn(intervals(10, 100, 100, 100, 100));
+        when(timeseriesRepository.selectTimeseriesByResultId(2L)).thenReturn(intervals(80, 80, 80, 80, 80));
+
+        // Act
+        RunComparison comparison = service.compare(1L, List.of(2L));
+
+        // Assert
+        RunDelta delta = comparison.candidates().get(0);
+        assertThat(comparison.baseline().steadyRps()).isEqualTo(100.0);
+        assertThat(delta.throughputChangePercent()).isCloseTo(-20.0, within(0.001));
+        assertThat(delta.regressions()).containsExactly(RegressionReason.THROUGHPUT);
+    }
+
+    @Test
+    @DisplayName("에러율 증가폭이 한도를 넘으면 회귀로 표시한다")
+    void compare_errorRateIncrease_flagsRegression() {
+        // Arrange: 20,000건 중 실패 0건 -> 600건 (3%p 증가)
+        stubResult(1L, 5_000.0, 1L, 0);
+        stubResult(2L, 5_000.0, 2L, 600);
+
+        // Act
+        RunDelta delta = service.compare(1L, List.of(2L)).candidates().get(0);
+
+        // Assert
+        assertThat(delta.errorRateChange()).isCloseTo(0.03, within(1e-9));
+        assertThat(delta.regressions()).containsExactly(RegressionReason.ERROR_RATE);
+    }
+
+    @Test
+    @DisplayName("비교 대상이 없거나 중복되거나 한도를 넘으면 IllegalArgumentException, 없는 결과면 NoSuchElementException")
+    void compare_invalidRequest_throws() {
+        // Arrange
+        stubResult(1L, 5_000.0, 1L, 0);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service.compare(1L, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> service.compare(1L, List.of(1L)));
+        assertThrows(IllegalArgumentException.class, () -> service.compare(1L, List.of(2L, 2L)));
+        assertThrows(IllegalArgumentException.class, () -> service.compare(1L, List.of(2L, 3L, 4L)));
+        assertThrows(NoSuchElementException.class, () -> service.compare(1L, List.of(99L)));
+    }
+
+    // 평균 meanUs인 지수 분포 20,000건을 기록한 결과 row
+    private void stubResult(long resultId, double meanUs, long seed, int failCount) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Histogram histogram = new Histogram(3);
+        for (int i = 0; i < 20_000; i++) {
+            histogram.recordValue(1 + (long) (-meanUs * Math.log(1.0 - random.nextDouble())));
+        }
+        LatencyDistribution latency = HistogramSupport.summarize(histogram);
+
+        LoadTestResult result = new LoadTestResult();
+        result.setId(resultId);
+        result.setScenarioId(resultId);
+        result.setTotalRequests(20_000);
+        result.setFailCount(failCount);
+        result.setSuccessCount(20_000 - failCount);
+        result.setThroughputRps(100.0);
+        result.setP50LatencyUs(latency.p50Us());
+        result.setP90LatencyUs(latency.p90Us());
+        result.setP99LatencyUs(latency.p99Us());
+        result.setP999LatencyUs(latency.p999Us());
+        result.setLatencyHistogram(latency.histogram());
+        when(resultRepository.selectResultById(resultId)).thenReturn(result);
+    }
+
+    private static List<LoadTestResultTimeseries> intervals(long... requestsPerSecond) {
+        List<LoadTestResultTimeseries> intervals = new ArrayList<>();
+        for (int i = 0; i < requestsPerSecond.length; i++) {
+            LoadTestResultTimeseries interval = new LoadTestResultTimeseries();
+            interval.setIntervalSeq(i);
+            interval.setIntervalMs(1_000L);
+            interval.setElapsedMs((i + 1) * 1_000L);
+            interval.setRequestCount(requestsPerSecond[i]);
+            intervals.add(interval);
+        }
+        return intervals;
+    }
+}
@@ -0,0 +1,262 @@
+package com.project.service.distributed;
+
+import com.project.config.DistributedProperties;
+import com.project.config.LiveMetricsProperties;
+import com.project.model.LoadTestResultTimeseries;
+import com.project.model.LoadTestScenario;
+import com.project.service.dto.DistributedRunResult;
+import com.project.service.dto.TestStats;
+import com.project.service.dto.WorkerRunRequest;
+import com.project.service.dto.WorkerRunState;
+import com.project.service.dto.WorkerRunStatus;
+import com.project.service.live.IntervalSink;
+import com.project.service.metrics.LoadTestMetricsCollector;
+import com.project.service.runner.RunAbort;
+import com.project.service.timeseries.ResultTimeseriesWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoadTestCoordinatorTest {
+
+    private static final String WORKER_A = "http://localhost:8081";
+    private static final String WORKER_B = "http://localhost:8082";
+
+    private final WorkerClient workerClient = mock(WorkerClient.class);
+    private final ResultTimeseriesWriter timeseriesWriter = mock(ResultTimeseriesWriter.class);
+    private final List<LoadTestResultTimeseries> savedIntervals = new ArrayList<>();
+    private final List<Boolean> sinkCompleted = new ArrayList<>();
+    private final LoadTestCoordinator coordinator = new LoadTestCoordinator(workerClient, timeseriesWriter,
+            new DistributedProperties(0L, 1L, 5_000L, 600, 600_000L), new LiveMetricsProperties(1_000L, 10), Clock.systemUTC());
+
+    @BeforeEach
+    void setUp() {
+        when(timeseriesWriter.newBatchingSink(anyInt())).thenReturn(new IntervalSink() {
+            @Override
+            public void accept(LoadTestResultTimeseries interval) {
+                savedIntervals.add(interval);
+            }
+
+            @Override
+            public void complete() {
+                sinkCompleted.add(true);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("run: 모든 워커가 보고한 구간부터 병합해 저장하고, 완료되면 최종 집계를 병합한다")
+    void run_mergesIntervalsAndFinalStats() {
+        // Arrange: B는 첫 조회에서 아직 구간이 없어 0번 구간 병합이 다음 조회까지 미뤄짐
+        TestStats statsA = stats(3, TimeUnit.MILLISECONDS.toNanos(2));
+        TestStats statsB = stats(1, TimeUnit.MILLISECONDS.toNanos(50));
+        when(workerClient.status(WORKER_A, 7L, -1L)).thenReturn(running(interval(0, 2)));
+        when(workerClient.status(WORKER_B, 7L, -1L))
+                .thenReturn(running())
+                .thenReturn(completed(statsB, 2L, interval(0, 1)));
+        when(workerClient.status(WORKER_A, 7L, 0L)).thenReturn(completed(statsA, 1L, interval(1, 1)));
+
+        // Act
+        DistributedRunResult result = coordinator.run(scenario(10), 7L, List.of(WORKER_A, WORKER_B), null, new RunAbort());
+
+        // Assert: 시작 요청은 나눈 시나리오 + 같은 시작 시각
+        ArgumentCaptor<WorkerRunRequest> requests = ArgumentCaptor.forClass(WorkerRunRequest.class);
+        verify(workerClient, times(2)).start(any(), requests.capture());
+        assertThat(requests.getAllValues()).extracting(request -> request.scenario().getTargetTps()).containsExactly(5, 5);
+        assertThat(requests.getAllValues()).extracting(WorkerRunRequest::startAtEpochMs).containsOnly(
+                requests.getAllValues().get(0).startAtEpochMs());
+
+        assertThat(savedIntervals).extracting(LoadTestResultTimeseries::getIntervalSeq).containsExactly(0L, 1L);
+        assertThat(savedIntervals).extracting(LoadTestResultTimeseries::getRequestCount).containsExactly(3L, 1L);
+        assertThat(savedIntervals).extracting(LoadTestResultTimeseries::getResultId).containsOnly(7L);
+        assertThat(sinkCompleted).containsExactly(true);
+
+        assertThat(result.workerCount()).isEqualTo(2);
+        assertThat(result.failLogDroppedCount()).isEqualTo(3L);
+        assertThat(result.stats().totalRequests()).isEqualTo(4);
+        assertThat(result.stats().latency().maxUs()).isEqualTo(50_000L);
+        verify(workerClient).release(WORKER_A, 7L);
+        verify(workerClient).release(WORKER_B, 7L);
+    }
+
+    @Test
+    @DisplayName("run: 워커 하나가 실패하면 예외를 던지고 시작한 워커를 모두 정리한다")
+    void run_workerFailure_throwsAndReleasesWorkers() {
+        // Arrange
+        when(workerClient.status(eq(WORKER_A), eq(8L), anyLong())).thenReturn(running());
+        when(workerClient.status(eq(WORKER_B), eq(8L), anyLong()))
+                .thenReturn(new WorkerRunStatus(8L, WorkerRunState.FAILED, List.of(), null, 0L, "boom"));
+
+        // Act
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> coordinator.run(scenario(10), 8L, List.of(WORKER_A, WORKER_B), null, new RunAbort()));
+
+        // Assert
+        assertThat(exception).hasMessageContaining(WORKER_B).hasMessageContaining("boom");
+        assertThat(sinkCompleted).containsExactly(true);
+        verify(workerClient).release(WORKER_A, 8L);
+        verify(workerClient).release(WORKER_B, 8L);
+    }
+
+    @Test
+    @DisplayName("run: 시작 요청이 실패하면 이미 시작한 워커와 요청을 보낸 워커를 모두 정리한다")
+    void run_startFailure_releasesRequestedWorkers() {
+        // Arrange
+        doThrow(new IllegalStateException("timeout")).when(workerClient).start(eq(WORKER_B), any());
+
+        // Act
+        assertThrows(IllegalStateException.class,
+                () -> coordinator.run(scenario(10), 12L, List.of(WORKER_A, WORKER_B), null, new RunAbort()));
+
+        // Assert
+        verify(workerClient).release(WORKER_A, 12L);
+        verify(workerClient).release(WORKER_B, 12L);
+        verify(workerClient, never()).status(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("run: 인터럽트로 중단돼도 워커를 정리하고 인터럽트 상태는 유지한다")
+    void run_interrupted_releasesWorkersAndKeepsInterruptFlag() {
+        // Arrange: 첫 조회 중에 인터럽트 -> 다음 sleep에서 InterruptedException
+        when(workerClient.status(eq(WORKER_A), eq(13L), anyLong())).thenAnswer(invocation -> {
+            Thread.currentThread().interrupt();
+            return running();
+        });
+        doAnswer(invocation -> {
+            assertThat(Thread.currentThread().isInterrupted()).isFalse();
+            return null;
+        }).when(workerClient).release(WORKER_A, 13L);
+
+        // Act
+        try {
+            assertThrows(IllegalStateException.class,
+                    () -> coordinator.run(scenario(1), 13L, List.of(WORKER_A), null, new RunAbort()));
+
+            // Assert
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+            verify(workerClient).release(WORKER_A, 13L);
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    @DisplayName("run: 중단되면 실행 중인 워커에 중단을 한 번 보내고, 중단 시점까지의 워커 집계를 병합한다")
+    void run_abort_stopsWorkersAndMergesPartialStats() {
+        // Arrange: A는 첫 조회에서 이미 완료, B는 중단 요청 뒤 완료
+        RunAbort abort = new RunAbort();
+        abort.abort();
+        when(workerClient.status(eq(WORKER_A), eq(14L), anyLong())).thenReturn(completed(stats(2, 1_000_000L), 0L));
+        when(workerClient.status(eq(WORKER_B), eq(14L), anyLong()))
+                .thenReturn(running())
+                .thenReturn(completed(stats(1, 1_000_000L), 0L));
+
+        // Act
+        DistributedRunResult result = coordinator.run(scenario(10), 14L, List.of(WORKER_A, WORKER_B), null, abort);
+
+        // Assert
+        assertThat(result.stats().totalRequests()).isEqualTo(3);
+        verify(workerClient).abort(WORKER_A, 14L);
+        verify(workerClient).abort(WORKER_B, 14L);
+        verify(workerClient).release(WORKER_B, 14L);
+    }
+
+    @Test
+    @DisplayName("run: 병합한 구간을 observer에도 넘기고, observer가 중단하면 워커 부하도 멈춘다")
+    void run_observerAbort_stopsWorkers() {
+        // Arrange: 0번 구간이 병합되면 observer(통과 기준 판정)가 중단
+        RunAbort abort = new RunAbort();
+        List<LoadTestResultTimeseries> observed = new ArrayList<>();
+        IntervalSink observer = interval -> {
+            observed.add(interval);
+            abort.abort();
+        };
+        when(workerClient.status(eq(WORKER_A), eq(15L), anyLong()))
+                .thenReturn(running(interval(0, 2)))
+                .thenReturn(completed(stats(2, 1_000_000L), 0L));
+        when(workerClient.status(eq(WORKER_B), eq(15L), anyLong()))
+                .thenReturn(running(interval(0, 1)))
+                .thenReturn(completed(stats(1, 1_000_000L), 0L));
+
+        // Act
+        DistributedRunResult result = coordinator.run(scenario(10), 15L, List.of(WORKER_A, WORKER_B), observer, abort);
+
+        // Assert
+        assertThat(observed).singleElement().extracting(LoadTestResultTimeseries::getRequestCount).isEqualTo(3L);
+        assertThat(savedIntervals).hasSize(1);
+        verify(workerClient).abort(WORKER_A, 15L);
+        verify(workerClient).abort(WORKER_B, 15L);
+        assertThat(result.stats().totalRequests()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("run: 몫이 0인 워커에는 실행을 요청하지 않는다")
+    void run_workerWithoutShare_isNotStarted() {
+        // Arrange
+        when(workerClient.status(WORKER_A, 9L, -1L)).thenReturn(completed(stats(1, 1_000_000L), 0L));
+
+        // Act
+        DistributedRunResult result = coordinator.run(scenario(1), 9L, List.of(WORKER_A, WORKER_B), null, new RunAbort());
+
+        // Assert
+        assertThat(result.workerCount()).isEqualTo(1);
+        verify(workerClient, never()).start(eq(WORKER_B), any());
+        verify(workerClient, never()).release(WORKER_B, 9L);
+    }
+
+    private LoadTestScenario scenario(int targetTps) {
+        LoadTestScenario scenario = new LoadTestScenario();
+        scenario.setTargetUrl("http://localhost:9000/test");
+        scenario.setHttpMethod("GET");
+        scenario.setTargetTps(targetTps);
+        scenario.setVirtualThreadCount(10);
+        scenario.setDurationSeconds(1);
+        return scenario;
+    }
+
+    private TestStats stats(int requests, long latencyNanos) {
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+        for (int i = 0; i < requests; i++) {
+            collector.recordSuccess(latencyNanos);
+        }
+        return collector.toStats();
+    }
+
+    private LoadTestResultTimeseries interval(long seq, long requests) {
+        LoadTestResultTimeseries interval = new LoadTestResultTimeseries();
+        interval.setIntervalSeq(seq);
+        interval.setIntervalMs(1_000L);
+        interval.setElapsedMs((seq + 1) * 1_000L);
+        interval.setRequestCount(requests);
+        interval.setSuccessCount(requests);
+        return interval;
+    }
+
+    private WorkerRunStatus running(LoadTestResultTimeseries... intervals) {
+        return new WorkerRunStatus(0L, WorkerRunState.RUNNING, List.of(intervals), null, 0L, null);
+    }
+
+    private WorkerRunStatus completed(TestStats stats, long droppedCount, LoadTestResultTimeseries... intervals) {
+        return new WorkerRunStatus(0L, WorkerRunState.COMPLETED, List.of(intervals), stats, droppedCount, null);
+    }
+}
@@ -0,0 +1,134 @@
+package com.project.service.distributed;
+
+import com.project.model.DataFeedMode;
+import com.project.model.ExecutionMode;
+import com.project.model.LoadStageType;
+import com.project.model.LoadTestScenario;
+import com.project.model.LoadTestScenarioStage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ScenarioSplitterTest {
+
+    @Test
+    @DisplayName("split: 목표 TPS/스레드/커넥션 한도를 나누고 나머지는 앞쪽 워커에 배정한다")
+    void split_distributesRemainderToFirstWorkers() {
+        // Arrange
+        LoadTestScenario scenario = scenario(1_000, 100);
+        scenario.setMaxConnections(50);
+
+        // Act
+        List<LoadTestScenario> shares = ScenarioSplitter.split(scenario, 3);
+
+        // Assert
+        assertThat(shares).extracting(LoadTestScenario::getTargetTps).containsExactly(334, 333, 333);
+        assertThat(shares).extracting(LoadTestScenario::getVirtualThreadCount).containsExactly(34, 33, 33);
+        assertThat(shares).extracting(LoadTestScenario::getMaxConnections).containsExactly(17, 17, 16);
+        // 합이 의미 없는 설정은 그대로 복사, 0(기본값)은 유지
+        assertThat(shares).extracting(LoadTestScenario::getTargetUrl).containsOnly(scenario.getTargetUrl());
+        assertThat(shares).extracting(LoadTestScenario::getDurationSeconds).containsOnly(30);
+        assertThat(shares).extracting(LoadTestScenario::getExecutionMode).containsOnly(ExecutionMode.REACTIVE);
+        assertThat(shares).extracting(LoadTestScenario::getPendingAcquireMaxCount).containsOnly(0);
+        assertThat(scenario.getTargetTps()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("split: 목표 TPS 몫이 0인 워커는 제외한다")
+    void split_openModel_dropsWorkersWithoutRate() {
+        // Arrange
+        LoadTestScenario scenario = scenario(2, 1);
+
+        // Act
+        List<LoadTestScenario> shares = ScenarioSplitter.split(scenario, 3);
+
+        // Assert: 스레드 몫이 0이어도 요청을 보낼 수 있도록 최소 1
+        assertThat(shares).extracting(LoadTestScenario::getTargetTps).containsExactly(1, 1);
+        assertThat(shares).extracting(LoadTestScenario::getVirtualThreadCount).containsExactly(1, 1);
+    }
+
+    @Test
+    @DisplayName("split: closed model은 가상 스레드 수 기준으로 나눈다")
+    void split_closedModel_splitsThreads() {
+        // Arrange
+        LoadTestScenario scenario = scenario(0, 5);
+
+        // Act
+        List<LoadTestScenario> shares = ScenarioSplitter.split(scenario, 2);
+
+        // Assert
+        assertThat(shares).extracting(LoadTestScenario::getTargetTps).containsOnly(0);
+        assertThat(shares).extracting(LoadTestScenario::getVirtualThreadCount).containsExactly(3, 2);
+    }
+
+    @Test
+    @DisplayName("split: 부하 프로파일 단계 목표도 워커별로 나누고 원본 단계는 바꾸지 않는다")
+    void split_stagedScenario_splitsStageTargets() {
+        // Arrange
+        LoadTestScenario scenario = scenario(500, 10);
+        LoadTestScenarioStage ramp = new LoadTestScenarioStage();
+        ramp.setStageOrder(1);
+        ramp.setStageType(LoadStageType.RAMP);
+        ramp.setDurationSeconds(20);
+        ramp.setTarget(500);
+        LoadTestScenarioStage steps = new LoadTestScenarioStage();
+        steps.setStageOrder(2);
+        steps.setStageType(LoadStageType.STEP);
+        steps.setDurationSeconds(10);
+        steps.setTarget(100);
+        steps.setStepCount(4);
+        scenario.setStages(List.of(ramp, steps));
+
+        // Act
+        List<LoadTestScenario> shares = ScenarioSplitter.split(scenario, 3);
+
+        // Assert
+        assertThat(shares).extracting(share -> share.getStages().get(0).getTarget()).containsExactly(167, 167, 166);
+        assertThat(shares).extracting(share -> share.getStages().get(1).getTarget()).containsExactly(34, 33, 33);
+        assertThat(shares).extracting(share -> share.getStages().get(1).getStepCount()).containsOnly(4);
+        assertThat(shares).extracting(share -> share.getStages().get(1).getStageType()).containsOnly(LoadStageType.STEP);
+        assertThat(ramp.getTarget()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("split: UNIQUE 데이터 피드는 몫이 있는 워커 수로 행을 나누고, 다른 모드는 나누지 않는다")
+    void split_uniqueDataFeed_partitionsRowsPerWorker() {
+        // Arrange: 목표 TPS 2를 워커 3대에 -> 2대만 사용
+        LoadTestScenario unique = scenario(2, 2);
+        unique.setDataFeedPath("users.csv");
+        unique.setDataFeedMode(DataFeedMode.UNIQUE);
+        LoadTestScenario sequential = scenario(2, 2);
+        sequential.setDataFeedPath("users.csv");
+
+        // Act
+        List<LoadTestScenario> uniqueShares = ScenarioSplitter.split(unique, 3);
+        List<LoadTestScenario> sequentialShares = ScenarioSplitter.split(sequential, 3);
+
+        // Assert
+        assertThat(uniqueShares).extracting(LoadTestScenario::getDataFeedPartition).containsExactly(0, 1);
+        assertThat(uniqueShares).extracting(LoadTestScenario::getDataFeedPartitionCount).containsExactly(2, 2);
+        assertThat(sequentialShares).extracting(LoadTestScenario::getDataFeedPartitionCount).containsOnly(1);
+    }
+
+    @Test
+    @DisplayName("split: 워커 수가 0 이하이면 예외를 던진다")
+    void split_invalidWorkerCount_throws() {
+        assertThrows(IllegalArgumentException.class, () -> ScenarioSplitter.split(scenario(10, 1), 0));
+    }
+
+    private LoadTestScenario scenario(int targetTps, int virtualThreadCount) {
+        LoadTestScenario scenario = new LoadTestScenario();
+        scenario.setName("split");
+        scenario.setTargetUrl("http://localhost:8080/test");
+        scenario.setHttpMethod("GET");
+        scenario.setTargetTps(targetTps);
+        scenario.setVirtualThreadCount(virtualThreadCount);
+        scenario.setDurationSeconds(30);
+        scenario.setExecutionMode(ExecutionMode.REACTIVE);
+        return scenario;
+    }
+}
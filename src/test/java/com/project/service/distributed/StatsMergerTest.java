@@ -0,0 +1,170 @@
+package com.project.service.distributed;
+
+import com.project.model.GeneratorSaturation;
+import com.project.model.LoadTestResultTimeseries;
+import com.project.service.dto.GeneratorHealth;
+import com.project.service.dto.IntervalStats;
+import com.project.service.dto.LatencyDistribution;
+import com.project.service.dto.TestStats;
+import com.project.service.metrics.LoadTestMetricsCollector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class StatsMergerTest {
+
+    @Test
+    @DisplayName("mergeStats: 워커 히스토그램을 합쳐 한 대에서 모두 기록한 것과 같은 분포를 만든다")
+    void mergeStats_equalsSingleCollectorDistribution() {
+        // Arrange: 빠른 워커 / 느린 워커 + 같은 요청을 모두 받은 기준 집계기
+        LoadTestMetricsCollector fast = new LoadTestMetricsCollector();
+        LoadTestMetricsCollector slow = new LoadTestMetricsCollector();
+        LoadTestMetricsCollector combined = new LoadTestMetricsCollector();
+        for (int i = 1; i <= 900; i++) {
+            long nanos = TimeUnit.MICROSECONDS.toNanos(1_000 + i);
+            fast.recordSuccess(nanos);
+            combined.recordSuccess(nanos);
+        }
+        for (int i = 1; i <= 100; i++) {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(200 + i);
+            slow.recordFailure(nanos);
+            combined.recordFailure(nanos);
+        }
+        fast.recordBytes(10, 20);
+        slow.recordBytes(1, 2);
+        fast.recordDispatch(TimeUnit.MILLISECONDS.toNanos(3));
+        slow.recordMissedDispatch();
+
+        // Act
+        TestStats merged = StatsMerger.mergeStats(List.of(fast.toStats(), slow.toStats()));
+
+        // Assert
+        TestStats expected = combined.toStats();
+        assertThat(merged.success()).isEqualTo(900);
+        assertThat(merged.fail()).isEqualTo(100);
+        assertThat(merged.totalRequests()).isEqualTo(1_000);
+        LatencyDistribution latency = merged.latency();
+        assertThat(latency.p50Us()).isEqualTo(expected.latency().p50Us());
+        assertThat(latency.p90Us()).isEqualTo(expected.latency().p90Us());
+        assertThat(latency.p99Us()).isEqualTo(expected.latency().p99Us());
+        assertThat(latency.p9999Us()).isEqualTo(expected.latency().p9999Us());
+        assertThat(latency.avgUs()).isCloseTo(expected.latency().avgUs(), within(0.001));
+        assertThat(latency.minUs()).isEqualTo(expected.latency().minUs());
+        assertThat(latency.maxUs()).isEqualTo(expected.latency().maxUs());
+        assertThat(merged.correctedLatency().p99Us()).isEqualTo(expected.correctedLatency().p99Us());
+        // 합쳐진 p99는 워커 p99의 평균과 다름
+        double averagedP99 = (fast.toStats().latency().p99Us() + slow.toStats().latency().p99Us()) / 2.0;
+        assertThat((double) latency.p99Us()).isNotEqualTo(averagedP99);
+
+        assertThat(merged.bytesSent()).isEqualTo(11L);
+        assertThat(merged.bytesReceived()).isEqualTo(22L);
+        assertThat(merged.missedDispatches()).isEqualTo(1L);
+        assertThat(merged.maxDispatchLagUs()).isEqualTo(3_000L);
+    }
+
+    @Test
+    @DisplayName("mergeStats: 요청이 없던 워커는 분포 병합에서 제외한다")
+    void mergeStats_skipsEmptyWorkers() {
+        // Arrange
+        LoadTestMetricsCollector active = new LoadTestMetricsCollector();
+        active.recordSuccess(TimeUnit.MILLISECONDS.toNanos(5));
+
+        // Act
+        TestStats merged = StatsMerger.mergeStats(List.of(new LoadTestMetricsCollector().toStats(), active.toStats()));
+
+        // Assert
+        assertThat(merged.totalRequests()).isEqualTo(1);
+        assertThat(merged.latency().minUs()).isEqualTo(5_000L);
+        assertThat(merged.poolAcquireWait()).isEqualTo(LatencyDistribution.EMPTY);
+    }
+
+    @Test
+    @DisplayName("mergeStats: 생성기 상태는 가장 나쁜 워커 기준으로 합치고, 어느 워커든 해당한 사유를 모두 남긴다")
+    void mergeStats_mergesGeneratorHealth() {
+        // Arrange
+        TestStats healthy = new LoadTestMetricsCollector().toStats()
+                .withHealth(new GeneratorHealth(0.5, 0.3, 40L, 0L, List.of()));
+        TestStats saturated = new LoadTestMetricsCollector().toStats()
+                .withHealth(new GeneratorHealth(0.98, 0.9, 10L, 2L, List.of(GeneratorSaturation.CPU_SATURATED)));
+        TestStats unmeasured = new LoadTestMetricsCollector().toStats();
+
+        // Act
+        GeneratorHealth merged = StatsMerger.mergeStats(List.of(healthy, saturated, unmeasured)).health();
+
+        // Assert
+        assertThat(merged.peakProcessCpuLoad()).isEqualTo(0.98);
+        assertThat(merged.avgProcessCpuLoad()).isEqualTo(0.9);
+        assertThat(merged.gcPauseMs()).isEqualTo(40L);
+        assertThat(merged.pinnedCount()).isEqualTo(2L);
+        assertThat(merged.reasons()).containsExactly(GeneratorSaturation.CPU_SATURATED);
+        assertThat(StatsMerger.mergeStats(List.of(unmeasured)).health()).isNull();
+    }
+
+    @Test
+    @DisplayName("mergeStats: cut-off 요청 수는 합하고, 측정 구간은 가장 늦게 끝난 워커 기준으로 합친다")
+    void mergeStats_mergesCutOffAndMeasuredWindow() {
+        // Arrange
+        LoadTestMetricsCollector first = new LoadTestMetricsCollector();
+        first.recordCutOff();
+        first.recordMeasuredWindow(TimeUnit.MILLISECONDS.toNanos(10_200));
+        LoadTestMetricsCollector second = new LoadTestMetricsCollector();
+        second.recordCutOff();
+        second.recordCutOff();
+        second.recordMeasuredWindow(TimeUnit.MILLISECONDS.toNanos(12_500));
+
+        // Act
+        TestStats merged = StatsMerger.mergeStats(List.of(first.toStats(), second.toStats()));
+
+        // Assert
+        assertThat(merged.cutOffRequests()).isEqualTo(3L);
+        assertThat(merged.measuredWindowMs()).isEqualTo(12_500L);
+    }
+
+    @Test
+    @DisplayName("mergeIntervals: 같은 구간 번호의 워커 구간을 합산하고 백분위를 다시 계산한다")
+    void mergeIntervals_sumsCountsAndRecomputesPercentiles() {
+        // Arrange
+        LoadTestMetricsCollector first = new LoadTestMetricsCollector();
+        LoadTestMetricsCollector second = new LoadTestMetricsCollector();
+        first.recordSuccess(TimeUnit.MILLISECONDS.toNanos(1));
+        second.recordSuccess(TimeUnit.MILLISECONDS.toNanos(100));
+        second.recordFailure(TimeUnit.MILLISECONDS.toNanos(100));
+
+        LocalDateTime now = LocalDateTime.of(2026, 3, 1, 12, 0);
+        LoadTestResultTimeseries a = interval(first.takeIntervalStats(), 1_000L, now);
+        LoadTestResultTimeseries b = interval(second.takeIntervalStats(), 1_003L, now.plusNanos(3_000_000));
+
+        // Act
+        LoadTestResultTimeseries merged = StatsMerger.mergeIntervals(42L, List.of(a, b));
+
+        // Assert
+        assertThat(merged.getResultId()).isEqualTo(42L);
+        assertThat(merged.getIntervalSeq()).isEqualTo(3L);
+        assertThat(merged.getRequestCount()).isEqualTo(3L);
+        assertThat(merged.getFailCount()).isEqualTo(1L);
+        assertThat(merged.getElapsedMs()).isEqualTo(1_003L);
+        assertThat(merged.getP50LatencyUs()).isBetween(99_000L, 101_000L);
+        assertThat(merged.getMaxLatencyUs()).isBetween(99_000L, 101_000L);
+        assertThat(merged.getLatencyHistogram()).isNotNull();
+        assertThat(merged.getRecordedAt()).isEqualTo(now.plusNanos(3_000_000));
+    }
+
+    private LoadTestResultTimeseries interval(IntervalStats stats, long elapsedMs, LocalDateTime recordedAt) {
+        LoadTestResultTimeseries interval = new LoadTestResultTimeseries();
+        interval.setIntervalSeq(3L);
+        interval.setElapsedMs(elapsedMs);
+        interval.setIntervalMs(1_000L);
+        interval.setRequestCount(stats.requests());
+        interval.setSuccessCount(stats.success());
+        interval.setFailCount(stats.fail());
+        interval.setLatencyHistogram(stats.latency().histogram());
+        interval.setRecordedAt(recordedAt);
+        return interval;
+    }
+}
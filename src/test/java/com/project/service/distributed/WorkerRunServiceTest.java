@@ -0,0 +1,326 @@
+package com.project.service.distributed;
+
+import com.project.config.DistributedProperties;
+import com.project.config.RunManagerProperties;
+import com.project.model.LoadTestResultTimeseries;
+import com.project.model.LoadTestScenario;
+import com.project.service.LoadTestService;
+import com.project.service.dto.TestStats;
+import com.project.service.dto.WorkerRunRequest;
+import com.project.service.dto.WorkerRunState;
+import com.project.service.dto.WorkerRunStatus;
+import com.project.service.faillog.AsyncFailLogWriter;
+import com.project.service.live.IntervalSink;
+import com.project.service.run.LoadTestRunManager;
+import com.project.service.runner.LoadTestRunner;
+import com.project.service.runner.RunAbort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WorkerRunServiceTest {
+
+    private final LoadTestRunner loadTestRunner = mock(LoadTestRunner.class);
+    private final AsyncFailLogWriter failLogWriter = mock(AsyncFailLogWriter.class);
+    private final Clock clock = Clock.systemUTC();
+    // 동시 요청 수 합계 한도 20
+    private final LoadTestRunManager runManager = new LoadTestRunManager(mock(LoadTestService.class),
+            new RunManagerProperties(2, 10, 20, 20, 20, 20, 10), clock);
+    private final WorkerRunService workerRunService = newService(new DistributedProperties(0L, 1L, 5_000L, 600, 600_000L));
+
+    @Test
+    @DisplayName("start: 시작 시각까지 기다린 뒤 실행하고, 구간/최종 집계를 조회할 수 있게 보관한다")
+    void start_runsAtStartTimeAndKeepsIntervalsAndStats() throws InterruptedException {
+        // Arrange
+        LoadTestScenario scenario = new LoadTestScenario();
+        TestStats stats = new TestStats(2, 0, 2, 1.0, 1.0, 1.0, 1.0);
+        long[] startedAt = new long[1];
+        when(loadTestRunner.run(eq(scenario), eq(5L), any(IntervalSink.class), any(RunAbort.class)))
+                .thenAnswer(invocation -> {
+            startedAt[0] = clock.millis();
+            IntervalSink sink = invocation.getArgument(2);
+            sink.accept(interval(0));
+            sink.accept(interval(1));
+            return stats;
+        });
+        when(failLogWriter.takeDroppedCount(5L)).thenReturn(3L);
+        long startAt = clock.millis() + 100;
+
+        // Act
+        workerRunService.start(new WorkerRunRequest(5L, scenario, startAt));
+        assertThat(workerRunService.status(5L, -1L)).get().extracting(WorkerRunStatus::state)
+                .isEqualTo(WorkerRunState.SCHEDULED);
+        WorkerRunStatus status = awaitFinished(5L, 0L);
+
+        // Assert: afterSeq 이후 구간만 반환, 실패 로그 flush 후 버려진 건수 전달
+        assertThat(startedAt[0]).isGreaterThanOrEqualTo(startAt);
+        assertThat(status.state()).isEqualTo(WorkerRunState.COMPLETED);
+        assertThat(status.intervals()).extracting(LoadTestResultTimeseries::getIntervalSeq).containsExactly(1L);
+        assertThat(status.stats()).isEqualTo(stats);
+        assertThat(status.failLogDroppedCount()).isEqualTo(3L);
+        InOrder order = inOrder(loadTestRunner, failLogWriter);
+        order.verify(loadTestRunner).run(eq(scenario), eq(5L), any(IntervalSink.class), any(RunAbort.class));
+        order.verify(failLogWriter).flush();
+
+        assertThat(workerRunService.release(5L)).isTrue();
+        assertThat(workerRunService.status(5L, -1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("start: 실행 중 예외가 나면 FAILED 상태와 오류 메시지를 반환한다")
+    void start_runnerFailure_reportsFailed() throws InterruptedException {
+        // Arrange
+        when(loadTestRunner.run(any(), eq(6L), any(IntervalSink.class), any(RunAbort.class)))
+                .thenThrow(new IllegalStateException("boom"));
+
+        // Act
+        workerRunService.start(new WorkerRunRequest(6L, new LoadTestScenario(), 0L));
+        WorkerRunStatus status = awaitFinished(6L, -1L);
+
+        // Assert
+        assertThat(status.state()).isEqualTo(WorkerRunState.FAILED);
+        assertThat(status.error()).contains("boom");
+        assertThat(status.stats()).isNull();
+    }
+
+    @Test
+    @DisplayName("start: 실행 중 Error가 나도 FAILED 상태와 오류 메시지를 반환한다")
+    void start_runnerError_reportsFailed() throws InterruptedException {
+        // Arrange
+        when(loadTestRunner.run(any(), eq(18L), any(IntervalSink.class), any(RunAbort.class)))
+                .thenThrow(new StackOverflowError("deep"));
+
+        // Act
+        workerRunService.start(new WorkerRunRequest(18L, new LoadTestScenario(), 0L));
+        WorkerRunStatus status = awaitFinished(18L, -1L);
+
+        // Assert
+        assertThat(status.state()).isEqualTo(WorkerRunState.FAILED);
+        assertThat(status.error()).contains("deep");
+    }
+
+    @Test
+    @DisplayName("start: 같은 결과 ID로 중복 요청하면 예외를 던진다")
+    void start_duplicateRun_throws() throws InterruptedException {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        when(loadTestRunner.run(any(), eq(7L), any(IntervalSink.class), any(RunAbort.class)))
+                .thenAnswer(invocation -> {
+            release.await(1, TimeUnit.SECONDS);
+            return new TestStats(0, 0, 0, 0.0, 0.0, 0.0, 0.0);
+        });
+        WorkerRunRequest request = new WorkerRunRequest(7L, new LoadTestScenario(), 0L);
+        workerRunService.start(request);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> workerRunService.start(request));
+        release.countDown();
+        awaitFinished(7L, -1L);
+    }
+
+    @Test
+    @DisplayName("start: 이 노드의 동시 요청 수 합계 한도를 넘으면 거절하고, 앞 실행이 끝나면 자원을 돌려받는다")
+    void start_overNodeBudget_isRejectedUntilPreviousRunFinishes() throws InterruptedException {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        when(loadTestRunner.run(any(), eq(12L), any(IntervalSink.class), any(RunAbort.class)))
+                .thenAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return new TestStats(0, 0, 0, 0.0, 0.0, 0.0, 0.0);
+                });
+        when(loadTestRunner.run(any(), eq(14L), any(IntervalSink.class), any(RunAbort.class)))
+                .thenReturn(new TestStats(0, 0, 0, 0.0, 0.0, 0.0, 0.0));
+        workerRunService.start(new WorkerRunRequest(12L, scenario(15), 0L));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> workerRunService.start(new WorkerRunRequest(13L, scenario(15), 0L)));
+        assertThat(workerRunService.status(13L, -1L)).isEmpty();
+
+        release.countDown();
+        awaitFinished(12L, -1L);
+        awaitReserved(new WorkerRunRequest(14L, scenario(15), 0L));
+        assertThat(awaitFinished(14L, -1L).state()).isEqualTo(WorkerRunState.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("abort: 실행 중인 부하만 멈추고, 중단 시점까지의 집계로 COMPLETED가 되어 조회할 수 있다")
+    void abort_whileRunning_completesWithPartialStats() throws InterruptedException {
+        // Arrange
+        CountDownLatch running = new CountDownLatch(1);
+        TestStats partial = new TestStats(3, 0, 3, 1.0, 1.0, 1.0, 1.0);
+        when(loadTestRunner.run(any(), eq(15L), any(IntervalSink.class), any(RunAbort.class)))
+                .thenAnswer(invocation -> {
+                    RunAbort abort = invocation.getArgument(3);
+                    running.countDown();
+                    while (!abort.isAborted()) {
+                        Thread.sleep(5);
+                    }
+                    return partial;
+                });
+        workerRunService.start(new WorkerRunRequest(15L, new LoadTestScenario(), 0L));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act
+        boolean aborted = workerRunService.abort(15L);
+
+        // Assert
+        assertThat(aborted).isTrue();
+        WorkerRunStatus status = awaitFinished(15L, -1L);
+        assertThat(status.state()).isEqualTo(WorkerRunState.COMPLETED);
+        assertThat(status.stats()).isEqualTo(partial);
+        assertThat(workerRunService.abort(99L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("status: 코디네이터가 받은 구간(afterSeq까지)은 지우고, 가져가지 않은 구간도 보관 한도까지만 남긴다")
+    void status_dropsDeliveredIntervalsAndKeepsBufferBounded() throws InterruptedException {
+        // Arrange: 보관 한도 2개, 구간 0~3 생성
+        WorkerRunService service = newService(new DistributedProperties(0L, 1L, 5_000L, 2, 600_000L));
+        when(loadTestRunner.run(any(), eq(16L), any(IntervalSink.class), any(RunAbort.class)))
+                .thenAnswer(invocation -> {
+                    IntervalSink sink = invocation.getArgument(2);
+                    for (long seq = 0; seq < 4; seq++) {
+                        sink.accept(interval(seq));
+                    }
+                    return new TestStats(0, 0, 0, 0.0, 0.0, 0.0, 0.0);
+                });
+        service.start(new WorkerRunRequest(16L, new LoadTestScenario(), 0L));
+        awaitFinished(service, 16L, -1L);
+
+        // Act
+        List<LoadTestResultTimeseries> buffered = service.status(16L, -1L).orElseThrow().intervals();
+        service.status(16L, 2L);
+        List<LoadTestResultTimeseries> afterAck = service.status(16L, -1L).orElseThrow().intervals();
+
+        // Assert
+        assertThat(buffered).extracting(LoadTestResultTimeseries::getIntervalSeq).containsExactly(2L, 3L);
+        assertThat(afterAck).extracting(LoadTestResultTimeseries::getIntervalSeq).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("start: 끝난 실행은 코디네이터가 정리하지 않아도 보관 시간이 지나면 지운다")
+    void start_finishedRunWithoutRelease_isEvictedAfterRetention() throws InterruptedException {
+        // Arrange: 보관 시간 50ms
+        WorkerRunService service = newService(new DistributedProperties(0L, 1L, 5_000L, 600, 50L));
+        when(loadTestRunner.run(any(), eq(17L), any(IntervalSink.class), any(RunAbort.class)))
+                .thenReturn(new TestStats(0, 0, 0, 0.0, 0.0, 0.0, 0.0));
+
+        // Act
+        service.start(new WorkerRunRequest(17L, new LoadTestScenario(), 0L));
+        awaitFinished(service, 17L, -1L);
+
+        // Assert
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (service.status(17L, -1L).isPresent() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(service.status(17L, -1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("release: 실행 중인 부하를 abort로 멈춘 뒤 항목을 지운다")
+    void release_whileRunning_abortsRun() throws InterruptedException {
+        // Arrange
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+        when(loadTestRunner.run(any(), eq(10L), any(IntervalSink.class), any(RunAbort.class)))
+                .thenAnswer(invocation -> {
+                    RunAbort abort = invocation.getArgument(3);
+                    running.countDown();
+                    while (!abort.isAborted()) {
+                        Thread.sleep(5);
+                    }
+                    stopped.countDown();
+                    return new TestStats(0, 0, 0, 0.0, 0.0, 0.0, 0.0);
+                });
+        workerRunService.start(new WorkerRunRequest(10L, new LoadTestScenario(), 0L));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act
+        boolean released = workerRunService.release(10L);
+
+        // Assert
+        assertThat(released).isTrue();
+        assertThat(stopped.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(workerRunService.status(10L, -1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("release: 시작 시각 전에 정리된 실행은 시작하지 않는다")
+    void release_beforeStart_neverRuns() throws InterruptedException {
+        // Arrange
+        workerRunService.start(new WorkerRunRequest(11L, new LoadTestScenario(), clock.millis() + 100));
+
+        // Act
+        workerRunService.release(11L);
+        Thread.sleep(300);
+
+        // Assert
+        verify(loadTestRunner, never()).run(any(), eq(11L), any(IntervalSink.class), any(RunAbort.class));
+    }
+
+    private WorkerRunService newService(DistributedProperties properties) {
+        return new WorkerRunService(loadTestRunner, failLogWriter, runManager, properties, clock);
+    }
+
+    // 앞 실행의 자원 반환은 상태가 바뀐 직후 실행 스레드에서 이뤄지므로 잠시 재시도
+    private void awaitReserved(WorkerRunRequest request) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            try {
+                workerRunService.start(request);
+                return;
+            } catch (IllegalStateException e) {
+                if (System.nanoTime() > deadline) {
+                    throw e;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    private LoadTestScenario scenario(int virtualThreadCount) {
+        LoadTestScenario scenario = new LoadTestScenario();
+        scenario.setVirtualThreadCount(virtualThreadCount);
+        return scenario;
+    }
+
+    private WorkerRunStatus awaitFinished(long resultId, long afterSeq) throws InterruptedException {
+        return awaitFinished(workerRunService, resultId, afterSeq);
+    }
+
+    private WorkerRunStatus awaitFinished(WorkerRunService service, long resultId, long afterSeq) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            WorkerRunStatus status = service.status(resultId, afterSeq).orElseThrow();
+            if (status.state() == WorkerRunState.COMPLETED || status.state() == WorkerRunState.FAILED) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Worker run did not finish: " + resultId);
+    }
+
+    private LoadTestResultTimeseries interval(long seq) {
+        LoadTestResultTimeseries interval = new LoadTestResultTimeseries();
+        interval.setIntervalSeq(seq);
+        interval.setRequestCount(1L);
+        return interval;
+    }
+}
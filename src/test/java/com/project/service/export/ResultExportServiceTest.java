@@ -0,0 +1,180 @@
+package com.project.service.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.project.model.LoadTestFailLog;
+import com.project.model.LoadTestResultTimeseries;
+import com.project.repository.LoadTestFailLogRepository;
+import com.project.repository.LoadTestResultTimeseriesRepository;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ResultExportServiceTest {
+
+    private final LoadTestFailLogRepository failLogRepository = mock(LoadTestFailLogRepository.class);
+    private final LoadTestResultTimeseriesRepository timeseriesRepository = mock(LoadTestResultTimeseriesRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ResultExportService exportService = new ResultExportService(
+            failLogRepository, timeseriesRepository, objectMapper, mock(PlatformTransactionManager.class));
+
+    @Test
+    @DisplayName("NDJSON: 실패 로그를 한 줄에 하나씩 JSON으로 쓰고 Cursor를 닫는다")
+    void exportFailLogs_ndjson_writesOneJsonPerLine() throws IOException {
+        // Arrange
+        Cursor<LoadTestFailLog> cursor = cursorOf(List.of(
+                failLog(1L, 0, "Connection refused"),
+                failLog(2L, 1, "HTTP Error")));
+        when(failLogRepository.streamFailLogByResultId(7L)).thenReturn(cursor);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long rowCount = exportService.exportFailLogs(7L, ExportFormat.NDJSON, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rowCount).isEqualTo(2L);
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("errorMsg").asText()).isEqualTo("Connection refused");
+        assertThat(first.get("requestTime").asText()).isEqualTo("2026-02-17T10:15:30");
+        verify(cursor).close();
+    }
+
+    @Test
+    @DisplayName("CSV: 헤더를 먼저 쓰고, 쉼표/따옴표/줄바꿈이 든 값은 RFC 4180대로 감싼다")
+    void exportFailLogs_csv_quotesSpecialCharacters() throws IOException {
+        // Arrange
+        Cursor<LoadTestFailLog> cursor = cursorOf(List.of(failLog(3L, 2, "bad \"body\", line1\nline2")));
+        when(failLogRepository.streamFailLogByResultId(7L)).thenReturn(cursor);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        exportService.exportFailLogs(7L, ExportFormat.CSV, out);
+
+        // Assert
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,resultId,requestOrder,requestTime,httpStatus,errorType,signatureHash,errorMsg\r\n"
+                        + "3,7,2,2026-02-17T10:15:30,500,java.io.IOException,,\"bad \"\"body\"\", line1\nline2\"\r\n");
+        verify(cursor).close();
+    }
+
+    @Test
+    @DisplayName("CSV: 시계열은 구간 히스토그램 없이 요약 값만 내보낸다")
+    void exportTimeseries_csv_excludesHistogram() throws IOException {
+        // Arrange
+        LoadTestResultTimeseries point = new LoadTestResultTimeseries();
+        point.setIntervalSeq(0L);
+        point.setRequestCount(100L);
+        point.setLatencyHistogram("HISTFAAAA");
+        Cursor<LoadTestResultTimeseries> cursor = cursorOf(List.of(point));
+        when(timeseriesRepository.streamTimeseriesByResultId(7L)).thenReturn(cursor);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long rowCount = exportService.exportTimeseries(7L, ExportFormat.CSV, out);
+
+        // Assert
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(rowCount).isEqualTo(1L);
+        assertThat(csv).startsWith("intervalSeq,elapsedMs,").doesNotContain("HISTFAAAA");
+        assertThat(csv.split("\r\n")).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("FLUSH_EVERY_ROWS건마다 스트림으로 흘려보내 전체를 모아 두지 않는다")
+    void exportFailLogs_flushesEveryChunk() throws IOException {
+        // Arrange
+        List<LoadTestFailLog> rows = new ArrayList<>();
+        for (int i = 0; i < ExportWriter.FLUSH_EVERY_ROWS * 2 + 1; i++) {
+            rows.add(failLog(i, i, "HTTP Error"));
+        }
+        Cursor<LoadTestFailLog> cursor = cursorOf(rows);
+        when(failLogRepository.streamFailLogByResultId(7L)).thenReturn(cursor);
+        CountingOutputStream out = new CountingOutputStream();
+
+        // Act
+        long rowCount = exportService.exportFailLogs(7L, ExportFormat.NDJSON, out);
+
+        // Assert: 2번은 청크 단위, 1번은 마지막
+        assertThat(rowCount).isEqualTo(rows.size());
+        assertThat(out.flushes).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("쓰는 중 연결이 끊기면 Cursor를 닫고 UncheckedIOException으로 전파한다")
+    void exportFailLogs_brokenStream_closesCursor() throws IOException {
+        // Arrange
+        Cursor<LoadTestFailLog> cursor = cursorOf(List.of(failLog(1L, 0, "HTTP Error")));
+        when(failLogRepository.streamFailLogByResultId(7L)).thenReturn(cursor);
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // Act & Assert
+        assertThatThrownBy(() -> exportService.exportFailLogs(7L, ExportFormat.CSV, broken))
+                .isInstanceOf(UncheckedIOException.class);
+        verify(cursor).close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Cursor<T> cursorOf(List<T> rows) {
+        Cursor<T> cursor = mock(Cursor.class);
+        when(cursor.iterator()).thenReturn(rows.iterator());
+        return cursor;
+    }
+
+    private static LoadTestFailLog failLog(long id, long order, String errorMsg) {
+        LoadTestFailLog failLog = new LoadTestFailLog();
+        failLog.setId(id);
+        failLog.setResultId(7L);
+        failLog.setRequestOrder(order);
+        failLog.setRequestTime(LocalDateTime.of(2026, 2, 17, 10, 15, 30));
+        failLog.setHttpStatus(500);
+        failLog.setErrorType("java.io.IOException");
+        failLog.setErrorMsg(errorMsg);
+        return failLog;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private int flushes;
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
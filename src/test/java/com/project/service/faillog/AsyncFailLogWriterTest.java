@@ -0,0 +1,260 @@
+package com.project.service.faillog;
+
+import com.project.config.FailLogWriterProperties;
+import com.project.config.FailLogWriterProperties.OverflowPolicy;
+import com.project.model.LoadTestFailLog;
+import com.project.model.LoadTestFailSignature;
+import com.project.model.LoadTestFailSignatureSecond;
+import com.project.repository.LoadTestFailLogRepository;
+import com.project.repository.LoadTestFailSignatureRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class AsyncFailLogWriterTest {
+
+    private static final int EXEMPLARS_PER_SIGNATURE = 5;
+
+    private final RecordingRepository repository = new RecordingRepository();
+    private AsyncFailLogWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("flush + saveFailures: 받은 로그를 모두 유형별 건수로 집계하고 원본은 유형당 표본 수만큼만 저장한다")
+    void saveFailures_persistsAggregateAndBoundedExemplars() {
+        writer = startWriter(10_000, 100, OverflowPolicy.DROP, 200);
+
+        for (int i = 0; i < 1_050; i++) {
+            writer.enqueue(failLog(1L, i, 503, "HTTP Error"));
+        }
+        writer.flush();
+        writer.saveFailures(1L);
+
+        assertThat(repository.signatures).singleElement().satisfies(signature -> {
+            assertThat(signature.getFailCount()).isEqualTo(1_050L);
+            assertThat(signature.getHttpStatus()).isEqualTo(503);
+            assertThat(signature.getFirstRequestOrder()).isZero();
+            assertThat(signature.getLastRequestOrder()).isEqualTo(1_049L);
+        });
+        assertThat(repository.exemplars).hasSize(EXEMPLARS_PER_SIGNATURE)
+                .allSatisfy(exemplar -> assertThat(exemplar.getSignatureHash())
+                        .isEqualTo(repository.signatures.get(0).getSignatureHash()));
+        assertThat(writer.takeDroppedCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("saveFailures: 값만 다른 메시지는 한 유형으로 묶고, 상태 코드가 다르면 다른 유형으로 나눈다")
+    void saveFailures_groupsMessagesByTemplateAndStatus() {
+        writer = startWriter(10_000, 100, OverflowPolicy.DROP, 200);
+
+        writer.enqueue(failLog(4L, 0, 0, "Connection refused: /10.0.0.7:8080"));
+        writer.enqueue(failLog(4L, 1, 0, "Connection refused: /10.0.0.8:8081"));
+        writer.enqueue(failLog(4L, 2, 503, "503 Service Unavailable"));
+        writer.flush();
+        writer.saveFailures(4L);
+
+        assertThat(repository.signatures)
+                .extracting(LoadTestFailSignature::getMessageTemplate, LoadTestFailSignature::getFailCount)
+                .containsExactlyInAnyOrder(
+                        tuple("Connection refused: /<ip>:<n>", 2L),
+                        tuple("<n> Service Unavailable", 1L));
+    }
+
+    @Test
+    @DisplayName("saveFailures: 유형 수 한도를 넘은 새 메시지는 <other> 유형에 합친다")
+    void saveFailures_overSignatureLimit_foldsIntoOther() {
+        writer = startWriter(10_000, 100, OverflowPolicy.DROP, 2);
+
+        writer.enqueue(failLog(5L, 0, 500, "alpha"));
+        writer.enqueue(failLog(5L, 1, 500, "beta"));
+        writer.enqueue(failLog(5L, 2, 500, "gamma"));
+        writer.enqueue(failLog(5L, 3, 500, "delta"));
+        writer.flush();
+        writer.saveFailures(5L);
+
+        assertThat(repository.signatures)
+                .extracting(LoadTestFailSignature::getMessageTemplate, LoadTestFailSignature::getFailCount)
+                .containsExactlyInAnyOrder(
+                        tuple("alpha", 1L),
+                        tuple("beta", 1L),
+                        tuple(FailureSignature.OTHER_TEMPLATE, 2L));
+    }
+
+    @Test
+    @DisplayName("saveFailures: 유형별 초당 실패 수를 함께 저장한다")
+    void saveFailures_recordsPerSecondCounts() {
+        writer = startWriter(10_000, 100, OverflowPolicy.DROP, 200);
+        LocalDateTime second = LocalDateTime.of(2026, 2, 17, 10, 15, 30);
+
+        for (int i = 0; i < 3; i++) {
+            writer.enqueue(failLog(6L, i, 503, "HTTP Error", second.plusNanos(i * 100_000_000L)));
+        }
+        writer.enqueue(failLog(6L, 3, 503, "HTTP Error", second.plusSeconds(1)));
+        writer.flush();
+        writer.saveFailures(6L);
+
+        assertThat(repository.seconds)
+                .extracting(LoadTestFailSignatureSecond::getSecondAt, LoadTestFailSignatureSecond::getFailCount)
+                .containsExactlyInAnyOrder(
+                        tuple(second, 3L),
+                        tuple(second.plusSeconds(1), 1L));
+        assertThat(repository.signatures.get(0).getFirstFailedAt()).isEqualTo(second);
+        assertThat(repository.signatures.get(0).getLastFailedAt()).isEqualTo(second.plusSeconds(1));
+    }
+
+    @Test
+    @DisplayName("DROP: 버퍼 초과분은 버리고 결과별 누락 건수와 <dropped> 유형으로 집계해 유형별 건수 합이 실패 수와 맞는다")
+    void dropPolicy_countsDroppedLogsPerResult() {
+        // writer 스레드를 시작하기 전에 적재해 버퍼(10건)를 넘기게 함
+        writer = new AsyncFailLogWriter(repository.failLogMock, repository.signatureMock,
+                new FailLogWriterProperties(10, 5, 10L, OverflowPolicy.DROP, 10, 200, EXEMPLARS_PER_SIGNATURE));
+        for (int i = 0; i < 30; i++) {
+            writer.enqueue(failLog(2L, i, 503, "HTTP Error"));
+        }
+        writer.start();
+        writer.flush();
+        writer.saveFailures(2L);
+
+        assertThat(repository.failCount()).isEqualTo(30L);
+        assertThat(repository.signatures)
+                .filteredOn(signature -> FailureSignature.DROPPED_TEMPLATE.equals(signature.getMessageTemplate()))
+                .singleElement().satisfies(dropped -> {
+                    assertThat(dropped.getFailCount()).isEqualTo(20L);
+                    assertThat(dropped.getHttpStatus()).isEqualTo(503);
+                    assertThat(dropped.getFirstRequestOrder()).isEqualTo(10L);
+                    assertThat(dropped.getLastRequestOrder()).isEqualTo(29L);
+                });
+        assertThat(writer.takeDroppedCount(2L)).isEqualTo(20L);
+        assertThat(writer.takeDroppedCount(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("SAMPLE: 표본으로 밀려난 로그도 <dropped> 유형으로 세어 유형별 건수 합이 받은 실패 수와 맞는다")
+    void samplePolicy_attributesEvictedLogsToDroppedSignature() {
+        // writer 스레드를 시작하기 전에 적재해 버퍼(10건)를 넘기게 함
+        writer = new AsyncFailLogWriter(repository.failLogMock, repository.signatureMock,
+                new FailLogWriterProperties(10, 5, 10L, OverflowPolicy.SAMPLE, 2, 200, EXEMPLARS_PER_SIGNATURE));
+        for (int i = 0; i < 30; i++) {
+            writer.enqueue(failLog(7L, i, 503, "HTTP Error"));
+        }
+        writer.start();
+        writer.flush();
+        writer.saveFailures(7L);
+
+        assertThat(repository.failCount()).isEqualTo(30L);
+        assertThat(writer.takeDroppedCount(7L)).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("SAMPLE: 버퍼 초과 시 같은 실행의 로그만 밀어내 다른 실행의 로그가 누락으로 세어지지 않는다")
+    void samplePolicy_evictsOnlySameRunLogs() {
+        // Arrange: 실행 8이 버퍼(10건)를 채운 뒤 실행 9가 넘침
+        writer = new AsyncFailLogWriter(repository.failLogMock, repository.signatureMock,
+                new FailLogWriterProperties(10, 5, 10L, OverflowPolicy.SAMPLE, 1, 200, EXEMPLARS_PER_SIGNATURE));
+        for (int i = 0; i < 10; i++) {
+            writer.enqueue(failLog(8L, i, 503, "HTTP Error"));
+        }
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            writer.enqueue(failLog(9L, i, 500, "Server Error"));
+        }
+        writer.start();
+        writer.flush();
+        writer.saveFailures(8L);
+        writer.saveFailures(9L);
+
+        // Assert: 실행 8의 10건은 모두 집계되고, 실행 9의 20건은 자기 누락으로 셈
+        assertThat(writer.takeDroppedCount(8L)).isZero();
+        assertThat(writer.takeDroppedCount(9L)).isEqualTo(20L);
+        assertThat(repository.signatures)
+                .filteredOn(signature -> signature.getResultId() == 8L)
+                .extracting(LoadTestFailSignature::getFailCount)
+                .containsExactly(10L);
+        assertThat(repository.failCount()).isEqualTo(30L);
+    }
+
+    @Test
+    @DisplayName("BLOCK: 버퍼가 가득 차면 워커가 대기하고 로그는 하나도 버려지지 않는다")
+    void blockPolicy_neverDropsLogs() {
+        writer = startWriter(8, 4, OverflowPolicy.BLOCK, 200);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < 8; t++) {
+                int base = t * 100;
+                executor.submit(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        writer.enqueue(failLog(3L, base + i, 503, "HTTP Error"));
+                    }
+                });
+            }
+        }
+        writer.flush();
+        writer.saveFailures(3L);
+
+        assertThat(repository.failCount()).isEqualTo(800L);
+        assertThat(writer.takeDroppedCount(3L)).isZero();
+    }
+
+    private AsyncFailLogWriter startWriter(int capacity, int batchSize, OverflowPolicy policy, int maxSignatures) {
+        AsyncFailLogWriter started = new AsyncFailLogWriter(repository.failLogMock, repository.signatureMock,
+                new FailLogWriterProperties(capacity, batchSize, 10L, policy, 10, maxSignatures, EXEMPLARS_PER_SIGNATURE));
+        started.start();
+        return started;
+    }
+
+    private LoadTestFailLog failLog(long resultId, long order, int httpStatus, String errorMsg) {
+        return failLog(resultId, order, httpStatus, errorMsg, null);
+    }
+
+    private LoadTestFailLog failLog(long resultId, long order, int httpStatus, String errorMsg, LocalDateTime requestTime) {
+        LoadTestFailLog failLog = new LoadTestFailLog();
+        failLog.setResultId(resultId);
+        failLog.setRequestOrder(order);
+        failLog.setErrorMsg(errorMsg);
+        failLog.setHttpStatus(httpStatus);
+        failLog.setRequestTime(requestTime);
+        return failLog;
+    }
+
+    // 저장 요청된 유형 집계 / 초당 실패 수 / 표본 로그를 모아 두는 테스트용 저장소
+    private static class RecordingRepository {
+
+        private final List<LoadTestFailSignature> signatures = new ArrayList<>();
+        private final List<LoadTestFailSignatureSecond> seconds = new ArrayList<>();
+        private final List<LoadTestFailLog> exemplars = new ArrayList<>();
+        private final LoadTestFailLogRepository failLogMock = mock(LoadTestFailLogRepository.class);
+        private final LoadTestFailSignatureRepository signatureMock = mock(LoadTestFailSignatureRepository.class);
+
+        RecordingRepository() {
+            doAnswer(invocation -> exemplars.addAll(invocation.getArgument(0)))
+                    .when(failLogMock).insertFailLogBatch(anyList());
+            doAnswer(invocation -> signatures.addAll(invocation.getArgument(0)))
+                    .when(signatureMock).upsertSignatureBatch(anyList());
+            doAnswer(invocation -> seconds.addAll(invocation.getArgument(0)))
+                    .when(signatureMock).upsertSecondBatch(anyList());
+        }
+
+        long failCount() {
+            return signatures.stream().mapToLong(LoadTestFailSignature::getFailCount).sum();
+        }
+    }
+}
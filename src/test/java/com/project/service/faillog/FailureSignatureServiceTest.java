@@ -0,0 +1,69 @@
+package com.project.service.faillog;
+
+import com.project.model.LoadTestFailLog;
+import com.project.repository.LoadTestFailLogRepository;
+import com.project.repository.LoadTestFailSignatureRepository;
+import com.project.service.dto.FailLogPage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FailureSignatureServiceTest {
+
+    private final LoadTestFailLogRepository failLogRepository = mock(LoadTestFailLogRepository.class);
+    private final FailureSignatureService service =
+            new FailureSignatureService(mock(LoadTestFailSignatureRepository.class), failLogRepository);
+
+    @Test
+    @DisplayName("getExemplars: limit보다 많이 남아 있으면 마지막 id를 다음 페이지 커서로 돌려준다")
+    void getExemplars_morePages_returnsNextCursor() {
+        // Arrange
+        when(failLogRepository.selectFailLogPage(7L, 11L, 100L, 4)).thenReturn(logs(101, 102, 103, 104));
+
+        // Act
+        FailLogPage page = service.getExemplars(7L, 11L, 100L, 3);
+
+        // Assert
+        assertThat(page.items()).extracting(LoadTestFailLog::getId).containsExactly(101L, 102L, 103L);
+        assertThat(page.nextAfterId()).isEqualTo(103L);
+    }
+
+    @Test
+    @DisplayName("getExemplars: 마지막 페이지면 커서가 없다")
+    void getExemplars_lastPage_hasNoCursor() {
+        // Arrange
+        when(failLogRepository.selectFailLogPage(7L, null, null, 4)).thenReturn(logs(1, 2));
+
+        // Act
+        FailLogPage page = service.getExemplars(7L, null, null, 3);
+
+        // Assert
+        assertThat(page.items()).hasSize(2);
+        assertThat(page.nextAfterId()).isNull();
+        verify(failLogRepository).selectFailLogPage(7L, null, null, 4);
+    }
+
+    @Test
+    @DisplayName("getExemplars: 페이지 크기가 범위를 벗어나면 거절한다")
+    void getExemplars_invalidLimit_isRejected() {
+        assertThrows(IllegalArgumentException.class, () -> service.getExemplars(7L, null, null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getExemplars(7L, null, null, FailureSignatureService.MAX_PAGE_SIZE + 1));
+    }
+
+    private List<LoadTestFailLog> logs(long... ids) {
+        return LongStream.of(ids).mapToObj(id -> {
+            LoadTestFailLog failLog = new LoadTestFailLog();
+            failLog.setId(id);
+            return failLog;
+        }).toList();
+    }
+}
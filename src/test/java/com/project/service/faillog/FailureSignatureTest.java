@@ -0,0 +1,40 @@
+package com.project.service.faillog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FailureSignatureTest {
+
+    @Test
+    @DisplayName("template: 숫자/UUID/IP/16진수 값 자리를 치환한다")
+    void template_replacesVariableParts() {
+        assertThat(FailureSignature.template("Connection refused: localhost/127.0.0.1:8080"))
+                .isEqualTo("Connection refused: localhost/<ip>:<n>");
+        assertThat(FailureSignature.template("order 3f2504e0-4f89-11d3-9a0c-0305e82c3301 not found (trace 7f3a9c21b4e0)"))
+                .isEqualTo("order <uuid> not found (trace <hex>)");
+        assertThat(FailureSignature.template("Did not observe any item or terminal signal within 5000ms"))
+                .isEqualTo("Did not observe any item or terminal signal within <n>ms");
+        assertThat(FailureSignature.template(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("template: 긴 메시지는 최대 길이로 자른다")
+    void template_truncatesLongMessages() {
+        assertThat(FailureSignature.template("x".repeat(1_000))).hasSize(FailureSignature.MAX_TEMPLATE_LENGTH);
+    }
+
+    @Test
+    @DisplayName("hash: 같은 유형이면 같고, 상태 코드/예외 종류/템플릿 중 하나라도 다르면 다르며 JSON 숫자 범위 안의 양수다")
+    void hash_identifiesSignature() {
+        FailureSignature signature = FailureSignature.of(503, "WebClientResponseException", "503 HTTP Error");
+
+        assertThat(signature.hash())
+                .isEqualTo(FailureSignature.of(503, "WebClientResponseException", "503 HTTP Error").hash())
+                .isNotEqualTo(FailureSignature.of(502, "WebClientResponseException", "503 HTTP Error").hash())
+                .isNotEqualTo(FailureSignature.of(503, "ReadTimeoutException", "503 HTTP Error").hash())
+                .isNotEqualTo(signature.withOtherTemplate().hash())
+                .isBetween(0L, (1L << 53) - 1);
+    }
+}
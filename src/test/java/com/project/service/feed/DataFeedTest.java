@@ -0,0 +1,215 @@
+package com.project.service.feed;
+
+import com.project.config.DataFeedProperties;
+import com.project.model.DataFeedMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DataFeedTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("CSV: 헤더로 컬럼을 찾고 따옴표 필드/CRLF/BOM/빈 줄을 처리하며 템플릿에서 쓰는 컬럼만 채운다")
+    void csv_decodesBoundColumns() throws IOException {
+        Path file = write("users.csv", "\uFEFFuserId,name,query\r\n"
+                + "u1,\"Kim, Jin\",\"say \"\"hi\"\"\"\r\n"
+                + "\r\n"
+                + "u2,Lee,plain\r\n");
+
+        // Arrange
+        DataFeed feed = DataFeed.open(file, DataFeedMode.SEQUENTIAL);
+        FeedBinding binding = feed.bind(Map.of("userId", 0, "query", 1, "token", 2));
+
+        // Act
+        String[] first = new String[3];
+        binding.fill(first);
+        String[] second = new String[3];
+        binding.fill(second);
+
+        // Assert
+        assertThat(feed.columns()).containsExactly("userId", "name", "query");
+        assertThat(feed.rowCount()).isEqualTo(2L);
+        assertThat(first).containsExactly("u1", "say \"hi\"", null);
+        assertThat(second).containsExactly("u2", "plain", null);
+    }
+
+    @Test
+    @DisplayName("JSONL: 변수명을 $.경로로 보고 행 JSON에서 값을 꺼낸다")
+    void jsonLines_decodesFieldPaths() throws IOException {
+        Path file = write("payloads.jsonl", """
+                {"user": {"id": 7}, "term": "shoes"}
+                {"user": {"id": 8}, "term": "caf\\u00e9", "extra": [1, 2]}
+                """);
+
+        // Arrange
+        FeedBinding binding = DataFeed.open(file, DataFeedMode.SEQUENTIAL).bind(Map.of("user.id", 0, "term", 1));
+
+        // Act
+        String[] first = new String[2];
+        binding.fill(first);
+        String[] second = new String[2];
+        binding.fill(second);
+
+        // Assert
+        assertThat(first).containsExactly("7", "shoes");
+        assertThat(second).containsExactly("8", "café");
+    }
+
+    @Test
+    @DisplayName("SEQUENTIAL: 끝에 도달하면 처음 행부터 다시 사용한다")
+    void sequential_wrapsAround() throws IOException {
+        FeedBinding binding = DataFeed.open(write("ids.csv", "id\n1\n2\n3\n"), DataFeedMode.SEQUENTIAL)
+                .bind(Map.of("id", 0));
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            String[] values = new String[1];
+            binding.fill(values);
+            ids.add(values[0]);
+        }
+
+        assertThat(ids).containsExactly("1", "2", "3", "1", "2", "3", "1");
+    }
+
+    @Test
+    @DisplayName("UNIQUE: 여러 스레드가 동시에 꺼내도 행마다 한 번만 쓰이고, 모두 소진되면 예외를 던진다")
+    void unique_handsOutEachRowOnce() throws IOException {
+        StringBuilder csv = new StringBuilder("id\n");
+        for (int i = 0; i < 1000; i++) {
+            csv.append(i).append('\n');
+        }
+        FeedBinding binding = DataFeed.open(write("unique.csv", csv.toString()), DataFeedMode.UNIQUE)
+                .bind(Map.of("id", 0));
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+
+        // Act: 가상 스레드 1000개가 동시에 1행씩
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 1000; i++) {
+                executor.submit(() -> {
+                    String[] values = new String[1];
+                    binding.fill(values);
+                    seen.add(values[0]);
+                });
+            }
+        }
+
+        // Assert
+        assertThat(seen).hasSize(1000);
+        assertThrows(DataFeedExhaustedException.class, () -> binding.fill(new String[1]));
+    }
+
+    @Test
+    @DisplayName("UNIQUE partition: 행을 번갈아 나눠, 나눈 피드끼리 같은 행을 쓰지 않고 모두 합치면 전체 행이 된다")
+    void unique_partitionsRowsWithoutOverlap() throws IOException {
+        // Arrange: 7행을 3개로 나눔
+        DataFeed feed = DataFeed.open(write("unique.csv", "id\n0\n1\n2\n3\n4\n5\n6\n"), DataFeedMode.UNIQUE);
+        List<List<String>> partitions = new ArrayList<>();
+
+        // Act
+        for (int partition = 0; partition < 3; partition++) {
+            FeedBinding binding = feed.partition(partition, 3).bind(Map.of("id", 0));
+            List<String> ids = new ArrayList<>();
+            try {
+                while (true) {
+                    String[] values = new String[1];
+                    binding.fill(values);
+                    ids.add(values[0]);
+                }
+            } catch (DataFeedExhaustedException e) {
+                partitions.add(ids);
+            }
+        }
+
+        // Assert
+        assertThat(partitions).containsExactly(List.of("0", "3", "6"), List.of("1", "4"), List.of("2", "5"));
+        assertThrows(IllegalArgumentException.class, () -> feed.partition(3, 3));
+    }
+
+    @Test
+    @DisplayName("RANDOM: 모든 값이 피드 안의 행에서 나온다")
+    void random_picksRowsInRange() throws IOException {
+        FeedBinding binding = DataFeed.open(write("ids.csv", "id\na\nb\nc\n"), DataFeedMode.RANDOM)
+                .bind(Map.of("id", 0));
+
+        Set<String> picked = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            String[] values = new String[1];
+            binding.fill(values);
+            picked.add(values[0]);
+        }
+
+        assertThat(picked).isSubsetOf("a", "b", "c").hasSizeGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("open: 매핑 조각 크기를 넘는 파일은 줄 경계에서 나눠 매핑하고 조각을 넘나들며 행을 읽는다")
+    void open_splitsLargeFileOnLineBoundaries() throws IOException {
+        StringBuilder csv = new StringBuilder("id,padding\n");
+        for (int i = 0; i < 100; i++) {
+            csv.append("row-").append(i).append(",xxxxxxxxxx\n");
+        }
+
+        // Arrange: 조각 최대 64byte -> 한 조각에 3~4행
+        DataFeed feed = DataFeed.open(write("big.csv", csv.toString()), DataFeedMode.SEQUENTIAL, 64);
+        FeedBinding binding = feed.bind(Map.of("id", 0));
+
+        // Act
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            String[] values = new String[1];
+            binding.fill(values);
+            ids.add(values[0]);
+        }
+
+        // Assert
+        assertThat(feed.rowCount()).isEqualTo(100L);
+        assertThat(ids).first().isEqualTo("row-0");
+        assertThat(ids).last().isEqualTo("row-99");
+        assertThat(new HashSet<>(ids)).hasSize(100);
+    }
+
+    @Test
+    @DisplayName("open: 헤더만 있는 피드는 거부한다")
+    void open_rejectsEmptyFeed() throws IOException {
+        Path file = write("empty.csv", "id\n");
+
+        assertThrows(IllegalArgumentException.class, () -> DataFeed.open(file, DataFeedMode.SEQUENTIAL));
+    }
+
+    @Test
+    @DisplayName("DataFeedFactory: 피드 디렉터리 밖을 가리키는 경로는 거부한다")
+    void factory_rejectsPathOutsideBaseDir() throws IOException {
+        Path baseDir = Files.createDirectory(dir.resolve("feeds"));
+        write("secret.csv", "id\n1\n");
+        Files.writeString(baseDir.resolve("ok.csv"), "id\n1\n");
+        DataFeedFactory factory = new DataFeedFactory(new DataFeedProperties(baseDir.toString()));
+
+        assertThat(factory.resolve("ok.csv")).isEqualTo(baseDir.resolve("ok.csv").toAbsolutePath().normalize());
+        assertThrows(IllegalArgumentException.class, () -> factory.resolve("../secret.csv"));
+        assertThrows(IllegalArgumentException.class, () -> factory.resolve(dir.resolve("secret.csv").toString()));
+        assertThrows(IllegalArgumentException.class, () -> factory.resolve("missing.csv"));
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(dir.resolve(name), content, StandardCharsets.UTF_8);
+    }
+}
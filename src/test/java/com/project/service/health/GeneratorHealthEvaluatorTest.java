@@ -0,0 +1,123 @@
+package com.project.service.health;
+
+import com.project.config.GeneratorHealthProperties;
+import com.project.model.GeneratorSaturation;
+import com.project.model.LoadTestGeneratorHealth;
+import com.project.service.dto.GeneratorHealth;
+import com.project.service.dto.LatencyDistribution;
+import com.project.service.dto.TestStats;
+import com.project.service.metrics.LoadTestMetricsCollector;
+import com.project.service.runner.ReactiveLoadEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeneratorHealthEvaluatorTest {
+
+    // CPU 90% 이상 샘플 10% 초과 / GC 5% / pinning 0건 / 늦은 발송 1% / 풀 대기 p99 100ms
+    private static final GeneratorHealthProperties PROPERTIES =
+            new GeneratorHealthProperties(1_000, true, 20, 0.9, 0.1, 0.05, 0, 0.01, 100);
+
+    @Test
+    @DisplayName("assess: 모든 항목이 한도 안이면 신뢰할 수 있는 결과로 판정하고 CPU 최대/평균, GC, pinning을 요약한다")
+    void assess_healthyRun() {
+        // Arrange
+        GeneratorHealthEvaluator evaluator = new GeneratorHealthEvaluator(PROPERTIES);
+        evaluator.accept(sample(0.2, 10, 0L));
+        evaluator.accept(sample(0.6, 20, 0L));
+        evaluator.accept(sample(0.4, 0, 0L));
+
+        // Act
+        GeneratorHealth health = evaluator.assess(stats(1_000, 0, 5, 1_000L));
+
+        // Assert
+        assertThat(health.untrustworthy()).isFalse();
+        assertThat(health.reasons()).isEmpty();
+        assertThat(health.peakProcessCpuLoad()).isEqualTo(0.6);
+        assertThat(health.avgProcessCpuLoad()).isCloseTo(0.4, within(1e-9));
+        assertThat(health.gcPauseMs()).isEqualTo(30L);
+        assertThat(health.pinnedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("assess: CPU 포화 샘플 비율, GC 정지 비율, pinning, 늦은 발송 비율, 풀 대기 p99가 한도를 넘으면 각각 사유로 남긴다")
+    void assess_flagsEverySaturation() {
+        // Arrange: 샘플 4개 중 2개가 CPU 95%, 4초 중 GC 400ms, pinning 3건
+        GeneratorHealthEvaluator evaluator = new GeneratorHealthEvaluator(PROPERTIES);
+        evaluator.accept(sample(0.95, 100, 1L));
+        evaluator.accept(sample(0.95, 100, 2L));
+        evaluator.accept(sample(0.5, 100, 0L));
+        evaluator.accept(sample(0.5, 100, 0L));
+
+        // Act: 1,000건 중 20건 늦은 발송, 풀 대기 p99 150ms
+        GeneratorHealth health = evaluator.assess(stats(990, 10, 20, 150_000L));
+
+        // Assert
+        assertThat(health.untrustworthy()).isTrue();
+        assertThat(health.reasons()).containsExactly(
+                GeneratorSaturation.CPU_SATURATED,
+                GeneratorSaturation.GC_PAUSES,
+                GeneratorSaturation.CARRIER_PINNING,
+                GeneratorSaturation.DISPATCH_LAG,
+                GeneratorSaturation.POOL_EXHAUSTED);
+        assertThat(health.pinnedCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("assess: CPU 사용률이나 pinning을 측정하지 못한 샘플뿐이면 해당 항목은 판정하지 않는다")
+    void assess_unmeasuredValues_areNotJudged() {
+        GeneratorHealthEvaluator evaluator = new GeneratorHealthEvaluator(PROPERTIES);
+        evaluator.accept(sample(null, 0, null));
+
+        GeneratorHealth health = evaluator.assess(stats(100, 0, 0, 0L));
+
+        assertThat(health.reasons()).isEmpty();
+        assertThat(health.peakProcessCpuLoad()).isNull();
+        assertThat(health.avgProcessCpuLoad()).isNull();
+        assertThat(health.pinnedCount()).isNull();
+    }
+
+    @Test
+    @DisplayName("assess: 한가한 생성기의 reactive 실행은 틱 단위 발송 지연이 있어도 DISPATCH_LAG로 판정하지 않는다")
+    void assess_idleReactiveRun_isNotDispatchLag() {
+        // Arrange: 500 TPS(2ms 간격) 예정 시각을 다음 1ms 틱에 몰아서 발송 + 틱 타이머 흔들림 0 ~ 2.7ms
+        LoadTestMetricsCollector reactive =
+                new LoadTestMetricsCollector(0L, ReactiveLoadEngine.LATE_DISPATCH_THRESHOLD_NANOS);
+        LoadTestMetricsCollector virtualThread = new LoadTestMetricsCollector();
+        for (int i = 0; i < 1_000; i++) {
+            long intendedNanos = i * 2_000_000L + 300_000L;
+            long tickNanos = (intendedNanos / 1_000_000L + 1) * 1_000_000L;
+            long lagNanos = tickNanos - intendedNanos + (i % 10) * 300_000L;
+            reactive.recordDispatch(lagNanos);
+            reactive.recordSuccess(1_000_000L);
+            virtualThread.recordDispatch(lagNanos);
+            virtualThread.recordSuccess(1_000_000L);
+        }
+
+        // Act
+        GeneratorHealth reactiveHealth = new GeneratorHealthEvaluator(PROPERTIES).assess(reactive.toStats());
+        GeneratorHealth virtualThreadHealth = new GeneratorHealthEvaluator(PROPERTIES).assess(virtualThread.toStats());
+
+        // Assert: 같은 지연을 가상 스레드 모드 기준(1ms)으로 보면 늦은 발송
+        assertThat(reactiveHealth.reasons()).doesNotContain(GeneratorSaturation.DISPATCH_LAG);
+        assertThat(virtualThreadHealth.reasons()).contains(GeneratorSaturation.DISPATCH_LAG);
+    }
+
+    private static LoadTestGeneratorHealth sample(Double processCpuLoad, long gcPauseMs, Long pinnedCount) {
+        LoadTestGeneratorHealth sample = new LoadTestGeneratorHealth();
+        sample.setIntervalMs(1_000L);
+        sample.setProcessCpuLoad(processCpuLoad);
+        sample.setGcPauseMs(gcPauseMs);
+        sample.setPinnedCount(pinnedCount);
+        return sample;
+    }
+
+    private static TestStats stats(int totalRequests, long missedDispatches, long lateDispatches, long poolAcquireP99Us) {
+        LatencyDistribution poolAcquireWait = new LatencyDistribution(totalRequests, 0.0, 0L, poolAcquireP99Us,
+                0L, 0L, 0L, poolAcquireP99Us, 0L, 0L, null);
+        return new TestStats(totalRequests, 0, totalRequests, LatencyDistribution.EMPTY, LatencyDistribution.EMPTY,
+                poolAcquireWait, missedDispatches, lateDispatches, 0L, 0L, 0L);
+    }
+}
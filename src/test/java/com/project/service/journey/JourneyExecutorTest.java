@@ -0,0 +1,175 @@
+package com.project.service.journey;
+
+import com.project.config.RunTerminationProperties;
+import com.project.model.ExecutionMode;
+import com.project.model.LoadTestFailLog;
+import com.project.model.LoadTestScenario;
+import com.project.model.LoadTestScenarioStep;
+import com.project.service.client.ConnectionProfile;
+import com.project.service.client.LoadTestHttpClient;
+import com.project.service.client.LoadTestHttpClientFactory;
+import com.project.service.client.LoadTestRequestExecutor;
+import com.project.service.dto.StepStats;
+import com.project.service.dto.TestStats;
+import com.project.service.faillog.AsyncFailLogWriter;
+import com.project.service.metrics.LoadTestMetricsCollector;
+import com.project.service.metrics.StepMetricsCollector;
+import com.project.service.runner.ReactiveLoadEngine;
+import com.project.service.runner.RunAbort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class JourneyExecutorTest {
+
+    private final AtomicInteger authorizedRequests = new AtomicInteger(0);
+    private final AsyncFailLogWriter failLogWriter = mock(AsyncFailLogWriter.class);
+    private final LoadTestHttpClientFactory httpClientFactory = new LoadTestHttpClientFactory(WebClient.builder());
+    private final ReactiveLoadEngine engine =
+            new ReactiveLoadEngine(new LoadTestRequestExecutor(failLogWriter, Clock.systemDefaultZone()),
+                    new RunTerminationProperties(5_000L));
+    private DisposableServer stubServer;
+
+    @BeforeEach
+    void setUp() {
+        // /login: 본문에 토큰, 헤더에 세션 / /cart: 토큰과 세션이 모두 맞아야 200 / /empty: 토큰 없는 응답
+        stubServer = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .post("/login", (request, response) -> response
+                                .header("X-Session", "s-1")
+                                .sendString(Mono.just("{\"user\": {\"name\": \"kim\"}, \"data\": {\"token\": \"t-42\"}}")))
+                        .post("/empty", (request, response) -> response.sendString(Mono.just("{}")))
+                        .post("/cart/{token}", (request, response) -> request.receive().aggregate().asString()
+                                .defaultIfEmpty("")
+                                .flatMap(body -> {
+                                    boolean authorized = "t-42".equals(request.param("token"))
+                                            && "s-1".equals(request.requestHeaders().get("X-Session"))
+                                            && body.equals("{\"user\": \"kim\"}");
+                                    if (!authorized) {
+                                        return response.status(401).send().then();
+                                    }
+                                    authorizedRequests.incrementAndGet();
+                                    return response.sendString(Mono.just("ok")).then();
+                                })))
+                .bindNow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.disposeNow();
+    }
+
+    @Test
+    @DisplayName("runJourney: 앞 단계 응답의 JSON 값/헤더를 다음 단계 URL, 헤더, 본문에 넣고 단계별로 집계한다")
+    void runJourney_extractsAndCorrelatesValues() {
+        // Arrange
+        LoadTestScenario scenario = scenario(
+                step("login", "/login", null, null, "token=$.data.token; session=header:X-Session; user=$.user.name"),
+                step("cart", "/cart/${token}", "X-Session: ${session}\nContent-Type: application/json", "{\"user\": \"${user}\"}", null));
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+
+        // Act
+        List<StepStats> steps = runJourney(scenario, collector);
+
+        // Assert: 여정 한 번 = 요청 두 번, 둘째 단계가 모두 인증 통과
+        assertThat(steps).extracting(StepStats::name).containsExactly("login", "cart");
+        StepStats login = steps.get(0);
+        StepStats cart = steps.get(1);
+        assertThat(login.success()).isPositive();
+        assertThat(login.fail()).isZero();
+        assertThat(cart.success()).isEqualTo(login.success()).isEqualTo(authorizedRequests.get());
+        assertThat(cart.fail()).isZero();
+        assertThat(cart.latency().count()).isEqualTo(cart.success());
+
+        TestStats stats = collector.toStats();
+        assertThat(stats.totalRequests()).isEqualTo(login.totalRequests() + cart.totalRequests());
+    }
+
+    @Test
+    @DisplayName("runJourney: 값 추출에 실패하면 해당 단계를 실패로 기록하고 여정을 중단한다")
+    void runJourney_extractionFailure_stopsJourney() {
+        // Arrange
+        LoadTestScenario scenario = scenario(
+                step("login", "/empty", null, null, "token=$.data.token"),
+                step("cart", "/cart/${token}", null, null, null));
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+
+        // Act
+        List<StepStats> steps = runJourney(scenario, collector);
+
+        // Assert
+        StepStats login = steps.get(0);
+        assertThat(login.fail()).isPositive();
+        assertThat(login.extractionFailures()).isEqualTo(login.fail());
+        assertThat(steps.get(1).totalRequests()).isZero();
+
+        ArgumentCaptor<LoadTestFailLog> failLog = ArgumentCaptor.forClass(LoadTestFailLog.class);
+        verify(failLogWriter, atLeastOnce()).enqueue(failLog.capture());
+        assertThat(failLog.getValue().getHttpStatus()).isEqualTo(200);
+        assertThat(failLog.getValue().getErrorMsg()).contains("token");
+    }
+
+    @Test
+    @DisplayName("runJourney: 실행 확률 0인 단계는 건너뛴다")
+    void runJourney_zeroWeightStep_isSkipped() {
+        // Arrange
+        LoadTestScenarioStep skipped = step("never", "/empty", null, null, null);
+        skipped.setWeight(0);
+        LoadTestScenario scenario = scenario(step("login", "/login", null, null, null), skipped);
+
+        // Act
+        List<StepStats> steps = runJourney(scenario, new LoadTestMetricsCollector());
+
+        // Assert
+        assertThat(steps.get(0).success()).isPositive();
+        assertThat(steps.get(1).totalRequests()).isZero();
+    }
+
+    private List<StepStats> runJourney(LoadTestScenario scenario, LoadTestMetricsCollector collector) {
+        try (LoadTestHttpClient httpClient = httpClientFactory.create(ConnectionProfile.from(scenario));
+             CompiledJourney journey = CompiledJourney.compile(scenario.getSteps())) {
+            StepMetricsCollector stepMetrics = new StepMetricsCollector(journey.stepNames());
+            engine.runJourney(httpClient, journey, scenario, 1L, new AtomicLong(0), collector, stepMetrics, new RunAbort());
+            return stepMetrics.toStats();
+        }
+    }
+
+    private LoadTestScenario scenario(LoadTestScenarioStep... steps) {
+        LoadTestScenario scenario = new LoadTestScenario();
+        scenario.setName("journey-test");
+        scenario.setTargetTps(20);
+        scenario.setVirtualThreadCount(10);
+        scenario.setDurationSeconds(1);
+        scenario.setExecutionMode(ExecutionMode.REACTIVE);
+        scenario.setSteps(List.of(steps));
+        return scenario;
+    }
+
+    private LoadTestScenarioStep step(String name, String path, String headers, String body, String extractions) {
+        LoadTestScenarioStep step = new LoadTestScenarioStep();
+        step.setName(name);
+        step.setTargetUrl("http://localhost:" + stubServer.port() + path);
+        step.setHttpMethod("POST");
+        step.setRequestHeaders(headers);
+        step.setRequestParams(body);
+        step.setExtractions(extractions);
+        return step;
+    }
+}
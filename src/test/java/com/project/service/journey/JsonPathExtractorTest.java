@@ -0,0 +1,90 @@
+package com.project.service.journey;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonPathExtractorTest {
+
+    private static final String BODY = """
+            {
+              "meta": {"note": "skip \\"me\\" {not an object}", "tags": ["a", "b"]},
+              "data": {
+                "token": "abc.def",
+                "count": 42,
+                "active": true,
+                "items": [ {"id": 7, "name": "first"}, {"id": 8, "name": "caf\\u00e9 \\n"} ],
+                "nested": {"x": [1, 2]},
+                "nothing": null
+              }
+            }
+            """;
+
+    @Test
+    @DisplayName("extract: 경로에 해당하지 않는 값은 건너뛰고 문자열/숫자/불리언 값을 꺼낸다")
+    void extract_scalarValues() {
+        ByteBuf json = json(BODY);
+
+        assertThat(JsonPathExtractor.compile("$.data.token").extract(json)).isEqualTo("abc.def");
+        assertThat(JsonPathExtractor.compile("$.data.count").extract(json)).isEqualTo("42");
+        assertThat(JsonPathExtractor.compile("$.data.active").extract(json)).isEqualTo("true");
+        assertThat(JsonPathExtractor.compile("$.meta.tags[1]").extract(json)).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("extract: 배열 인덱스와 이스케이프된 문자열을 처리한다")
+    void extract_arrayIndexAndEscapes() {
+        ByteBuf json = json(BODY);
+
+        assertThat(JsonPathExtractor.compile("$.data.items[1].id").extract(json)).isEqualTo("8");
+        assertThat(JsonPathExtractor.compile("$.data.items[1].name").extract(json)).isEqualTo("café \n");
+        assertThat(JsonPathExtractor.compile("$.meta.note").extract(json)).isEqualTo("skip \"me\" {not an object}");
+    }
+
+    @Test
+    @DisplayName("extract: 객체/배열 값은 원문 JSON으로 반환한다")
+    void extract_containerValue_returnsRawJson() {
+        assertThat(JsonPathExtractor.compile("$.data.nested").extract(json(BODY))).isEqualTo("{\"x\": [1, 2]}");
+    }
+
+    @Test
+    @DisplayName("extract: 없는 경로, 범위 밖 인덱스, null 값은 null을 반환한다")
+    void extract_missingValues_returnNull() {
+        ByteBuf json = json(BODY);
+
+        assertThat(JsonPathExtractor.compile("$.data.missing").extract(json)).isNull();
+        assertThat(JsonPathExtractor.compile("$.data.items[5].id").extract(json)).isNull();
+        assertThat(JsonPathExtractor.compile("$.data.token.inner").extract(json)).isNull();
+        assertThat(JsonPathExtractor.compile("$.data.nothing").extract(json)).isNull();
+        assertThat(JsonPathExtractor.compile("$.data.token").extract(json("{\"data\": {\"tok"))).isNull();
+    }
+
+    @Test
+    @DisplayName("extract: 버퍼의 읽기 위치를 바꾸지 않아 같은 본문에서 여러 값을 꺼낼 수 있다")
+    void extract_doesNotConsumeBuffer() {
+        ByteBuf json = json("[{\"id\": 1}]");
+        int readerIndex = json.readerIndex();
+
+        JsonPathExtractor.compile("$[0].id").extract(json);
+
+        assertThat(json.readerIndex()).isEqualTo(readerIndex);
+        assertThat(JsonPathExtractor.compile("$[0].id").extract(json)).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("compile: $로 시작하지 않는 경로는 예외를 던진다")
+    void compile_invalidPath_throws() {
+        assertThrows(IllegalArgumentException.class, () -> JsonPathExtractor.compile("data.token"));
+        assertThrows(IllegalArgumentException.class, () -> JsonPathExtractor.compile("$.items[0"));
+    }
+
+    private static ByteBuf json(String text) {
+        return Unpooled.wrappedBuffer(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
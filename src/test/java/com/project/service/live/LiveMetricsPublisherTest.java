@@ -0,0 +1,141 @@
+package com.project.service.live;
+
+import com.project.config.LiveMetricsProperties;
+import com.project.model.LoadTestResultTimeseries;
+import com.project.repository.LoadTestResultTimeseriesRepository;
+import com.project.service.dto.IntervalSnapshot;
+import com.project.service.metrics.LoadTestMetricsCollector;
+import com.project.service.timeseries.ResultTimeseriesWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class LiveMetricsPublisherTest {
+
+    private final List<LoadTestResultTimeseries> savedIntervals = new CopyOnWriteArrayList<>();
+    private final LoadTestResultTimeseriesRepository timeseriesRepository = mock(LoadTestResultTimeseriesRepository.class);
+    private final ResultTimeseriesWriter timeseriesWriter = new ResultTimeseriesWriter(timeseriesRepository);
+    private final LiveMetricsPublisher publisher =
+            new LiveMetricsPublisher(new LiveMetricsProperties(50L, 2), timeseriesWriter, Clock.systemUTC());
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> savedIntervals.addAll(invocation.getArgument(0)))
+                .when(timeseriesRepository).insertTimeseriesBatch(anyList());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        publisher.shutdown();
+        timeseriesWriter.shutdown();
+    }
+
+    @Test
+    @DisplayName("start: 주기마다 누적값이 아닌 구간 지표를 발행하고 close 시 스트림을 종료한다")
+    void start_publishesIntervalSnapshotsUntilClosed() throws InterruptedException {
+        // Arrange
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+        List<IntervalSnapshot> received = new CopyOnWriteArrayList<>();
+
+        LiveMetricsPublisher.Session session = publisher.start(7L, collector);
+        publisher.stream(7L).orElseThrow().subscribe(received::add);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            collector.recordSuccess(TimeUnit.MILLISECONDS.toNanos(5));
+        }
+        collector.recordFailure(TimeUnit.MILLISECONDS.toNanos(100));
+        Thread.sleep(120);
+        session.close();
+
+        // Assert
+        assertThat(received).isNotEmpty();
+        assertThat(received).extracting(IntervalSnapshot::resultId).containsOnly(7L);
+        assertThat(received.stream().mapToLong(IntervalSnapshot::requests).sum()).isEqualTo(11L);
+        assertThat(received.stream().mapToLong(IntervalSnapshot::fail).sum()).isEqualTo(1L);
+        assertThat(received).extracting(IntervalSnapshot::sequence).isSorted();
+        assertThat(publisher.stream(7L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("close: 배치 크기에 못 미친 마지막 구간까지 시계열로 저장한다")
+    void close_flushesRemainingIntervalsToTimeseries() throws InterruptedException {
+        // Arrange
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+        LiveMetricsPublisher.Session session = publisher.start(9L, collector);
+
+        // Act
+        collector.recordSuccess(TimeUnit.MILLISECONDS.toNanos(5));
+        Thread.sleep(170);
+        collector.recordFailure(TimeUnit.MILLISECONDS.toNanos(5));
+        session.close();
+
+        // Assert: 틱 사이 기록한 요청이 빠짐없이, 구간 번호 순서대로 저장됨
+        assertThat(savedIntervals).extracting(LoadTestResultTimeseries::getResultId).containsOnly(9L);
+        assertThat(savedIntervals).extracting(LoadTestResultTimeseries::getIntervalSeq).isSorted();
+        assertThat(savedIntervals.stream().mapToLong(LoadTestResultTimeseries::getRequestCount).sum()).isEqualTo(2L);
+        assertThat(savedIntervals.stream().mapToLong(LoadTestResultTimeseries::getFailCount).sum()).isEqualTo(1L);
+        assertThat(savedIntervals.get(savedIntervals.size() - 1).getIntervalSeq()).isEqualTo(savedIntervals.size() - 1L);
+    }
+
+    @Test
+    @DisplayName("stream: 늦게 구독해도 가장 최근 구간 지표부터 받는다")
+    void stream_lateSubscriber_receivesLatestSnapshot() throws InterruptedException {
+        // Arrange
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+        LiveMetricsPublisher.Session session = publisher.start(8L, collector);
+        collector.recordSuccess(TimeUnit.MILLISECONDS.toNanos(5));
+        Thread.sleep(120);
+
+        // Act
+        IntervalSnapshot first = publisher.stream(8L).orElseThrow().blockFirst(Duration.ofSeconds(1));
+        session.close();
+
+        // Assert
+        assertThat(first).isNotNull();
+        assertThat(first.resultId()).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("start: 전달한 IntervalSink로 구간을 넘기고 close 시 complete를 호출한다")
+    void start_customSink_receivesIntervalsAndCompletion() throws InterruptedException {
+        // Arrange
+        List<LoadTestResultTimeseries> received = new CopyOnWriteArrayList<>();
+        List<Boolean> completed = new CopyOnWriteArrayList<>();
+        IntervalSink sink = new IntervalSink() {
+            @Override
+            public void accept(LoadTestResultTimeseries interval) {
+                received.add(interval);
+            }
+
+            @Override
+            public void complete() {
+                completed.add(true);
+            }
+        };
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+
+        // Act
+        LiveMetricsPublisher.Session session = publisher.start(10L, collector, sink);
+        collector.recordSuccess(TimeUnit.MILLISECONDS.toNanos(5));
+        Thread.sleep(80);
+        session.close();
+
+        // Assert: 기본 저장 경로는 사용하지 않음
+        assertThat(received.stream().mapToLong(LoadTestResultTimeseries::getRequestCount).sum()).isEqualTo(1L);
+        assertThat(completed).containsExactly(true);
+        assertThat(savedIntervals).isEmpty();
+    }
+}
@@ -0,0 +1,71 @@
+package com.project.service.metrics;
+
+import com.project.service.dto.LatencyDistribution;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HistogramSupportTest {
+
+    @Test
+    @DisplayName("summarize: 한 번 순회로 계산한 백분위가 getValueAtPercentile 결과와 같다")
+    void summarize_matchesGetValueAtPercentile() {
+        Histogram histogram = sampleHistogram(42L);
+
+        LatencyDistribution distribution = HistogramSupport.summarize(histogram);
+
+        assertThat(distribution.count()).isEqualTo(histogram.getTotalCount());
+        assertThat(distribution.avgUs()).isEqualTo(histogram.getMean());
+        assertThat(distribution.p50Us()).isEqualTo(histogram.getValueAtPercentile(50.0));
+        assertThat(distribution.p90Us()).isEqualTo(histogram.getValueAtPercentile(90.0));
+        assertThat(distribution.p95Us()).isEqualTo(histogram.getValueAtPercentile(95.0));
+        assertThat(distribution.p99Us()).isEqualTo(histogram.getValueAtPercentile(99.0));
+        assertThat(distribution.p999Us()).isEqualTo(histogram.getValueAtPercentile(99.9));
+        assertThat(distribution.p9999Us()).isEqualTo(histogram.getValueAtPercentile(99.99));
+    }
+
+    @Test
+    @DisplayName("encode/decode: 인코딩한 히스토그램을 복원하면 같은 분포가 된다")
+    void encodeDecode_roundTripsHistogram() {
+        Histogram histogram = sampleHistogram(7L);
+
+        Histogram decoded = HistogramSupport.decode(HistogramSupport.encode(histogram));
+
+        assertThat(decoded).isEqualTo(histogram);
+        assertThat(decoded.getValueAtPercentile(99.9)).isEqualTo(histogram.getValueAtPercentile(99.9));
+    }
+
+    @Test
+    @DisplayName("decode: 저장된 두 실행 결과를 합치면 카운트가 더해진 분포를 얻는다")
+    void decode_storedRunsCanBeMerged() {
+        Histogram first = sampleHistogram(1L);
+        Histogram second = sampleHistogram(2L);
+
+        Histogram merged = HistogramSupport.decode(HistogramSupport.encode(first));
+        merged.add(HistogramSupport.decode(HistogramSupport.encode(second)));
+
+        assertThat(merged.getTotalCount()).isEqualTo(first.getTotalCount() + second.getTotalCount());
+        assertThat(merged.getMaxValue()).isEqualTo(Math.max(first.getMaxValue(), second.getMaxValue()));
+    }
+
+    @Test
+    @DisplayName("summarize: 빈 히스토그램은 EMPTY를 반환한다")
+    void summarize_emptyHistogram_returnsEmpty() {
+        assertThat(HistogramSupport.summarize(new Histogram(3_600_000_000L, 3))).isSameAs(LatencyDistribution.EMPTY);
+    }
+
+    private Histogram sampleHistogram(long seed) {
+        Random random = new Random(seed);
+        Histogram histogram = new Histogram(3_600_000_000L, 3);
+        for (int i = 0; i < 100_000; i++) {
+            // 대부분 수백 us, 일부는 수십 ms까지 튀는 꼬리 분포
+            long value = random.nextInt(100) == 0 ? 10_000L + random.nextInt(90_000) : 100L + random.nextInt(900);
+            histogram.recordValue(value);
+        }
+        return histogram;
+    }
+}
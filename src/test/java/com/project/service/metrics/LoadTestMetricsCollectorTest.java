@@ -0,0 +1,210 @@
+package com.project.service.metrics;
+
+import com.project.service.dto.IntervalStats;
+import com.project.service.dto.RequestResult;
+import com.project.service.dto.TestStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadTestMetricsCollectorTest {
+
+    @Test
+    @DisplayName("toStats: 요청이 없으면 0으로 채운 통계를 반환한다")
+    void toStats_withoutRequests_returnsZeros() {
+        TestStats stats = new LoadTestMetricsCollector().toStats();
+
+        assertThat(stats.totalRequests()).isZero();
+        assertThat(stats.p99LatencyMs()).isZero();
+        assertThat(stats.correctedLatency().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("recordSuccess: 발송 예정 시각 기준 latency는 보정 분포에만 반영된다")
+    void recordSuccess_intendedLatency_isRecordedOnlyInCorrectedDistribution() {
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+
+        // 서버는 10ms 만에 응답했지만, 발송이 990ms 밀려 사용자는 1000ms를 기다린 상황
+        for (int i = 0; i < 99; i++) {
+            collector.recordSuccess(millis(10), millis(10));
+        }
+        collector.recordSuccess(millis(10), millis(1_000));
+
+        TestStats stats = collector.toStats();
+
+        assertThat(stats.maxLatencyMs()).isEqualTo(10.0);
+        assertThat(stats.correctedLatency().maxMs()).isBetween(999.0, 1_001.0);
+        assertThat(stats.correctedLatency().count()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("expectedIntervalMs: 멈춤 구간 동안 누락된 샘플을 보정 분포에 채워 넣는다")
+    void expectedInterval_backfillsSamplesOmittedDuringStall() {
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector(100L);
+
+        for (int i = 0; i < 9; i++) {
+            collector.recordSuccess(millis(10));
+        }
+        // 1초 멈춤: 100ms 간격이었다면 900, 800, ... 100ms짜리 요청도 있었어야 함
+        collector.recordSuccess(millis(1_000));
+
+        TestStats stats = collector.toStats();
+
+        assertThat(stats.totalRequests()).isEqualTo(10);
+        assertThat(stats.correctedLatency().count()).isEqualTo(19L);
+        assertThat(stats.correctedLatency().p99Ms()).isGreaterThan(stats.p99LatencyMs() / 2);
+        assertThat(stats.correctedLatency().avgMs()).isGreaterThan(stats.avgLatencyMs());
+    }
+
+    @Test
+    @DisplayName("record: 커넥션 풀 대기 시간은 서버 응답 시간과 별도 분포로 집계한다")
+    void record_poolAcquireWait_isSeparatedFromServerLatency() {
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+
+        // 서버는 5ms 만에 응답했지만 커넥션을 얻기까지 40ms를 기다린 요청
+        RequestResult queued = new RequestResult(true, millis(5), millis(40), 0L, 0L);
+        collector.record(queued, queued.totalNanos());
+        // 커넥션을 얻기 전에 실패한 요청은 풀 대기 분포에서 제외
+        collector.record(new RequestResult(false, millis(30), 0L, 0L, 0L), millis(30));
+
+        TestStats stats = collector.toStats();
+
+        assertThat(stats.latency().maxMs()).isEqualTo(30.0);
+        assertThat(stats.correctedLatency().maxMs()).isBetween(44.9, 45.1);
+        assertThat(stats.poolAcquireWait().count()).isEqualTo(1L);
+        assertThat(stats.poolAcquireWait().maxMs()).isBetween(39.9, 40.1);
+    }
+
+    @Test
+    @DisplayName("takeIntervalStats: 직전 스냅샷 이후 구간의 요청만 집계한다")
+    void takeIntervalStats_returnsOnlyRequestsSinceLastSnapshot() {
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+
+        collector.recordSuccess(millis(100));
+        collector.recordFailure(millis(200));
+        IntervalStats first = collector.takeIntervalStats();
+
+        collector.recordSuccess(millis(10));
+        IntervalStats second = collector.takeIntervalStats();
+
+        assertThat(first.success()).isEqualTo(1L);
+        assertThat(first.fail()).isEqualTo(1L);
+        assertThat(first.latency().maxMs()).isBetween(199.0, 201.0);
+        assertThat(second.requests()).isEqualTo(1L);
+        assertThat(second.latency().maxMs()).isBetween(9.9, 10.1);
+        // 누적 통계는 구간 교체와 무관
+        assertThat(collector.toStats().totalRequests()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("recordCutOff: 잘린 요청은 성공/실패/지연시간 분포와 별도로 집계한다")
+    void recordCutOff_isCountedSeparately() {
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+
+        collector.recordSuccess(2_000_000L);
+        collector.recordCutOff();
+        collector.recordCutOff();
+        collector.recordMeasuredWindow(1_250_000_000L);
+
+        TestStats stats = collector.toStats();
+        assertThat(stats.totalRequests()).isEqualTo(1);
+        assertThat(stats.latency().count()).isEqualTo(1L);
+        assertThat(stats.cutOffRequests()).isEqualTo(2L);
+        assertThat(stats.measuredWindowMs()).isEqualTo(1_250L);
+    }
+
+    @Test
+    @DisplayName("recordDispatch: 1ms를 넘는 발송 지연만 지연 발송으로 집계한다")
+    void recordDispatch_countsOnlyLagAboveThreshold() {
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+
+        collector.recordDispatch(500_000L);
+        collector.recordDispatch(2_500_000L);
+        collector.recordMissedDispatch();
+
+        TestStats stats = collector.toStats();
+
+        assertThat(stats.lateDispatches()).isEqualTo(1L);
+        assertThat(stats.missedDispatches()).isEqualTo(1L);
+        assertThat(stats.maxDispatchLagUs()).isEqualTo(2_500L);
+    }
+
+    @Test
+    @DisplayName("recordMissedDispatch: 건너뛴 발송은 개수만 집계하고 보정 분포에는 넣지 않는다")
+    void recordMissedDispatch_isExcludedFromCorrectedLatency() {
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector(100L);
+
+        collector.recordSuccess(millis(5), millis(5));
+        collector.recordMissedDispatch();
+        collector.recordMissedDispatch();
+
+        TestStats stats = collector.toStats();
+
+        assertThat(stats.missedDispatches()).isEqualTo(2L);
+        assertThat(stats.correctedLatency().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록하는 동안 구간 스냅샷을 떠도 구간 합과 전체 통계가 기록 수와 일치한다")
+    void concurrentRecording_intervalsAndTotalsAddUp() throws Exception {
+        // Arrange
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector(0L, LoadTestMetricsCollector.DEFAULT_LATE_DISPATCH_THRESHOLD_NANOS, 4);
+        long intervalRequests = 0;
+
+        // Act: 가상 스레드 32개 x 5,000건 (10건 중 1건 실패) 기록 중 스냅샷 반복
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < 32; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        collector.record(new RequestResult(i % 10 != 0, millis(1 + i % 50), 1_000L, 10L, 20L), millis(60));
+                    }
+                });
+            }
+            for (int i = 0; i < 20; i++) {
+                IntervalStats interval = collector.takeIntervalStats();
+                intervalRequests += interval.requests();
+                assertThat(interval.latency().count()).isLessThanOrEqualTo(160_000L);
+                Thread.sleep(1);
+            }
+        }
+        intervalRequests += collector.takeIntervalStats().requests();
+        TestStats stats = collector.toStats();
+
+        // Assert
+        assertThat(intervalRequests).isEqualTo(160_000L);
+        assertThat(stats.totalRequests()).isEqualTo(160_000);
+        assertThat(stats.fail()).isEqualTo(16_000);
+        assertThat(stats.latency().count()).isEqualTo(160_000L);
+        assertThat(stats.correctedLatency().count()).isEqualTo(160_000L);
+        assertThat(stats.poolAcquireWait().count()).isEqualTo(160_000L);
+        assertThat(stats.bytesReceived()).isEqualTo(3_200_000L);
+        assertThat(stats.latency().maxMs()).isBetween(49.9, 50.1);
+    }
+
+    @Test
+    @DisplayName("recordSuccess: 1ms 미만 latency도 us 단위로 구분해서 집계한다")
+    void recordSuccess_subMillisecondLatency_keepsMicrosecondPrecision() {
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+
+        collector.recordSuccess(150_000L);   // 150us
+        collector.recordSuccess(450_000L);   // 450us
+        collector.recordSuccess(900_999L);   // 900.999us -> 900us
+
+        TestStats stats = collector.toStats();
+
+        assertThat(stats.latency().minUs()).isEqualTo(150L);
+        assertThat(stats.latency().maxUs()).isEqualTo(900L);
+        assertThat(stats.latency().avgUs()).isEqualTo(500.0);
+        assertThat(stats.minLatencyMs()).isEqualTo(0.15);
+        assertThat(stats.p99LatencyMs()).isBetween(0.899, 0.901);
+    }
+
+    private static long millis(long ms) {
+        return TimeUnit.MILLISECONDS.toNanos(ms);
+    }
+}
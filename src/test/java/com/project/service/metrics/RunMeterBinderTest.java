@@ -0,0 +1,120 @@
+package com.project.service.metrics;
+
+import com.project.config.RunMeterProperties;
+import com.project.service.dto.RequestResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RunMeterBinderTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final RunMeterBinder binder = new RunMeterBinder(registry, new RunMeterProperties(true, 100, 60_000));
+
+    @Test
+    @DisplayName("집계기에 기록한 요청이 실행 태그가 붙은 요청 수/진행 중/지연시간/풀 대기/발송 지연 지표로 보인다")
+    void bind_exposesCollectorValues() {
+        // Arrange
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+        AtomicLong started = new AtomicLong();
+        binder.bind(7L, 3L, collector, started::get);
+
+        // Act: 5건 발송, 2건 성공 + 1건 실패 + 1건 잘림, 1건은 아직 진행 중
+        started.set(5);
+        collector.record(new RequestResult(true, millis(10), millis(2), 0L, 0L, 200), millis(10));
+        collector.record(new RequestResult(true, millis(20), 0L, 0L, 0L, 200), millis(20));
+        collector.record(new RequestResult(false, millis(30), millis(1), 0L, 0L, 503), millis(30));
+        collector.recordCutOff();
+        collector.recordDispatch(millis(3));
+        collector.recordMissedDispatch();
+
+        // Assert
+        assertThat(requests("success")).isEqualTo(2.0);
+        assertThat(requests("failure")).isEqualTo(1.0);
+        assertThat(requests("cut_off")).isEqualTo(1.0);
+        assertThat(registry.get(RunMeterBinder.IN_FLIGHT).tag("result.id", "7").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get(RunMeterBinder.DISPATCH_MISSED).functionCounter().count()).isEqualTo(1.0);
+
+        Timer latency = registry.get(RunMeterBinder.LATENCY).tag("scenario.id", "3").timer();
+        assertThat(latency.count()).isEqualTo(3L);
+        assertThat(latency.max(TimeUnit.MILLISECONDS)).isEqualTo(30.0);
+        // 커넥션을 확보하지 못한 요청(0)은 풀 대기에서 제외
+        assertThat(registry.get(RunMeterBinder.POOL_ACQUIRE).timer().count()).isEqualTo(2L);
+        assertThat(registry.get(RunMeterBinder.DISPATCH_LAG).timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("실패는 상태 코드별 카운터로 집계하고, 같은 코드는 처음 등록한 카운터를 다시 쓴다")
+    void failures_areCountedByStatus() {
+        // Arrange
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+        binder.bind(7L, 3L, collector, () -> 0L);
+
+        // Act
+        collector.record(new RequestResult(false, millis(5), 0L, 0L, 0L, 503), millis(5));
+        Counter first = registry.get(RunMeters.ERRORS).tag("status", "503").counter();
+        collector.record(new RequestResult(false, millis(5), 0L, 0L, 0L, 503), millis(5));
+        collector.record(new RequestResult(false, millis(5), 0L, 0L, 0L, 404), millis(5));
+        collector.record(new RequestResult(false, millis(5), 0L, 0L, 0L, 0), millis(5));
+        collector.record(new RequestResult(true, millis(5), 0L, 0L, 0L, 200), millis(5));
+
+        // Assert
+        assertThat(registry.get(RunMeters.ERRORS).tag("status", "503").counter()).isSameAs(first);
+        assertThat(first.count()).isEqualTo(2.0);
+        assertThat(registry.get(RunMeters.ERRORS).tag("status", "404").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get(RunMeters.ERRORS).tag("status", "none").counter().count()).isEqualTo(1.0);
+        assertThat(registry.find(RunMeters.ERRORS).tag("status", "200").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("close: 그 실행의 지표만 레지스트리에서 제거한다")
+    void close_removesOnlyThatRunsMeters() {
+        // Arrange
+        LoadTestMetricsCollector first = new LoadTestMetricsCollector();
+        LoadTestMetricsCollector second = new LoadTestMetricsCollector();
+        RunMeters firstMeters = binder.bind(1L, 3L, first, () -> 0L);
+        binder.bind(2L, 3L, second, () -> 0L);
+        first.record(new RequestResult(false, millis(5), 0L, 0L, 0L, 500), millis(5));
+
+        // Act
+        firstMeters.close();
+
+        // Assert
+        assertThat(registry.find("loadtest.run.errors").tag("result.id", "1").meters()).isEmpty();
+        assertThat(registry.getMeters()).allMatch(meter -> "2".equals(meter.getId().getTag("result.id")));
+        assertThat(registry.getMeters()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 지표를 등록하지 않고 집계기에도 연결하지 않는다")
+    void disabled_registersNothing() {
+        // Arrange
+        RunMeterBinder disabled = new RunMeterBinder(registry, new RunMeterProperties(false, 100, 60_000));
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+
+        // Act
+        RunMeters meters = disabled.bind(7L, 3L, collector, () -> 0L);
+        collector.record(new RequestResult(false, millis(5), 0L, 0L, 0L, 500), millis(5));
+        meters.close();
+
+        // Assert
+        assertThat(meters).isSameAs(RunMeters.NONE);
+        assertThat(registry.getMeters()).isEmpty();
+    }
+
+    private double requests(String outcome) {
+        return registry.get(RunMeterBinder.REQUESTS).tag("outcome", outcome).functionCounter().count();
+    }
+
+    private static long millis(long ms) {
+        return TimeUnit.MILLISECONDS.toNanos(ms);
+    }
+}
@@ -0,0 +1,57 @@
+package com.project.service.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedRecorderTest {
+
+    @Test
+    @DisplayName("조각 수는 2의 거듭제곱으로 올리고, 연속된 스레드 ID는 여러 조각에 고르게 퍼진다")
+    void stripes_arePowerOfTwoAndSpreadThreadIds() {
+        assertThat(new StripedRecorder(1, 3).stripeCount()).isEqualTo(1);
+        assertThat(new StripedRecorder(6, 3).stripeCount()).isEqualTo(8);
+        assertThat(new StripedRecorder(16, 3).stripeCount()).isEqualTo(16);
+
+        Set<Integer> used = new HashSet<>();
+        for (long threadId = 100; threadId < 116; threadId++) {
+            used.add(StripedRecorder.stripeIndex(threadId, 15));
+        }
+        assertThat(used).hasSize(16);
+    }
+
+    @Test
+    @DisplayName("drainInto: 여러 스레드가 동시에 기록하는 중에 반복해서 가져가도 값이 빠지거나 중복되지 않는다")
+    void drainInto_concurrentWriters_losesNothing() throws Exception {
+        // Arrange
+        StripedRecorder recorder = new StripedRecorder(4, 3);
+        Histogram drained = new Histogram(3);
+
+        // Act: 가상 스레드 64개 x 10,000건을 기록하는 동안 계속 drain
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < 64; t++) {
+                executor.submit(() -> {
+                    for (int i = 1; i <= 10_000; i++) {
+                        recorder.recordValue(i);
+                    }
+                });
+            }
+            for (int i = 0; i < 50; i++) {
+                recorder.drainInto(drained);
+                Thread.sleep(1);
+            }
+        }
+        recorder.drainInto(drained);
+
+        // Assert
+        assertThat(drained.getTotalCount()).isEqualTo(640_000L);
+        assertThat(drained.getMaxValue()).isBetween(9_990L, 10_010L);
+    }
+}
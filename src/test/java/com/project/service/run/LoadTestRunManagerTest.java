@@ -0,0 +1,357 @@
+package com.project.service.run;
+
+import com.project.config.RunManagerProperties;
+import com.project.model.LoadTestResult;
+import com.project.model.LoadTestScenario;
+import com.project.service.LoadTestService;
+import com.project.service.dto.CapacitySearchRequest;
+import com.project.service.dto.RunState;
+import com.project.service.dto.RunStatus;
+import com.project.service.runner.RunAbort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoadTestRunManagerTest {
+
+    private final LoadTestService loadTestService = mock(LoadTestService.class);
+    private final AtomicLong nextResultId = new AtomicLong(1L);
+    // 실행 ID별 종료 신호: countDown 전까지(또는 abort 전까지) executeRun이 끝나지 않음
+    private final Map<Long, CountDownLatch> releases = new ConcurrentHashMap<>();
+    private LoadTestRunManager runManager;
+
+    @AfterEach
+    void tearDown() {
+        releases.values().forEach(CountDownLatch::countDown);
+    }
+
+    @Test
+    @DisplayName("submit: 동시 실행 한도를 넘는 실행은 대기열에서 기다렸다가 앞 실행이 끝나면 시작한다")
+    void submit_overConcurrentLimit_waitsInQueueUntilPreviousRunFinishes() throws InterruptedException {
+        // Arrange
+        runManager = newManager(new RunManagerProperties(1, 10, 100, 100, 100, 100, 10));
+        stubBlockingRuns();
+
+        // Act
+        RunStatus first = runManager.submit(scenario(10));
+        RunStatus second = runManager.submit(scenario(10));
+
+        // Assert
+        assertThat(first.state()).isEqualTo(RunState.RUNNING);
+        assertThat(second.state()).isEqualTo(RunState.QUEUED);
+        assertThat(second.queuePosition()).isZero();
+
+        releases.get(first.runId()).countDown();
+        assertThat(awaitState(first.runId(), RunState.COMPLETED).result()).isNotNull();
+        awaitState(second.runId(), RunState.RUNNING);
+    }
+
+    @Test
+    @DisplayName("submit: 동시 요청 수 합계가 한도를 넘으면 실행 수 한도가 남아도 대기한다")
+    void submit_overTotalThreadBudget_waitsInQueue() {
+        // Arrange
+        runManager = newManager(new RunManagerProperties(5, 10, 100, 100, 150, 1000, 10));
+        stubBlockingRuns();
+
+        // Act
+        RunStatus first = runManager.submit(scenario(100));
+        RunStatus second = runManager.submit(scenario(100));
+
+        // Assert
+        assertThat(first.state()).isEqualTo(RunState.RUNNING);
+        assertThat(second.state()).isEqualTo(RunState.QUEUED);
+    }
+
+    @Test
+    @DisplayName("submit: 실행 1회 한도를 넘는 시나리오는 결과 row를 만들지 않고 거절한다")
+    void submit_overPerRunLimit_isRejected() {
+        // Arrange
+        runManager = newManager(new RunManagerProperties(2, 10, 50, 100, 100, 100, 10));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> runManager.submit(scenario(51)));
+        verify(loadTestService, never()).prepareRun(any());
+    }
+
+    @Test
+    @DisplayName("submit: 대기열이 가득 차면 거절한다")
+    void submit_fullQueue_isRejected() {
+        // Arrange
+        runManager = newManager(new RunManagerProperties(1, 1, 100, 100, 100, 100, 10));
+        stubBlockingRuns();
+        runManager.submit(scenario(10));
+        runManager.submit(scenario(10));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> runManager.submit(scenario(10)));
+    }
+
+    @Test
+    @DisplayName("submit: 결과 row를 만드는 중인 제출도 대기열 자리를 차지해, 동시에 제출해도 대기열 한도를 넘지 않는다")
+    void submit_concurrentSubmits_doNotOverfillQueue() throws InterruptedException {
+        // Arrange: 실행 1개 RUNNING, 대기열 한도 1
+        runManager = newManager(new RunManagerProperties(1, 1, 100, 100, 100, 100, 10));
+        stubBlockingRuns();
+        runManager.submit(scenario(10));
+        CountDownLatch preparing = new CountDownLatch(1);
+        CountDownLatch prepared = new CountDownLatch(1);
+        when(loadTestService.prepareRun(any(LoadTestScenario.class))).thenAnswer(invocation -> {
+            preparing.countDown();
+            prepared.await(5, TimeUnit.SECONDS);
+            return newResult();
+        });
+        Thread first = Thread.ofVirtual().start(() -> runManager.submit(scenario(10)));
+        assertThat(preparing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act & Assert: 앞 제출이 prepare 중이어도 자리는 이미 찼음
+        assertThrows(IllegalStateException.class, () -> runManager.submit(scenario(10)));
+        prepared.countDown();
+        first.join(5_000);
+        assertThat(runManager.list()).extracting(RunStatus::state).containsExactly(RunState.RUNNING, RunState.QUEUED);
+    }
+
+    @Test
+    @DisplayName("submit: 결과 row를 만들다 실패하면 미리 잡은 대기열 자리를 돌려준다")
+    void submit_prepareFailure_releasesQueueSlot() {
+        // Arrange
+        runManager = newManager(new RunManagerProperties(1, 1, 100, 100, 100, 100, 10));
+        stubBlockingRuns();
+        runManager.submit(scenario(10));
+        when(loadTestService.prepareRun(any(LoadTestScenario.class)))
+                .thenThrow(new IllegalStateException("insert fail"))
+                .thenAnswer(invocation -> newResult());
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> runManager.submit(scenario(10)));
+        RunStatus queued = runManager.submit(scenario(10));
+
+        // Assert
+        assertThat(queued.state()).isEqualTo(RunState.QUEUED);
+    }
+
+    @Test
+    @DisplayName("abort: 대기 중인 실행은 시작하지 않고 aborted로 종료한다")
+    void abort_queuedRun_isAbandonedWithoutRunning() {
+        // Arrange
+        runManager = newManager(new RunManagerProperties(1, 10, 100, 100, 100, 100, 10));
+        stubBlockingRuns();
+        runManager.submit(scenario(10));
+        RunStatus queued = runManager.submit(scenario(10));
+
+        // Act
+        RunStatus aborted = runManager.abort(queued.runId()).orElseThrow();
+
+        // Assert
+        assertThat(aborted.state()).isEqualTo(RunState.ABORTED);
+        assertThat(aborted.queuePosition()).isNull();
+        verify(loadTestService).abandonRun(any(LoadTestResult.class));
+        verify(loadTestService, never()).executeRun(any(), eq(aborted.result()), any());
+    }
+
+    @Test
+    @DisplayName("abort: 실행 중인 실행은 RunAbort로 멈추고 ABORTED로 끝난다")
+    void abort_runningRun_signalsAbortAndFinishesAsAborted() throws InterruptedException {
+        // Arrange
+        runManager = newManager(new RunManagerProperties(1, 10, 100, 100, 100, 100, 10));
+        stubBlockingRuns();
+        RunStatus running = runManager.submit(scenario(10));
+
+        // Act
+        RunStatus aborting = runManager.abort(running.runId()).orElseThrow();
+
+        // Assert
+        assertThat(aborting.state()).isIn(RunState.ABORTING, RunState.ABORTED);
+        assertThat(awaitState(running.runId(), RunState.ABORTED).endedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("submitCapacitySearch: 용량 탐색도 같은 대기열에서 실행되고 abort로 멈춘다")
+    void submitCapacitySearch_runsThroughQueueAndAborts() throws InterruptedException {
+        // Arrange: 앞 실행이 끝날 때까지 탐색은 대기
+        runManager = newManager(new RunManagerProperties(1, 10, 100, 100, 100, 100, 10));
+        stubBlockingRuns();
+        CapacitySearchRequest request = new CapacitySearchRequest(scenario(10), 200, 0.001, 50, 1_000);
+        when(loadTestService.prepareCapacitySearch(request)).thenAnswer(invocation -> newResult());
+        when(loadTestService.executeCapacitySearch(eq(request), any(), any())).thenAnswer(invocation -> {
+            blockUntilReleased(invocation.getArgument(1), invocation.getArgument(2));
+            return null;
+        });
+        RunStatus first = runManager.submit(scenario(10));
+
+        // Act
+        RunStatus search = runManager.submitCapacitySearch(request);
+
+        // Assert
+        assertThat(search.state()).isEqualTo(RunState.QUEUED);
+        releases.get(first.runId()).countDown();
+        awaitState(search.runId(), RunState.RUNNING);
+        runManager.abort(search.runId());
+        assertThat(awaitState(search.runId(), RunState.ABORTED).result().getId()).isEqualTo(search.runId());
+    }
+
+    @Test
+    @DisplayName("reserve: 한도가 남지 않으면 대기하지 않고 거절하고, 반환한 자원으로 대기 중인 실행을 시작한다")
+    void reserve_overBudget_isRejectedAndReleaseAdmitsQueuedRun() throws InterruptedException {
+        // Arrange: 동시 요청 수 합계 한도(150)
+        runManager = newManager(new RunManagerProperties(5, 10, 100, 100, 150, 1000, 10));
+        stubBlockingRuns();
+        LoadTestRunManager.Reservation reservation = runManager.reserve(scenario(100));
+
+        // Act
+        RunStatus queued = runManager.submit(scenario(100));
+
+        // Assert
+        assertThat(queued.state()).isEqualTo(RunState.QUEUED);
+        assertThrows(IllegalStateException.class, () -> runManager.reserve(scenario(100)));
+        reservation.release();
+        reservation.release();
+        awaitState(queued.runId(), RunState.RUNNING);
+        assertThrows(IllegalStateException.class, () -> runManager.reserve(scenario(100)));
+    }
+
+    @Test
+    @DisplayName("submitDistributed: 코디네이터 실행은 동시 요청 수 한도를 쓰지 않고 실행 수 한도만 쓴다")
+    void submitDistributed_usesOnlyRunSlot() {
+        // Arrange: 동시 요청 수 합계 한도(100)를 로컬 실행이 모두 사용
+        runManager = newManager(new RunManagerProperties(2, 10, 100, 100, 100, 1000, 10));
+        stubBlockingRuns();
+        doAnswer(invocation -> blockUntilReleased(invocation.getArgument(2), invocation.getArgument(3)))
+                .when(loadTestService).executeDistributedRun(any(), any(), any(), any());
+        runManager.submit(scenario(100));
+
+        // Act
+        RunStatus distributed = runManager.submitDistributed(scenario(1_000), List.of("http://localhost:8081"));
+        RunStatus third = runManager.submit(scenario(1));
+
+        // Assert
+        assertThat(distributed.state()).isEqualTo(RunState.RUNNING);
+        assertThat(third.state()).isEqualTo(RunState.QUEUED);
+    }
+
+    @Test
+    @DisplayName("execute: 실행 중 예외가 나면 FAILED로 남기고 다음 실행을 시작한다")
+    void execute_failure_marksFailedAndAdmitsNext() throws InterruptedException {
+        // Arrange
+        runManager = newManager(new RunManagerProperties(1, 10, 100, 100, 100, 100, 10));
+        stubBlockingRuns();
+        doThrow(new IllegalStateException("boom"))
+                .doAnswer(invocation -> blockUntilReleased(invocation.getArgument(1), invocation.getArgument(2)))
+                .when(loadTestService).executeRun(any(), any(), any());
+
+        // Act
+        RunStatus failed = runManager.submit(scenario(10));
+        RunStatus next = runManager.submit(scenario(10));
+
+        // Assert
+        assertThat(awaitState(failed.runId(), RunState.FAILED).error()).contains("boom");
+        awaitState(next.runId(), RunState.RUNNING);
+    }
+
+    @Test
+    @DisplayName("execute: Error로 끝나도 FAILED로 남기고 자원 한도를 반환해 다음 실행을 시작한다")
+    void execute_error_releasesBudgetAndAdmitsNext() throws InterruptedException {
+        // Arrange: 동시 요청 수 합계 한도(150)가 실행 하나만 허용
+        runManager = newManager(new RunManagerProperties(5, 10, 100, 100, 150, 1000, 10));
+        stubBlockingRuns();
+        doThrow(new StackOverflowError("deep"))
+                .doAnswer(invocation -> blockUntilReleased(invocation.getArgument(1), invocation.getArgument(2)))
+                .when(loadTestService).executeRun(any(), any(), any());
+
+        // Act
+        RunStatus failed = runManager.submit(scenario(100));
+        RunStatus next = runManager.submit(scenario(100));
+
+        // Assert
+        assertThat(awaitState(failed.runId(), RunState.FAILED).error()).contains("deep");
+        awaitState(next.runId(), RunState.RUNNING);
+    }
+
+    @Test
+    @DisplayName("list: 종료된 실행은 finishedRunRetention개까지만 남긴다")
+    void list_keepsOnlyRetainedFinishedRuns() throws InterruptedException {
+        // Arrange
+        runManager = newManager(new RunManagerProperties(1, 10, 100, 100, 100, 100, 1));
+        stubBlockingRuns();
+        RunStatus first = runManager.submit(scenario(10));
+        RunStatus second = runManager.submit(scenario(10));
+
+        // Act
+        releases.get(first.runId()).countDown();
+        awaitState(second.runId(), RunState.RUNNING);
+        releases.get(second.runId()).countDown();
+        awaitState(second.runId(), RunState.COMPLETED);
+
+        // Assert
+        assertThat(runManager.status(first.runId())).isEmpty();
+        assertThat(runManager.list()).extracting(RunStatus::runId).containsExactly(second.runId());
+    }
+
+    private LoadTestRunManager newManager(RunManagerProperties properties) {
+        return new LoadTestRunManager(loadTestService, properties, Clock.systemDefaultZone());
+    }
+
+    private void stubBlockingRuns() {
+        when(loadTestService.prepareRun(any(LoadTestScenario.class))).thenAnswer(invocation -> newResult());
+        doAnswer(invocation -> blockUntilReleased(invocation.getArgument(1), invocation.getArgument(2)))
+                .when(loadTestService).executeRun(any(), any(), any());
+    }
+
+    private LoadTestResult newResult() {
+        LoadTestResult result = new LoadTestResult();
+        result.setId(nextResultId.getAndIncrement());
+        result.setScenarioId(1L);
+        releases.put(result.getId(), new CountDownLatch(1));
+        return result;
+    }
+
+    private LoadTestResult blockUntilReleased(LoadTestResult result, RunAbort abort) throws InterruptedException {
+        CountDownLatch release = releases.get(result.getId());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!abort.isAborted() && System.nanoTime() < deadline) {
+            if (release.await(10, TimeUnit.MILLISECONDS)) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private RunStatus awaitState(long runId, RunState state) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            RunStatus status = runManager.status(runId).orElseThrow();
+            if (status.state() == state) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Run did not reach " + state + ": " + runId);
+    }
+
+    private LoadTestScenario scenario(int virtualThreadCount) {
+        LoadTestScenario scenario = new LoadTestScenario();
+        scenario.setTargetUrl("http://localhost:8080/test");
+        scenario.setHttpMethod("GET");
+        scenario.setVirtualThreadCount(virtualThreadCount);
+        scenario.setDurationSeconds(5);
+        return scenario;
+    }
+}
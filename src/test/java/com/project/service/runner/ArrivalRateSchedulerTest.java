@@ -0,0 +1,79 @@
+package com.project.service.runner;
+
+import com.project.model.LoadStageType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ArrivalRateSchedulerTest {
+
+    @Test
+    @DisplayName("offsetOf: n번째 발송 예정 시각은 n * (1초 / TPS)로 고정된다")
+    void offsetOf_isFixedByIndexAndTps() {
+        ArrivalRateScheduler scheduler = new ArrivalRateScheduler(4, TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(scheduler.offsetOf(0)).isZero();
+        assertThat(scheduler.offsetOf(1)).isEqualTo(250_000_000L);
+        assertThat(scheduler.offsetOf(3)).isEqualTo(750_000_000L);
+    }
+
+    @Test
+    @DisplayName("offsetOf: 나누어 떨어지지 않는 TPS에서도 누적 오차 없이 계산된다")
+    void offsetOf_hasNoAccumulatedRoundingError() {
+        ArrivalRateScheduler scheduler = new ArrivalRateScheduler(3, TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(scheduler.offsetOf(3)).isEqualTo(1_000_000_000L);
+        assertThat(scheduler.offsetOf(30)).isEqualTo(10_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("awaitNextSlot: 테스트 구간 안의 예정 시각만 발송하고, 예정 시각 이전에는 반환하지 않는다")
+    void awaitNextSlot_releasesOnlyScheduledSlotsWithinDuration() {
+        ArrivalRateScheduler scheduler = new ArrivalRateScheduler(1_000, TimeUnit.MILLISECONDS.toNanos(50));
+        scheduler.start();
+
+        int slots = 0;
+        while (scheduler.hasNextSlot()) {
+            long intendedNanos = scheduler.awaitNextSlot();
+            assertThat(System.nanoTime()).isGreaterThanOrEqualTo(intendedNanos);
+            slots++;
+        }
+
+        assertThat(slots).isEqualTo(50);
+        assertThat(System.nanoTime() - scheduler.getStartNanos())
+                .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(49));
+    }
+
+    @Test
+    @DisplayName("부하 프로파일: ramp 동안 슬롯 간격이 줄어들고 프로파일이 끝나면 슬롯이 없다")
+    void profile_spacesSlotsByRampRate() {
+        // Arrange: 0 -> 10 TPS 1초 ramp 후 10 TPS 1초 (총 5 + 10 = 15건)
+        ArrivalRateScheduler scheduler = new ArrivalRateScheduler(LoadProfile.of(List.of(
+                LoadProfileTest.stage(LoadStageType.RAMP, 1, 10, 1),
+                LoadProfileTest.stage(LoadStageType.PLATEAU, 1, 10, 1))));
+
+        // Assert
+        assertThat(scheduler.offsetOf(1) - scheduler.offsetOf(0))
+                .isGreaterThan(scheduler.offsetOf(4) - scheduler.offsetOf(3));
+        assertThat(scheduler.offsetOf(6) - scheduler.offsetOf(5)).isEqualTo(100_000_000L);
+
+        scheduler.start();
+        int slots = 0;
+        while (scheduler.hasNextSlot()) {
+            scheduler.nextSlot();
+            slots++;
+        }
+        assertThat(slots).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("생성자: 0 이하의 TPS는 허용하지 않는다")
+    void constructor_rejectsNonPositiveTps() {
+        assertThrows(IllegalArgumentException.class, () -> new ArrivalRateScheduler(0, 1L));
+    }
+}
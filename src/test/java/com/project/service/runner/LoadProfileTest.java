@@ -0,0 +1,125 @@
+package com.project.service.runner;
+
+import com.project.model.LoadStageType;
+import com.project.model.LoadTestScenario;
+import com.project.model.LoadTestScenarioStage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoadProfileTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("arrivalOffsetNanos: ramp 동안 발송 간격이 고르게 줄고, plateau에서는 일정하며, 끝나면 MAX_VALUE")
+    void arrivalOffset_followsRampThenPlateau() {
+        // Arrange: 0 -> 10 TPS (10초, 누적 도착 t^2/2 = 50건) 후 10 TPS 10초
+        LoadProfile profile = LoadProfile.of(List.of(
+                stage(LoadStageType.RAMP, 10, 10, 1),
+                stage(LoadStageType.PLATEAU, 10, 10, 1)));
+
+        // Act & Assert
+        assertThat(profile.arrivalOffsetNanos(0)).isZero();
+        assertThat(profile.arrivalOffsetNanos(2)).isEqualTo(2 * SECOND);
+        assertThat(profile.arrivalOffsetNanos(8)).isEqualTo(4 * SECOND);
+        assertThat(profile.arrivalOffsetNanos(50)).isEqualTo(10 * SECOND);
+        assertThat(profile.arrivalOffsetNanos(60)).isEqualTo(11 * SECOND);
+        assertThat(profile.arrivalOffsetNanos(150)).isEqualTo(Long.MAX_VALUE);
+        assertThat(profile.durationNanos()).isEqualTo(20 * SECOND);
+    }
+
+    @Test
+    @DisplayName("arrivalOffsetNanos: ramp-down에서도 발송 시각이 단조 증가하고 구간 안에 머문다")
+    void arrivalOffset_isMonotonicDuringRampDown() {
+        LoadProfile profile = LoadProfile.of(List.of(
+                stage(LoadStageType.PLATEAU, 1, 100, 1),
+                stage(LoadStageType.RAMP, 2, 0, 1)));
+
+        long previous = -1;
+        for (long index = 0; index < 200; index++) {
+            long offset = profile.arrivalOffsetNanos(index);
+            assertThat(offset).isGreaterThanOrEqualTo(previous).isLessThanOrEqualTo(3 * SECOND);
+            previous = offset;
+        }
+        assertThat(profile.arrivalOffsetNanos(200)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("levelAt: STEP은 계단 수만큼 나눠 올리고, SPIKE는 끝난 뒤 이전 수준으로 돌아간다")
+    void levelAt_stepAndSpike() {
+        // Arrange: 0 -> 30 (3계단, 3초), 100 급증 1초, 30 -> 0 ramp 3초
+        LoadProfile profile = LoadProfile.of(List.of(
+                stage(LoadStageType.STEP, 3, 30, 3),
+                stage(LoadStageType.SPIKE, 1, 100, 1),
+                stage(LoadStageType.RAMP, 3, 0, 1)));
+
+        // Assert
+        assertThat(profile.levelAt(SECOND / 2)).isEqualTo(10.0);
+        assertThat(profile.levelAt(SECOND + SECOND / 2)).isEqualTo(20.0);
+        assertThat(profile.levelAt(2 * SECOND + SECOND / 2)).isEqualTo(30.0);
+        assertThat(profile.levelAt(3 * SECOND + SECOND / 2)).isEqualTo(100.0);
+        assertThat(profile.levelAt(4 * SECOND)).isEqualTo(30.0);
+        assertThat(profile.levelAt(7 * SECOND)).isZero();
+        assertThat(profile.peakLevel()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("activeOffsetNanos: ramp-up에서는 워커가 차례로 시작하고, ramp-down 후에는 다시 차례가 오지 않는다")
+    void activeOffset_startsWorkersOneByOne() {
+        // Arrange: 0 -> 4 워커 (4초), 4 워커 1초, 4 -> 0 (4초)
+        LoadProfile profile = LoadProfile.of(List.of(
+                stage(LoadStageType.RAMP, 4, 4, 1),
+                stage(LoadStageType.PLATEAU, 1, 4, 1),
+                stage(LoadStageType.RAMP, 4, 0, 1)));
+
+        // Assert: 워커 i는 수준이 i를 넘는 순간부터
+        assertThat(profile.activeOffsetNanos(0, 0)).isEqualTo(1L);
+        assertThat(profile.activeOffsetNanos(2, 0)).isEqualTo(2 * SECOND + 1);
+        assertThat(profile.activeOffsetNanos(3, 4 * SECOND + SECOND / 2)).isEqualTo(4 * SECOND + SECOND / 2);
+        assertThat(profile.activeOffsetNanos(3, 5 * SECOND + SECOND / 2)).isEqualTo(5 * SECOND + SECOND / 2);
+        assertThat(profile.activeOffsetNanos(3, 7 * SECOND)).isEqualTo(-1L);
+        assertThat(profile.activeOffsetNanos(0, 9 * SECOND)).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("stageAt: 오프셋이 속한 단계 번호를 돌려주고, 범위를 벗어나면 처음/마지막 단계")
+    void stageAt_findsStageByOffset() {
+        LoadProfile profile = LoadProfile.of(List.of(
+                stage(LoadStageType.RAMP, 4, 4, 1),
+                stage(LoadStageType.PLATEAU, 1, 4, 1),
+                stage(LoadStageType.RAMP, 4, 0, 1)));
+
+        assertThat(profile.stageCount()).isEqualTo(3);
+        assertThat(profile.stageStartNanos(2)).isEqualTo(5 * SECOND);
+        assertThat(profile.stageAt(-1)).isZero();
+        assertThat(profile.stageAt(4 * SECOND)).isEqualTo(1);
+        assertThat(profile.stageAt(4 * SECOND + SECOND / 2)).isEqualTo(1);
+        assertThat(profile.stageAt(100 * SECOND)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("of: 단계가 없는 시나리오는 null, 종류/시간이 잘못된 단계는 거부한다")
+    void of_validatesStages() {
+        assertThat(LoadProfile.of(new LoadTestScenario())).isNull();
+        assertThrows(IllegalArgumentException.class, () -> LoadProfile.of(List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> LoadProfile.of(List.of(stage(LoadStageType.RAMP, 0, 10, 1))));
+        assertThrows(IllegalArgumentException.class,
+                () -> LoadProfile.of(List.of(stage(null, 10, 10, 1))));
+    }
+
+    static LoadTestScenarioStage stage(LoadStageType type, int durationSeconds, int target, int stepCount) {
+        LoadTestScenarioStage stage = new LoadTestScenarioStage();
+        stage.setStageType(type);
+        stage.setDurationSeconds(durationSeconds);
+        stage.setTarget(target);
+        stage.setStepCount(stepCount);
+        return stage;
+    }
+}
@@ -0,0 +1,53 @@
+package com.project.service.runner;
+
+import com.project.model.LoadTestScenario;
+import com.project.service.dto.TestStats;
+import com.project.service.metrics.LoadTestMetricsCollector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadTestRunnerTest {
+
+    @Test
+    @DisplayName("newMetricsCollector: open model은 예정 시각 기준으로 이미 보정되므로 expectedIntervalMs가 있어도 보정 p99가 같다")
+    void newMetricsCollector_openModel_ignoresExpectedInterval() {
+        // Arrange: 100 TPS, 100건 중 1건이 1초 멈춤
+        TestStats withoutInterval = recordStalledRun(scenario(100, 0));
+        TestStats withInterval = recordStalledRun(scenario(100, 10));
+
+        // Assert
+        assertThat(withInterval.correctedLatency().count()).isEqualTo(100L);
+        assertThat(withInterval.correctedLatency().p99Us()).isEqualTo(withoutInterval.correctedLatency().p99Us());
+    }
+
+    @Test
+    @DisplayName("newMetricsCollector: closed model은 expectedIntervalMs로 멈춘 동안 빠진 샘플을 채운다")
+    void newMetricsCollector_closedModel_appliesExpectedInterval() {
+        TestStats stats = recordStalledRun(scenario(0, 10));
+
+        // 1초 / 10ms 간격 = 99건 추가
+        assertThat(stats.correctedLatency().count()).isGreaterThan(100L);
+        assertThat(stats.correctedLatency().p99Us()).isGreaterThan(TimeUnit.MILLISECONDS.toMicros(100));
+    }
+
+    private static TestStats recordStalledRun(LoadTestScenario scenario) {
+        LoadTestMetricsCollector collector = LoadTestRunner.newMetricsCollector(scenario);
+        for (int i = 0; i < 99; i++) {
+            collector.recordSuccess(TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        collector.recordSuccess(TimeUnit.SECONDS.toNanos(1), TimeUnit.SECONDS.toNanos(1));
+        return collector.toStats();
+    }
+
+    private static LoadTestScenario scenario(int targetTps, int expectedIntervalMs) {
+        LoadTestScenario scenario = new LoadTestScenario();
+        scenario.setTargetTps(targetTps);
+        scenario.setVirtualThreadCount(10);
+        scenario.setExpectedIntervalMs(expectedIntervalMs);
+        return scenario;
+    }
+}
@@ -0,0 +1,278 @@
+package com.project.service.runner;
+
+import com.project.config.RunTerminationProperties;
+import com.project.model.DataFeedMode;
+import com.project.model.ExecutionMode;
+import com.project.model.LoadTestScenario;
+import com.project.service.client.ConnectionProfile;
+import com.project.service.client.LoadTestHttpClient;
+import com.project.service.client.LoadTestHttpClientFactory;
+import com.project.service.client.LoadTestRequestExecutor;
+import com.project.service.client.RequestTemplate;
+import com.project.service.dto.TestStats;
+import com.project.service.faillog.AsyncFailLogWriter;
+import com.project.service.feed.DataFeed;
+import com.project.service.journey.ParameterizedRequest;
+import com.project.service.metrics.LoadTestMetricsCollector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ReactiveLoadEngineTest {
+
+    private static final long GRACE_PERIOD_MS = 300L;
+
+    private final AtomicInteger receivedRequests = new AtomicInteger(0);
+    private final AtomicInteger openedConnections = new AtomicInteger(0);
+    private final Set<String> receivedUsers = ConcurrentHashMap.newKeySet();
+    private final AsyncFailLogWriter failLogWriter = mock(AsyncFailLogWriter.class);
+    private final LoadTestHttpClientFactory httpClientFactory = new LoadTestHttpClientFactory(WebClient.builder());
+    private DisposableServer stubServer;
+    private ReactiveLoadEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        // 프로세스 내 Netty 스텁 서버: /ok는 200, /error는 503 응답
+        stubServer = HttpServer.create()
+                .port(0)
+                .doOnChannelInit((observer, channel, remoteAddress) -> openedConnections.incrementAndGet())
+                .route(routes -> routes
+                        .post("/ok", (request, response) -> {
+                            receivedRequests.incrementAndGet();
+                            return response.sendString(Mono.just("ok"));
+                        })
+                        .post("/hang", (request, response) -> {
+                            // 응답하지 않는 대상: 종료 유예 시간이 지나면 취소되어야 함
+                            receivedRequests.incrementAndGet();
+                            return Mono.never();
+                        })
+                        .post("/error", (request, response) -> {
+                            receivedRequests.incrementAndGet();
+                            return response.status(503).send();
+                        })
+                        .post("/users/{id}", (request, response) -> {
+                            receivedRequests.incrementAndGet();
+                            return request.receive().aggregate().asString()
+                                    .doOnNext(body -> receivedUsers.add(request.param("id") + ":" + body))
+                                    .then(response.sendString(Mono.just("ok")).then());
+                        }))
+                .bindNow();
+
+        LoadTestRequestExecutor executor = new LoadTestRequestExecutor(failLogWriter, Clock.systemDefaultZone());
+        engine = new ReactiveLoadEngine(executor, new RunTerminationProperties(GRACE_PERIOD_MS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.disposeNow();
+    }
+
+    @Test
+    @DisplayName("run: 목표 TPS 스케줄대로 요청을 발송하고 같은 집계기에 기록한다")
+    void run_arrivalRate_dispatchesScheduledRequests() {
+        LoadTestScenario scenario = scenario("/ok", 200, 50);
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+
+        run(scenario, 1L, collector);
+
+        TestStats stats = collector.toStats();
+        assertThat(stats.success() + stats.missedDispatches()).isEqualTo(200L);
+        assertThat(stats.success()).isEqualTo(receivedRequests.get());
+        assertThat(stats.fail()).isZero();
+        assertThat(stats.latency().p99Us()).isPositive();
+        assertThat(stats.poolAcquireWait().count()).isEqualTo(stats.success());
+        // 요청 본문 "{}" 2byte, 응답 본문 "ok" 2byte
+        assertThat(stats.bytesSent()).isEqualTo(2L * stats.success());
+        assertThat(stats.bytesReceived()).isEqualTo(2L * stats.success());
+    }
+
+    @Test
+    @DisplayName("run: keep-alive를 끄면 요청마다 새 커넥션으로 발송한다")
+    void run_withoutKeepAlive_opensConnectionPerRequest() {
+        LoadTestScenario scenario = scenario("/ok", 50, 10);
+        scenario.setKeepAlive(false);
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+
+        run(scenario, 3L, collector);
+
+        TestStats stats = collector.toStats();
+        assertThat(stats.success()).isEqualTo(receivedRequests.get());
+        assertThat(openedConnections.get()).isEqualTo(receivedRequests.get());
+    }
+
+    @Test
+    @DisplayName("run: HTTP/2(h2c)를 켜면 커넥션 하나에 요청을 멀티플렉싱한다")
+    void run_http2_multiplexesRequestsOverSingleConnection() {
+        DisposableServer h2cServer = HttpServer.create()
+                .port(0)
+                .protocol(HttpProtocol.H2C)
+                .doOnChannelInit((observer, channel, remoteAddress) -> openedConnections.incrementAndGet())
+                .route(routes -> routes.post("/ok", (request, response) -> {
+                    receivedRequests.incrementAndGet();
+                    return response.sendString(Mono.just("ok"));
+                }))
+                .bindNow();
+        try {
+            LoadTestScenario scenario = scenario("/ok", 100, 20);
+            scenario.setTargetUrl("http://localhost:" + h2cServer.port() + "/ok");
+            scenario.setHttp2Enabled(true);
+            scenario.setMaxConnections(1);
+            LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+
+            run(scenario, 4L, collector);
+
+            TestStats stats = collector.toStats();
+            assertThat(stats.success()).isEqualTo(receivedRequests.get()).isPositive();
+            assertThat(openedConnections.get()).isEqualTo(1);
+        } finally {
+            h2cServer.disposeNow();
+        }
+    }
+
+    @Test
+    @DisplayName("run: 오류 응답은 파이프라인을 멈추지 않고 실패로 집계되며 실패 로그로 넘겨진다")
+    void run_errorResponses_areRecordedAsFailures() {
+        LoadTestScenario scenario = scenario("/error", 100, 20);
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+
+        run(scenario, 2L, collector);
+
+        TestStats stats = collector.toStats();
+        assertThat(stats.fail() + stats.missedDispatches()).isEqualTo(100L);
+        assertThat(stats.success()).isZero();
+        verify(failLogWriter, atLeastOnce()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("run: UNIQUE 데이터 피드 값을 요청마다 URL/본문에 치환하고, 피드를 소진하면 일찍 종료한다")
+    void run_uniqueDataFeed_substitutesRowsAndStopsWhenExhausted(@TempDir Path dir) throws IOException {
+        Path file = Files.writeString(dir.resolve("users.csv"), "userId,term\nu1,a\nu2,b\nu3,c\nu4,d\nu5,e\n");
+        LoadTestScenario scenario = scenario("/users/${userId}", 0, 3);
+        scenario.setRequestParams("{\"term\":\"${term}\"}");
+        scenario.setDurationSeconds(30);
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+
+        // Act: closed model 30초지만 5행을 모두 쓰면 바로 끝나야 함
+        long startNanos = System.nanoTime();
+        try (LoadTestHttpClient httpClient = httpClientFactory.create(ConnectionProfile.from(scenario));
+             ParameterizedRequest requests = ParameterizedRequest.compile(scenario, DataFeed.open(file, DataFeedMode.UNIQUE))) {
+            engine.run(httpClient, requests, scenario, 5L, new AtomicLong(0), collector, new RunAbort());
+        }
+
+        // Assert
+        assertThat(System.nanoTime() - startNanos).isLessThan(TimeUnit.SECONDS.toNanos(10));
+        assertThat(collector.toStats().success()).isEqualTo(5L);
+        assertThat(receivedUsers).containsExactlyInAnyOrder(
+                "u1:{\"term\":\"a\"}", "u2:{\"term\":\"b\"}", "u3:{\"term\":\"c\"}",
+                "u4:{\"term\":\"d\"}", "u5:{\"term\":\"e\"}");
+    }
+
+    @Test
+    @DisplayName("run: 종료 시각 + 유예 시간까지 응답이 없는 요청은 취소하고 cut-off로 따로 집계한다")
+    void run_hangingTarget_cutsOffInFlightRequestsAfterGracePeriod() {
+        // Arrange: closed model 1초, 워커 4개가 모두 응답 없는 요청에 묶임
+        LoadTestScenario scenario = scenario("/hang", 0, 4);
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+
+        // Act
+        long startNanos = System.nanoTime();
+        run(scenario, 6L, collector);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        // Assert: 응답을 기다리지 않고 1초 + 유예 시간 근처에서 끝나며, 잘린 요청은 성공/실패/분포에 없음
+        TestStats stats = collector.toStats();
+        assertThat(elapsedMs).isLessThan(5_000L);
+        assertThat(stats.cutOffRequests()).isEqualTo(4L);
+        assertThat(stats.totalRequests()).isZero();
+        assertThat(stats.latency().count()).isZero();
+        assertThat(stats.measuredWindowMs()).isBetween(1_000L + GRACE_PERIOD_MS, elapsedMs);
+    }
+
+    @Test
+    @DisplayName("run: 측정 구간은 시작부터 마지막 응답까지이며 종료 시각 이후에는 새 요청을 보내지 않는다")
+    void run_arrivalRate_recordsMeasuredWindow() {
+        LoadTestScenario scenario = scenario("/ok", 100, 20);
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+
+        run(scenario, 7L, collector);
+
+        TestStats stats = collector.toStats();
+        assertThat(stats.cutOffRequests()).isZero();
+        assertThat(stats.success() + stats.missedDispatches()).isEqualTo(100L);
+        assertThat(stats.measuredWindowMs()).isBetween(990L, 1_000L + GRACE_PERIOD_MS);
+    }
+
+    @Test
+    @DisplayName("run: 중단하면 종료 시각과 유예 시간을 기다리지 않고 진행 중 요청을 바로 취소한다")
+    void run_abort_stopsLoadImmediately() throws InterruptedException {
+        // Arrange: closed model 30초, 워커 4개가 모두 응답 없는 요청에 묶임
+        LoadTestScenario scenario = scenario("/hang", 0, 4);
+        scenario.setDurationSeconds(30);
+        LoadTestMetricsCollector collector = new LoadTestMetricsCollector();
+        RunAbort abort = new RunAbort();
+        AtomicLong returnedNanos = new AtomicLong();
+
+        // Act (close()의 이벤트 루프 종료 대기 시간은 빼고 engine.run 반환 시각만 잼)
+        Thread runner = Thread.ofVirtual().start(() -> {
+            try (LoadTestHttpClient httpClient = httpClientFactory.create(ConnectionProfile.from(scenario));
+                 RequestTemplate template = RequestTemplate.compile(scenario)) {
+                engine.run(httpClient, () -> template, scenario, 8L, new AtomicLong(0), collector, abort);
+                returnedNanos.set(System.nanoTime());
+            }
+        });
+        Thread.sleep(300);
+        long abortNanos = System.nanoTime();
+        abort.abort();
+        runner.join(TimeUnit.SECONDS.toMillis(10));
+
+        // Assert
+        assertThat(runner.isAlive()).isFalse();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(returnedNanos.get() - abortNanos)).isLessThan(1_000L);
+        TestStats stats = collector.toStats();
+        assertThat(stats.cutOffRequests()).isEqualTo(4L);
+        assertThat(stats.totalRequests()).isZero();
+    }
+
+    private void run(LoadTestScenario scenario, long resultId, LoadTestMetricsCollector collector) {
+        try (LoadTestHttpClient httpClient = httpClientFactory.create(ConnectionProfile.from(scenario));
+             RequestTemplate template = RequestTemplate.compile(scenario)) {
+            engine.run(httpClient, () -> template, scenario, resultId, new AtomicLong(0), collector, new RunAbort());
+        }
+    }
+
+    private LoadTestScenario scenario(String path, int targetTps, int maxInFlight) {
+        LoadTestScenario scenario = new LoadTestScenario();
+        scenario.setName("reactive-engine-test");
+        scenario.setTargetUrl("http://localhost:" + stubServer.port() + path);
+        scenario.setHttpMethod("POST");
+        scenario.setRequestParams("{}");
+        scenario.setTargetTps(targetTps);
+        scenario.setVirtualThreadCount(maxInFlight);
+        scenario.setDurationSeconds(1);
+        scenario.setExecutionMode(ExecutionMode.REACTIVE);
+        return scenario;
+    }
+}
@@ -0,0 +1,136 @@
+package com.project.service.threshold;
+
+import com.project.model.LoadTestResultTimeseries;
+import com.project.model.LoadTestScenario;
+import com.project.model.ThresholdBreach;
+import com.project.service.dto.ThresholdVerdict;
+import com.project.service.metrics.HistogramSupport;
+import com.project.service.runner.RunAbort;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThresholdEvaluatorTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 2, 17, 10, 15, 30);
+
+    private final RunAbort abort = new RunAbort();
+
+    @Test
+    @DisplayName("기준 안이면 통과하고 중단하지 않는다")
+    void withinThresholds_passes() {
+        // Arrange
+        ThresholdEvaluator evaluator = new ThresholdEvaluator(scenario(50.0, 0.01, 90.0, 0, true), abort, 100);
+
+        // Act
+        for (int second = 1; second <= 5; second++) {
+            evaluator.accept(interval(second, 100, 0, 20_000L));
+        }
+        ThresholdVerdict verdict = evaluator.verdict();
+
+        // Assert
+        assertThat(verdict.passed()).isTrue();
+        assertThat(verdict.breachedAt()).isNull();
+        assertThat(abort.isAborted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("p95가 한도를 넘는 구간에서 바로 중단하고 그 구간의 종료 시각을 남긴다")
+    void p95Breach_abortsAtFirstBreachingInterval() {
+        // Arrange
+        ThresholdEvaluator evaluator = new ThresholdEvaluator(scenario(50.0, null, null, 0, true), abort, 100);
+
+        // Act
+        evaluator.accept(interval(1, 100, 0, 20_000L));
+        evaluator.accept(interval(2, 100, 0, 20_000L));
+        assertThat(abort.isAborted()).isFalse();
+        evaluator.accept(interval(3, 400, 0, 200_000L));
+
+        // Assert
+        ThresholdVerdict verdict = evaluator.verdict();
+        assertThat(abort.isAborted()).isTrue();
+        assertThat(verdict.breaches()).containsExactly(ThresholdBreach.P95_LATENCY);
+        assertThat(verdict.breachedAt()).isEqualTo(START.plusSeconds(3));
+    }
+
+    @Test
+    @DisplayName("abortOnBreach가 아니면 실패로 판정만 하고 실행은 계속한다")
+    void breachWithoutAbort_onlyRecordsVerdict() {
+        // Arrange
+        ThresholdEvaluator evaluator = new ThresholdEvaluator(scenario(null, 0.01, null, 0, false), abort, 100);
+
+        // Act
+        evaluator.accept(interval(1, 100, 10, 20_000L));
+        evaluator.accept(interval(2, 10_000, 0, 20_000L));
+
+        // Assert: 뒤 구간에서 에러율이 한도 안으로 돌아와도 한 번 어긴 기준은 실패로 남음
+        ThresholdVerdict verdict = evaluator.verdict();
+        assertThat(abort.isAborted()).isFalse();
+        assertThat(verdict.breaches()).containsExactly(ThresholdBreach.ERROR_RATE);
+        assertThat(verdict.breachedAt()).isEqualTo(START.plusSeconds(1));
+    }
+
+    @Test
+    @DisplayName("warm-up 구간과 최소 요청 수 이전 구간으로는 실행 중 판정하지 않는다")
+    void warmupAndMinRequests_deferLiveEvaluation() {
+        // Arrange
+        ThresholdEvaluator evaluator = new ThresholdEvaluator(scenario(null, 0.01, null, 2, true), abort, 100);
+
+        // Act: warm-up(2초) 동안의 실패는 판정에서 빠지고, 이후 첫 구간은 요청 수(50)가 모자라 보류
+        evaluator.accept(interval(1, 100, 100, 20_000L));
+        evaluator.accept(interval(2, 100, 100, 20_000L));
+        evaluator.accept(interval(3, 50, 1, 20_000L));
+
+        // Assert
+        assertThat(abort.isAborted()).isFalse();
+        evaluator.accept(interval(4, 50, 0, 20_000L));
+        assertThat(abort.isAborted()).isFalse();
+        assertThat(evaluator.verdict().passed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("요청 수가 모자라 미룬 판정도 종료 시 최종 판정에 반영한다")
+    void shortRun_evaluatedAtEnd() {
+        // Arrange
+        ThresholdEvaluator evaluator = new ThresholdEvaluator(scenario(null, null, 100.0, 0, true), abort, 100);
+
+        // Act
+        evaluator.accept(interval(1, 30, 0, 20_000L));
+        ThresholdVerdict verdict = evaluator.verdict();
+
+        // Assert
+        assertThat(verdict.breaches()).containsExactly(ThresholdBreach.MIN_RPS);
+        assertThat(verdict.breachedAt()).isEqualTo(START.plusSeconds(1));
+    }
+
+    private static LoadTestScenario scenario(Double maxP95LatencyMs, Double maxErrorRate, Double minRps,
+                                             int warmupSeconds, boolean abortOnBreach) {
+        LoadTestScenario scenario = new LoadTestScenario();
+        scenario.setMaxP95LatencyMs(maxP95LatencyMs);
+        scenario.setMaxErrorRate(maxErrorRate);
+        scenario.setMinRps(minRps);
+        scenario.setThresholdWarmupSeconds(warmupSeconds);
+        scenario.setAbortOnBreach(abortOnBreach);
+        return scenario;
+    }
+
+    // second번째 1초 구간 (모든 요청의 지연시간이 latencyUs)
+    private static LoadTestResultTimeseries interval(int second, long requests, long fail, long latencyUs) {
+        Histogram histogram = new Histogram(3);
+        histogram.recordValueWithCount(latencyUs, requests);
+        LoadTestResultTimeseries interval = new LoadTestResultTimeseries();
+        interval.setIntervalSeq(second - 1);
+        interval.setElapsedMs(second * 1_000L);
+        interval.setIntervalMs(1_000L);
+        interval.setRequestCount(requests);
+        interval.setSuccessCount(requests - fail);
+        interval.setFailCount(fail);
+        interval.setLatencyHistogram(HistogramSupport.encode(histogram));
+        interval.setRecordedAt(START.plusSeconds(second));
+        return interval;
+    }
+}
@@ -0,0 +1,159 @@
+package com.project.service.timeseries;
+
+import com.project.model.LoadTestResultTimeseries;
+import com.project.repository.LoadTestResultTimeseriesRepository;
+import com.project.service.dto.TimeseriesPoint;
+import com.project.service.metrics.HistogramSupport;
+import org.HdrHistogram.Histogram;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResultTimeseriesServiceTest {
+
+    @Mock
+    private LoadTestResultTimeseriesRepository timeseriesRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ResultTimeseriesService resultTimeseriesService;
+
+    @Test
+    @DisplayName("getTimeseries: 구간 수가 maxPoints 이하면 구간을 그대로 반환한다")
+    void getTimeseries_fewIntervals_returnsEachInterval() throws IOException {
+        // Arrange
+        Cursor<LoadTestResultTimeseries> cursor = stubIntervals(1L, intervals(1L, 3, 1_000L));
+
+        // Act
+        List<TimeseriesPoint> points = resultTimeseriesService.getTimeseries(1L, 10);
+
+        // Assert
+        verify(cursor).close();
+        assertThat(points).hasSize(3);
+        assertThat(points).extracting(TimeseriesPoint::mergedIntervals).containsOnly(1);
+        assertThat(points.get(1).startElapsedMs()).isEqualTo(1_000L);
+        assertThat(points.get(1).endElapsedMs()).isEqualTo(2_000L);
+        assertThat(points.get(1).rps()).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("getTimeseries: 긴 실행은 연속 구간을 병합하고 백분위는 히스토그램 병합으로 다시 계산한다")
+    void getTimeseries_longRun_mergesHistogramsPerBucket() throws IOException {
+        // Arrange: 10개 구간 중 마지막 구간만 100ms로 느려짐
+        List<LoadTestResultTimeseries> intervals = intervals(2L, 10, 1_000L);
+        intervals.get(9).setLatencyHistogram(encodedHistogram(100, 100_000L));
+        Cursor<LoadTestResultTimeseries> cursor = stubIntervals(2L, intervals);
+
+        // Act
+        List<TimeseriesPoint> points = resultTimeseriesService.getTimeseries(2L, 2);
+
+        // Assert
+        verify(cursor).close();
+        assertThat(points).hasSize(2);
+        TimeseriesPoint last = points.get(1);
+        assertThat(last.mergedIntervals()).isEqualTo(5);
+        assertThat(last.startElapsedMs()).isEqualTo(5_000L);
+        assertThat(last.endElapsedMs()).isEqualTo(10_000L);
+        assertThat(last.requests()).isEqualTo(500L);
+        assertThat(last.fail()).isEqualTo(5L);
+        assertThat(last.rps()).isEqualTo(100.0);
+        assertThat(last.errorRate()).isEqualTo(0.01);
+        // 500건 중 100건(20%)이 100ms: p50은 1ms, p90은 100ms
+        assertThat(last.p50Us()).isBetween(999L, 1_001L);
+        assertThat(last.p90Us()).isBetween(99_900L, 100_100L);
+        assertThat(points.get(0).maxUs()).isBetween(999L, 1_001L);
+    }
+
+    @Test
+    @DisplayName("getStageSummaries: 부하 프로파일 단계별로 구간을 병합하고 단계 정보가 없는 구간은 제외한다")
+    void getStageSummaries_mergesIntervalsPerStage() {
+        // Arrange: 구간 0~1은 단계 0, 2~4는 단계 1, 5는 단계 정보 없음
+        List<LoadTestResultTimeseries> intervals = intervals(3L, 6, 1_000L);
+        for (int i = 0; i < 5; i++) {
+            intervals.get(i).setStageIndex(i < 2 ? 0 : 1);
+        }
+        Cursor<LoadTestResultTimeseries> cursor = cursorOf(intervals);
+        when(timeseriesRepository.streamTimeseriesByResultId(3L)).thenReturn(cursor);
+
+        // Act
+        List<TimeseriesPoint> stages = resultTimeseriesService.getStageSummaries(3L);
+
+        // Assert
+        assertThat(stages).extracting(TimeseriesPoint::stageIndex).containsExactly(0, 1);
+        assertThat(stages).extracting(TimeseriesPoint::mergedIntervals).containsExactly(2, 3);
+        assertThat(stages.get(1).startElapsedMs()).isEqualTo(2_000L);
+        assertThat(stages.get(1).endElapsedMs()).isEqualTo(5_000L);
+        assertThat(stages.get(1).requests()).isEqualTo(300L);
+    }
+
+    @Test
+    @DisplayName("getTimeseries: 구간 수가 묶음 크기로 나누어떨어지지 않으면 마지막에 남은 구간을 한 점으로 반환한다")
+    void getTimeseries_trailingInterval_returnsRemainder() {
+        // Arrange: 5개 구간을 최대 2개 점으로 -> 3개씩 묶고 마지막 2개
+        stubIntervals(4L, intervals(4L, 5, 1_000L));
+
+        // Act
+        List<TimeseriesPoint> points = resultTimeseriesService.getTimeseries(4L, 2);
+
+        // Assert
+        assertThat(points).extracting(TimeseriesPoint::mergedIntervals).containsExactly(3, 2);
+        assertThat(points.get(1).startElapsedMs()).isEqualTo(3_000L);
+        assertThat(points.get(1).endElapsedMs()).isEqualTo(5_000L);
+        assertThat(points.get(1).requests()).isEqualTo(200L);
+    }
+
+    // 구간 수 조회 + Cursor 스트리밍 조회를 함께 stub
+    private Cursor<LoadTestResultTimeseries> stubIntervals(long resultId, List<LoadTestResultTimeseries> intervals) {
+        Cursor<LoadTestResultTimeseries> cursor = cursorOf(intervals);
+        when(timeseriesRepository.countTimeseriesByResultId(resultId)).thenReturn(intervals.size());
+        when(timeseriesRepository.streamTimeseriesByResultId(resultId)).thenReturn(cursor);
+        return cursor;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Cursor<T> cursorOf(List<T> rows) {
+        Cursor<T> cursor = mock(Cursor.class);
+        when(cursor.iterator()).thenReturn(rows.iterator());
+        return cursor;
+    }
+
+    private List<LoadTestResultTimeseries> intervals(long resultId, int count, long intervalMs) {
+        List<LoadTestResultTimeseries> intervals = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LoadTestResultTimeseries interval = new LoadTestResultTimeseries();
+            interval.setResultId(resultId);
+            interval.setIntervalSeq(i);
+            interval.setElapsedMs((i + 1) * intervalMs);
+            interval.setIntervalMs(intervalMs);
+            interval.setRequestCount(100L);
+            interval.setSuccessCount(99L);
+            interval.setFailCount(1L);
+            interval.setLatencyHistogram(encodedHistogram(100, 1_000L));
+            intervals.add(interval);
+        }
+        return intervals;
+    }
+
+    private String encodedHistogram(int count, long valueUs) {
+        Histogram histogram = new Histogram(3_600_000_000L, 3);
+        histogram.recordValueWithCount(valueUs, count);
+        return HistogramSupport.encode(histogram);
+    }
+}